@@ -0,0 +1,101 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.BorrowerRepository;
+import com.msfg.mortgage.repository.ClosingFeeRepository;
+import com.msfg.mortgage.repository.ClosingInformationRepository;
+import com.msfg.mortgage.repository.HousingExpenseRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import com.msfg.mortgage.repository.LoanTermsRepository;
+import com.msfg.mortgage.repository.PropertyRepository;
+import com.msfg.mortgage.repository.PurchaseCreditRepository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Wires the MISMO importer the way Spring does, but over in-memory repository
+ * stubs: {@code save} hands the entity back, finders come back empty, deletes do
+ * nothing. What's left is parsing and mapping — the part the benchmarks measure.
+ */
+final class MismoBenchmarkSupport {
+    private MismoBenchmarkSupport() {}
+
+    static final long LOAN_ID = 1L;
+
+    static MismoImporter importer() {
+        LoanApplicationRepository loans = stub(LoanApplicationRepository.class);
+        return new MismoImporter(
+                loans,
+                stub(HousingExpenseRepository.class),
+                stub(PurchaseCreditRepository.class),
+                new BorrowerSectionImporter(stub(BorrowerRepository.class)),
+                new PropertySectionImporter(stub(PropertyRepository.class), stub(LoanTermsRepository.class)),
+                new AssetSectionImporter(),
+                new ReoSectionImporter(),
+                new ClosingSectionImporter(loans, stub(ClosingInformationRepository.class),
+                        stub(ClosingFeeRepository.class)),
+                event -> { });
+    }
+
+    /** A persisted-looking, empty loan: the importers skip id-keyed sections without one. */
+    static LoanApplication loan() {
+        LoanApplication la = new LoanApplication();
+        la.setId(LOAN_ID);
+        la.setBorrowers(new ArrayList<>());
+        la.setLiabilities(new ArrayList<>());
+        return la;
+    }
+
+    /**
+     * Benchmark input by {@code @Param} name: the two checked-in LP exports, or the
+     * closing export scaled to 4 borrowers and {@code scaled-N} liabilities.
+     */
+    static byte[] file(String name) {
+        return switch (name) {
+            case "urla-fnm" -> fixture("sample-urla-fnm.xml");
+            case "closing" -> fixture("sample-closing.xml");
+            default -> {
+                if (!name.startsWith("scaled-")) throw new IllegalArgumentException("Unknown MISMO input " + name);
+                yield ScaledMismo.closing(Integer.parseInt(name.substring("scaled-".length())), 4);
+            }
+        };
+    }
+
+    static byte[] fixture(String name) {
+        try (InputStream in = MismoBenchmarkSupport.class.getResourceAsStream("/mismo/" + name)) {
+            if (in == null) throw new IllegalArgumentException("No fixture mismo/" + name);
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T stub(Class<T> repository) {
+        return (T) Proxy.newProxyInstance(repository.getClassLoader(), new Class<?>[]{repository},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "save", "saveAndFlush", "saveAll" -> { return args[0]; }
+                        case "findById" -> { return Optional.of(loan()); }
+                        case "hashCode" -> { return System.identityHashCode(proxy); }
+                        case "equals" -> { return proxy == args[0]; }
+                        case "toString" -> { return repository.getSimpleName() + "Stub"; }
+                        default -> { }
+                    }
+                    Class<?> type = method.getReturnType();
+                    if (type == Optional.class) return Optional.empty();
+                    if (Collection.class.isAssignableFrom(type) || type == Iterable.class) return List.of();
+                    if (type == boolean.class) return false;
+                    if (type == long.class) return 0L;
+                    if (type == int.class) return 0;
+                    return null;
+                });
+    }
+}
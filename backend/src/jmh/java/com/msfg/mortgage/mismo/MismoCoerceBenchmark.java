@@ -0,0 +1,51 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.mismo.parse.MismoCoerce;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/** The {@link MismoCoerce} normalizers every section importer funnels raw text through. */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MismoCoerceBenchmark {
+
+    /** Representative raw values as they appear in LP exports, blanks and junk included. */
+    private final String[] decimals = {"492150", "500762.00", "5.875", "", "8612.00", "n/a"};
+    private final String[] bools = {"true", "false", "Y", "N", "", "1"};
+    private final String[] phones = {"(801) 555-0142", "801.555.0142", "+1 801 555 0142", "5550142"};
+    private final String[] assetTypes = {"CheckingAccount", "SavingsAccount", "RetirementFund", "Other"};
+
+    @Benchmark
+    public void parseDecimal(Blackhole bh) {
+        for (String d : decimals) bh.consume(MismoCoerce.parseDecimal(d));
+    }
+
+    @Benchmark
+    public void parseBool(Blackhole bh) {
+        for (String b : bools) bh.consume(MismoCoerce.parseBool(b));
+    }
+
+    @Benchmark
+    public void normalizePhone(Blackhole bh) {
+        for (String p : phones) bh.consume(MismoCoerce.normalizePhone(p));
+    }
+
+    @Benchmark
+    public void normalizeAssetType(Blackhole bh) {
+        for (String a : assetTypes) bh.consume(MismoCoerce.normalizeAssetType(a));
+    }
+}
@@ -0,0 +1,66 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.mismo.parse.MismoStreamReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * What the re-import drift check costs. {@link #headerPeek} is what
+ * {@code POST /{id}/import/mismo} runs before deciding on 409; {@link #fullRead} is the
+ * same answer taken from a whole-file read, i.e. the parse a drift check would cost if
+ * it shared the import's pass. The peek should stay flat as the input grows;
+ * {@link #headerPeekNoCreatedDatetime} pins the early stop at {@code DEAL_SETS} for
+ * files whose header has no timestamp.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MismoDriftCheckBenchmark {
+
+    @Param({"urla-fnm", "closing", "scaled-50", "scaled-200"})
+    public String input;
+
+    private byte[] xml;
+    private byte[] noCreatedDatetime;
+
+    @Setup
+    public void setUp() {
+        xml = MismoBenchmarkSupport.file(input);
+        noCreatedDatetime = new String(xml, StandardCharsets.UTF_8)
+                .replaceFirst("<CreatedDatetime>[^<]*</CreatedDatetime>", "")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public LocalDateTime headerPeek() throws IOException {
+        return MismoStreamReader.readCreatedDatetime(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public LocalDateTime headerPeekNoCreatedDatetime() throws IOException {
+        return MismoStreamReader.readCreatedDatetime(new ByteArrayInputStream(noCreatedDatetime));
+    }
+
+    @Benchmark
+    public LocalDateTime fullRead() throws IOException {
+        return MismoStreamReader.read(new ByteArrayInputStream(xml)).createdDatetime();
+    }
+}
@@ -0,0 +1,52 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.model.LoanApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.xml.stream.XMLStreamException;
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link MismoExporter#export} of a loan tree built by importing the same inputs
+ * as {@link MismoImportBenchmark}, so export cost tracks borrower/liability count.
+ * Output goes to a null stream: only serialization is measured.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MismoExportBenchmark {
+
+    @Param({"urla-fnm", "closing", "scaled-10", "scaled-50", "scaled-200"})
+    public String input;
+
+    private LoanApplication loan;
+    private final MismoExporter exporter = new MismoExporter();
+
+    @Setup
+    public void setUp() throws Exception {
+        loan = MismoBenchmarkSupport.importer()
+                .importInto(MismoBenchmarkSupport.loan(),
+                        new ByteArrayInputStream(MismoBenchmarkSupport.file(input)))
+                .updated();
+    }
+
+    @Benchmark
+    public void export() throws XMLStreamException {
+        exporter.export(loan, OutputStream.nullOutputStream());
+    }
+}
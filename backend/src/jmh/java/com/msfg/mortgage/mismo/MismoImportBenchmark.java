@@ -0,0 +1,48 @@
+package com.msfg.mortgage.mismo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full {@link MismoImporter#importInto} per file — stream read, every section
+ * importer, change summary — over stubbed repositories. Throughput plus
+ * SampleTime (for p99); run with the profile's {@code -prof gc} for allocation.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MismoImportBenchmark {
+
+    @Param({"urla-fnm", "closing", "scaled-10", "scaled-50", "scaled-200"})
+    public String input;
+
+    private byte[] xml;
+    private MismoImporter importer;
+
+    @Setup
+    public void setUp() {
+        xml = MismoBenchmarkSupport.file(input);
+        importer = MismoBenchmarkSupport.importer();
+    }
+
+    @Benchmark
+    public MismoImporter.ImportResult importFile() throws IOException {
+        return importer.importInto(MismoBenchmarkSupport.loan(), new ByteArrayInputStream(xml));
+    }
+}
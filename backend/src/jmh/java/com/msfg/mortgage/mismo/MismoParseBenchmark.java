@@ -0,0 +1,57 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.mismo.parse.LinkContext;
+import com.msfg.mortgage.mismo.parse.MismoSections;
+import com.msfg.mortgage.mismo.parse.MismoStreamReader;
+import com.msfg.mortgage.mismo.parse.MismoXml;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.w3c.dom.Document;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The parsing primitives under the importer, one at a time: the streaming section
+ * read and the DOM-side {@link LinkContext#from} index. See
+ * {@link MismoCoerceBenchmark} for the value normalizers.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MismoParseBenchmark {
+
+    @Param({"urla-fnm", "closing", "scaled-10", "scaled-50", "scaled-200"})
+    public String input;
+
+    private byte[] xml;
+    private Document doc;
+
+    @Setup
+    public void setUp() throws Exception {
+        xml = MismoBenchmarkSupport.file(input);
+        doc = MismoXml.parse(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public MismoSections streamRead() throws Exception {
+        return MismoStreamReader.read(new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    public LinkContext linkContextFromDom() throws Exception {
+        return LinkContext.from(doc);
+    }
+}
@@ -0,0 +1,55 @@
+package com.msfg.mortgage.mismo;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-file import time with and without the compiled-expression registry in
+ * {@link com.msfg.mortgage.mismo.parse.MismoXPath}. {@code uncached} runs in a
+ * fork with {@code -Dmismo.xpath.cache=false}, i.e. a fresh XPathFactory and a
+ * recompile on every evaluation, as before the registry.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class MismoXPathBenchmark {
+
+    @Param({"sample-urla-fnm.xml", "sample-closing.xml"})
+    public String fixture;
+
+    private byte[] xml;
+    private MismoImporter importer;
+
+    @Setup
+    public void setUp() {
+        xml = MismoBenchmarkSupport.fixture(fixture);
+        importer = MismoBenchmarkSupport.importer();
+    }
+
+    @Benchmark
+    @Fork(1)
+    public MismoImporter.ImportResult cached() throws IOException {
+        return importer.importInto(MismoBenchmarkSupport.loan(), new ByteArrayInputStream(xml));
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Dmismo.xpath.cache=false")
+    public MismoImporter.ImportResult uncached() throws IOException {
+        return importer.importInto(MismoBenchmarkSupport.loan(), new ByteArrayInputStream(xml));
+    }
+}
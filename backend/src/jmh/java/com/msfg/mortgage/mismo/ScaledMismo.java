@@ -0,0 +1,87 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.mismo.parse.LinkContext;
+import com.msfg.mortgage.mismo.parse.MismoNodes;
+import com.msfg.mortgage.mismo.parse.MismoXml;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Synthetic MISMO files scaled up from the closing fixture, which already carries
+ * a full FEE_INFORMATION section: the borrower PARTY is cloned up to the requested
+ * borrower count and LIABILITY rows are cloned (or dropped) to the requested count.
+ * Cloned subtrees get fresh {@code SequenceNumber}s and suffixed {@code xlink:label}s
+ * so they don't collide with the originals in the {@link LinkContext}.
+ */
+final class ScaledMismo {
+    private ScaledMismo() {}
+
+    private static final String BORROWER_PARTY =
+            "//*[local-name()='PARTY'][.//*[local-name()='ROLE_DETAIL']/*[local-name()='PartyRoleType']" +
+            "[text()='Borrower' or text()='Cosigner' or text()='CoBorrower']]";
+
+    static byte[] closing(int liabilities, int borrowers) {
+        try {
+            Document doc = MismoXml.parse(new ByteArrayInputStream(
+                    MismoBenchmarkSupport.fixture("sample-closing.xml")));
+            scale(elements(doc, "//*[local-name()='LIABILITY']"), liabilities, "L");
+            scale(elements(doc, BORROWER_PARTY), borrowers, "B");
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            var t = TransformerFactory.newInstance().newTransformer();
+            t.setOutputProperty(OutputKeys.INDENT, "yes");
+            t.transform(new DOMSource(doc), new StreamResult(out));
+            return out.toByteArray();
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to build scaled MISMO file", e);
+        }
+    }
+
+    /** Grow (by cloning round-robin) or shrink {@code existing} to {@code target} siblings. */
+    private static void scale(List<Element> existing, int target, String tag) {
+        if (existing.isEmpty()) throw new IllegalStateException("Fixture has nothing to scale for " + tag);
+        for (int i = existing.size() - 1; i >= target; i--) {
+            existing.get(i).getParentNode().removeChild(existing.get(i));
+        }
+        Node after = existing.get(Math.min(existing.size(), target) - 1);
+        for (int i = existing.size(); i < target; i++) {
+            Element clone = (Element) existing.get(i % existing.size()).cloneNode(true);
+            clone.setAttribute("SequenceNumber", String.valueOf(i + 1));
+            relabel(clone, "_" + tag + (i + 1));
+            after.getParentNode().insertBefore(clone, after.getNextSibling());
+            after = clone;
+        }
+    }
+
+    private static void relabel(Element e, String suffix) {
+        NamedNodeMap attrs = e.getAttributes();
+        for (int i = 0; i < attrs.getLength(); i++) {
+            Attr a = (Attr) attrs.item(i);
+            if (LinkContext.XLINK_NS.equals(a.getNamespaceURI()) && "label".equals(a.getLocalName())) {
+                a.setValue(a.getValue() + suffix);
+            }
+        }
+        for (Node c = e.getFirstChild(); c != null; c = c.getNextSibling()) {
+            if (c instanceof Element child) relabel(child, suffix);
+        }
+    }
+
+    private static List<Element> elements(Document doc, String xpath) throws Exception {
+        NodeList nodes = MismoNodes.nodes(doc, xpath);
+        List<Element> list = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) list.add((Element) nodes.item(i));
+        return list;
+    }
+}
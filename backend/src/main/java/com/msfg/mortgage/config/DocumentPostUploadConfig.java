@@ -0,0 +1,33 @@
+package com.msfg.mortgage.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Worker pool for the post-upload hash + tag step
+ * (see {@link com.msfg.mortgage.service.DocumentPostUploadService}).
+ *
+ * <p>A worker spends most of its time streaming an object out of S3. It touches the
+ * database only for short single-statement updates before and after that, so the pool
+ * can be sized for S3 bandwidth rather than Hikari.
+ */
+@Configuration
+public class DocumentPostUploadConfig {
+
+    @Bean
+    ThreadPoolTaskExecutor documentPostUploadExecutor(
+            @Value("${documents.post-upload.threads:2}") int threads,
+            @Value("${documents.post-upload.queue-capacity:500}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("doc-post-upload-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // Overflow is rejected, not lost: the row stays PENDING for the retry sweep.
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
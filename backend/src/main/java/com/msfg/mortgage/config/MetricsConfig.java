@@ -0,0 +1,58 @@
+package com.msfg.mortgage.config;
+
+import com.msfg.mortgage.metrics.HikariPoolMetrics;
+import com.msfg.mortgage.metrics.MetricsRegistry;
+import com.msfg.mortgage.metrics.RequestMetricsFilter;
+import com.msfg.mortgage.metrics.StatementCounter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Wires the in-house metrics (see {@link MetricsRegistry}) into the request path,
+ * Hibernate and the Hikari pool. Scraped from {@code GET /metrics}.
+ *
+ * <p>{@code metrics.statement-budget.enforce=true} turns a blown
+ * {@link com.msfg.mortgage.metrics.StatementBudget} into a failed request; the test
+ * profile sets it, dev/prod only log and count.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            MetricsRegistry registry,
+            @Value("${metrics.statement-budget.enforce:false}") boolean enforceBudgets) {
+        FilterRegistrationBean<RequestMetricsFilter> reg =
+                new FilterRegistrationBean<>(new RequestMetricsFilter(registry, enforceBudgets));
+        // Ahead of the security chain (-100) so auth + guard lookups are timed and counted.
+        reg.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return reg;
+    }
+
+    @Bean
+    HibernatePropertiesCustomizer statementCounterCustomizer() {
+        return props -> props.put(AvailableSettings.STATEMENT_INSPECTOR, new StatementCounter());
+    }
+
+    /** Hikari only accepts a tracker factory before the pool starts, i.e. before first use. */
+    @Bean
+    static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MetricsRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource ds && ds.getMetricsTrackerFactory() == null) {
+                    ds.setMetricsTrackerFactory(new HikariPoolMetrics(registry.getObject()));
+                }
+                return bean;
+            }
+        };
+    }
+}
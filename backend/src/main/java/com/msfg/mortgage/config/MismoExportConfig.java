@@ -0,0 +1,30 @@
+package com.msfg.mortgage.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Worker pool behind the batch MISMO export ({@code POST /loan-applications/export/mismo},
+ * see {@link com.msfg.mortgage.service.MismoBatchExportService}).
+ *
+ * <p>Writing the XML is CPU-only — the loans arrive fully loaded — so the pool never
+ * holds a database connection. Its size caps how many documents all running exports
+ * build at once, however many exports are running.
+ */
+@Configuration
+public class MismoExportConfig {
+
+    @Bean
+    ThreadPoolTaskExecutor mismoExportExecutor(@Value("${mismo.export.threads:2}") int threads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("mismo-export-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        // Each export queues at most one batch (mismo.export.batch-size) at a time.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,50 @@
+package com.msfg.mortgage.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Worker pools behind background MISMO imports — bulk create-from-MISMO and
+ * {@code ?async=true} re-imports (see {@link com.msfg.mortgage.service.MismoImportJobService}).
+ *
+ * <p>Parsing is CPU-only and gets its own pool; the writer pool is what touches the
+ * database, and its size is the most Hikari connections a bulk job can hold at once.
+ * Keep {@code mismo.import.write-concurrency} well under
+ * {@code spring.datasource.hikari.maximum-pool-size} so interactive requests still get
+ * a connection while a batch is landing.
+ *
+ * <p>Both queues are bounded, since every queued file pins its staged bytes. A file that
+ * finds the parse queue full fails on its job row; the write queue is sized so it never
+ * fills (see {@code MismoImportJobService}'s in-flight limit).
+ */
+@Configuration
+public class MismoImportJobConfig {
+
+    @Bean
+    ThreadPoolTaskExecutor mismoParseExecutor(@Value("${mismo.import.parse-threads:2}") int threads,
+                                              @Value("${mismo.import.queue-capacity:400}") int queueCapacity) {
+        return pool("mismo-parse-", threads, queueCapacity);
+    }
+
+    @Bean
+    ThreadPoolTaskExecutor mismoWriteExecutor(@Value("${mismo.import.parse-threads:2}") int parseThreads,
+                                              @Value("${mismo.import.write-concurrency:2}") int threads) {
+        // Only files holding an in-flight permit (parse-threads + write-concurrency) get here.
+        return pool("mismo-write-", threads, parseThreads + threads);
+    }
+
+    private static ThreadPoolTaskExecutor pool(String prefix, int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(prefix);
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        // Let in-flight files finish their current step on shutdown rather than drop
+        // mid-transaction.
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -1,9 +1,12 @@
 package com.msfg.mortgage.config;
 
+import com.msfg.mortgage.metrics.OutboundCallMetrics;
+import com.msfg.mortgage.metrics.S3CallTimer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
@@ -25,8 +28,23 @@ public class S3Config {
     }
 
     @Bean(destroyMethod = "close")
-    public S3Client s3Client(Region region) {
-        return S3Client.builder().region(region).build();
+    public S3Client s3Client(Region region, OutboundCallMetrics metrics) {
+        return S3Client.builder()
+                .region(region)
+                .overrideConfiguration(c -> c.addExecutionInterceptor(new S3CallTimer(metrics)))
+                .build();
+    }
+
+    /**
+     * Non-blocking client for fanning many small calls out at once — bulk confirm's HEADs
+     * and tagging. Same region and call metrics as {@link #s3Client}.
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(Region region, OutboundCallMetrics metrics) {
+        return S3AsyncClient.builder()
+                .region(region)
+                .overrideConfiguration(c -> c.addExecutionInterceptor(new S3CallTimer(metrics)))
+                .build();
     }
 
     @Bean(destroyMethod = "close")
@@ -4,9 +4,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
- * Enables @Scheduled support. Harmless without scheduled beans — the only scheduled bean
- * ({@code SuiteReconciliationJob}) is itself gated on {@code suite.reconcile.enabled=true}, so nothing
- * actually runs unless a deployment opts in.
+ * Enables @Scheduled support. Harmless without scheduled beans — every scheduled bean
+ * is itself gated on an {@code *.enabled=true} property, so nothing actually runs
+ * unless a deployment opts in:
+ * <ul>
+ *   <li>{@code SuiteReconciliationJob} — {@code suite.reconcile.enabled}</li>
+ *   <li>{@code OutstandingConditionCountJob} — {@code pipeline.condition-count-check.enabled}</li>
+ *   <li>{@code PipelineReadModelDriftJob} — {@code pipeline.read-model.drift-check.enabled}</li>
+ *   <li>{@code DocumentPostUploadRetryJob} — {@code documents.post-upload.retry.enabled}</li>
+ *   <li>{@code MultipartUploadSweepJob} — {@code documents.multipart.sweep.enabled}</li>
+ * </ul>
  */
 @Configuration
 @EnableScheduling
@@ -68,6 +68,7 @@ public class SecurityConfig {
 
                         // Admin-only
                         .requestMatchers("/admin/**").hasRole("Admin")
+                        .requestMatchers(HttpMethod.GET, "/metrics").hasRole("Admin")
 
                         // Reads/writes that are role-gated; per-loan ownership enforced by @PreAuthorize on controllers
                         .requestMatchers("/loan-applications/**", "/me/**", "/documents/**")
@@ -1,5 +1,6 @@
 package com.msfg.mortgage.config;
 
+import com.msfg.mortgage.metrics.OutboundCallMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,7 +9,11 @@ import org.springframework.web.reactive.function.client.WebClient;
 @Configuration
 public class SuiteClientConfig {
     @Bean
-    WebClient suiteWebClient(@Value("${suite.api.base-url:http://localhost:8080}") String baseUrl) {
-        return WebClient.builder().baseUrl(baseUrl).build();
+    WebClient suiteWebClient(@Value("${suite.api.base-url:http://localhost:8080}") String baseUrl,
+                             OutboundCallMetrics metrics) {
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .filter(metrics.webClientFilter("suite"))
+                .build();
     }
 }
@@ -0,0 +1,38 @@
+package com.msfg.mortgage.controller;
+
+import com.msfg.mortgage.service.pipeline.PipelineReadModelService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Operator controls for the {@code loan_pipeline_rows} read model (V31).
+ * {@code GET /drift} is a dry run; {@code POST /rebuild} truncates and
+ * re-derives every row from {@code loan_list_view}.
+ */
+@RestController
+@RequestMapping("/admin/pipeline-read-model")
+@PreAuthorize("hasRole('Admin')")
+@RequiredArgsConstructor
+public class AdminPipelineReadModelController {
+
+    private final PipelineReadModelService pipelineReadModel;
+
+    @GetMapping("/drift")
+    public ResponseEntity<Map<String, Object>> drift() {
+        List<Long> ids = pipelineReadModel.findDrift();
+        return ResponseEntity.ok(Map.of(
+            "source", pipelineReadModel.source(),
+            "driftedLoanIds", ids));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuild() {
+        int rows = pipelineReadModel.rebuild();
+        return ResponseEntity.ok(Map.of("rows", rows));
+    }
+}
@@ -0,0 +1,31 @@
+package com.msfg.mortgage.controller;
+
+import com.msfg.mortgage.service.search.LoanSearchCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Hit/miss counters for the TopBar typeahead cache, plus a manual flush.
+ * Counters are process-local and reset on restart.
+ */
+@RestController
+@RequestMapping("/admin/search-cache")
+@PreAuthorize("hasRole('Admin')")
+@RequiredArgsConstructor
+public class AdminSearchCacheController {
+
+    private final LoanSearchCache searchCache;
+
+    @GetMapping("/stats")
+    public ResponseEntity<LoanSearchCache.Stats> stats() {
+        return ResponseEntity.ok(searchCache.stats());
+    }
+
+    @PostMapping("/clear")
+    public ResponseEntity<LoanSearchCache.Stats> clear() {
+        searchCache.clear();
+        return ResponseEntity.ok(searchCache.stats());
+    }
+}
@@ -1,6 +1,8 @@
 package com.msfg.mortgage.controller;
 
+import com.msfg.mortgage.metrics.StatementBudget;
 import com.msfg.mortgage.service.DocumentService;
+import com.msfg.mortgage.service.S3DocumentService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
@@ -28,10 +30,68 @@ public class DocumentController {
         Map<String, Object> result = documentService.issueUploadUrl(
                 loanId, req.fileName(), req.documentType(),
                 req.partyRole(), req.contentType(), req.folderId(),
-                req.documentTypeId(), httpRequest);
+                req.documentTypeId(), req.sha256(), httpRequest);
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/upload-urls")
+    @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
+    public ResponseEntity<?> issueUploadUrls(
+            @PathVariable Long loanId,
+            @RequestBody BatchUploadUrlRequest req,
+            HttpServletRequest httpRequest
+    ) {
+        return ResponseEntity.ok(documentService.issueUploadUrls(
+                loanId, req.documentType(), req.partyRole(), req.folderId(),
+                req.documentTypeId(), req.files(), httpRequest));
+    }
+
+    @PostMapping("/multipart-upload")
+    @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
+    public ResponseEntity<?> initiateMultipartUpload(
+            @PathVariable Long loanId,
+            @RequestBody MultipartUploadRequest req,
+            HttpServletRequest httpRequest
+    ) {
+        return ResponseEntity.ok(documentService.initiateMultipartUpload(
+                loanId, req.fileName(), req.documentType(),
+                req.partyRole(), req.contentType(), req.folderId(),
+                req.documentTypeId(), req.fileSize(), httpRequest));
+    }
+
+    @PostMapping("/{docUuid}/multipart-upload/parts")
+    @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
+    public ResponseEntity<?> presignUploadParts(
+            @PathVariable Long loanId,
+            @PathVariable String docUuid,
+            @RequestBody UploadPartsRequest req
+    ) {
+        return ResponseEntity.ok(documentService.presignUploadParts(loanId, docUuid, req.partNumbers()));
+    }
+
+    @PostMapping("/{docUuid}/multipart-upload/complete")
+    @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
+    public ResponseEntity<?> completeMultipartUpload(
+            @PathVariable Long loanId,
+            @PathVariable String docUuid,
+            @RequestBody CompleteMultipartUploadRequest req,
+            HttpServletRequest httpRequest
+    ) {
+        return ResponseEntity.ok(documentService.completeMultipartUpload(
+                loanId, docUuid, req.parts(), httpRequest));
+    }
+
+    @DeleteMapping("/{docUuid}/multipart-upload")
+    @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
+    public ResponseEntity<?> abortMultipartUpload(
+            @PathVariable Long loanId,
+            @PathVariable String docUuid,
+            HttpServletRequest httpRequest
+    ) {
+        documentService.abortMultipartUpload(loanId, docUuid, httpRequest);
+        return ResponseEntity.ok(Map.of("ok", true, "docUuid", docUuid));
+    }
+
     @PutMapping("/{docUuid}/confirm")
     @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
     public ResponseEntity<?> confirmUpload(
@@ -42,6 +102,16 @@ public class DocumentController {
         return ResponseEntity.ok(documentService.confirmUpload(loanId, docUuid, httpRequest));
     }
 
+    @PostMapping("/bulk-confirm")
+    @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
+    public ResponseEntity<?> bulkConfirm(
+            @PathVariable Long loanId,
+            @RequestBody BulkConfirmRequest req,
+            HttpServletRequest httpRequest
+    ) {
+        return ResponseEntity.ok(documentService.bulkConfirm(loanId, req.docUuids(), httpRequest));
+    }
+
     @GetMapping
     @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
     public ResponseEntity<?> list(
@@ -55,6 +125,7 @@ public class DocumentController {
     }
 
     @GetMapping("/search")
+    @StatementBudget(4)
     @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
     public ResponseEntity<?> search(
             @PathVariable Long loanId,
@@ -199,9 +270,38 @@ public class DocumentController {
             @NotBlank String partyRole,
             String contentType,
             Long folderId,
-            Long documentTypeId
+            Long documentTypeId,
+            /** Optional hex SHA-256 of the file; binds the presigned PUT to it (checksum-at-upload). */
+            String sha256
+    ) {}
+
+    /** One type, role and folder for every file in a multi-file drop. */
+    public record BatchUploadUrlRequest(
+            String documentType,
+            @NotBlank String partyRole,
+            Long folderId,
+            Long documentTypeId,
+            List<DocumentService.UploadFile> files
+    ) {}
+
+    /** As {@link UploadUrlRequest}, plus the file size the part layout is computed from. */
+    public record MultipartUploadRequest(
+            @NotBlank String fileName,
+            String documentType,
+            @NotBlank String partyRole,
+            String contentType,
+            Long folderId,
+            Long documentTypeId,
+            Long fileSize
     ) {}
 
+    public record UploadPartsRequest(List<Integer> partNumbers) {}
+
+    /** Each part's ETag exactly as S3 returned it on the part PUT. */
+    public record CompleteMultipartUploadRequest(List<S3DocumentService.UploadedPart> parts) {}
+
+    public record BulkConfirmRequest(List<String> docUuids) {}
+
     public record PatchDocumentRequest(String fileName, Long folderId, String documentType, String description) {}
 
     public record MoveDocumentsRequest(List<String> docUuids, Long toFolderId) {}
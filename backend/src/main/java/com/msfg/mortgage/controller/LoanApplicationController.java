@@ -2,26 +2,33 @@ package com.msfg.mortgage.controller;
 
 import com.msfg.mortgage.dto.IntakeRequest;
 import com.msfg.mortgage.dto.LoanApplicationDTO;
+import com.msfg.mortgage.dto.LoanListCursorPage;
 import com.msfg.mortgage.dto.LoanListFilters;
-import com.msfg.mortgage.dto.LoanListPage;
 import com.msfg.mortgage.dto.LoanSearchHit;
+import com.msfg.mortgage.metrics.StatementBudget;
+import com.msfg.mortgage.mismo.MismoContentHash;
+import com.msfg.mortgage.mismo.MismoDrift;
 import com.msfg.mortgage.mismo.MismoExporter;
 import com.msfg.mortgage.mismo.MismoImporter;
+import com.msfg.mortgage.mismo.parse.MismoStreamReader;
 import com.msfg.mortgage.model.LoanApplication;
 import com.msfg.mortgage.model.LoanStatusHistory;
 import com.msfg.mortgage.model.MismoImport;
+import com.msfg.mortgage.model.MismoImportJob;
 import com.msfg.mortgage.model.User;
 import com.msfg.mortgage.repository.LoanStatusHistoryRepository;
-import com.msfg.mortgage.repository.MismoImportRepository;
 import com.msfg.mortgage.security.CurrentUserService;
 import com.msfg.mortgage.service.LoanApplicationListService;
 import com.msfg.mortgage.service.LoanApplicationService;
 import com.msfg.mortgage.service.LoanSearchService;
-import org.springframework.core.io.ByteArrayResource;
+import com.msfg.mortgage.service.MismoBatchExportService;
+import com.msfg.mortgage.service.MismoImportJobService;
+import com.msfg.mortgage.service.MismoImportService;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.multipart.MultipartFile;
-import java.time.Duration;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import javax.xml.stream.XMLStreamException;
 import java.time.LocalDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -59,7 +66,9 @@ public class LoanApplicationController {
     private final LoanStatusHistoryRepository loanStatusHistoryRepository;
     private final MismoExporter mismoExporter;
     private final MismoImporter mismoImporter;
-    private final MismoImportRepository mismoImportRepository;
+    private final MismoImportService mismoImportService;
+    private final MismoImportJobService mismoImportJobService;
+    private final MismoBatchExportService mismoBatchExportService;
     private final CurrentUserService currentUserService;
 
     @PostMapping("/intake")
@@ -109,45 +118,24 @@ public class LoanApplicationController {
             return ResponseEntity.badRequest().body(Map.of("error", "file_required"));
         }
         try {
-            // Bare-minimum DTO so the create-side validation doesn't reject it; the importer
-            // will overwrite anything we set here.
-            LoanApplicationDTO seed = new LoanApplicationDTO();
-            seed.setLoanPurpose("Purchase");
-            seed.setLoanType("Conventional");
-            seed.setStatus("REGISTERED");
-
-            LoanApplication la = loanApplicationService.createApplication(seed);
-
-            // Auto-assign to the calling LO. The @PreAuthorize on this endpoint already
-            // restricts entry to LO/Processor/Admin/Manager, so any caller who reaches
-            // here is internal staff and a valid assignee.
+            byte[] bytes = file.getBytes();
+            // Seed loan, LO assignment, import and audit row commit together — a file that
+            // fails to import leaves no empty loan behind.
             User me = currentUserService.currentUser().orElse(null);
-            if (me != null) {
-                la.setAssignedLoId(me.getId());
-                la.setAssignedLoName(me.getName());
+            MismoImportService.Imported created;
+            try (var stream = new java.io.ByteArrayInputStream(bytes)) {
+                created = mismoImportService.createFromMismo(MismoStreamReader.read(stream),
+                        file.getOriginalFilename(), MismoContentHash.sha256(bytes), me);
             }
+            LoanApplication la = created.loan();
 
-            try (var stream = new java.io.ByteArrayInputStream(file.getBytes())) {
-                MismoImporter.ImportResult result = mismoImporter.importInto(la, stream);
-
-                mismoImportRepository.save(MismoImport.builder()
-                        .loanApplicationId(la.getId())
-                        .importedByUserId(me == null ? null : me.getId())
-                        .sourceFilename(file.getOriginalFilename())
-                        .fileCreatedDatetime(result.fileCreatedDatetime())
-                        .fieldsChangedCount(result.changeCount())
-                        .fieldsChangedSummary(result.fieldsChangedSummaryJson())
-                        .forced(false)
-                        .build());
-
-                Map<String, Object> body = new LinkedHashMap<>();
-                body.put("ok", true);
-                body.put("id", la.getId());
-                body.put("applicationNumber", la.getApplicationNumber());
-                body.put("changeCount", result.changeCount());
-                body.put("assignedLoId", la.getAssignedLoId());
-                return ResponseEntity.status(HttpStatus.CREATED).body(body);
-            }
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("ok", true);
+            body.put("id", la.getId());
+            body.put("applicationNumber", la.getApplicationNumber());
+            body.put("changeCount", created.result().changeCount());
+            body.put("assignedLoId", la.getAssignedLoId());
+            return ResponseEntity.status(HttpStatus.CREATED).body(body);
         } catch (Exception e) {
             log.warn("Create-from-MISMO failed: {}", e.getMessage());
             return ResponseEntity.badRequest()
@@ -190,10 +178,15 @@ public class LoanApplicationController {
      * unpaged firehose. The old shape is preserved at {@code GET /all} during
      * the frontend cutover (Phase 1) — that route is deleted in Phase 3 once
      * no caller remains.
+     *
+     * <p>Passing {@code cursor} (blank for the first page, then each response's
+     * {@code nextCursor}) switches to keyset paging: the response is a
+     * {@link LoanListCursorPage}, {@code page} is ignored, and the total is only
+     * counted when {@code withTotal=true}.
      */
     @GetMapping
     @PreAuthorize("@loanAccessGuard.isInternal()")
-    public ResponseEntity<LoanListPage> list(
+    public ResponseEntity<?> list(
             @RequestParam(required = false) List<String> status,
             @RequestParam(name = "lo", required = false) Integer assignedLoId,
             @RequestParam(required = false) Integer conditionsGt,
@@ -205,7 +198,9 @@ public class LoanApplicationController {
             @RequestParam(required = false) java.math.BigDecimal amountMax,
             @RequestParam(defaultValue = "createdDate,desc") String sort,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "25") int size) {
+            @RequestParam(defaultValue = "25") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withTotal) {
 
         String[] sortParts = sort.split(",", 2);
         String sortField = sortParts.length > 0 && !sortParts[0].isBlank() ? sortParts[0] : "createdDate";
@@ -224,6 +219,9 @@ public class LoanApplicationController {
             sortField, sortDir, page, size
         );
 
+        if (cursor != null) {
+            return ResponseEntity.ok(loanApplicationListService.listByCursor(filters, cursor, withTotal));
+        }
         return ResponseEntity.ok(loanApplicationListService.list(filters));
     }
 
@@ -243,6 +241,7 @@ public class LoanApplicationController {
     }
 
     @GetMapping("/{id}")
+    @StatementBudget(14)
     @PreAuthorize("@loanAccessGuard.canAccess(#id)")
     public ResponseEntity<LoanApplication> getApplicationById(@PathVariable Long id) {
         Optional<LoanApplication> application = loanApplicationService.getApplicationById(id);
@@ -267,6 +266,17 @@ public class LoanApplicationController {
      * (number of recent edits) so the UI can prompt the LO. Re-submit with {@code ?force=true}
      * to apply anyway.
      *
+     * <p>{@code ?async=true} runs the same drift check up front, then stages the file and
+     * answers 202 with a job id; the merge runs on the MISMO import workers. Poll
+     * {@code GET /loan-applications/mismo-import-jobs/{jobId}} for the outcome and change
+     * list. The worker re-checks drift before writing, so an edit made while the job was
+     * queued still wins unless the import was forced.
+     *
+     * <p>Re-uploading the file the loan's last import applied, with nothing edited since,
+     * answers 200 with {@code unchanged: true} and no changes straight away — sync or async.
+     * The upload still gets its own audit row ({@code duplicateOfImportId} names the
+     * original), but nothing is parsed or written to the loan.
+     *
      * <p>Tags + S3 checkpointing happen in Chunk D — for v1 this just merges the file into
      * the DB and writes an audit row.
      */
@@ -274,50 +284,63 @@ public class LoanApplicationController {
     @PreAuthorize("@loanAccessGuard.isInternal() and @loanAccessGuard.canAccess(#id)")
     public ResponseEntity<?> importMismo(@PathVariable Long id,
                                          @RequestParam("file") MultipartFile file,
-                                         @RequestParam(value = "force", required = false, defaultValue = "false") boolean force) {
+                                         @RequestParam(value = "force", required = false, defaultValue = "false") boolean force,
+                                         @RequestParam(value = "async", required = false, defaultValue = "false") boolean async) {
         if (file == null || file.isEmpty()) {
             return ResponseEntity.badRequest().body(Map.of("error", "file_required"));
         }
-        var laOpt = loanApplicationService.getApplicationById(id);
+        // Only updatedDate is needed here; the import loads the full form in its own transaction.
+        var laOpt = loanApplicationService.getApplicationSummaryById(id);
         if (laOpt.isEmpty()) return ResponseEntity.notFound().build();
         LoanApplication la = laOpt.get();
 
         try {
             byte[] bytes = file.getBytes();
+            String sha256 = MismoContentHash.sha256(bytes);
+            User me = currentUserService.currentUser().orElse(null);
+
+            Optional<MismoImport> unchanged = mismoImportService.recordUnchangedReimport(
+                    la, sha256, file.getOriginalFilename(), force, me);
+            if (unchanged.isPresent()) {
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("ok", true);
+                body.put("changeCount", 0);
+                body.put("changes", List.of());
+                body.put("fileCreatedDatetime", unchanged.get().getFileCreatedDatetime());
+                body.put("forced", force);
+                body.put("unchanged", true);
+                body.put("duplicateOfImportId", unchanged.get().getDuplicateOfImportId());
+                return ResponseEntity.ok(body);
+            }
 
-            // Drift check: peek the file's CreatedDatetime, compare to la.updatedDate
+            // Drift check: peek the file's CreatedDatetime (header only — stops at DEAL_SETS),
+            // compare to la.updatedDate. The one full parse happens below, and only if this passes.
             LocalDateTime fileCreated;
             try (var headerStream = new java.io.ByteArrayInputStream(bytes)) {
                 fileCreated = mismoImporter.peekCreatedDatetime(headerStream);
             }
-            if (!force && fileCreated != null && la.getUpdatedDate() != null
-                    && la.getUpdatedDate().isAfter(fileCreated)) {
-                Map<String, Object> drift = new LinkedHashMap<>();
-                drift.put("error", "drift_detected");
-                drift.put("fileCreatedDatetime", fileCreated);
-                drift.put("applicationUpdatedDate", la.getUpdatedDate());
-                drift.put("ageDifferenceSeconds",
-                        Duration.between(fileCreated, la.getUpdatedDate()).toSeconds());
-                drift.put("message", "The application has been modified since this MISMO file was generated. Re-submit with force=true to overwrite.");
-                return ResponseEntity.status(409).body(drift);
+            if (!force) {
+                Optional<MismoDrift> drift = MismoDrift.check(fileCreated, la);
+                if (drift.isPresent()) return ResponseEntity.status(409).body(drift.get().toBody());
             }
 
-            MismoImporter.ImportResult result;
-            try (var importStream = new java.io.ByteArrayInputStream(bytes)) {
-                result = mismoImporter.importInto(la, importStream);
+            if (async) {
+                MismoImportJob job = mismoImportJobService.submitReimport(id,
+                        new MismoImportJobService.BulkFile(file.getOriginalFilename(), bytes), force, me);
+                Map<String, Object> body = new LinkedHashMap<>();
+                body.put("jobId", job.getId());
+                body.put("status", job.getStatus());
+                body.put("statusUrl", "/loan-applications/mismo-import-jobs/" + job.getId());
+                body.put("forced", force);
+                return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
             }
 
-            // Audit row (Chunk D will fill in s3CheckpointKey when checkpoints land)
-            Integer userId = currentUserService.currentUser().map(User::getId).orElse(null);
-            mismoImportRepository.save(MismoImport.builder()
-                    .loanApplicationId(la.getId())
-                    .importedByUserId(userId)
-                    .sourceFilename(file.getOriginalFilename())
-                    .fileCreatedDatetime(result.fileCreatedDatetime())
-                    .fieldsChangedCount(result.changeCount())
-                    .fieldsChangedSummary(result.fieldsChangedSummaryJson())
-                    .forced(force)
-                    .build());
+            MismoImportService.Imported imported;
+            try (var importStream = new java.io.ByteArrayInputStream(bytes)) {
+                imported = mismoImportService.reimport(id, MismoStreamReader.read(importStream),
+                        file.getOriginalFilename(), sha256, force, me);
+            }
+            MismoImporter.ImportResult result = imported.result();
 
             Map<String, Object> body = new LinkedHashMap<>();
             body.put("ok", true);
@@ -327,6 +350,9 @@ public class LoanApplicationController {
             body.put("forced", force);
             return ResponseEntity.ok(body);
 
+        } catch (MismoDrift.DetectedException e) {
+            // Edited between the peek above and the write transaction.
+            return ResponseEntity.status(409).body(e.drift().toBody());
         } catch (java.io.IOException e) {
             log.warn("MISMO import failed for loan {}: {}", id, e.getMessage());
             return ResponseEntity.badRequest()
@@ -338,13 +364,26 @@ public class LoanApplicationController {
      * Export the loan as a MISMO 3.4 XML file. v1 emits application-stage data only — see
      * {@link MismoExporter} for the section list. Returns {@code application/xml} with a
      * filename like {@code MSFG-APP123456-2026-04-30.xml}.
+     *
+     * <p>The export graph is loaded up front, on the request thread (a 404 is still a 404).
+     * The XML is then written straight onto the response as the exporter walks the graph,
+     * so no copy of the document is held in memory however big the loan is. The request
+     * metrics cover the load; the write happens after the handler returns. The return type
+     * has to name {@link StreamingResponseBody}: that is how MVC picks its async handler.
      */
     @GetMapping("/{id}/export/mismo")
+    @StatementBudget(9)
     @PreAuthorize("@loanAccessGuard.canAccess(#id)")
-    public ResponseEntity<?> exportMismo(@PathVariable Long id) {
-        return loanApplicationService.getApplicationById(id)
-                .<ResponseEntity<?>>map(la -> {
-                    byte[] xml = mismoExporter.exportToBytes(la);
+    public ResponseEntity<StreamingResponseBody> exportMismo(@PathVariable Long id) {
+        return loanApplicationService.getApplicationForMismoExport(id)
+                .map(la -> {
+                    StreamingResponseBody xml = out -> {
+                        try {
+                            mismoExporter.export(la, out);
+                        } catch (XMLStreamException e) {
+                            throw new java.io.IOException("MISMO export failed for loan " + id, e);
+                        }
+                    };
                     String filename = String.format("MSFG-%s-%s.xml",
                             la.getApplicationNumber() == null ? id : la.getApplicationNumber(),
                             java.time.LocalDate.now());
@@ -352,17 +391,41 @@ public class LoanApplicationController {
                             .contentType(MediaType.APPLICATION_XML)
                             .header(HttpHeaders.CONTENT_DISPOSITION,
                                     "attachment; filename=\"" + filename + "\"")
-                            .body(new ByteArrayResource(xml));
+                            .body(xml);
                 })
                 .orElseGet(() -> ResponseEntity.notFound().build());
     }
 
+    /**
+     * Batch export: every loan the filters select (same body fields as the list's query
+     * params; omitted ones don't filter, paging is ignored) as one zip of
+     * {@code MISMO-<applicationNumber>.xml} entries, in the filters' sort order. Used at
+     * month-end for the investor and warehouse line.
+     *
+     * <p>The selection is resolved up front — over {@code mismo.export.max-loans} is a 400.
+     * The zip is then streamed as it's built, within {@code spring.mvc.async.request-timeout};
+     * see {@link MismoBatchExportService}.
+     */
+    @PostMapping("/export/mismo")
+    @PreAuthorize("hasAnyRole('Admin','Manager')")
+    public ResponseEntity<StreamingResponseBody> exportMismoBatch(
+            @RequestBody(required = false) LoanListFilters filters) {
+        List<Long> ids = mismoBatchExportService.select(filters == null ? LoanListFilters.defaults() : filters);
+        StreamingResponseBody zip = out -> mismoBatchExportService.writeZip(ids, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"MISMO-export-" + java.time.LocalDate.now() + ".zip\"")
+                .body(zip);
+    }
+
     /**
      * Lookup by application number. Internal staff only — borrowers/agents would bypass
      * the per-loan ownership check by guessing application numbers, since the guard keys
      * on numeric loan id.
      */
     @GetMapping("/number/{applicationNumber}")
+    @StatementBudget(14)
     @PreAuthorize("@loanAccessGuard.isInternal()")
     public ResponseEntity<LoanApplication> getApplicationByNumber(@PathVariable String applicationNumber) {
         Optional<LoanApplication> application = loanApplicationService.getApplicationByNumber(applicationNumber);
@@ -379,6 +442,7 @@ public class LoanApplicationController {
     }
 
     @PutMapping("/{id}")
+    @StatementBudget(16)
     @PreAuthorize("@loanAccessGuard.isInternal() and @loanAccessGuard.canAccess(#id)")
     public ResponseEntity<LoanApplication> updateApplication(@PathVariable Long id, @Valid @RequestBody LoanApplicationDTO applicationDTO) {
         try {
@@ -395,8 +459,12 @@ public class LoanApplicationController {
      * date or datetime) lets the LO backdate a milestone — useful when the
      * actual event happened before the LO got around to clicking the dashboard.
      * Omitted → defaults to now().
+     *
+     * <p>The write itself only loads the loan row; the full form in the response is re-read
+     * after the status change has committed.
      */
     @PatchMapping("/{id}/status")
+    @StatementBudget(18)
     @PreAuthorize("@loanAccessGuard.isInternal() and @loanAccessGuard.canAccess(#id)")
     public ResponseEntity<?> updateApplicationStatus(
             @PathVariable Long id,
@@ -404,8 +472,10 @@ public class LoanApplicationController {
             @RequestParam(required = false) String transitionedAt) {
         try {
             java.time.LocalDateTime ts = parseTransitionedAt(transitionedAt);
-            LoanApplication application = loanApplicationService.updateApplicationStatus(id, status, ts);
-            return new ResponseEntity<>(application, HttpStatus.OK);
+            loanApplicationService.updateApplicationStatus(id, status, ts);
+            return loanApplicationService.getApplicationById(id)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.notFound().build());
         } catch (IllegalArgumentException e) {
             log.warn("Status update rejected for application {} -> {}: {}", id, status, e.getMessage());
             return ResponseEntity.badRequest().body(java.util.Map.of("error", e.getMessage()));
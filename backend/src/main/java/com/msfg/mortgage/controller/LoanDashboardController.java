@@ -1,12 +1,17 @@
 package com.msfg.mortgage.controller;
 
+import com.msfg.mortgage.metrics.StatementBudget;
+import com.msfg.mortgage.service.LoanDashboardCache;
 import com.msfg.mortgage.service.LoanDashboardService;
 import com.msfg.mortgage.service.LoanDashboardService.ConditionInput;
 import com.msfg.mortgage.service.LoanDashboardService.TermsPatch;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * Loan Dashboard endpoints — read aggregated state and drive the LO's edits.
@@ -41,15 +46,33 @@ import org.springframework.web.bind.annotation.*;
 public class LoanDashboardController {
 
     private final LoanDashboardService loanDashboardService;
+    private final LoanDashboardCache loanDashboardCache;
 
     // ─── Read aggregated dashboard ──────────────────────────────────────────
 
+    /**
+     * Served from {@link LoanDashboardCache} with a strong ETag. A matching
+     * {@code If-None-Match} gets a 304 straight from the in-memory version stamp —
+     * the dashboard queries don't run (the access guard's own lookups still do).
+     */
     @GetMapping
+    @StatementBudget(12)
     @PreAuthorize("@loanAccessGuard.canAccess(#loanId)")
-    public ResponseEntity<?> getDashboard(@PathVariable Long loanId) {
-        return ResponseEntity.ok(loanDashboardService.getDashboard(loanId));
+    public ResponseEntity<?> getDashboard(@PathVariable Long loanId, WebRequest request) {
+        long version = loanDashboardCache.version(loanId);
+        String etag = loanDashboardCache.etag(loanId, version);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .body(loanDashboardCache.get(loanId, version, () -> loanDashboardService.getDashboard(loanId)));
     }
 
+    /** Let the browser keep the body but ask every time — the ETag makes asking cheap. */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     // ─── Edit loan terms ────────────────────────────────────────────────────
 
     @PatchMapping("/terms")
@@ -1,5 +1,6 @@
 package com.msfg.mortgage.controller;
 
+import com.msfg.mortgage.metrics.StatementBudget;
 import com.msfg.mortgage.model.LoanApplication;
 import com.msfg.mortgage.model.User;
 import com.msfg.mortgage.repository.LoanApplicationRepository;
@@ -47,6 +48,7 @@ public class MeController {
      *   - Admin/Manager → all loans
      */
     @GetMapping("/loans")
+    @StatementBudget(5)
     public ResponseEntity<?> myLoans() {
         Optional<User> meOpt = currentUserService.currentUser();
         if (meOpt.isEmpty()) return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
@@ -0,0 +1,29 @@
+package com.msfg.mortgage.controller;
+
+import com.msfg.mortgage.metrics.MetricsRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Prometheus scrape target. Admin-only (see {@code SecurityConfig}): per-route
+ * latency and pool state aren't for the public internet, so the scraper sends
+ * a bearer token like any other admin client. Output is route templates,
+ * timings and pool counts only: no ids, no request data.
+ */
+@RestController
+@RequiredArgsConstructor
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT =
+            MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    private final MetricsRegistry registry;
+
+    @GetMapping("/metrics")
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(registry.scrape());
+    }
+}
@@ -0,0 +1,144 @@
+package com.msfg.mortgage.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msfg.mortgage.model.MismoImport;
+import com.msfg.mortgage.model.MismoImportJob;
+import com.msfg.mortgage.model.MismoImportJobFile;
+import com.msfg.mortgage.model.User;
+import com.msfg.mortgage.repository.MismoImportJobRepository;
+import com.msfg.mortgage.repository.MismoImportRepository;
+import com.msfg.mortgage.security.CurrentUserService;
+import com.msfg.mortgage.service.MismoImportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Background MISMO imports. {@code POST /from-mismo/bulk} takes any mix of MISMO
+ * {@code .xml} files and {@code .zip}s of them, records a job and answers 202 straight
+ * away; the loans are created in the background (see {@link MismoImportJobService}).
+ * {@code POST /{id}/import/mismo?async=true} queues its job the same way.
+ * Poll {@code GET /mismo-import-jobs/{id}} for per-file progress; re-import jobs also
+ * carry the change list once the file has landed.
+ */
+@RestController
+@RequestMapping("/loan-applications")
+@RequiredArgsConstructor
+@Slf4j
+public class MismoImportJobController {
+
+    private final MismoImportJobService importJobService;
+    private final MismoImportJobRepository jobRepository;
+    private final MismoImportRepository mismoImportRepository;
+    private final CurrentUserService currentUserService;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping(value = "/from-mismo/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('LO','Processor','Admin','Manager')")
+    public ResponseEntity<Map<String, Object>> createFromMismoBulk(@RequestParam("files") List<MultipartFile> uploads) {
+        List<MismoImportJobService.BulkFile> files = new ArrayList<>();
+        try {
+            for (MultipartFile upload : uploads) {
+                if (upload == null || upload.isEmpty()) continue;
+                String name = upload.getOriginalFilename();
+                if (name != null && name.toLowerCase().endsWith(".zip")) {
+                    try (InputStream in = upload.getInputStream()) {
+                        files.addAll(importJobService.unzip(in));
+                    }
+                } else {
+                    files.add(new MismoImportJobService.BulkFile(name, upload.getBytes()));
+                }
+            }
+        } catch (IOException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "unreadable_upload", "message", e.getMessage()));
+        }
+        if (files.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "files_required"));
+        }
+
+        User me = currentUserService.currentUser().orElse(null);
+        MismoImportJob job;
+        try {
+            job = importJobService.submit(files, me);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(Map.of("error", "too_many_files", "message", e.getMessage()));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("jobId", job.getId());
+        body.put("status", job.getStatus());
+        body.put("totalFiles", job.getTotalFiles());
+        body.put("statusUrl", "/loan-applications/mismo-import-jobs/" + job.getId());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(body);
+    }
+
+    @GetMapping("/mismo-import-jobs/{id}")
+    @PreAuthorize("hasAnyRole('LO','Processor','Admin','Manager') and @loanAccessGuard.canSeeImportJob(#id)")
+    public ResponseEntity<Map<String, Object>> getJob(@PathVariable Long id) {
+        return jobRepository.findById(id)
+                .map(job -> ResponseEntity.ok(toBody(job, importJobService.files(id))))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private Map<String, Object> toBody(MismoImportJob job, List<MismoImportJobFile> files) {
+        boolean reimport = MismoImportJob.REIMPORT.equals(job.getKind());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("jobId", job.getId());
+        body.put("kind", job.getKind());
+        if (reimport) {
+            body.put("loanApplicationId", job.getLoanApplicationId());
+            body.put("forced", job.getForced());
+        }
+        body.put("status", job.getStatus());
+        body.put("totalFiles", job.getTotalFiles());
+        body.put("succeededFiles", job.getSucceededFiles());
+        body.put("failedFiles", job.getFailedFiles());
+        body.put("createdAt", job.getCreatedAt());
+        body.put("finishedAt", job.getFinishedAt());
+        List<Map<String, Object>> rows = new ArrayList<>(files.size());
+        for (MismoImportJobFile f : files) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("index", f.getFileIndex());
+            row.put("filename", f.getSourceFilename());
+            row.put("status", f.getStatus());
+            row.put("loanApplicationId", f.getLoanApplicationId());
+            row.put("mismoImportId", f.getMismoImportId());
+            row.put("changeCount", f.getFieldsChangedCount());
+            row.put("error", f.getError());
+            // A bulk create's "changes" are every field of a new loan — only worth
+            // returning for re-imports, where they're what the LO reviews.
+            if (reimport && f.getMismoImportId() != null) {
+                mismoImportRepository.findById(f.getMismoImportId())
+                        .ifPresent(audit -> row.put("changes", changes(audit)));
+            }
+            rows.add(row);
+        }
+        body.put("files", rows);
+        return body;
+    }
+
+    private List<?> changes(MismoImport audit) {
+        String json = audit.getFieldsChangedSummary();
+        if (json == null || json.isBlank()) return List.of();
+        try {
+            return objectMapper.readValue(json, List.class);
+        } catch (IOException e) {
+            log.warn("Unreadable change summary on mismo_imports {}: {}", audit.getId(), e.getMessage());
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.msfg.mortgage.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flat single-row projection of everything the Loan Dashboard shows from the
+ * loan itself, its primary borrower (+ that borrower's declaration) and its
+ * subject property. Filled by one JPQL constructor query so the dashboard never
+ * materializes the EAGER {@code LoanApplication} graph.
+ *
+ * <p>{@code borrowerId}, {@code declarationId} and {@code propertyId} are null
+ * when the corresponding row doesn't exist — the service uses them to decide
+ * whether to emit that block at all.
+ */
+public record LoanDashboardHeader(
+    Long loanId,
+    String applicationNumber,
+    String status,
+    LocalDateTime createdDate,
+    LocalDateTime updatedDate,
+    String lendingpadLoanNumber,
+    String investorLoanNumber,
+    String mersMin,
+
+    Long borrowerId,
+    String firstName,
+    String lastName,
+    String email,
+    String phone,
+    String maritalStatus,
+    String citizenshipType,
+    Long declarationId,
+    Boolean intentToOccupy,
+
+    Long propertyId,
+    String addressLine,
+    String city,
+    String state,
+    String zipCode,
+    String county,
+    String propertyType,
+    BigDecimal propertyValue,
+    BigDecimal purchasePrice,
+    String attachmentType,
+    String projectType,
+    String constructionType,
+    Integer yearBuilt,
+    Integer unitsCount
+) {}
@@ -0,0 +1,20 @@
+package com.msfg.mortgage.dto;
+
+import java.util.List;
+
+/**
+ * Keyset-mode envelope for {@code GET /api/loan-applications?cursor=...}.
+ * {@code nextCursor} is opaque to the client — pass it back verbatim to get
+ * the following page; it is null once {@code hasMore} is false.
+ *
+ * <p>{@code totalElements} is null unless the caller asked for it with
+ * {@code withTotal=true}; skipping the count is what keeps deep pages as
+ * cheap as the first one.
+ */
+public record LoanListCursorPage(
+    List<LoanListRow> content,
+    String nextCursor,
+    boolean hasMore,
+    int size,
+    Long totalElements
+) {}
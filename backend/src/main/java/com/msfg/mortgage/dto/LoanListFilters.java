@@ -14,6 +14,10 @@ import java.util.Optional;
  * <p>{@code sortField} is whitelisted in the service — only
  * {@code createdDate}, {@code statusChangedAt}, and {@code loanAmount} are
  * valid; anything else falls back to {@code createdDate DESC}.
+ *
+ * <p>Also the JSON body of {@code POST /api/loan-applications/export/mismo}, where
+ * any omitted field comes through as null; the constructor maps those to the
+ * same "no filter" values as above. {@code page}/{@code size} are ignored there.
  */
 public record LoanListFilters(
     List<String> statuses,
@@ -30,6 +34,20 @@ public record LoanListFilters(
     int page,
     int size
 ) {
+    public LoanListFilters {
+        statuses = statuses == null ? List.of() : statuses;
+        assignedLoId = assignedLoId == null ? Optional.empty() : assignedLoId;
+        conditionsGt = conditionsGt == null ? Optional.empty() : conditionsGt;
+        closingFrom = closingFrom == null ? Optional.empty() : closingFrom;
+        closingTo = closingTo == null ? Optional.empty() : closingTo;
+        stageAgeGtDays = stageAgeGtDays == null ? Optional.empty() : stageAgeGtDays;
+        loanTypes = loanTypes == null ? List.of() : loanTypes;
+        amountMin = amountMin == null ? Optional.empty() : amountMin;
+        amountMax = amountMax == null ? Optional.empty() : amountMax;
+        sortField = sortField == null ? "createdDate" : sortField;
+        sortDirection = sortDirection == null ? "desc" : sortDirection;
+    }
+
     public static LoanListFilters defaults() {
         return new LoanListFilters(
             List.of(), Optional.empty(), Optional.empty(),
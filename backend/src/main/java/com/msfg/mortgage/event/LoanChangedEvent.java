@@ -0,0 +1,12 @@
+package com.msfg.mortgage.event;
+
+/**
+ * Published (via {@link org.springframework.context.ApplicationEventPublisher}) by every write
+ * path that changes what a loan looks like from the outside — status moves, form/MISMO edits to
+ * the loan, its borrowers or property, condition CRUD, create/clone/delete.
+ *
+ * <p>Carries only the loan id: listeners re-derive whatever they cache from the database rather
+ * than trusting a payload, so a missed field on the event can never leave stale data behind.
+ * Listeners that must see committed state use {@code @TransactionalEventListener}.
+ */
+public record LoanChangedEvent(Long loanId) {}
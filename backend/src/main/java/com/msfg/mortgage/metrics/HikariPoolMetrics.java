@@ -0,0 +1,49 @@
+package com.msfg.mortgage.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+/**
+ * Hikari's own hook for pool metrics: how long request threads wait to borrow a
+ * connection, how often they give up, and live active/idle/pending gauges.
+ * Installed on the {@code HikariDataSource} by {@link com.msfg.mortgage.config.MetricsConfig} before the
+ * pool starts.
+ */
+public class HikariPoolMetrics implements MetricsTrackerFactory {
+
+    private final MetricsRegistry registry;
+
+    public HikariPoolMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats stats) {
+        MetricsRegistry.Gauge connections = registry.gauge("hikaricp_connections",
+                "Connections by state.", "pool", "state");
+        connections.register(stats::getActiveConnections, poolName, "active");
+        connections.register(stats::getIdleConnections, poolName, "idle");
+        connections.register(stats::getPendingThreads, poolName, "pending");
+        registry.gauge("hikaricp_connections_max", "Maximum pool size.", "pool")
+                .register(stats::getMaxConnections, poolName);
+
+        MetricsRegistry.Histogram acquire = registry.histogram("hikaricp_connection_acquire_seconds",
+                "Time spent waiting to borrow a connection from the pool.",
+                new double[]{0.0001, 0.0005, 0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5, 20}, "pool");
+        MetricsRegistry.Counter timeouts = registry.counter("hikaricp_connection_timeouts_total",
+                "Borrow attempts that hit connection-timeout.", "pool");
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.observe(elapsedAcquiredNanos / 1e9, poolName);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeouts.increment(poolName);
+            }
+        };
+    }
+}
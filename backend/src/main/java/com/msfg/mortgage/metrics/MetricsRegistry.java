@@ -0,0 +1,225 @@
+package com.msfg.mortgage.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+/**
+ * In-process metric store rendered in the Prometheus text exposition format
+ * (v0.0.4) by {@code GET /metrics}. There's no Micrometer / actuator on the
+ * classpath; this covers the three shapes we need — histograms, counters and
+ * callback gauges — with labelled children created on first use.
+ *
+ * <p>Families are registered once by the component that owns them and then
+ * written to lock-free from request threads. Registering the same name twice
+ * returns the existing family, so two Hikari pools share one gauge family.
+ * Label values must stay low-cardinality: route templates, never raw URIs or
+ * ids.
+ */
+@Component
+public class MetricsRegistry {
+
+    /** Seconds. Spans a cached dashboard hit up to a slow MISMO import / LLM call. */
+    public static final double[] LATENCY_BUCKETS =
+            {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 120};
+
+    private final Map<String, Family<?>> families = new ConcurrentSkipListMap<>();
+
+    public Histogram histogram(String name, String help, double[] buckets, String... labelNames) {
+        return register(new Histogram(name, help, buckets, labelNames));
+    }
+
+    public Counter counter(String name, String help, String... labelNames) {
+        return register(new Counter(name, help, labelNames));
+    }
+
+    public Gauge gauge(String name, String help, String... labelNames) {
+        return register(new Gauge(name, help, labelNames));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <F extends Family<?>> F register(F family) {
+        Family<?> existing = families.putIfAbsent(family.name, family);
+        if (existing == null) return family;
+        if (existing.getClass() != family.getClass()
+                || !Arrays.equals(existing.labelNames, family.labelNames)) {
+            throw new IllegalStateException("Metric " + family.name + " already registered with a different shape");
+        }
+        return (F) existing;
+    }
+
+    /** Prometheus text format, families in name order. */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        for (Family<?> f : families.values()) {
+            f.write(out);
+        }
+        return out.toString();
+    }
+
+    // ─── Families ───────────────────────────────────────────────────────────
+
+    public abstract static class Family<C> {
+        final String name;
+        final String help;
+        final String[] labelNames;
+        final Map<List<String>, C> children = new ConcurrentHashMap<>();
+
+        Family(String name, String help, String[] labelNames) {
+            this.name = name;
+            this.help = help;
+            this.labelNames = labelNames;
+        }
+
+        C child(String... labelValues) {
+            if (labelValues.length != labelNames.length) {
+                throw new IllegalArgumentException(name + " expects labels " + Arrays.toString(labelNames));
+            }
+            return children.computeIfAbsent(List.of(labelValues), k -> newChild());
+        }
+
+        abstract C newChild();
+
+        abstract String type();
+
+        abstract void writeChild(StringBuilder out, String labels, C child);
+
+        void write(StringBuilder out) {
+            out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            out.append("# TYPE ").append(name).append(' ').append(type()).append('\n');
+            children.forEach((values, child) -> writeChild(out, labels(values), child));
+        }
+
+        /** {@code name_suffix{labels} } — braces omitted when the family has no labels. */
+        StringBuilder series(StringBuilder out, String suffix, String labels) {
+            out.append(name).append(suffix);
+            if (!labels.isEmpty()) out.append('{').append(labels).append('}');
+            return out.append(' ');
+        }
+
+        String labels(List<String> values) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < labelNames.length; i++) {
+                if (i > 0) sb.append(',');
+                sb.append(labelNames[i]).append("=\"").append(escape(values.get(i))).append('"');
+            }
+            return sb.toString();
+        }
+    }
+
+    public static final class Histogram extends Family<Histogram.Child> {
+        private final double[] buckets;
+
+        Histogram(String name, String help, double[] buckets, String[] labelNames) {
+            super(name, help, labelNames);
+            this.buckets = buckets.clone();
+        }
+
+        public void observe(double value, String... labelValues) {
+            child(labelValues).observe(value);
+        }
+
+        /** Observation count for one label set; 0 if it has never been observed. */
+        public long count(String... labelValues) {
+            Child c = children.get(List.of(labelValues));
+            return c == null ? 0 : c.count.sum();
+        }
+
+        @Override Child newChild() { return new Child(); }
+
+        @Override String type() { return "histogram"; }
+
+        @Override
+        void writeChild(StringBuilder out, String labels, Child c) {
+            String sep = labels.isEmpty() ? "" : ",";
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += c.perBucket[i].sum();
+                out.append(name).append("_bucket{").append(labels).append(sep)
+                   .append("le=\"").append(buckets[i]).append("\"} ").append(cumulative).append('\n');
+            }
+            long count = c.count.sum();
+            out.append(name).append("_bucket{").append(labels).append(sep)
+               .append("le=\"+Inf\"} ").append(count).append('\n');
+            series(out, "_sum", labels).append(c.sum.sum()).append('\n');
+            series(out, "_count", labels).append(count).append('\n');
+        }
+
+        final class Child {
+            private final LongAdder[] perBucket = new LongAdder[buckets.length];
+            private final DoubleAdder sum = new DoubleAdder();
+            private final LongAdder count = new LongAdder();
+
+            Child() {
+                for (int i = 0; i < perBucket.length; i++) perBucket[i] = new LongAdder();
+            }
+
+            void observe(double value) {
+                for (int i = 0; i < buckets.length; i++) {
+                    if (value <= buckets[i]) {
+                        perBucket[i].increment();
+                        break;
+                    }
+                }
+                sum.add(value);
+                count.increment();
+            }
+        }
+    }
+
+    public static final class Counter extends Family<LongAdder> {
+        Counter(String name, String help, String[] labelNames) {
+            super(name, help, labelNames);
+        }
+
+        public void increment(String... labelValues) {
+            child(labelValues).increment();
+        }
+
+        public long value(String... labelValues) {
+            LongAdder c = children.get(List.of(labelValues));
+            return c == null ? 0 : c.sum();
+        }
+
+        @Override LongAdder newChild() { return new LongAdder(); }
+
+        @Override String type() { return "counter"; }
+
+        @Override
+        void writeChild(StringBuilder out, String labels, LongAdder c) {
+            series(out, "", labels).append(c.sum()).append('\n');
+        }
+    }
+
+    /** Sampled at scrape time; the supplier must be cheap and non-blocking. */
+    public static final class Gauge extends Family<DoubleSupplier[]> {
+        Gauge(String name, String help, String[] labelNames) {
+            super(name, help, labelNames);
+        }
+
+        public void register(DoubleSupplier supplier, String... labelValues) {
+            child(labelValues)[0] = supplier;
+        }
+
+        @Override DoubleSupplier[] newChild() { return new DoubleSupplier[]{() -> Double.NaN}; }
+
+        @Override String type() { return "gauge"; }
+
+        @Override
+        void writeChild(StringBuilder out, String labels, DoubleSupplier[] c) {
+            series(out, "", labels).append(c[0].getAsDouble()).append('\n');
+        }
+    }
+
+    static String escape(String v) {
+        if (v == null) return "";
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,65 @@
+package com.msfg.mortgage.metrics;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.util.function.Supplier;
+
+/**
+ * Timings for calls leaving the process — S3, the LLM providers and msfg-suite —
+ * as {@code outbound_call_seconds{client, operation, outcome}}. {@code operation}
+ * is an SDK operation name, a model name or a URI template; never a raw URL.
+ */
+@Component
+public class OutboundCallMetrics {
+
+    private static final String URI_TEMPLATE_ATTRIBUTE = WebClient.class.getName() + ".uriTemplate";
+
+    private final MetricsRegistry.Histogram calls;
+
+    public OutboundCallMetrics(MetricsRegistry registry) {
+        this.calls = registry.histogram("outbound_call_seconds",
+                "Latency of calls to S3, LLM providers and msfg-suite.",
+                MetricsRegistry.LATENCY_BUCKETS, "client", "operation", "outcome");
+    }
+
+    public void record(String client, String operation, long startNanos, boolean success) {
+        calls.observe((System.nanoTime() - startNanos) / 1e9, client, operation, success ? "success" : "error");
+    }
+
+    /** Times {@code call}; an exception is recorded as {@code outcome="error"} and rethrown. */
+    public <T> T time(String client, String operation, Supplier<T> call) {
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T result = call.get();
+            success = true;
+            return result;
+        } finally {
+            record(client, operation, start, success);
+        }
+    }
+
+    /** WebClient filter; a 4xx/5xx response counts as an error. */
+    public ExchangeFilterFunction webClientFilter(String client) {
+        return (request, next) -> {
+            long start = System.nanoTime();
+            String operation = request.method().name() + " " + template(request);
+            return next.exchange(request)
+                    .doOnSuccess(resp -> record(client, operation, start, resp != null && !resp.statusCode().isError()))
+                    .doOnError(e -> record(client, operation, start, false));
+        };
+    }
+
+    private static String template(ClientRequest request) {
+        return request.attribute(URI_TEMPLATE_ATTRIBUTE)
+                .map(Object::toString)
+                .orElseGet(() -> request.url().getPath());
+    }
+
+    public long count(String client, String operation, String outcome) {
+        return calls.count(client, operation, outcome);
+    }
+}
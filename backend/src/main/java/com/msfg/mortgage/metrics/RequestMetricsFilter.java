@@ -0,0 +1,88 @@
+package com.msfg.mortgage.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Per-request latency and Hibernate statement count, labelled by HTTP method and
+ * route template ({@code /loan-applications/{id}}, never the raw path). Runs
+ * ahead of Spring Security so auth time and guard lookups are included.
+ *
+ * <p>Requests that never reached a handler (404s, rejected by security) share the
+ * {@code UNMATCHED} route so probing can't blow up label cardinality.
+ *
+ * <p>Afterwards the count is checked against the handler's {@link StatementBudget},
+ * if it has one.
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String UNMATCHED = "UNMATCHED";
+
+    private final MetricsRegistry.Histogram latency;
+    private final MetricsRegistry.Histogram statements;
+    private final MetricsRegistry.Counter budgetExceeded;
+    private final boolean enforceBudgets;
+
+    public RequestMetricsFilter(MetricsRegistry registry, boolean enforceBudgets) {
+        this.latency = registry.histogram("http_server_requests_seconds",
+                "Request latency by route, including security filters.",
+                MetricsRegistry.LATENCY_BUCKETS, "method", "uri", "status");
+        this.statements = registry.histogram("http_server_request_statements",
+                "Hibernate statements prepared per request.",
+                new double[]{1, 2, 3, 5, 8, 13, 21, 34, 55, 89}, "method", "uri");
+        this.budgetExceeded = registry.counter("http_server_statement_budget_exceeded_total",
+                "Requests that ran more statements than their @StatementBudget.", "method", "uri");
+        this.enforceBudgets = enforceBudgets;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        StatementCounter.begin();
+        boolean failed = true;
+        int count;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            count = StatementCounter.end();
+            String method = request.getMethod();
+            String route = route(request);
+            String status = failed ? "500" : Integer.toString(response.getStatus());
+            latency.observe((System.nanoTime() - start) / 1e9, method, route, status);
+            statements.observe(count, method, route);
+        }
+        checkBudget(request, count);
+    }
+
+    private void checkBudget(HttpServletRequest request, int count) {
+        if (!(request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        StatementBudget budget = handler.getMethodAnnotation(StatementBudget.class);
+        if (budget == null || count <= budget.value()) return;
+
+        String method = request.getMethod();
+        String route = route(request);
+        budgetExceeded.increment(method, route);
+        if (enforceBudgets) {
+            throw new StatementBudgetExceededException(method + " " + route, count, budget.value());
+        }
+        log.warn("Statement budget exceeded for {} {}: {} > {}", method, route, count, budget.value());
+    }
+
+    static String route(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNMATCHED : pattern.toString();
+    }
+}
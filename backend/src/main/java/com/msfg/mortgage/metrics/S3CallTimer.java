@@ -0,0 +1,44 @@
+package com.msfg.mortgage.metrics;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * AWS SDK interceptor feeding {@link OutboundCallMetrics} with one observation per
+ * S3 operation (HeadObject, PutObjectTagging, …), retries included. Presigning
+ * is local and never reaches it.
+ */
+public class S3CallTimer implements ExecutionInterceptor {
+
+    private static final ExecutionAttribute<Long> START = new ExecutionAttribute<>("MetricsStartNanos");
+
+    private final OutboundCallMetrics metrics;
+
+    public S3CallTimer(OutboundCallMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes attributes) {
+        attributes.putAttribute(START, System.nanoTime());
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes attributes) {
+        record(attributes, context.httpResponse().isSuccessful());
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes attributes) {
+        record(attributes, false);
+    }
+
+    private void record(ExecutionAttributes attributes, boolean success) {
+        Long start = attributes.getAttribute(START);
+        if (start == null) return;
+        metrics.record("s3", attributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME), start, success);
+    }
+}
@@ -0,0 +1,25 @@
+package com.msfg.mortgage.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Upper bound on Hibernate statements for one request to the annotated handler,
+ * security checks included. {@link RequestMetricsFilter} counts every request;
+ * going over logs a warning and bumps {@code http_server_statement_budget_exceeded_total},
+ * or fails the request outright when {@code metrics.statement-budget.enforce=true}
+ * (the test profile), so an N+1 regression breaks the build instead of prod.
+ *
+ * <p>Pick the number from a measured count with a little headroom, and keep it
+ * independent of child-row counts — a budget that has to grow with the number of
+ * borrowers is the bug it exists to catch.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface StatementBudget {
+    int value();
+}
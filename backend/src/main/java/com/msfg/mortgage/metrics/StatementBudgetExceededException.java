@@ -0,0 +1,12 @@
+package com.msfg.mortgage.metrics;
+
+/**
+ * Thrown by {@link RequestMetricsFilter} when budget enforcement is on and a
+ * request ran more Hibernate statements than its {@link StatementBudget}.
+ */
+public class StatementBudgetExceededException extends RuntimeException {
+
+    public StatementBudgetExceededException(String route, int statements, int budget) {
+        super("Statement budget exceeded for " + route + ": " + statements + " > " + budget);
+    }
+}
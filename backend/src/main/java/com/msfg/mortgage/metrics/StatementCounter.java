@@ -0,0 +1,36 @@
+package com.msfg.mortgage.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread between
+ * {@link #begin()} and {@link #end()}. Installed as the session factory's
+ * {@link StatementInspector} by {@link com.msfg.mortgage.config.MetricsConfig}; {@link RequestMetricsFilter}
+ * brackets each request with it.
+ *
+ * <p>Only Hibernate-issued SQL is seen — JdbcTemplate reads (pipeline list,
+ * document search) are single hand-written statements and not where N+1s hide.
+ * Work handed to another thread isn't attributed to the request.
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    public static void begin() {
+        CURRENT.set(new int[1]);
+    }
+
+    /** Stops counting on this thread and returns the total; 0 if {@link #begin()} wasn't called. */
+    public static int end() {
+        int[] count = CURRENT.get();
+        CURRENT.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = CURRENT.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+}
@@ -4,14 +4,12 @@ import com.msfg.mortgage.model.Asset;
 import com.msfg.mortgage.model.Borrower;
 import com.msfg.mortgage.model.LoanApplication;
 import com.msfg.mortgage.mismo.parse.LinkContext;
-import com.msfg.mortgage.mismo.parse.MismoXml;
+import com.msfg.mortgage.mismo.parse.MismoSection;
+import com.msfg.mortgage.mismo.parse.MismoSections;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -38,9 +36,9 @@ public class AssetSectionImporter {
     /**
      * Single entry point. Applies DEAL-level assets to borrowers.
      */
-    public void apply(Document doc, LoanApplication la, LinkContext links,
+    public void apply(MismoSections mismo, LoanApplication la,
                       List<MismoImporter.FieldChange> changes) throws XPathExpressionException {
-        applyAssets(doc, la, links, changes);
+        applyAssets(mismo.list(MismoSection.ASSET), la, mismo.links(), changes);
     }
 
     /**
@@ -56,11 +54,9 @@ public class AssetSectionImporter {
      * Wholesale-replace: each borrower's asset list is cleared on the first asset that
      * lands for them, so re-importing the same MISMO is idempotent.
      */
-    private void applyAssets(Document doc, LoanApplication la, LinkContext links,
+    private void applyAssets(List<Element> nodes, LoanApplication la, LinkContext links,
                              List<MismoImporter.FieldChange> changes) throws XPathExpressionException {
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='ASSETS']/*[local-name()='ASSET']", doc, XPathConstants.NODESET);
-        if (nodes.getLength() == 0) return;
+        if (nodes.size() == 0) return;
 
         List<Borrower> borrowers = la.getBorrowers();
         if (borrowers == null || borrowers.isEmpty()) return;
@@ -69,8 +65,8 @@ public class AssetSectionImporter {
         for (Borrower b : borrowers) bucket.put(b.getId() == null ? -1L : b.getId(), new ArrayList<>());
 
         int kept = 0;
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element a = (Element) nodes.item(i);
+        for (int i = 0; i < nodes.size(); i++) {
+            Element a = nodes.get(i);
             String type = pluck(a, ".//*[local-name()='AssetType']");
             BigDecimal value = parseDecimal(pluck(a, ".//*[local-name()='AssetCashOrMarketValueAmount']"));
             if (type == null && value == null) continue;
@@ -8,16 +8,16 @@ import com.msfg.mortgage.model.LoanApplication;
 import com.msfg.mortgage.model.REOProperty;
 import com.msfg.mortgage.model.Residence;
 import com.msfg.mortgage.mismo.parse.LinkContext;
-import com.msfg.mortgage.mismo.parse.MismoXml;
+import com.msfg.mortgage.mismo.parse.MismoField;
+import com.msfg.mortgage.mismo.parse.MismoSection;
+import com.msfg.mortgage.mismo.parse.MismoSections;
 import com.msfg.mortgage.repository.BorrowerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -32,6 +32,7 @@ import static com.msfg.mortgage.mismo.parse.MismoCoerce.normalizeZip;
 import static com.msfg.mortgage.mismo.parse.MismoCoerce.parseBool;
 import static com.msfg.mortgage.mismo.parse.MismoCoerce.parseDecimal;
 import static com.msfg.mortgage.mismo.parse.MismoNodes.first;
+import static com.msfg.mortgage.mismo.parse.MismoNodes.nodes;
 import static com.msfg.mortgage.mismo.parse.MismoNodes.parseSeq;
 import static com.msfg.mortgage.mismo.parse.MismoNodes.pluck;
 import static com.msfg.mortgage.mismo.parse.MismoNodes.pluckTaxId;
@@ -67,33 +68,37 @@ public class BorrowerSectionImporter {
      * Single entry point. Walks DEAL/PARTIES/PARTY for borrower-role parties
      * and reconciles each one's record.
      */
-    public void apply(Document doc, LoanApplication la, LinkContext links,
+    public void apply(MismoSections mismo, LoanApplication la,
                        List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        applyBorrowers(doc, la, links, changes);
+        applyBorrowers(mismo, la, changes);
     }
 
     // ── Borrowers ────────────────────────────────────────────────────────
 
-    private void applyBorrowers(Document doc, LoanApplication la, LinkContext links,
+    private void applyBorrowers(MismoSections mismo, LoanApplication la,
                                   List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
+        LinkContext links = mismo.links();
+        String applicationTakenMethod = mismo.text(MismoField.APPLICATION_TAKEN_METHOD);
         // Walk PARTYs that play a Borrower-side role: primary Borrower, Cosigner, or
         // CoBorrower. (Skip PropertyOwner, LegalEntity for the LO, title companies, agents,
         // RealEstateAgent, etc.) LP exports a CoBorrower as PartyRoleType=Cosigner — without
         // accepting that value the second borrower is silently dropped on import.
-        NodeList parties = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='PARTY']" +
-                "[.//*[local-name()='ROLE_DETAIL']/*[local-name()='PartyRoleType']" +
-                "[text()='Borrower' or text()='Cosigner' or text()='CoBorrower']]",
-                doc, XPathConstants.NODESET);
-        if (parties.getLength() == 0) return;
+        List<Element> parties = new ArrayList<>();
+        for (Element party : mismo.list(MismoSection.PARTY)) {
+            if (first(party, ".//*[local-name()='ROLE_DETAIL']/*[local-name()='PartyRoleType']" +
+                    "[text()='Borrower' or text()='Cosigner' or text()='CoBorrower']") != null) {
+                parties.add(party);
+            }
+        }
+        if (parties.isEmpty()) return;
 
         if (la.getBorrowers() == null) la.setBorrowers(new ArrayList<>());
         List<Borrower> existing = la.getBorrowers();
 
-        for (int i = 0; i < parties.getLength(); i++) {
-            Element party = (Element) parties.item(i);
+        for (int i = 0; i < parties.size(); i++) {
+            Element party = parties.get(i);
             int seq = parseSeq(party, i + 1);
 
             Borrower b = findBorrower(existing, seq, i);
@@ -167,7 +172,7 @@ public class BorrowerSectionImporter {
             replaceIncomeSources(party, b, prefix, changes);
             // Assets handled at DEAL level — see MismoImporter.applyAssets.
             replaceReoProperties(party, b, prefix, changes);
-            replaceDeclaration(party, b, prefix, changes);
+            replaceDeclaration(party, b, applicationTakenMethod, prefix, changes);
 
             // Save: new borrowers need the parent FK to flush; existing get updated in-place.
             // Because LoanApplication.borrowers cascades ALL with orphanRemoval, the final
@@ -182,8 +187,7 @@ public class BorrowerSectionImporter {
     private void replaceResidences(Element party, Borrower b, String prefix,
                                      List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                ".//*[local-name()='RESIDENCE']", party, XPathConstants.NODESET);
+        NodeList nodes = nodes(party, ".//*[local-name()='RESIDENCE']");
         if (nodes.getLength() == 0) return;
         if (b.getResidences() == null) b.setResidences(new ArrayList<>());
         b.getResidences().clear();
@@ -215,8 +219,7 @@ public class BorrowerSectionImporter {
     private void replaceEmployment(Element party, Borrower b, LinkContext links, String prefix,
                                      List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                ".//*[local-name()='EMPLOYER']", party, XPathConstants.NODESET);
+        NodeList nodes = nodes(party, ".//*[local-name()='EMPLOYER']");
         if (nodes.getLength() == 0) return;
         if (b.getEmploymentHistory() == null) b.setEmploymentHistory(new ArrayList<>());
         b.getEmploymentHistory().clear();
@@ -281,8 +284,7 @@ public class BorrowerSectionImporter {
     private void replaceIncomeSources(Element party, Borrower b, String prefix,
                                         List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        NodeList items = (NodeList) MismoXml.xp().evaluate(
-                ".//*[local-name()='CURRENT_INCOME_ITEM']", party, XPathConstants.NODESET);
+        NodeList items = nodes(party, ".//*[local-name()='CURRENT_INCOME_ITEM']");
         if (items.getLength() == 0) return;
         if (b.getIncomeSources() == null) b.setIncomeSources(new ArrayList<>());
         b.getIncomeSources().clear();
@@ -308,8 +310,7 @@ public class BorrowerSectionImporter {
     private void replaceReoProperties(Element party, Borrower b, String prefix,
                                         List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                ".//*[local-name()='OWNED_PROPERTY']", party, XPathConstants.NODESET);
+        NodeList nodes = nodes(party, ".//*[local-name()='OWNED_PROPERTY']");
         if (nodes.getLength() == 0) return;
         if (b.getReoProperties() == null) b.setReoProperties(new ArrayList<>());
         b.getReoProperties().clear();
@@ -341,7 +342,7 @@ public class BorrowerSectionImporter {
         }
     }
 
-    private void replaceDeclaration(Element party, Borrower b, String prefix,
+    private void replaceDeclaration(Element party, Borrower b, String applicationTakenMethod, String prefix,
                                       List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
         Element dd = first(party, ".//*[local-name()='DECLARATION_DETAIL']");
@@ -379,7 +380,7 @@ public class BorrowerSectionImporter {
         }
 
         if (gm != null) {
-            applyHmda(gm, d);
+            applyHmda(gm, d, applicationTakenMethod);
         }
         changes.add(new MismoImporter.FieldChange(prefix + "declaration", "<replaced>", "1 row"));
     }
@@ -393,7 +394,8 @@ public class BorrowerSectionImporter {
      * HMDAGenderType lives in the ULAD: namespace; refusal indicators are
      * separate booleans we copy through verbatim.
      */
-    private void applyHmda(Element gm, Declaration d) throws XPathExpressionException {
+    private void applyHmda(Element gm, Declaration d, String applicationTakenMethod)
+            throws XPathExpressionException {
         // GOVERNMENT_MONITORING_DETAIL holds the refusal indicators
         Element detail = first(gm, ".//*[local-name()='GOVERNMENT_MONITORING_DETAIL']");
         if (detail != null) {
@@ -424,18 +426,12 @@ public class BorrowerSectionImporter {
         // ApplicationTakenMethodType lives under URLA, not here. We grab it
         // when present so each borrower's declaration carries the value
         // (form displays it once but having it on each row is harmless).
-        Element party = (Element) gm.getParentNode();
-        while (party != null && !"PARTY".equals(party.getLocalName())) party = (Element) party.getParentNode();
-        if (party != null) {
-            Element root = party.getOwnerDocument().getDocumentElement();
-            String taken = pluck(root, ".//*[local-name()='ApplicationTakenMethodType']");
-            if (taken != null) d.setApplicationTakenMethod(taken);
-        }
+        if (applicationTakenMethod != null) d.setApplicationTakenMethod(applicationTakenMethod);
     }
 
     /** Concatenate every text node matching the xpath into a comma-separated string. */
     private String collectCsv(Element ctx, String xpath) throws XPathExpressionException {
-        NodeList list = (NodeList) MismoXml.xp().evaluate(xpath, ctx, XPathConstants.NODESET);
+        NodeList list = nodes(ctx, xpath);
         if (list.getLength() == 0) return null;
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < list.getLength(); i++) {
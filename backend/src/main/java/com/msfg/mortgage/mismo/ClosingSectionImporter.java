@@ -8,19 +8,19 @@ import com.msfg.mortgage.repository.ClosingInformationRepository;
 import com.msfg.mortgage.repository.LoanApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 
-import com.msfg.mortgage.mismo.parse.MismoXml;
+import com.msfg.mortgage.mismo.parse.MismoField;
+import com.msfg.mortgage.mismo.parse.MismoSection;
+import com.msfg.mortgage.mismo.parse.MismoSections;
 
 import static com.msfg.mortgage.mismo.parse.MismoCoerce.firstNonNull;
 import static com.msfg.mortgage.mismo.parse.MismoCoerce.parseBool;
@@ -51,22 +51,21 @@ public class ClosingSectionImporter {
 
     /** Single entry point — runs both the closing-information row update and the
      *  fee replace-all. The orchestrator calls this once per import. */
-    public void apply(Document doc, LoanApplication la, List<MismoImporter.FieldChange> changes)
+    public void apply(MismoSections mismo, LoanApplication la, List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        applyClosingInformation(doc, la, changes);
-        applyClosingFees(doc, la, changes);
+        applyClosingInformation(mismo, la, changes);
+        applyClosingFees(mismo, la, changes);
     }
 
     // ── ClosingInformation ────────────────────────────────────────────────
 
-    void applyClosingInformation(Document doc, LoanApplication la, List<MismoImporter.FieldChange> changes)
-            throws XPathExpressionException {
+    void applyClosingInformation(MismoSections mismo, LoanApplication la, List<MismoImporter.FieldChange> changes) {
         if (la.getId() == null) return;
 
-        String closingDateRaw    = pluck(doc, "//*[local-name()='CLOSING_INFORMATION_DETAIL']/*[local-name()='LoanEstimatedClosingDate']");
-        String hazardEscrowedRaw = pluck(doc, "//*[local-name()='HAZARD_INSURANCE']/*[local-name()='HazardInsuranceEscrowedIndicator']");
-        String miSourceType      = pluck(doc, "//*[local-name()='MI_DATA_DETAIL']/*[local-name()='MISourceType']");
-        String miFinancedRaw     = pluck(doc, "//*[local-name()='MI_DATA_DETAIL']/*[local-name()='MIPremiumFinancedAmount']");
+        String closingDateRaw    = mismo.text(MismoField.LOAN_ESTIMATED_CLOSING_DATE);
+        String hazardEscrowedRaw = mismo.text(MismoField.HAZARD_INSURANCE_ESCROWED);
+        String miSourceType      = mismo.text(MismoField.MI_SOURCE_TYPE);
+        String miFinancedRaw     = mismo.text(MismoField.MI_PREMIUM_FINANCED_AMOUNT);
 
         // If none of the closing-stage fields are present, this is a URLA-only file — bail.
         if (closingDateRaw == null && hazardEscrowedRaw == null && miSourceType == null && miFinancedRaw == null) {
@@ -140,21 +139,23 @@ public class ClosingSectionImporter {
      *   <li>{@code description} ← {@code FeeDescription}</li>
      * </ul>
      */
-    void applyClosingFees(Document doc, LoanApplication la, List<MismoImporter.FieldChange> changes)
+    void applyClosingFees(MismoSections mismo, LoanApplication la, List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
         if (la.getId() == null) return;
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='FEE_INFORMATION']/*[local-name()='FEES']/*[local-name()='FEE']",
-                doc, XPathConstants.NODESET);
-        if (nodes.getLength() == 0) return;
+        List<Element> nodes = mismo.list(MismoSection.FEE);
+        if (nodes.size() == 0) return;
 
         closingFeeRepository.deleteByApplicationId(la.getId());
+        // The fees are lazy; if the caller's loan has them loaded, keep that list in step with
+        // the table, or saving the loan cascades into the rows just deleted.
+        boolean feesLoaded = Hibernate.isInitialized(la.getClosingFees());
+        if (feesLoaded) la.getClosingFees().clear();
         // Use a managed reference for the FK (see applyClosingInformation note).
         LoanApplication managed = loanApplicationRepository.findById(la.getId()).orElseThrow();
 
         int kept = 0;
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element fee = (Element) nodes.item(i);
+        for (int i = 0; i < nodes.size(); i++) {
+            Element fee = nodes.get(i);
             String typeLabel = null;
             Element typeEl = first(fee, ".//*[local-name()='FeeType']");
             if (typeEl != null) {
@@ -180,7 +181,8 @@ public class ClosingSectionImporter {
                     .paidBy(paidBy)
                     .description(description)
                     .build();
-            closingFeeRepository.save(cf);
+            ClosingFee saved = closingFeeRepository.save(cf);
+            if (feesLoaded) la.getClosingFees().add(saved);
             kept++;
         }
         if (kept > 0) {
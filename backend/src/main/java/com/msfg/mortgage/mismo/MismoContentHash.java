@@ -0,0 +1,38 @@
+package com.msfg.mortgage.mismo;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 of a MISMO upload for spotting re-uploads of the same export. Hashes the raw
+ * bytes with only the differences a download/re-save round trip introduces taken out —
+ * a leading UTF-8 BOM, carriage returns, trailing whitespace — so it costs one pass over
+ * the bytes and no XML parse.
+ */
+public final class MismoContentHash {
+    private MismoContentHash() {}
+
+    public static String sha256(byte[] xml) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 unavailable", e);
+        }
+        int from = xml.length >= 3 && (xml[0] & 0xFF) == 0xEF && (xml[1] & 0xFF) == 0xBB && (xml[2] & 0xFF) == 0xBF
+                ? 3 : 0;
+        int to = xml.length;
+        while (to > from && Character.isWhitespace(xml[to - 1])) to--;
+
+        int run = from;
+        for (int i = from; i < to; i++) {
+            if (xml[i] == '\r') {
+                digest.update(xml, run, i - run);
+                run = i + 1;
+            }
+        }
+        digest.update(xml, run, to - run);
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
@@ -0,0 +1,52 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.model.LoanApplication;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The application was edited after the MISMO file was generated, so importing it would
+ * overwrite newer work. Re-imports refuse with this unless the LO passes {@code force=true}.
+ */
+public record MismoDrift(LocalDateTime fileCreatedDatetime, LocalDateTime applicationUpdatedDate) {
+
+    public static final String MESSAGE =
+            "The application has been modified since this MISMO file was generated. Re-submit with force=true to overwrite.";
+
+    /** Empty when either timestamp is unknown or the file is at least as new as the application. */
+    public static Optional<MismoDrift> check(LocalDateTime fileCreated, LoanApplication la) {
+        if (fileCreated == null || la.getUpdatedDate() == null || !la.getUpdatedDate().isAfter(fileCreated)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MismoDrift(fileCreated, la.getUpdatedDate()));
+    }
+
+    /** The 409 body the UI prompts from. */
+    public Map<String, Object> toBody() {
+        Map<String, Object> drift = new LinkedHashMap<>();
+        drift.put("error", "drift_detected");
+        drift.put("fileCreatedDatetime", fileCreatedDatetime);
+        drift.put("applicationUpdatedDate", applicationUpdatedDate);
+        drift.put("ageDifferenceSeconds", Duration.between(fileCreatedDatetime, applicationUpdatedDate).toSeconds());
+        drift.put("message", MESSAGE);
+        return drift;
+    }
+
+    /** Thrown by {@code MismoImportService.reimport} when the re-check under the write transaction finds drift. */
+    public static class DetectedException extends Exception {
+        private final MismoDrift drift;
+
+        public DetectedException(MismoDrift drift) {
+            super("drift_detected: " + MESSAGE);
+            this.drift = drift;
+        }
+
+        public MismoDrift drift() {
+            return drift;
+        }
+    }
+}
@@ -2,35 +2,42 @@ package com.msfg.mortgage.mismo;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.msfg.mortgage.event.LoanChangedEvent;
 import com.msfg.mortgage.model.Borrower;
+import com.msfg.mortgage.model.HousingExpense;
 import com.msfg.mortgage.model.Liability;
 import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.model.PurchaseCredit;
 import com.msfg.mortgage.mismo.parse.LinkContext;
+import com.msfg.mortgage.mismo.parse.MismoField;
+import com.msfg.mortgage.mismo.parse.MismoSection;
+import com.msfg.mortgage.mismo.parse.MismoSections;
+import com.msfg.mortgage.mismo.parse.MismoStreamReader;
 
 import static com.msfg.mortgage.mismo.parse.MismoCoerce.parseDecimal;
-import static com.msfg.mortgage.mismo.parse.MismoNodes.first;
 import static com.msfg.mortgage.mismo.parse.MismoNodes.pluck;
 import static com.msfg.mortgage.mismo.parse.MismoNodes.textOf;
-import com.msfg.mortgage.mismo.parse.MismoXml;
 import com.msfg.mortgage.repository.LoanApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Parses a MISMO 3.4 XML file and merges it into the local database. Tolerant by design:
@@ -45,7 +52,7 @@ import java.util.Objects;
  *   - loan amount, type, purpose
  *   - subject property (address, value, year, units, type)
  *   - borrower individuals (name, DOB, marital, SSN, contact)
- *   - liabilities (whole-list replace — these come fresh from credit pull)
+ *   - liabilities (keyed merge — the file's set is authoritative, from the credit pull)
  *
  * <p>Out of scope for v1 (extend later):
  *   employment, income, residences, assets, declarations, HMDA government monitoring.
@@ -63,6 +70,7 @@ public class MismoImporter {
     private final AssetSectionImporter assetSectionImporter;
     private final ReoSectionImporter reoSectionImporter;
     private final ClosingSectionImporter closingSectionImporter;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /** Result of a single import. {@link #fileCreatedDatetime} is exposed so the caller can
@@ -79,14 +87,14 @@ public class MismoImporter {
     public record FieldChange(String path, String before, String after) {}
 
     /**
-     * Parse the file and return its {@code <CreatedDatetime>} without touching the DB.
-     * Used by the controller to do the drift-warning preview before committing.
+     * Read the file's {@code <CreatedDatetime>} without touching the DB. Used by the
+     * controller to do the drift-warning preview before committing; stops reading at
+     * the header.
      */
     public LocalDateTime peekCreatedDatetime(InputStream xml) throws IOException {
         try {
-            Document doc = MismoXml.parse(xml);
-            return MismoXml.readCreatedDatetime(doc);
-        } catch (Exception e) {
+            return MismoStreamReader.readCreatedDatetime(xml);
+        } catch (IOException e) {
             throw new IOException("Failed to parse MISMO header: " + e.getMessage(), e);
         }
     }
@@ -97,38 +105,41 @@ public class MismoImporter {
      */
     @Transactional
     public ImportResult importInto(LoanApplication la, InputStream xml) throws IOException {
+        // One streaming pass: section fragments, single-valued fields and the xlink
+        // label/RELATIONSHIP index (routes DEAL-level ASSETs to the right borrower and
+        // pulls income off the CURRENT_INCOME_ITEM linked to a given EMPLOYER).
+        return importInto(la, MismoStreamReader.read(xml));
+    }
+
+    /** Apply an already-read file. */
+    @Transactional
+    public ImportResult importInto(LoanApplication la, MismoSections mismo) throws IOException {
         try {
-            Document doc = MismoXml.parse(xml);
-            LocalDateTime fileCreated = MismoXml.readCreatedDatetime(doc);
+            LocalDateTime fileCreated = mismo.createdDatetime();
             List<FieldChange> changes = new ArrayList<>();
 
-            // Index xlink:label → element + the RELATIONSHIPS arcs once. Lets us
-            // route DEAL-level ASSETs to the right borrower and pull income off
-            // the CURRENT_INCOME_ITEM that's linked to a given EMPLOYER.
-            LinkContext links = LinkContext.from(doc);
-
-            applyLoanIdentifiers(doc, la, changes);
-            applyLoanFields(doc, la, changes);
-            propertySectionImporter.apply(doc, la, changes);  // property + loan terms
-            borrowerSectionImporter.apply(doc, la, links, changes);
-            assetSectionImporter.apply(doc, la, links, changes);   // after borrowers — needs them to exist
-            reoSectionImporter.apply(doc, la, links, changes);     // REOs live inside DEAL/ASSETS, not PARTY
-            applyLiabilities(doc, la, links, changes);
-            applyHousingExpenses(doc, la, changes); // dashboard PITIA breakdown
-            applyPurchaseCredits(doc, la, changes); // earnest money, seller credit, etc.
+            applyLoanIdentifiers(mismo, la, changes);
+            applyLoanFields(mismo, la, changes);
+            propertySectionImporter.apply(mismo, la, changes);  // property + loan terms
+            borrowerSectionImporter.apply(mismo, la, changes);
+            assetSectionImporter.apply(mismo, la, changes);   // after borrowers — needs them to exist
+            reoSectionImporter.apply(mismo, la, changes);     // REOs live inside DEAL/ASSETS, not PARTY
+            applyLiabilities(mismo, la, changes);
+            applyHousingExpenses(mismo, la, changes); // dashboard PITIA breakdown
+            applyPurchaseCredits(mismo, la, changes); // earnest money, seller credit, etc.
             // Closing-stage import (closing date, MI, hazard insurance, FEE_INFORMATION/FEES).
             // No-op on URLA-only files.
-            closingSectionImporter.apply(doc, la, changes);
+            closingSectionImporter.apply(mismo, la, changes);
 
             // Persist parent + cascading child changes
             LoanApplication saved = loanApplicationRepository.save(la);
+            // Identifiers, borrower names, property and closing date all feed the pipeline row.
+            eventPublisher.publishEvent(new LoanChangedEvent(saved.getId()));
 
             String summaryJson = changes.isEmpty() ? "[]" : changesToJson(changes);
             return new ImportResult(saved, fileCreated, changes, summaryJson);
-        } catch (javax.xml.parsers.ParserConfigurationException | XPathExpressionException e) {
-            throw new IOException("Failed to parse/walk MISMO file: " + e.getMessage(), e);
-        } catch (org.xml.sax.SAXException e) {
-            throw new IOException("Malformed XML: " + e.getMessage(), e);
+        } catch (XPathExpressionException e) {
+            throw new IOException("Failed to walk MISMO file: " + e.getMessage(), e);
         }
     }
 
@@ -136,12 +147,8 @@ public class MismoImporter {
     // Section appliers
     // ───────────────────────────────────────────────────────────────────────────
 
-    private void applyLoanIdentifiers(Document doc, LoanApplication la, List<FieldChange> changes)
-            throws XPathExpressionException {
-        NodeList ids = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='LOAN_IDENTIFIER']", doc, XPathConstants.NODESET);
-        for (int i = 0; i < ids.getLength(); i++) {
-            Element e = (Element) ids.item(i);
+    private void applyLoanIdentifiers(MismoSections mismo, LoanApplication la, List<FieldChange> changes) {
+        for (Element e : mismo.list(MismoSection.LOAN_IDENTIFIER)) {
             String value = textOf(e, "LoanIdentifier");
             String type = textOf(e, "LoanIdentifierType");
             if (value == null || type == null) continue;
@@ -164,18 +171,16 @@ public class MismoImporter {
         }
     }
 
-    private void applyLoanFields(Document doc, LoanApplication la, List<FieldChange> changes)
-            throws XPathExpressionException {
-        Element loan = first(doc, "//*[local-name()='LOAN']");
-        if (loan == null) return;
+    private void applyLoanFields(MismoSections mismo, LoanApplication la, List<FieldChange> changes) {
+        if (!mismo.hasLoan()) return;
 
-        String purpose = pluck(loan, ".//*[local-name()='LoanPurposeType']");
+        String purpose = mismo.text(MismoField.LOAN_PURPOSE_TYPE);
         if (purpose != null) set(la::getLoanPurpose, la::setLoanPurpose, purpose, "loanPurpose", changes);
 
-        String type = pluck(loan, ".//*[local-name()='MortgageType']");
+        String type = mismo.text(MismoField.MORTGAGE_TYPE);
         if (type != null) set(la::getLoanType, la::setLoanType, type, "loanType", changes);
 
-        String amount = pluck(loan, ".//*[local-name()='BaseLoanAmount']");
+        String amount = mismo.text(MismoField.BASE_LOAN_AMOUNT);
         if (amount != null) {
             BigDecimal newAmt = new BigDecimal(amount);
             BigDecimal oldAmt = la.getLoanAmount();
@@ -188,28 +193,22 @@ public class MismoImporter {
     }
 
     /**
-     * Liabilities are wholesale-replaced on import — these come from LendingPad's credit pull
-     * after the borrower submits, and represent the authoritative set. Borrowers don't curate
-     * liabilities directly in the application form anyway.
+     * Liabilities come from LendingPad's credit pull after the borrower submits, and the
+     * file is the authoritative set — borrowers don't curate them in the application form.
+     * Merged by account number + creditor (see {@link RowMerge}): tradelines already on the
+     * loan are updated in place, ones missing from the file are deleted (orphanRemoval on
+     * {@code LoanApplication.liabilities}), new ones inserted. A re-import of an unchanged
+     * file writes nothing.
      */
-    private void applyLiabilities(Document doc, LoanApplication la, LinkContext links,
-                                   List<FieldChange> changes)
+    private void applyLiabilities(MismoSections mismo, LoanApplication la, List<FieldChange> changes)
             throws XPathExpressionException {
-        NodeList items = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='LIABILITY']", doc, XPathConstants.NODESET);
-        if (items.getLength() == 0) return;  // no liabilities section → leave existing untouched
-
-        int previous = la.getLiabilities() == null ? 0 : la.getLiabilities().size();
-
-        // Wipe existing rows; the JPA cascade on LoanApplication.liabilities is `orphanRemoval=true`
-        // so removing from the list deletes the rows on save.
-        if (la.getLiabilities() != null) {
-            la.getLiabilities().clear();
-        }
+        List<Element> items = mismo.list(MismoSection.LIABILITY);
+        LinkContext links = mismo.links();
+        if (items.isEmpty()) return;  // no liabilities section → leave existing untouched
 
         List<Borrower> borrowers = la.getBorrowers();
-        for (int i = 0; i < items.getLength(); i++) {
-            Element li = (Element) items.item(i);
+        List<Liability> incoming = new ArrayList<>(items.size());
+        for (Element li : items) {
             Liability l = new Liability();
             l.setApplication(la);
             l.setAccountNumber(pluck(li, ".//*[local-name()='LiabilityAccountIdentifier']"));
@@ -240,91 +239,191 @@ public class MismoImporter {
                     l.setToBePaidOff(true);
                 }
             }
+            incoming.add(l);
+        }
 
+        if (la.getLiabilities() == null) la.setLiabilities(new ArrayList<>());
+        RowMerge<Liability> merge = RowMerge.of(la.getLiabilities(), incoming,
+                l -> Arrays.asList(l.getAccountNumber(), l.getCreditorName()));
+
+        for (RowMerge.Pair<Liability> p : merge.matched) {
+            String path = liabilityPath(p.existing());
+            Liability to = p.existing();
+            Liability from = p.incoming();
+            RowMerge.field(path + ".liabilityType", to, from, Liability::getLiabilityType, Liability::setLiabilityType, changes);
+            RowMerge.field(path + ".monthlyPayment", to, from, Liability::getMonthlyPayment, Liability::setMonthlyPayment, changes);
+            RowMerge.field(path + ".unpaidBalance", to, from, Liability::getUnpaidBalance, Liability::setUnpaidBalance, changes);
+            RowMerge.field(path + ".exclusionReason", to, from, Liability::getExclusionReason, Liability::setExclusionReason, changes);
+            RowMerge.field(path + ".toBePaidOff", to, from, Liability::getToBePaidOff, Liability::setToBePaidOff, changes);
+            RowMerge.field(path + ".payoffStatus", to, from, Liability::getPayoffStatus, Liability::setPayoffStatus, changes);
+            if (!sameBorrower(to.getBorrower(), from.getBorrower())) {
+                changes.add(new FieldChange(path + ".borrower",
+                        borrowerName(to.getBorrower()), borrowerName(from.getBorrower())));
+                to.setBorrower(from.getBorrower());
+            }
+        }
+        if (!merge.removed.isEmpty()) {
+            Set<Liability> gone = Collections.newSetFromMap(new IdentityHashMap<>());
+            gone.addAll(merge.removed);
+            for (Liability l : merge.removed) liabilityRowChanges(l, false, changes);
+            // Liability.equals is id-based, so remove by identity.
+            la.getLiabilities().removeIf(gone::contains);
+        }
+        for (Liability l : merge.added) {
+            liabilityRowChanges(l, true, changes);
             la.getLiabilities().add(l);
         }
-        if (previous != items.getLength()) {
-            changes.add(new FieldChange("liabilities.count",
-                    String.valueOf(previous), String.valueOf(items.getLength())));
-        } else {
-            changes.add(new FieldChange("liabilities", "<replaced>", "<replaced (count unchanged)>"));
+    }
+
+    private static void liabilityRowChanges(Liability l, boolean added, List<FieldChange> changes) {
+        String path = liabilityPath(l);
+        RowMerge.field(path + ".liabilityType", l, Liability::getLiabilityType, added, changes);
+        RowMerge.field(path + ".monthlyPayment", l, Liability::getMonthlyPayment, added, changes);
+        RowMerge.field(path + ".unpaidBalance", l, Liability::getUnpaidBalance, added, changes);
+        RowMerge.field(path + ".exclusionReason", l, Liability::getExclusionReason, added, changes);
+        RowMerge.field(path + ".toBePaidOff", l, Liability::getToBePaidOff, added, changes);
+        RowMerge.field(path + ".payoffStatus", l, Liability::getPayoffStatus, added, changes);
+        RowMerge.field(path + ".borrower", l, r -> borrowerName(r.getBorrower()), added, changes);
+    }
+
+    /** {@code liabilities[CHASE CARD #4321]} — creditor plus the account's last four, never the full number. */
+    private static String liabilityPath(Liability l) {
+        String name = l.getCreditorName() != null ? l.getCreditorName()
+                : l.getLiabilityType() != null ? l.getLiabilityType() : "?";
+        String acct = l.getAccountNumber();
+        if (acct != null && !acct.isEmpty()) {
+            name += " #" + acct.substring(Math.max(0, acct.length() - 4));
         }
+        return "liabilities[" + name + "]";
+    }
+
+    /** By id once both sides are persisted: a lazy owner proxy and the borrowers-list instance are the same row. */
+    private static boolean sameBorrower(Borrower a, Borrower b) {
+        if (a == b) return true;
+        if (a == null || b == null) return false;
+        return a.getId() != null && a.getId().equals(b.getId());
+    }
+
+    private static String borrowerName(Borrower b) {
+        if (b == null) return null;
+        String name = ((b.getFirstName() == null ? "" : b.getFirstName()) + " "
+                + (b.getLastName() == null ? "" : b.getLastName())).trim();
+        return name.isEmpty() ? String.valueOf(b.getId()) : name;
     }
 
     /**
      * Loan Dashboard: proposed/present housing expenses (P&I, RE tax, MI, HOA, etc.).
-     * Wholesale-replace per loan — re-importing the same MISMO is idempotent.
+     * Merged by type + timing, so re-importing the same MISMO is a no-op. Rows keep the
+     * order MISMO presented them in; a reorder alone isn't reported as a change.
      */
-    private void applyHousingExpenses(org.w3c.dom.Document doc, LoanApplication la, List<FieldChange> changes)
+    private void applyHousingExpenses(MismoSections mismo, LoanApplication la, List<FieldChange> changes)
             throws XPathExpressionException {
         if (la.getId() == null) return;
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='HOUSING_EXPENSES']/*[local-name()='HOUSING_EXPENSE']",
-                doc, XPathConstants.NODESET);
-        if (nodes.getLength() == 0) return;
-
-        housingExpenseRepository.deleteByApplicationId(la.getId());
+        List<Element> nodes = mismo.list(MismoSection.HOUSING_EXPENSE);
+        if (nodes.isEmpty()) return;
 
-        int kept = 0;
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element e = (Element) nodes.item(i);
+        List<HousingExpense> incoming = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            Element e = nodes.get(i);
             String type = pluck(e, ".//*[local-name()='HousingExpenseType']");
             String timing = pluck(e, ".//*[local-name()='HousingExpenseTimingType']");
             BigDecimal amount = parseDecimal(pluck(e, ".//*[local-name()='HousingExpensePaymentAmount']"));
             if (type == null && amount == null) continue;
 
-            com.msfg.mortgage.model.HousingExpense he = com.msfg.mortgage.model.HousingExpense.builder()
+            incoming.add(HousingExpense.builder()
                     .applicationId(la.getId())
                     .expenseType(type)
                     .timingType(timing)
                     .paymentAmount(amount)
                     .sequenceNumber(i + 1)
-                    .build();
-            housingExpenseRepository.save(he);
-            kept++;
+                    .build());
+        }
+
+        RowMerge<HousingExpense> merge = RowMerge.of(
+                housingExpenseRepository.findByApplicationIdOrdered(la.getId()), incoming,
+                h -> Arrays.asList(h.getExpenseType(), h.getTimingType()));
+
+        // Matched rows are managed: dirty checking flushes the updates as one JDBC batch.
+        for (RowMerge.Pair<HousingExpense> p : merge.matched) {
+            RowMerge.field(housingExpensePath(p.existing()) + ".paymentAmount", p.existing(), p.incoming(),
+                    HousingExpense::getPaymentAmount, HousingExpense::setPaymentAmount, changes);
+            p.existing().setSequenceNumber(p.incoming().getSequenceNumber());
         }
-        if (kept > 0) {
-            changes.add(new FieldChange("housingExpenses", "<replaced>", kept + " row(s)"));
+        if (!merge.removed.isEmpty()) {
+            for (HousingExpense h : merge.removed) {
+                RowMerge.field(housingExpensePath(h) + ".paymentAmount", h, HousingExpense::getPaymentAmount, false, changes);
+            }
+            housingExpenseRepository.deleteAllInBatch(merge.removed);
+        }
+        if (!merge.added.isEmpty()) {
+            for (HousingExpense h : merge.added) {
+                RowMerge.field(housingExpensePath(h) + ".paymentAmount", h, HousingExpense::getPaymentAmount, true, changes);
+            }
+            housingExpenseRepository.saveAll(merge.added);
         }
     }
 
+    private static String housingExpensePath(HousingExpense h) {
+        return "housingExpenses[" + h.getExpenseType()
+                + (h.getTimingType() == null ? "" : "/" + h.getTimingType()) + "]";
+    }
+
     /**
      * Loan Dashboard: PURCHASE_CREDITS rows (earnest money, seller credit, lender credit).
-     * Wholesale-replace per loan. Empty PURCHASE_CREDIT placeholder elements are skipped —
-     * LP commonly emits a trailing empty &lt;PURCHASE_CREDIT/&gt; in these blocks.
+     * Merged by type + source, like housing expenses. Empty PURCHASE_CREDIT placeholder
+     * elements are skipped — LP commonly emits a trailing empty &lt;PURCHASE_CREDIT/&gt; in
+     * these blocks.
      */
-    private void applyPurchaseCredits(org.w3c.dom.Document doc, LoanApplication la, List<FieldChange> changes)
+    private void applyPurchaseCredits(MismoSections mismo, LoanApplication la, List<FieldChange> changes)
             throws XPathExpressionException {
         if (la.getId() == null) return;
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='PURCHASE_CREDITS']/*[local-name()='PURCHASE_CREDIT']",
-                doc, XPathConstants.NODESET);
-        if (nodes.getLength() == 0) return;
+        List<Element> nodes = mismo.list(MismoSection.PURCHASE_CREDIT);
+        if (nodes.isEmpty()) return;
 
-        purchaseCreditRepository.deleteByApplicationId(la.getId());
-
-        int kept = 0;
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element e = (Element) nodes.item(i);
+        List<PurchaseCredit> incoming = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            Element e = nodes.get(i);
             String type = pluck(e, ".//*[local-name()='PurchaseCreditType']");
             BigDecimal amount = parseDecimal(pluck(e, ".//*[local-name()='PurchaseCreditAmount']"));
             String source = pluck(e, ".//*[local-name()='PurchaseCreditSourceType']");
             // Skip the empty placeholders LP loves emitting
             if (type == null && amount == null) continue;
 
-            com.msfg.mortgage.model.PurchaseCredit pc = com.msfg.mortgage.model.PurchaseCredit.builder()
+            incoming.add(PurchaseCredit.builder()
                     .applicationId(la.getId())
                     .creditType(type != null ? type : "Other")
                     .amount(amount)
                     .source(source)
                     .sequenceNumber(i + 1)
-                    .build();
-            purchaseCreditRepository.save(pc);
-            kept++;
+                    .build());
         }
-        if (kept > 0) {
-            changes.add(new FieldChange("purchaseCredits", "<replaced>", kept + " row(s)"));
+
+        RowMerge<PurchaseCredit> merge = RowMerge.of(
+                purchaseCreditRepository.findByApplicationIdOrdered(la.getId()), incoming,
+                c -> Arrays.asList(c.getCreditType(), c.getSource()));
+
+        for (RowMerge.Pair<PurchaseCredit> p : merge.matched) {
+            RowMerge.field(purchaseCreditPath(p.existing()) + ".amount", p.existing(), p.incoming(),
+                    PurchaseCredit::getAmount, PurchaseCredit::setAmount, changes);
+            p.existing().setSequenceNumber(p.incoming().getSequenceNumber());
+        }
+        if (!merge.removed.isEmpty()) {
+            for (PurchaseCredit c : merge.removed) {
+                RowMerge.field(purchaseCreditPath(c) + ".amount", c, PurchaseCredit::getAmount, false, changes);
+            }
+            purchaseCreditRepository.deleteAllInBatch(merge.removed);
         }
+        if (!merge.added.isEmpty()) {
+            for (PurchaseCredit c : merge.added) {
+                RowMerge.field(purchaseCreditPath(c) + ".amount", c, PurchaseCredit::getAmount, true, changes);
+            }
+            purchaseCreditRepository.saveAll(merge.added);
+        }
+    }
+
+    private static String purchaseCreditPath(PurchaseCredit c) {
+        return "purchaseCredits[" + c.getCreditType()
+                + (c.getSource() == null ? "" : "/" + c.getSource()) + "]";
     }
 
 
@@ -2,15 +2,15 @@ package com.msfg.mortgage.mismo;
 
 import com.msfg.mortgage.model.LoanApplication;
 import com.msfg.mortgage.model.Property;
-import com.msfg.mortgage.mismo.parse.MismoXml;
+import com.msfg.mortgage.mismo.parse.MismoField;
+import com.msfg.mortgage.mismo.parse.MismoSection;
+import com.msfg.mortgage.mismo.parse.MismoSections;
 import com.msfg.mortgage.repository.PropertyRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -39,17 +39,17 @@ public class PropertySectionImporter {
     /**
      * Single entry point for property + loan terms.
      */
-    public void apply(Document doc, LoanApplication la, List<MismoImporter.FieldChange> changes)
+    public void apply(MismoSections mismo, LoanApplication la, List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        applyProperty(doc, la, changes);
-        applyLoanTerms(doc, la, changes);
+        applyProperty(mismo, la, changes);
+        applyLoanTerms(mismo, la, changes);
     }
 
     // ── Subject property ────────────────────────────────────────────────
 
-    private void applyProperty(Document doc, LoanApplication la, List<MismoImporter.FieldChange> changes)
+    private void applyProperty(MismoSections mismo, LoanApplication la, List<MismoImporter.FieldChange> changes)
             throws XPathExpressionException {
-        Element subj = first(doc, "//*[local-name()='SUBJECT_PROPERTY']");
+        Element subj = mismo.first(MismoSection.SUBJECT_PROPERTY);
         if (subj == null) return;
 
         Property p = la.getProperty();
@@ -59,7 +59,7 @@ public class PropertySectionImporter {
             la.setProperty(p);
         }
 
-        Element addr = (Element) MismoXml.xp().evaluate(".//*[local-name()='ADDRESS']", subj, XPathConstants.NODE);
+        Element addr = first(subj, ".//*[local-name()='ADDRESS']");
         if (addr != null) {
             stringSet(p::getAddressLine, p::setAddressLine,
                     pluck(addr, "*[local-name()='AddressLineText']"), "property.addressLine", changes);
@@ -157,10 +157,8 @@ public class PropertySectionImporter {
      * {@code LoanApplication.loanAmount} keeps mirroring {@code BaseLoanAmount} so the
      * application list view continues to work; this entity is the LO's authoritative copy.
      */
-    private void applyLoanTerms(org.w3c.dom.Document doc, LoanApplication la, List<MismoImporter.FieldChange> changes)
-            throws XPathExpressionException {
-        Element loan = first(doc, "//*[local-name()='LOAN']");
-        if (loan == null || la.getId() == null) return;
+    private void applyLoanTerms(MismoSections mismo, LoanApplication la, List<MismoImporter.FieldChange> changes) {
+        if (!mismo.hasLoan() || la.getId() == null) return;
 
         com.msfg.mortgage.model.LoanTerms terms = loanTermsRepository
                 .findByApplicationId(la.getId())
@@ -168,28 +166,28 @@ public class PropertySectionImporter {
                         .applicationId(la.getId())
                         .build());
 
-        BigDecimal baseAmt = parseDecimal(pluck(loan, ".//*[local-name()='BaseLoanAmount']"));
+        BigDecimal baseAmt = parseDecimal(mismo.text(MismoField.BASE_LOAN_AMOUNT));
         if (baseAmt != null) terms.setBaseLoanAmount(baseAmt);
 
-        BigDecimal noteAmt = parseDecimal(pluck(loan, ".//*[local-name()='NoteAmount']"));
+        BigDecimal noteAmt = parseDecimal(mismo.text(MismoField.NOTE_AMOUNT));
         if (noteAmt != null) terms.setNoteAmount(noteAmt);
 
-        BigDecimal rate = parseDecimal(pluck(loan, ".//*[local-name()='NoteRatePercent']"));
+        BigDecimal rate = parseDecimal(mismo.text(MismoField.NOTE_RATE_PERCENT));
         if (rate != null) terms.setNoteRatePercent(rate);
 
-        String amortType = pluck(loan, ".//*[local-name()='AmortizationType']");
+        String amortType = mismo.text(MismoField.AMORTIZATION_TYPE);
         if (amortType != null) terms.setAmortizationType(amortType);
 
-        String periodCount = pluck(loan, ".//*[local-name()='LoanAmortizationPeriodCount']");
+        String periodCount = mismo.text(MismoField.LOAN_AMORTIZATION_PERIOD_COUNT);
         if (periodCount != null) {
             try { terms.setAmortizationTermMonths(Integer.parseInt(periodCount)); }
             catch (NumberFormatException ignored) { }
         }
 
-        String lien = pluck(loan, ".//*[local-name()='LienPriorityType']");
+        String lien = mismo.text(MismoField.LIEN_PRIORITY_TYPE);
         if (lien != null) terms.setLienPriorityType(lien);
 
-        String received = pluck(loan, ".//*[local-name()='ApplicationReceivedDate']");
+        String received = mismo.text(MismoField.APPLICATION_RECEIVED_DATE);
         if (received != null) {
             try { terms.setApplicationReceivedDate(LocalDate.parse(received)); }
             catch (Exception ignored) { }
@@ -198,7 +196,7 @@ public class PropertySectionImporter {
         // Down payment: prefer an explicit MISMO field if present, else compute.
         // MISMO 3.4 carries it on the LOAN's DOWN_PAYMENTS/DOWN_PAYMENT/DownPaymentAmount;
         // some LP exports omit it. When missing, derive from the property/value/loan delta.
-        BigDecimal explicitDown = parseDecimal(pluck(loan, ".//*[local-name()='DownPaymentAmount']"));
+        BigDecimal explicitDown = parseDecimal(mismo.text(MismoField.DOWN_PAYMENT_AMOUNT));
         if (explicitDown != null) {
             terms.setDownPaymentAmount(explicitDown);
         } else if (la.getProperty() != null && la.getProperty().getPropertyValue() != null
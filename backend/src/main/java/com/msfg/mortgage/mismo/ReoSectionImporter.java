@@ -4,14 +4,12 @@ import com.msfg.mortgage.model.Borrower;
 import com.msfg.mortgage.model.LoanApplication;
 import com.msfg.mortgage.model.REOProperty;
 import com.msfg.mortgage.mismo.parse.LinkContext;
-import com.msfg.mortgage.mismo.parse.MismoXml;
+import com.msfg.mortgage.mismo.parse.MismoSection;
+import com.msfg.mortgage.mismo.parse.MismoSections;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -40,9 +38,9 @@ public class ReoSectionImporter {
     /**
      * Single entry point. Applies DEAL-level REO assets to borrowers.
      */
-    public void apply(Document doc, LoanApplication la, LinkContext links,
+    public void apply(MismoSections mismo, LoanApplication la,
                       List<MismoImporter.FieldChange> changes) throws XPathExpressionException {
-        applyReoFromAssets(doc, la, links, changes);
+        applyReoFromAssets(mismo, la, mismo.links(), changes);
     }
 
     /**
@@ -57,13 +55,15 @@ public class ReoSectionImporter {
      *
      * <p>Wholesale-replace per borrower on first incoming REO.
      */
-    private void applyReoFromAssets(Document doc, LoanApplication la, LinkContext links,
+    private void applyReoFromAssets(MismoSections mismo, LoanApplication la, LinkContext links,
                                      List<MismoImporter.FieldChange> changes) throws XPathExpressionException {
-        NodeList nodes = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='ASSETS']/*[local-name()='ASSET']" +
-                "[.//*[local-name()='AssetType' and text()='RealEstateOwned']]",
-                doc, XPathConstants.NODESET);
-        if (nodes.getLength() == 0) return;
+        List<Element> nodes = new ArrayList<>();
+        for (Element asset : mismo.list(MismoSection.ASSET)) {
+            if (first(asset, ".//*[local-name()='AssetType' and text()='RealEstateOwned']") != null) {
+                nodes.add(asset);
+            }
+        }
+        if (nodes.size() == 0) return;
 
         List<Borrower> borrowers = la.getBorrowers();
         if (borrowers == null || borrowers.isEmpty()) return;
@@ -72,8 +72,8 @@ public class ReoSectionImporter {
         for (Borrower b : borrowers) bucket.put(b.getId() == null ? -1L : b.getId(), new ArrayList<>());
 
         int kept = 0;
-        for (int i = 0; i < nodes.getLength(); i++) {
-            Element asset = (Element) nodes.item(i);
+        for (int i = 0; i < nodes.size(); i++) {
+            Element asset = nodes.get(i);
             Element owned = first(asset, ".//*[local-name()='OWNED_PROPERTY']");
             if (owned == null) continue;
 
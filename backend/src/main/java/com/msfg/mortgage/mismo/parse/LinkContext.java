@@ -4,7 +4,6 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.NodeList;
 
-import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import java.util.HashMap;
 import java.util.Map;
@@ -35,16 +34,14 @@ public final class LinkContext {
     public static LinkContext from(Document doc) throws XPathExpressionException {
         LinkContext ctx = new LinkContext();
         // Index every element that carries an xlink:label
-        NodeList labeled = (NodeList) MismoXml.xp().evaluate(
-                "//*[@*[local-name()='label']]", doc, XPathConstants.NODESET);
+        NodeList labeled = MismoNodes.nodes(doc, "//*[@*[local-name()='label']]");
         for (int i = 0; i < labeled.getLength(); i++) {
             Element e = (Element) labeled.item(i);
             String label = e.getAttributeNS(XLINK_NS, "label");
             if (!label.isEmpty()) ctx.elementsByLabel.put(label, e);
         }
         // Index RELATIONSHIP arcs both ways
-        NodeList rels = (NodeList) MismoXml.xp().evaluate(
-                "//*[local-name()='RELATIONSHIP']", doc, XPathConstants.NODESET);
+        NodeList rels = MismoNodes.nodes(doc, "//*[local-name()='RELATIONSHIP']");
         for (int i = 0; i < rels.getLength(); i++) {
             Element r = (Element) rels.item(i);
             String from = r.getAttributeNS(XLINK_NS, "from");
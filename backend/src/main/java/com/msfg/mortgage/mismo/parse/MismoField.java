@@ -0,0 +1,37 @@
+package com.msfg.mortgage.mismo.parse;
+
+/**
+ * Single-valued MISMO elements the importers read once per file. Each is the
+ * first match in document order — either {@code parent/element} anywhere, or
+ * {@code element} anywhere below the first {@code LOAN} when {@code inFirstLoan}.
+ */
+public enum MismoField {
+    CREATED_DATETIME("ABOUT_VERSION", "CreatedDatetime", false),
+    APPLICATION_TAKEN_METHOD(null, "ApplicationTakenMethodType", false),
+
+    LOAN_ESTIMATED_CLOSING_DATE("CLOSING_INFORMATION_DETAIL", "LoanEstimatedClosingDate", false),
+    HAZARD_INSURANCE_ESCROWED("HAZARD_INSURANCE", "HazardInsuranceEscrowedIndicator", false),
+    MI_SOURCE_TYPE("MI_DATA_DETAIL", "MISourceType", false),
+    MI_PREMIUM_FINANCED_AMOUNT("MI_DATA_DETAIL", "MIPremiumFinancedAmount", false),
+
+    LOAN_PURPOSE_TYPE(null, "LoanPurposeType", true),
+    MORTGAGE_TYPE(null, "MortgageType", true),
+    BASE_LOAN_AMOUNT(null, "BaseLoanAmount", true),
+    NOTE_AMOUNT(null, "NoteAmount", true),
+    NOTE_RATE_PERCENT(null, "NoteRatePercent", true),
+    AMORTIZATION_TYPE(null, "AmortizationType", true),
+    LOAN_AMORTIZATION_PERIOD_COUNT(null, "LoanAmortizationPeriodCount", true),
+    LIEN_PRIORITY_TYPE(null, "LienPriorityType", true),
+    APPLICATION_RECEIVED_DATE(null, "ApplicationReceivedDate", true),
+    DOWN_PAYMENT_AMOUNT(null, "DownPaymentAmount", true);
+
+    final String parent;
+    final String element;
+    final boolean inFirstLoan;
+
+    MismoField(String parent, String element, boolean inFirstLoan) {
+        this.parent = parent;
+        this.element = element;
+        this.inFirstLoan = inFirstLoan;
+    }
+}
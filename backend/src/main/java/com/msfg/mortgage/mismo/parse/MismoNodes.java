@@ -34,7 +34,7 @@ public final class MismoNodes {
      * never an empty string, so callers can do truthiness-style null checks.
      */
     public static String pluck(Object context, String xpath) throws XPathExpressionException {
-        Object obj = MismoXml.xp().evaluate(xpath, context, XPathConstants.NODE);
+        Object obj = MismoXPath.compile(xpath).evaluate(context, XPathConstants.NODE);
         if (obj == null) return null;
         Node n = (Node) obj;
         String t = n.getTextContent();
@@ -45,18 +45,22 @@ public final class MismoNodes {
 
     /** XPath single-element extractor. */
     public static Element first(Object context, String xpath) throws XPathExpressionException {
-        Node n = (Node) MismoXml.xp().evaluate(xpath, context, XPathConstants.NODE);
+        Node n = (Node) MismoXPath.compile(xpath).evaluate(context, XPathConstants.NODE);
         return (n instanceof Element) ? (Element) n : null;
     }
 
+    /** XPath node-set extractor. */
+    public static NodeList nodes(Object context, String xpath) throws XPathExpressionException {
+        return (NodeList) MismoXPath.compile(xpath).evaluate(context, XPathConstants.NODESET);
+    }
+
     /**
      * Find the {@code TaxpayerIdentifierValue} for a specific {@code TaxpayerIdentifierType}
      * (e.g. {@code SocialSecurityNumber}, {@code IndividualTaxpayerIdentificationNumber}).
      * Used because MISMO can carry multiple TAXPAYER_IDENTIFIER blocks per party.
      */
     public static String pluckTaxId(Element party, String type) throws XPathExpressionException {
-        NodeList ids = (NodeList) MismoXml.xp().evaluate(
-                ".//*[local-name()='TAXPAYER_IDENTIFIER']", party, XPathConstants.NODESET);
+        NodeList ids = nodes(party, ".//*[local-name()='TAXPAYER_IDENTIFIER']");
         for (int i = 0; i < ids.getLength(); i++) {
             Element e = (Element) ids.item(i);
             if (type.equals(textOf(e, "TaxpayerIdentifierType"))) {
@@ -0,0 +1,46 @@
+package com.msfg.mortgage.mismo.parse;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The repeating MISMO 3.4 blocks the importers walk. {@link MismoStreamReader}
+ * captures each occurrence as a detached DOM fragment so section importers can
+ * keep their relative XPath without the whole file ever being a tree.
+ *
+ * <p>The enum name is the element's local name; {@code parent}/{@code grandparent}
+ * narrow the match the same way the old {@code //ASSETS/ASSET}-style expressions did.
+ */
+public enum MismoSection {
+    LOAN_IDENTIFIER(null, null),
+    SUBJECT_PROPERTY(null, null),
+    PARTY(null, null),
+    ASSET("ASSETS", null),
+    LIABILITY(null, null),
+    HOUSING_EXPENSE("HOUSING_EXPENSES", null),
+    PURCHASE_CREDIT("PURCHASE_CREDITS", null),
+    FEE("FEES", "FEE_INFORMATION"),
+    RELATIONSHIP(null, null);
+
+    private static final Map<String, MismoSection> BY_NAME = new HashMap<>();
+    static {
+        for (MismoSection s : values()) BY_NAME.put(s.name(), s);
+    }
+
+    private final String parent;
+    private final String grandparent;
+
+    MismoSection(String parent, String grandparent) {
+        this.parent = parent;
+        this.grandparent = grandparent;
+    }
+
+    /** Section opened by an element with this local name and ancestry, or null. */
+    static MismoSection match(String localName, String parent, String grandparent) {
+        MismoSection s = BY_NAME.get(localName);
+        if (s == null) return null;
+        if (s.parent != null && !s.parent.equals(parent)) return null;
+        if (s.grandparent != null && !s.grandparent.equals(grandparent)) return null;
+        return s;
+    }
+}
@@ -0,0 +1,76 @@
+package com.msfg.mortgage.mismo.parse;
+
+import org.w3c.dom.Element;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the section importers need from one MISMO file: the fragments for
+ * each {@link MismoSection} in document order, the {@link MismoField} values, and
+ * the xlink {@link LinkContext}. Produced by {@link MismoStreamReader#read}.
+ */
+public final class MismoSections {
+
+    private final Map<MismoSection, List<Element>> sections = new EnumMap<>(MismoSection.class);
+    private final Map<MismoField, String> fields = new EnumMap<>(MismoField.class);
+    private final LinkContext links = new LinkContext();
+    private boolean loanPresent;
+
+    /** Every occurrence of the section, in document order; empty when the file has none. */
+    public List<Element> list(MismoSection section) {
+        List<Element> l = sections.get(section);
+        return l == null ? Collections.emptyList() : Collections.unmodifiableList(l);
+    }
+
+    /** First occurrence of the section, or null. */
+    public Element first(MismoSection section) {
+        List<Element> l = sections.get(section);
+        return l == null || l.isEmpty() ? null : l.get(0);
+    }
+
+    /** Trimmed text of the field, or null if missing/empty — same contract as {@link MismoNodes#pluck}. */
+    public String text(MismoField field) {
+        String t = fields.get(field);
+        if (t == null) return null;
+        String trimmed = t.trim();
+        return trimmed.isEmpty() ? null : trimmed;
+    }
+
+    /** Whether the file has a {@code LOAN} element at all (the loan-scoped fields may still be null). */
+    public boolean hasLoan() {
+        return loanPresent;
+    }
+
+    public LinkContext links() {
+        return links;
+    }
+
+    /**
+     * {@code ABOUT_VERSION/CreatedDatetime}, same parsing as
+     * {@link MismoXml#readCreatedDatetime}: offset first, then offset-less, else null.
+     */
+    public LocalDateTime createdDatetime() {
+        return MismoXml.parseCreatedDatetime(fields.get(MismoField.CREATED_DATETIME));
+    }
+
+    void add(MismoSection section, Element element) {
+        sections.computeIfAbsent(section, s -> new ArrayList<>()).add(element);
+    }
+
+    void put(MismoField field, String rawText) {
+        fields.putIfAbsent(field, rawText);
+    }
+
+    boolean has(MismoField field) {
+        return fields.containsKey(field);
+    }
+
+    void markLoan() {
+        loanPresent = true;
+    }
+}
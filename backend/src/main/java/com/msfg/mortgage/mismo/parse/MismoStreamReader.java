@@ -0,0 +1,276 @@
+package com.msfg.mortgage.mismo.parse;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-pass StAX reader for MISMO 3.4 files. Replaces parsing the whole file
+ * into a DOM and then running document-wide {@code //*[local-name()=...]} scans:
+ * closing files with full FEE_INFORMATION and AUS sections run to megabytes, and
+ * every one of those scans walked all of it.
+ *
+ * <p>One pass over the stream produces a {@link MismoSections}:
+ * <ul>
+ *   <li>each {@link MismoSection} occurrence is built into a small DOM fragment
+ *       (the element and its subtree only), so the section importers keep their
+ *       relative XPath. A section nested inside another — a RELATIONSHIP inside a
+ *       PARTY, say — is the node inside the outer fragment, not a copy. Each
+ *       top-level fragment is its own {@link Document}: the JDK's XPath numbers
+ *       a DOM from the document root on every evaluation, so a small owner
+ *       keeps each relative lookup proportional to its section;</li>
+ *   <li>elements carrying an {@code xlink:label} are indexed into the
+ *       {@link LinkContext} (built as fragments of their own when they sit outside
+ *       any section), and RELATIONSHIP arcs are indexed as they stream past;</li>
+ *   <li>{@link MismoField} values are captured at their first occurrence.</li>
+ * </ul>
+ * Everything else — the AUS findings, the LOAN subtree, documents we don't model —
+ * is read and dropped.
+ *
+ * <p>XXE: DTDs are rejected outright and external entities are off, matching
+ * {@link MismoXml#parse}'s {@code disallow-doctype-decl}.
+ */
+public final class MismoStreamReader {
+    private MismoStreamReader() {}
+
+    /** Configured once; creating readers from a configured factory is thread-safe. */
+    private static final XMLInputFactory INPUT_FACTORY = newInputFactory();
+
+    private static final Map<String, List<MismoField>> FIELDS_BY_ELEMENT = new HashMap<>();
+    static {
+        for (MismoField f : MismoField.values()) {
+            FIELDS_BY_ELEMENT.computeIfAbsent(f.element, k -> new ArrayList<>()).add(f);
+        }
+    }
+
+    /** Read the whole file into its sections. Malformed XML surfaces as an {@link IOException}. */
+    public static MismoSections read(InputStream xml) throws IOException {
+        DocumentBuilder builder;
+        try {
+            DocumentBuilderFactory f = DocumentBuilderFactory.newInstance();
+            f.setNamespaceAware(true);
+            builder = f.newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IOException("Failed to set up MISMO reader: " + e.getMessage(), e);
+        }
+        Pass pass = new Pass(builder, false);
+        pass.run(xml);
+        return pass.sections;
+    }
+
+    /**
+     * {@code ABOUT_VERSION/CreatedDatetime} only — stops reading as soon as it has
+     * been seen, or at {@code DEAL_SETS} if the header has none, so the drift preview
+     * costs the same on a 200-liability closing file as on a bare URLA. Null when absent.
+     */
+    public static LocalDateTime readCreatedDatetime(InputStream xml) throws IOException {
+        Pass pass = new Pass(null, true);
+        pass.run(xml);
+        return pass.sections.createdDatetime();
+    }
+
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory f = XMLInputFactory.newFactory();
+        f.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        f.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        f.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        // One text node per run, CDATA included — what the DOM/XPath path saw.
+        f.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return f;
+    }
+
+    /** State for one read. */
+    private static final class Pass {
+        private final MismoSections sections = new MismoSections();
+        private final DocumentBuilder builder;
+        /** Document of the fragment being built. */
+        private Document owner;
+        private final boolean headerOnly;
+
+        /** Local names of the open elements, innermost first. */
+        private final Deque<String> path = new ArrayDeque<>();
+        /** Open fragment elements, innermost first; empty when outside every fragment. */
+        private final Deque<Element> building = new ArrayDeque<>();
+        /** Fields whose first occurrence is open, with the depth it opened at. */
+        private final Map<MismoField, Capture> capturing = new EnumMap<>(MismoField.class);
+        /** Depth of the first LOAN while it is open; -1 before it, -2 once it closed. */
+        private int loanDepth = -1;
+
+        Pass(DocumentBuilder builder, boolean headerOnly) {
+            this.builder = builder;
+            this.headerOnly = headerOnly;
+        }
+
+        void run(InputStream xml) throws IOException {
+            XMLStreamReader r = null;
+            try {
+                r = INPUT_FACTORY.createXMLStreamReader(xml);
+                while (r.hasNext()) {
+                    switch (r.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            // ABOUT_VERSIONS precedes DEAL_SETS under MESSAGE: a file with no
+                            // CreatedDatetime still stops at the end of its header.
+                            if (headerOnly && "DEAL_SETS".equals(r.getLocalName())) return;
+                            start(r);
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            end();
+                            if (headerOnly && sections.has(MismoField.CREATED_DATETIME)) return;
+                        }
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA,
+                             XMLStreamConstants.SPACE -> text(r.getText());
+                        case XMLStreamConstants.COMMENT -> {
+                            if (!building.isEmpty()) building.peek().appendChild(owner.createComment(r.getText()));
+                        }
+                        case XMLStreamConstants.DTD -> throw new XMLStreamException("DOCTYPE is not allowed");
+                        default -> { }
+                    }
+                }
+            } catch (XMLStreamException e) {
+                throw new IOException("Malformed XML: " + e.getMessage(), e);
+            } finally {
+                if (r != null) {
+                    try { r.close(); } catch (XMLStreamException ignored) { }
+                }
+            }
+        }
+
+        private void start(XMLStreamReader r) {
+            String local = r.getLocalName();
+            String parent = path.peek();
+            String grandparent = grandparent();
+            int depth = path.size() + 1;
+
+            if (loanDepth == -1 && "LOAN".equals(local)) {
+                loanDepth = depth;
+                sections.markLoan();
+            }
+            List<MismoField> fields = FIELDS_BY_ELEMENT.get(local);
+            if (fields != null) {
+                for (MismoField f : fields) {
+                    if (sections.has(f) || capturing.containsKey(f)) continue;
+                    if (f.parent != null && !f.parent.equals(parent)) continue;
+                    if (f.inFirstLoan && (loanDepth < 0 || depth <= loanDepth)) continue;
+                    capturing.put(f, new Capture(depth));
+                }
+            }
+            path.push(local);
+            if (headerOnly) return;
+
+            MismoSection section = MismoSection.match(local, parent, grandparent);
+            String label = attr(r, LinkContext.XLINK_NS, "label");
+            if (section != null || label != null || !building.isEmpty()) {
+                Element el;
+                if (building.isEmpty()) {
+                    owner = builder.newDocument();
+                    el = element(r);
+                    owner.appendChild(el);
+                } else {
+                    el = element(r);
+                    building.peek().appendChild(el);
+                }
+                building.push(el);
+                if (section != null) sections.add(section, el);
+                if (label != null) sections.links().elementsByLabel.put(label, el);
+            }
+            if (section == MismoSection.RELATIONSHIP) {
+                String from = attr(r, LinkContext.XLINK_NS, "from");
+                String to = attr(r, LinkContext.XLINK_NS, "to");
+                if (from != null && to != null) {
+                    sections.links().arcsByFrom.put(from, to);
+                    sections.links().arcsByTo.put(to, from);
+                }
+            }
+        }
+
+        private void end() {
+            int depth = path.size();
+            path.pop();
+            if (!capturing.isEmpty()) {
+                Iterator<Map.Entry<MismoField, Capture>> it = capturing.entrySet().iterator();
+                while (it.hasNext()) {
+                    Map.Entry<MismoField, Capture> c = it.next();
+                    if (c.getValue().depth == depth) {
+                        sections.put(c.getKey(), c.getValue().text.toString());
+                        it.remove();
+                    }
+                }
+            }
+            if (depth == loanDepth) loanDepth = -2;
+            if (!building.isEmpty()) building.pop();
+        }
+
+        private void text(String text) {
+            for (Capture c : capturing.values()) c.text.append(text);
+            if (building.isEmpty()) return;
+            Element parent = building.peek();
+            Node last = parent.getLastChild();
+            if (last != null && last.getNodeType() == Node.TEXT_NODE) {
+                ((Text) last).appendData(text);
+            } else {
+                parent.appendChild(owner.createTextNode(text));
+            }
+        }
+
+        private String grandparent() {
+            if (path.size() < 2) return null;
+            Iterator<String> it = path.iterator();
+            it.next();
+            return it.next();
+        }
+
+        private Element element(XMLStreamReader r) {
+            Element el = owner.createElementNS(emptyToNull(r.getNamespaceURI()),
+                    qualified(r.getPrefix(), r.getLocalName()));
+            for (int i = 0; i < r.getAttributeCount(); i++) {
+                el.setAttributeNS(emptyToNull(r.getAttributeNamespace(i)),
+                        qualified(r.getAttributePrefix(i), r.getAttributeLocalName(i)),
+                        r.getAttributeValue(i));
+            }
+            return el;
+        }
+    }
+
+    private static final class Capture {
+        final int depth;
+        final StringBuilder text = new StringBuilder();
+
+        Capture(int depth) {
+            this.depth = depth;
+        }
+    }
+
+    /** Attribute value, or null when absent or empty (matching {@code getAttributeNS(..).isEmpty()} checks). */
+    private static String attr(XMLStreamReader r, String ns, String local) {
+        String v = r.getAttributeValue(ns, local);
+        return v == null || v.isEmpty() ? null : v;
+    }
+
+    private static String qualified(String prefix, String local) {
+        return prefix == null || prefix.isEmpty() ? local : prefix + ":" + local;
+    }
+
+    private static String emptyToNull(String s) {
+        return s == null || s.isEmpty() ? null : s;
+    }
+}
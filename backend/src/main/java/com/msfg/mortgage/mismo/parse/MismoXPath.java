@@ -0,0 +1,49 @@
+package com.msfg.mortgage.mismo.parse;
+
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Per-thread registry of compiled MISMO XPath expressions. Every importer
+ * expression is a string constant evaluated once per section node, so an import
+ * used to look up an {@link XPathFactory} and recompile the same few hundred
+ * strings thousands of times. Neither {@link XPath} nor {@link XPathExpression}
+ * is thread-safe, so each thread keeps its own factory, XPath and compiled set —
+ * bounded by the number of distinct expressions in the code.
+ *
+ * <p>{@code -Dmismo.xpath.cache=false} restores the compile-per-call behavior;
+ * the JMH {@code MismoXPathBenchmark} uses it for the "before" number.
+ */
+public final class MismoXPath {
+    private MismoXPath() {}
+
+    private static final boolean CACHE = !"false".equalsIgnoreCase(System.getProperty("mismo.xpath.cache"));
+
+    private static final ThreadLocal<Registry> REGISTRY = ThreadLocal.withInitial(Registry::new);
+
+    /** Compiled form of {@code expression}, compiled at most once per thread. */
+    public static XPathExpression compile(String expression) throws XPathExpressionException {
+        if (!CACHE) return XPathFactory.newInstance().newXPath().compile(expression);
+        Registry r = REGISTRY.get();
+        XPathExpression compiled = r.compiled.get(expression);
+        if (compiled == null) {
+            compiled = r.xpath.compile(expression);
+            r.compiled.put(expression, compiled);
+        }
+        return compiled;
+    }
+
+    /** This thread's {@link XPath}, for the rare dynamic expression not worth caching. */
+    static XPath xpath() {
+        return CACHE ? REGISTRY.get().xpath : XPathFactory.newInstance().newXPath();
+    }
+
+    private static final class Registry {
+        final XPath xpath = XPathFactory.newInstance().newXPath();
+        final Map<String, XPathExpression> compiled = new HashMap<>();
+    }
+}
@@ -10,7 +10,6 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
-import javax.xml.xpath.XPathFactory;
 import java.io.IOException;
 import java.io.InputStream;
 import java.time.LocalDateTime;
@@ -35,9 +34,12 @@ public final class MismoXml {
         return b.parse(new InputSource(xml));
     }
 
-    /** Fresh XPath instance — XPath isn't thread-safe so we make one per call site. */
+    /**
+     * This thread's XPath instance (XPath isn't thread-safe). For expressions
+     * evaluated repeatedly, {@link MismoXPath#compile} also skips recompiling.
+     */
     public static XPath xp() {
-        return XPathFactory.newInstance().newXPath();
+        return MismoXPath.xpath();
     }
 
     /**
@@ -47,9 +49,14 @@ public final class MismoXml {
      * absent or unparseable.
      */
     public static LocalDateTime readCreatedDatetime(Document doc) throws XPathExpressionException {
-        String dt = (String) xp().evaluate(
-                "string(//*[local-name()='ABOUT_VERSION']/*[local-name()='CreatedDatetime'])",
-                doc, XPathConstants.STRING);
+        String dt = (String) MismoXPath.compile(
+                "string(//*[local-name()='ABOUT_VERSION']/*[local-name()='CreatedDatetime'])")
+                .evaluate(doc, XPathConstants.STRING);
+        return parseCreatedDatetime(dt);
+    }
+
+    /** The {@link #readCreatedDatetime} parsing rules applied to already-extracted text. */
+    static LocalDateTime parseCreatedDatetime(String dt) {
         if (dt == null || dt.isBlank()) return null;
         try {
             return OffsetDateTime.parse(dt).toLocalDateTime();
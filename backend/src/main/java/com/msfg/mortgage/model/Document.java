@@ -15,9 +15,13 @@ import java.time.LocalDateTime;
  * <ol>
  *   <li>Frontend asks for a presigned PUT URL → we create a Document row with
  *       {@code upload_status='pending'} and a fresh {@link #docUuid}.</li>
- *   <li>Frontend uploads directly to S3 using the presigned URL.</li>
- *   <li>Frontend calls {@code PUT /confirm} → we flip status to {@code 'uploaded'},
- *       fill in {@link #fileSize}, and apply tags via {@code PutObjectTagging}.</li>
+ *   <li>Frontend uploads directly to S3 using the presigned URL — or, for large files, as a
+ *       multipart upload ({@link #multipartUploadId}) finished by {@code /multipart-upload/complete},
+ *       which confirms in the same call.</li>
+ *   <li>Frontend calls {@code PUT /confirm} → we flip status to {@code 'uploaded'} and
+ *       fill in {@link #fileSize}.</li>
+ *   <li>A background worker hashes the object into {@link #fileHash} and applies tags via
+ *       {@code PutObjectTagging} ({@link #postUploadStatus}).</li>
  * </ol>
  */
 @Entity
@@ -113,6 +117,31 @@ public class Document {
     @Column(name = "file_hash", length = 64)
     private String fileHash;
 
+    /**
+     * Background hash + tagging after confirm (V35): {@code PENDING}, {@code DONE} or
+     * {@code FAILED}; null for rows confirmed before it existed. Driven by
+     * {@code DocumentPostUploadService} — {@link #fileHash} is null while this is PENDING.
+     */
+    @Column(name = "post_upload_status", length = 20)
+    private String postUploadStatus;
+
+    @Column(name = "post_upload_attempts", nullable = false)
+    @Builder.Default
+    private Integer postUploadAttempts = 0;
+
+    @Column(name = "post_upload_next_at")
+    private LocalDateTime postUploadNextAt;
+
+    @Column(name = "post_upload_error", length = 1000)
+    private String postUploadError;
+
+    /**
+     * S3 upload id while a multipart upload is in flight (V36); cleared by complete or
+     * abort. Always null for single-PUT uploads.
+     */
+    @Column(name = "multipart_upload_id", length = 1024)
+    private String multipartUploadId;
+
     @Column(name = "description", length = 1000)
     private String description;
 
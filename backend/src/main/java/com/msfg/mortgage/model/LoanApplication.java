@@ -7,10 +7,40 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Every association is LAZY; callers pick a named fetch plan instead of dragging the whole tree on
+ * every lookup. The plans only list the to-one side and at most one collection — Hibernate can't
+ * join-fetch two bags at once — and everything else is initialized on touch, batched by
+ * {@code hibernate.default_batch_fetch_size}.
+ * <ul>
+ *   <li>{@value #GRAPH_SUMMARY} — the row plus its one-to-ones, in a single statement. Status
+ *       changes, existence checks, anything that only reads loan columns.</li>
+ *   <li>{@value #GRAPH_FULL_FORM} — adds borrowers and their declarations; the rest of the form is
+ *       then initialized by {@code LoanApplicationService} before the entity is serialized. The
+ *       MISMO export loads the same plan and initializes only the collections it writes.</li>
+ * </ul>
+ * The dashboard reads a scalar projection ({@code LoanDashboardHeader}) and needs no plan.
+ *
+ * <p>{@code property} and {@code closingInformation} are the inverse side of a one-to-one, which
+ * Hibernate can't proxy; LAZY there is a hint it ignores. Every plan joins them so they never cost
+ * a separate SELECT.
+ */
 @Entity
 @Table(name = "loan_applications")
+@NamedEntityGraph(name = LoanApplication.GRAPH_SUMMARY, attributeNodes = {
+        @NamedAttributeNode("property"),
+        @NamedAttributeNode("closingInformation")
+})
+@NamedEntityGraph(name = LoanApplication.GRAPH_FULL_FORM, attributeNodes = {
+        @NamedAttributeNode("property"),
+        @NamedAttributeNode("closingInformation"),
+        @NamedAttributeNode(value = "borrowers", subgraph = "borrower")
+}, subgraphs = @NamedSubgraph(name = "borrower", attributeNodes = @NamedAttributeNode("declaration")))
 public class LoanApplication {
 
+    public static final String GRAPH_SUMMARY = "LoanApplication.summary";
+    public static final String GRAPH_FULL_FORM = "LoanApplication.fullForm";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -87,32 +117,41 @@ public class LoanApplication {
     @Column(name = "mers_min")
     private String mersMin;
 
-    @OneToOne(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    /**
+     * Number of {@code Outstanding} rows in loan_conditions (V30). Maintained by
+     * LoanDashboardService in the same transaction as each condition write, via
+     * an atomic {@code count + delta} UPDATE. Read-only to JPA so a save of a
+     * stale loaded entity can never clobber a concurrent increment.
+     */
+    @Column(name = "outstanding_condition_count", insertable = false, updatable = false)
+    private Integer outstandingConditionCount = 0;
+
+    @OneToOne(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private Property property;
 
-    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<Borrower> borrowers = new ArrayList<>();
 
-    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<Liability> liabilities = new ArrayList<>();
 
-    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<Document> documents = new ArrayList<>();
 
     /** Singleton closing-stage data; created lazily when the LO fills the Closing & Fees step. */
-    @OneToOne(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToOne(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private ClosingInformation closingInformation;
 
-    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<ClosingFee> closingFees = new ArrayList<>();
 
-    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "application", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @JsonManagedReference
     private List<LoanAgent> loanAgents = new ArrayList<>();
 
@@ -286,6 +325,10 @@ public class LoanApplication {
         this.mersMin = mersMin;
     }
 
+    public Integer getOutstandingConditionCount() {
+        return outstandingConditionCount;
+    }
+
     public Property getProperty() {
         return property;
     }
@@ -52,6 +52,18 @@ public class MismoImport {
     @Column(name = "fields_changed_summary", columnDefinition = "TEXT")
     private String fieldsChangedSummary;
 
+    /** SHA-256 of the file as uploaded, modulo BOM / line endings (see {@code MismoContentHash}). */
+    @Column(name = "content_sha256", length = 64)
+    private String contentSha256;
+
+    /** The loan's {@code updatedDate} as this import left it — "untouched since" for the duplicate check. */
+    @Column(name = "loan_updated_date")
+    private LocalDateTime loanUpdatedDate;
+
+    /** Set on a re-upload answered without parsing: the earlier import whose file this was. */
+    @Column(name = "duplicate_of_import_id")
+    private Long duplicateOfImportId;
+
     @Column(name = "forced", nullable = false)
     @Builder.Default
     private Boolean forced = false;
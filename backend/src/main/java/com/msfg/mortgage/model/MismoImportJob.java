@@ -0,0 +1,77 @@
+package com.msfg.mortgage.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One background MISMO import: a bulk create-from-MISMO upload ({@link #BULK_CREATE}, one
+ * new loan per file) or an {@code ?async=true} re-import into {@link #loanApplicationId}
+ * ({@link #REIMPORT}, always one file). Per-file progress lives on {@link MismoImportJobFile}; the
+ * counters here are bumped by the import workers as each file lands, and the job is
+ * closed out ({@link #finishedAt} set) by whichever worker finishes the last file.
+ */
+@Entity
+@Table(name = "mismo_import_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MismoImportJob {
+
+    public static final String BULK_CREATE = "BULK_CREATE";
+    public static final String REIMPORT = "REIMPORT";
+
+    public static final String RUNNING = "RUNNING";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String COMPLETED_WITH_ERRORS = "COMPLETED_WITH_ERRORS";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "kind", nullable = false, length = 20)
+    @Builder.Default
+    private String kind = BULK_CREATE;
+
+    /** Target loan of a {@link #REIMPORT}; null for bulk creates. */
+    @Column(name = "loan_application_id")
+    private Long loanApplicationId;
+
+    /** Re-import queued with {@code force=true} — the worker skips its drift re-check. */
+    @Column(name = "forced", nullable = false)
+    @Builder.Default
+    private Boolean forced = false;
+
+    @Column(name = "status", nullable = false, length = 30)
+    private String status;
+
+    @Column(name = "created_by_user_id")
+    private Integer createdByUserId;
+
+    @Column(name = "total_files", nullable = false)
+    private Integer totalFiles;
+
+    @Column(name = "succeeded_files", nullable = false)
+    @Builder.Default
+    private Integer succeededFiles = 0;
+
+    @Column(name = "failed_files", nullable = false)
+    @Builder.Default
+    private Integer failedFiles = 0;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,66 @@
+package com.msfg.mortgage.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of one file inside a {@link MismoImportJob}:
+ * QUEUED → PARSING → IMPORTING → SUCCEEDED | FAILED. A succeeded file points at the
+ * loan it created and its {@link MismoImport} audit row; a failed one carries the error.
+ */
+@Entity
+@Table(name = "mismo_import_job_files")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MismoImportJobFile {
+
+    public static final String QUEUED = "QUEUED";
+    public static final String PARSING = "PARSING";
+    public static final String IMPORTING = "IMPORTING";
+    public static final String SUCCEEDED = "SUCCEEDED";
+    public static final String FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "file_index", nullable = false)
+    private Integer fileIndex;
+
+    @Column(name = "source_filename", length = 500)
+    private String sourceFilename;
+
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Column(name = "loan_application_id")
+    private Long loanApplicationId;
+
+    @Column(name = "mismo_import_id")
+    private Long mismoImportId;
+
+    @Column(name = "fields_changed_count")
+    private Integer fieldsChangedCount;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    protected void touch() {
+        updatedAt = LocalDateTime.now();
+    }
+}
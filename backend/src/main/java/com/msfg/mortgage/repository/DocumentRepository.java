@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,10 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     @Query("SELECT d FROM Document d WHERE d.docUuid = :docUuid AND d.deletedAt IS NULL")
     Optional<Document> findByDocUuid(@Param("docUuid") String docUuid);
 
+    @Query("SELECT d FROM Document d WHERE d.application.id = :applicationId AND d.docUuid IN :docUuids AND d.deletedAt IS NULL")
+    List<Document> findByApplicationIdAndDocUuidIn(@Param("applicationId") Long applicationId,
+                                                   @Param("docUuids") Collection<String> docUuids);
+
     /**
      * Uploaded documents in the loan's folder whose name matches the given folder template.
      *
@@ -1,12 +1,16 @@
 package com.msfg.mortgage.repository;
 
+import com.msfg.mortgage.dto.LoanDashboardHeader;
 import com.msfg.mortgage.model.LoanApplication;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,9 +19,39 @@ public interface LoanApplicationRepository extends JpaRepository<LoanApplication
     
     Optional<LoanApplication> findByApplicationNumber(String applicationNumber);
 
+    /**
+     * Intake idempotency lookup. The returned row may be handed straight to
+     * {@code reconcileSuiteLoan}, which reads property + primary borrower outside a transaction.
+     */
+    @EntityGraph(attributePaths = {"property", "borrowers"})
     Optional<LoanApplication> findBySourceLeadId(String sourceLeadId);
     
     List<LoanApplication> findByStatus(String status);
+
+    // ─── Named fetch plans (see LoanApplication) ────────────────────────────
+
+    /** Unfiltered list; only loan columns are read by callers ({@code GET /me/loans}). */
+    @Override
+    @EntityGraph(LoanApplication.GRAPH_SUMMARY)
+    List<LoanApplication> findAll();
+
+    @EntityGraph(LoanApplication.GRAPH_SUMMARY)
+    Optional<LoanApplication> findSummaryById(Long id);
+
+    @EntityGraph(LoanApplication.GRAPH_FULL_FORM)
+    Optional<LoanApplication> findFullFormById(Long id);
+
+    @EntityGraph(LoanApplication.GRAPH_FULL_FORM)
+    Optional<LoanApplication> findFullFormByApplicationNumber(String applicationNumber);
+
+    @EntityGraph(LoanApplication.GRAPH_FULL_FORM)
+    List<LoanApplication> findFullFormByStatus(String status);
+
+    @EntityGraph(LoanApplication.GRAPH_FULL_FORM)
+    Optional<LoanApplication> findMismoExportById(Long id);
+
+    @EntityGraph(LoanApplication.GRAPH_FULL_FORM)
+    List<LoanApplication> findMismoExportByIdIn(Collection<Long> ids);
     
     List<LoanApplication> findByStatusOrderByCreatedDateDesc(String status);
     
@@ -37,18 +71,21 @@ public interface LoanApplicationRepository extends JpaRepository<LoanApplication
             WHERE b.userId = :userId
             ORDER BY la.createdDate DESC
             """)
+    @EntityGraph(LoanApplication.GRAPH_SUMMARY)
     List<LoanApplication> findByBorrowerUserId(@Param("userId") Integer userId);
 
     /** Loans where the given user is the assigned LO. */
+    @EntityGraph(LoanApplication.GRAPH_SUMMARY)
     List<LoanApplication> findByAssignedLoIdOrderByCreatedDateDesc(Integer assignedLoId);
 
     /** Loans where the given user is one of the attached real-estate agents. */
-    @Query(value = """
-            SELECT DISTINCT la.* FROM loan_applications la
-            JOIN loan_agents agt ON agt.loan_application_id = la.id
-            WHERE agt.user_id = :userId
-            ORDER BY la.created_date DESC
-            """, nativeQuery = true)
+    @Query("""
+            SELECT la FROM LoanApplication la
+            WHERE EXISTS (SELECT 1 FROM LoanAgent agt
+                          WHERE agt.application = la AND agt.agentUser.id = :userId)
+            ORDER BY la.createdDate DESC
+            """)
+    @EntityGraph(LoanApplication.GRAPH_SUMMARY)
     List<LoanApplication> findByAgentUserId(@Param("userId") Integer userId);
 
     /**
@@ -64,5 +101,71 @@ public interface LoanApplicationRepository extends JpaRepository<LoanApplication
      * accept suite UUIDs in /loan-applications/{id}/** URLs. {@code suite_loan_id} has no unique
      * constraint, so pick the oldest row deterministically instead of erroring on a duplicate.
      */
+    @EntityGraph(LoanApplication.GRAPH_SUMMARY)
     Optional<LoanApplication> findFirstBySuiteLoanIdOrderByIdAsc(String suiteLoanId);
+
+    /**
+     * Atomic {@code outstanding_condition_count += delta}. Called inside the same
+     * transaction as the loan_conditions write that caused it, so the counter and
+     * the table can't disagree after commit. Native because the column is mapped
+     * read-only on {@link LoanApplication}.
+     */
+    @Modifying
+    @Query(value = "UPDATE loan_applications SET outstanding_condition_count = outstanding_condition_count + :delta "
+            + "WHERE id = :id", nativeQuery = true)
+    int adjustOutstandingConditionCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * Stamps {@code updated_date} for a write to one of the loan's child tables the MISMO
+     * importer also writes (terms, employment, income, residences), which doesn't dirty the
+     * loan row itself. Drift and the unchanged-reimport check both read this column, so an
+     * edit there must move it just as a form edit does.
+     */
+    @Modifying
+    @Query("UPDATE LoanApplication la SET la.updatedDate = :now WHERE la.id = :id")
+    int touchUpdatedDate(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Re-derives the counter from loan_conditions for every loan where it has
+     * drifted. Returns the number of rows repaired — 0 on a healthy database.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE loan_applications la
+               SET outstanding_condition_count = (
+                 SELECT COUNT(*) FROM loan_conditions lc
+                  WHERE lc.application_id = la.id AND lc.status = 'Outstanding')
+             WHERE la.outstanding_condition_count <> (
+                 SELECT COUNT(*) FROM loan_conditions lc
+                  WHERE lc.application_id = la.id AND lc.status = 'Outstanding')
+            """, nativeQuery = true)
+    int repairOutstandingConditionCounts();
+
+    /**
+     * Dashboard header in one statement: scalar columns only, so none of the
+     * EAGER associations on {@link LoanApplication} are touched. "Primary"
+     * borrower follows {@code loan_list_view} (V24): lowest sequence_number,
+     * then lowest id.
+     */
+    @Query("""
+            SELECT new com.msfg.mortgage.dto.LoanDashboardHeader(
+                   la.id, la.applicationNumber, la.status, la.createdDate, la.updatedDate,
+                   la.lendingpadLoanNumber, la.investorLoanNumber, la.mersMin,
+                   b.id, b.firstName, b.lastName, b.email, b.phone, b.maritalStatus, b.citizenshipType,
+                   d.id, d.intentToOccupy,
+                   p.id, p.addressLine, p.city, p.state, p.zipCode, p.county, p.propertyType,
+                   p.propertyValue, p.purchasePrice, p.attachmentType, p.projectType,
+                   p.constructionType, p.yearBuilt, p.unitsCount)
+              FROM LoanApplication la
+              LEFT JOIN Borrower b ON b.application = la AND b.id = (
+                   SELECT MIN(b2.id) FROM Borrower b2
+                    WHERE b2.application = la
+                      AND COALESCE(b2.sequenceNumber, 999) = (
+                          SELECT MIN(COALESCE(b3.sequenceNumber, 999)) FROM Borrower b3
+                           WHERE b3.application = la))
+              LEFT JOIN Declaration d ON d.borrower = b
+              LEFT JOIN Property p ON p.application = la
+             WHERE la.id = :id
+            """)
+    Optional<LoanDashboardHeader> findDashboardHeader(@Param("id") Long id);
 }
@@ -0,0 +1,36 @@
+package com.msfg.mortgage.repository;
+
+import com.msfg.mortgage.model.MismoImportJobFile;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MismoImportJobFileRepository extends JpaRepository<MismoImportJobFile, Long> {
+
+    List<MismoImportJobFile> findByJobIdOrderByFileIndexAsc(Long jobId);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MismoImportJobFile f SET f.status = :status, f.updatedAt = :now WHERE f.id = :id")
+    int updateStatus(@Param("id") Long id, @Param("status") String status, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MismoImportJobFile f SET f.status = 'SUCCEEDED', f.loanApplicationId = :loanId, "
+         + "f.mismoImportId = :importId, f.fieldsChangedCount = :changes, f.error = NULL, f.updatedAt = :now "
+         + "WHERE f.id = :id")
+    int markSucceeded(@Param("id") Long id, @Param("loanId") Long loanId, @Param("importId") Long importId,
+                      @Param("changes") Integer changes, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MismoImportJobFile f SET f.status = 'FAILED', f.error = :error, f.updatedAt = :now WHERE f.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.msfg.mortgage.repository;
+
+import com.msfg.mortgage.model.MismoImportJob;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MismoImportJobRepository extends JpaRepository<MismoImportJob, Long> {
+
+    /** In-place bump — import workers finish files concurrently, so no read-modify-write. */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MismoImportJob j SET j.succeededFiles = j.succeededFiles + 1 WHERE j.id = :id")
+    int incrementSucceeded(@Param("id") Long id);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE MismoImportJob j SET j.failedFiles = j.failedFiles + 1 WHERE j.id = :id")
+    int incrementFailed(@Param("id") Long id);
+
+    /**
+     * Closes the job once every file has landed one way or the other. Matches at most
+     * once, so exactly one worker sees {@code 1} back.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MismoImportJob j SET j.finishedAt = :now, "
+         + "j.status = CASE WHEN j.failedFiles = 0 THEN 'COMPLETED' ELSE 'COMPLETED_WITH_ERRORS' END "
+         + "WHERE j.id = :id AND j.finishedAt IS NULL AND j.succeededFiles + j.failedFiles >= j.totalFiles")
+    int finishIfComplete(@Param("id") Long id, @Param("now") LocalDateTime now);
+}
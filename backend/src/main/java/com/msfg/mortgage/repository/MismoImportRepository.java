@@ -5,10 +5,14 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface MismoImportRepository extends JpaRepository<MismoImport, Long> {
 
     /** Most-recent-first listing for the audit panel + revert UI. */
     List<MismoImport> findByLoanApplicationIdOrderByImportedAtDesc(Long loanApplicationId);
+
+    /** Newest import for a loan — what a re-upload is compared against. */
+    Optional<MismoImport> findFirstByLoanApplicationIdOrderByImportedAtDescIdDesc(Long loanApplicationId);
 }
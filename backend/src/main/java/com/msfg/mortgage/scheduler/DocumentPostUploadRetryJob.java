@@ -0,0 +1,38 @@
+package com.msfg.mortgage.scheduler;
+
+import com.msfg.mortgage.service.DocumentPostUploadService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-queues documents whose post-upload hash + tag step is due: retries after a failed
+ * attempt, and first attempts that never ran (restart between confirm and the worker,
+ * queue full). See {@link DocumentPostUploadService}.
+ *
+ * <p>Off by default — enable per environment with {@code documents.post-upload.retry.enabled=true}.
+ * Without it, confirm still starts the first attempt; only retries wait.
+ */
+@Component
+@ConditionalOnProperty(name = "documents.post-upload.retry.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class DocumentPostUploadRetryJob {
+
+    private final DocumentPostUploadService postUploadService;
+
+    @Scheduled(
+            initialDelayString = "${documents.post-upload.retry.initial-delay-ms:60000}",
+            fixedDelayString = "${documents.post-upload.retry.interval-ms:30000}")
+    public void sweep() {
+        try {
+            int queued = postUploadService.queueDue(100);
+            if (queued > 0) log.info("Post-upload retry sweep queued {} document(s)", queued);
+        } catch (RuntimeException e) {
+            // Never let a sweep kill the scheduler thread — log + try again next interval.
+            log.warn("Post-upload retry sweep failed: {}", e.toString());
+        }
+    }
+}
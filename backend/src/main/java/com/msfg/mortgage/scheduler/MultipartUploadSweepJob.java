@@ -0,0 +1,48 @@
+package com.msfg.mortgage.scheduler;
+
+import com.msfg.mortgage.service.DocumentService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Aborts multipart uploads nobody finished — typically the browser tab closed mid-upload —
+ * so their parts stop accruing storage and the pending row stops showing as in progress.
+ * Only upload ids recorded on document rows older than
+ * {@code documents.multipart.sweep.max-age-hours} are aborted; initiates without a row are
+ * left to the documents bucket's lifecycle rule. See
+ * {@link DocumentService#abortStaleMultipartUploads}.
+ *
+ * <p>Off by default — enable per environment with {@code documents.multipart.sweep.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "documents.multipart.sweep.enabled", havingValue = "true")
+@Slf4j
+public class MultipartUploadSweepJob {
+
+    private final DocumentService documentService;
+    private final Duration maxAge;
+
+    public MultipartUploadSweepJob(DocumentService documentService,
+                                   @Value("${documents.multipart.sweep.max-age-hours:24}") long maxAgeHours) {
+        this.documentService = documentService;
+        this.maxAge = Duration.ofHours(maxAgeHours);
+    }
+
+    @Scheduled(
+            initialDelayString = "${documents.multipart.sweep.initial-delay-ms:300000}",
+            fixedDelayString = "${documents.multipart.sweep.interval-ms:3600000}")
+    public void sweep() {
+        try {
+            int aborted = documentService.abortStaleMultipartUploads(maxAge);
+            if (aborted > 0) log.info("Multipart sweep aborted {} stale upload(s)", aborted);
+        } catch (RuntimeException e) {
+            // Never let a sweep kill the scheduler thread — log + try again next interval.
+            log.warn("Multipart upload sweep failed: {}", e.toString());
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.msfg.mortgage.scheduler;
+
+import com.msfg.mortgage.service.LoanDashboardService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consistency checker for the denormalized {@code loan_applications.outstanding_condition_count}
+ * (V30). The counter is maintained transactionally by {@link LoanDashboardService}'s condition
+ * CRUD; this pass re-derives it from loan_conditions and repairs any row that drifted (manual SQL,
+ * a future write path that forgets the counter). A non-zero repair count is logged at WARN since it
+ * means something bypassed the service.
+ *
+ * <p>Off by default — enable per environment with {@code pipeline.condition-count-check.enabled=true}.
+ * The bean only exists when enabled, so no scheduling runs in tests/local.
+ */
+@Component
+@ConditionalOnProperty(name = "pipeline.condition-count-check.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OutstandingConditionCountJob {
+
+    private final LoanDashboardService loanDashboardService;
+
+    @Scheduled(
+            initialDelayString = "${pipeline.condition-count-check.initial-delay-ms:120000}",
+            fixedDelayString = "${pipeline.condition-count-check.interval-ms:3600000}")
+    public void check() {
+        try {
+            int repaired = loanDashboardService.reconcileOutstandingConditionCounts();
+            if (repaired > 0) {
+                log.warn("Outstanding-condition counter drift: repaired {} loan(s)", repaired);
+            }
+        } catch (RuntimeException e) {
+            // Never let a check pass kill the scheduler thread — log + try again next interval.
+            log.warn("Outstanding-condition counter check failed: {}", e.toString());
+        }
+    }
+}
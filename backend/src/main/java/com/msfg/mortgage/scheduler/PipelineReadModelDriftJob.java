@@ -0,0 +1,42 @@
+package com.msfg.mortgage.scheduler;
+
+import com.msfg.mortgage.service.pipeline.PipelineReadModelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Consistency checker for the {@code loan_pipeline_rows} read model (V31). Rows are refreshed
+ * before each loan write commits; this pass diffs the table against {@code loan_list_view} and
+ * re-derives any row that disagrees (manual SQL, a write path that doesn't publish
+ * {@code LoanChangedEvent}). Repairs are logged at WARN with the affected ids since they point at
+ * a missing event somewhere.
+ *
+ * <p>Off by default — enable per environment with {@code pipeline.read-model.drift-check.enabled=true}.
+ */
+@Component
+@ConditionalOnProperty(name = "pipeline.read-model.drift-check.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class PipelineReadModelDriftJob {
+
+    private final PipelineReadModelService pipelineReadModel;
+
+    @Scheduled(
+            initialDelayString = "${pipeline.read-model.drift-check.initial-delay-ms:180000}",
+            fixedDelayString = "${pipeline.read-model.drift-check.interval-ms:1800000}")
+    public void check() {
+        try {
+            List<Long> repaired = pipelineReadModel.repairDrift();
+            if (!repaired.isEmpty()) {
+                log.warn("Pipeline read-model drift: repaired {} loan(s) {}", repaired.size(), repaired);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Pipeline read-model drift check failed: {}", e.toString());
+        }
+    }
+}
@@ -67,6 +67,25 @@ public class LoanAccessGuard {
         return hasAny(a, SUPERUSER_GROUPS) || hasAny(a, LO_GROUPS);
     }
 
+    /**
+     * Bulk MISMO import jobs: Admin/Manager see every job, everyone else only the jobs
+     * they started. Unknown ids are denied, same as a job that isn't theirs.
+     */
+    public boolean canSeeImportJob(long jobId) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated()) return false;
+        if (hasAny(auth.getAuthorities(), SUPERUSER_GROUPS)) return true;
+
+        Optional<User> meOpt = currentUserService.currentUser();
+        if (meOpt.isEmpty()) return false;
+        Integer owner = jdbc.query(
+                "SELECT created_by_user_id FROM mismo_import_jobs WHERE id = ?",
+                rs -> rs.next() ? rs.getObject("created_by_user_id", Integer.class) : null,
+                jobId
+        );
+        return owner != null && owner.equals(meOpt.get().getId());
+    }
+
     // ─────────────── helpers ───────────────
 
     private static boolean hasAny(Collection<? extends GrantedAuthority> auths, Set<String> wanted) {
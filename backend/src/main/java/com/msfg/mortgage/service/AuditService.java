@@ -7,8 +7,13 @@ import com.msfg.mortgage.repository.AuditLogRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,6 +23,7 @@ public class AuditService {
 
     private final AuditLogRepository auditLogRepository;
     private final ObjectMapper objectMapper;
+    private final NamedParameterJdbcTemplate jdbc;
 
     public void logDocumentAction(Long loanId, Long documentId, String action,
                                    Integer userId, String userRole,
@@ -26,6 +32,46 @@ public class AuditService {
         logAction("DOCUMENT", documentId, action, loanId, userId, userRole, metadata, request);
     }
 
+    /**
+     * The same action on many documents of one loan, written as a single JDBC batch — for the
+     * bulk upload/confirm paths, where one {@link #logDocumentAction} per file would be one
+     * round-trip per file. Keyed by document id. Never throws, like the single-row variant.
+     */
+    public void logDocumentActions(Long loanId, String action,
+                                   Integer userId, String userRole,
+                                   Map<Long, Map<String, Object>> metadataByDocumentId,
+                                   HttpServletRequest request) {
+        if (metadataByDocumentId == null || metadataByDocumentId.isEmpty()) return;
+        try {
+            String ip = resolveIp(request);
+            LocalDateTime now = LocalDateTime.now();
+            List<MapSqlParameterSource> rows = new ArrayList<>(metadataByDocumentId.size());
+            for (Map.Entry<Long, Map<String, Object>> e : metadataByDocumentId.entrySet()) {
+                Map<String, Object> metadata = e.getValue();
+                rows.add(new MapSqlParameterSource("entityId", e.getKey())
+                        .addValue("action", action)
+                        .addValue("loanId", loanId)
+                        .addValue("userId", userId)
+                        .addValue("userRole", userRole)
+                        .addValue("metadataJson", metadata == null || metadata.isEmpty()
+                                ? null : objectMapper.writeValueAsString(metadata))
+                        .addValue("ip", ip)
+                        .addValue("now", now));
+            }
+            jdbc.batchUpdate("""
+                    INSERT INTO audit_log (entity_type, entity_id, action, loan_id, user_id, user_role,
+                                           metadata_json, ip_address, created_at)
+                    VALUES ('DOCUMENT', :entityId, :action, :loanId, :userId, :userRole, :metadataJson, :ip, :now)
+                    """, rows.toArray(MapSqlParameterSource[]::new));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize audit metadata for {} DOCUMENT batch on loan {}: {}",
+                    action, loanId, e.getMessage());
+        } catch (Exception e) {
+            log.error("Failed to write audit log for {} DOCUMENT batch on loan {}: {}",
+                    action, loanId, e.getMessage());
+        }
+    }
+
     public void logFolderAction(Long loanId, Long folderId, String action,
                                  Integer userId, String userRole,
                                  Map<String, Object> metadata,
@@ -0,0 +1,173 @@
+package com.msfg.mortgage.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Post-upload work that used to run inside {@code confirmUpload}: SHA-256 of the object
+ * into {@code file_hash}, then the S3 tag set. Hashing downloads the whole object, so it
+ * runs on the {@code documentPostUploadExecutor} pool with no transaction or pooled
+ * connection held across the download. Uploads made with checksum-at-upload arrive with
+ * {@code file_hash} already set from S3's own checksum and only need their tags.
+ *
+ * <p>The queue is the {@code documents} row itself (V35): confirm leaves it
+ * {@code PENDING} and calls {@link #enqueue} to start the work once the confirm commits.
+ * A failed attempt is retried with doubling backoff via {@code post_upload_next_at}, up to
+ * {@code documents.post-upload.max-attempts}, then marked {@code FAILED}. Retries, and
+ * documents whose first attempt was lost to a restart or a full queue, are picked up by
+ * {@link #queueDue} from {@code DocumentPostUploadRetryJob}.
+ *
+ * <p>A worker claims a row by pushing {@code post_upload_next_at} out by the lease before
+ * it starts, so the sweep can't hand the same document to a second worker meanwhile. When
+ * the object has to be downloaded for its hash, the lease grows with {@code file_size} at
+ * {@code documents.post-upload.lease-mib-per-second}, so a multipart upload of several GB
+ * stays claimed for as long as its download can take.
+ */
+@Service
+@Slf4j
+public class DocumentPostUploadService {
+
+    public static final String PENDING = "PENDING";
+    public static final String DONE = "DONE";
+    public static final String FAILED = "FAILED";
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final S3DocumentService s3;
+    private final TaskExecutor executor;
+    private final int maxAttempts;
+    private final Duration retryDelay;
+    private final Duration lease;
+    private final long leaseBytesPerSecond;
+
+    public DocumentPostUploadService(NamedParameterJdbcTemplate jdbc,
+                                     S3DocumentService s3,
+                                     @Qualifier("documentPostUploadExecutor") TaskExecutor executor,
+                                     @Value("${documents.post-upload.max-attempts:5}") int maxAttempts,
+                                     @Value("${documents.post-upload.retry-delay-seconds:30}") long retryDelaySeconds,
+                                     @Value("${documents.post-upload.lease-seconds:600}") long leaseSeconds,
+                                     @Value("${documents.post-upload.lease-mib-per-second:8}") long leaseMibPerSecond) {
+        this.jdbc = jdbc;
+        this.s3 = s3;
+        this.executor = executor;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.leaseBytesPerSecond = Math.max(1, leaseMibPerSecond) * 1024 * 1024;
+    }
+
+    /**
+     * Start the work for a document already marked {@code PENDING}. Inside a transaction
+     * it waits for the commit, so the worker never sees the row before the confirm does.
+     */
+    public void enqueue(Long documentId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(documentId);
+                }
+            });
+        } else {
+            submit(documentId);
+        }
+    }
+
+    /** Queue up to {@code limit} PENDING documents that are due. Returns how many were queued. */
+    public int queueDue(int limit) {
+        List<Long> due = jdbc.queryForList("""
+                SELECT id FROM documents
+                 WHERE post_upload_status = 'PENDING' AND post_upload_next_at <= :now AND deleted_at IS NULL
+                 ORDER BY post_upload_next_at
+                 LIMIT :limit
+                """, new MapSqlParameterSource("now", LocalDateTime.now()).addValue("limit", limit), Long.class);
+        due.forEach(this::submit);
+        return due.size();
+    }
+
+    private void submit(Long documentId) {
+        try {
+            executor.execute(() -> process(documentId));
+        } catch (TaskRejectedException e) {
+            // Still PENDING and due — the retry sweep will queue it again.
+            log.warn("Post-upload queue full; document {} left for the retry sweep", documentId);
+        }
+    }
+
+    void process(Long documentId) {
+        List<Map<String, Object>> sizing = jdbc.queryForList(
+                "SELECT file_size, file_hash FROM documents WHERE id = :id", Map.of("id", documentId));
+        if (sizing.isEmpty()) return;
+        Number fileSize = (Number) sizing.get(0).get("file_size");
+        Duration claimFor = leaseFor(fileSize == null ? null : fileSize.longValue(), sizing.get(0).get("file_hash") == null);
+
+        LocalDateTime now = LocalDateTime.now();
+        int claimed = jdbc.update("""
+                UPDATE documents SET post_upload_next_at = :leaseUntil
+                 WHERE id = :id AND post_upload_status = 'PENDING' AND post_upload_next_at <= :now
+                   AND deleted_at IS NULL
+                """, new MapSqlParameterSource("id", documentId)
+                .addValue("now", now)
+                .addValue("leaseUntil", now.plus(claimFor)));
+        if (claimed == 0) return;
+
+        Map<String, Object> row = jdbc.queryForMap(
+                "SELECT file_path, application_id, post_upload_attempts, file_hash FROM documents WHERE id = :id",
+                Map.of("id", documentId));
+        String key = (String) row.get("file_path");
+        long applicationId = ((Number) row.get("application_id")).longValue();
+        int attempt = ((Number) row.get("post_upload_attempts")).intValue() + 1;
+        // Set at confirm when the upload carried a checksum S3 verified — no need to read the object.
+        String knownHash = (String) row.get("file_hash");
+
+        try {
+            String hash = knownHash != null ? knownHash : s3.computeSha256(key);
+            if (hash == null) throw new IllegalStateException("could not read s3 object " + key);
+            s3.applyTags(key, S3DocumentService.tagsForBorrowerUpload(applicationId, null));
+
+            jdbc.update("""
+                    UPDATE documents SET file_hash = :hash, post_upload_status = 'DONE',
+                           post_upload_attempts = :attempt, post_upload_next_at = NULL, post_upload_error = NULL
+                     WHERE id = :id
+                    """, new MapSqlParameterSource("id", documentId)
+                    .addValue("hash", hash)
+                    .addValue("attempt", attempt));
+            log.debug("Post-upload done for document {} (attempt {})", documentId, attempt);
+        } catch (RuntimeException e) {
+            boolean giveUp = attempt >= maxAttempts;
+            String error = String.valueOf(e.getMessage());
+            jdbc.update("""
+                    UPDATE documents SET post_upload_status = :status, post_upload_attempts = :attempt,
+                           post_upload_next_at = :next, post_upload_error = :error
+                     WHERE id = :id
+                    """, new MapSqlParameterSource("id", documentId)
+                    .addValue("status", giveUp ? FAILED : PENDING)
+                    .addValue("attempt", attempt)
+                    .addValue("next", giveUp ? null : LocalDateTime.now().plus(retryDelay.multipliedBy(1L << (attempt - 1))))
+                    .addValue("error", error.length() > 1000 ? error.substring(0, 1000) : error));
+            if (giveUp) {
+                log.warn("Post-upload for document {} failed after {} attempt(s): {}", documentId, attempt, error);
+            } else {
+                log.info("Post-upload for document {} failed (attempt {}), will retry: {}", documentId, attempt, error);
+            }
+        }
+    }
+
+    /** The base lease, plus the object's download time at the assumed rate when it has to be hashed. */
+    Duration leaseFor(Long fileSize, boolean needsHash) {
+        if (!needsHash || fileSize == null) return lease;
+        return lease.plusSeconds(fileSize / leaseBytesPerSecond);
+    }
+}
@@ -19,15 +19,32 @@ import com.msfg.mortgage.security.LoanAccessGuard;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -41,24 +58,128 @@ public class DocumentService {
     private final FolderRepository folderRepository;
     private final FolderService folderService;
     private final S3DocumentService s3;
+    private final DocumentPostUploadService postUploadService;
     private final CurrentUserService currentUserService;
     private final LoanAccessGuard loanAccessGuard;
     private final AuditService auditService;
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+
+    /** S3's minimum size for every part of a multipart upload except the last. */
+    private static final long MIN_MULTIPART_PART_SIZE = 5L * 1024 * 1024;
+    private static final int MAX_MULTIPART_PARTS = 10_000;
+    private static final int MAX_PART_URLS_PER_CALL = 100;
+    private static final int MAX_BATCH_UPLOAD_FILES = 100;
+
+    @Value("${documents.upload.require-sha256:false}")
+    private boolean requireSha256;
+
+    @Value("${documents.multipart.part-size-mb:16}")
+    private long multipartPartSizeMb;
 
     // ─── Upload URL ─────────────────────────────────────────────────────────────
 
     @Transactional
     public Map<String, Object> issueUploadUrl(Long loanId, String fileName, String documentType,
                                                 String partyRole, String contentType, Long folderId,
-                                                Long documentTypeId,
+                                                Long documentTypeId, String sha256,
                                                 HttpServletRequest request) {
-        LoanApplication la = loanApplicationRepository.findById(loanId)
+        LoanApplication la = loanApplicationRepository.findSummaryById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan application " + loanId + " not found"));
+
+        String checksum = normalizeSha256(sha256);
+        Document doc = createPendingDocument(la, fileName, documentType, partyRole, contentType,
+                folderId, documentTypeId);
+
+        S3DocumentService.PresignedUpload upload = s3.presignUpload(doc.getFilePath(), contentType, checksum);
+
+        auditService.logDocumentAction(loanId, doc.getId(), "UPLOAD_INITIATED",
+                doc.getUploadedByUserId(), doc.getPartyRole(),
+                Map.of("fileName", fileName, "docUuid", doc.getDocUuid(), "documentType", doc.getDocumentType()),
+                request);
+
+        return uploadUrlBody(doc, upload);
+    }
+
+    /** One file of a batch upload-url request; {@code sha256} as for {@link #issueUploadUrl}. */
+    public record UploadFile(String fileName, String contentType, String sha256) {}
+
+    /**
+     * {@link #issueUploadUrl} for a whole multi-file drop that shares one type, role and
+     * folder: the loan, document type and folder are resolved once, the rows go in as one
+     * JDBC batch (and their audit rows as another), and every presigned URL comes back in
+     * one response, in request order. Any invalid file fails the whole batch before anything
+     * is written.
+     */
+    @Transactional
+    public Map<String, Object> issueUploadUrls(Long loanId, String documentType, String partyRole,
+                                                 Long folderId, Long documentTypeId, List<UploadFile> files,
+                                                 HttpServletRequest request) {
+        if (files == null || files.isEmpty()) {
+            throw new BusinessValidationException("files is required");
+        }
+        if (files.size() > MAX_BATCH_UPLOAD_FILES) {
+            throw new BusinessValidationException("At most " + MAX_BATCH_UPLOAD_FILES + " files per request");
+        }
+        LoanApplication la = loanApplicationRepository.findSummaryById(loanId)
                 .orElseThrow(() -> new ResourceNotFoundException("Loan application " + loanId + " not found"));
+        UploadTarget target = resolveUploadTarget(la, documentType, partyRole, folderId, documentTypeId);
+
+        List<Document> docs = new ArrayList<>(files.size());
+        List<String> checksums = new ArrayList<>(files.size());
+        for (UploadFile file : files) {
+            if (file == null || file.fileName() == null || file.fileName().isBlank()) {
+                throw new BusinessValidationException("fileName is required for every file");
+            }
+            checksums.add(normalizeSha256(file.sha256()));
+            docs.add(newPendingDocument(target, file.fileName(), file.contentType()));
+        }
+        insertPendingDocuments(docs);
+
+        List<Map<String, Object>> uploads = new ArrayList<>(docs.size());
+        Map<Long, Map<String, Object>> auditMeta = new LinkedHashMap<>();
+        for (int i = 0; i < docs.size(); i++) {
+            Document doc = docs.get(i);
+            uploads.add(uploadUrlBody(doc, s3.presignUpload(doc.getFilePath(), doc.getContentType(), checksums.get(i))));
+            auditMeta.put(doc.getId(), Map.of("fileName", doc.getFileName(), "docUuid", doc.getDocUuid(),
+                    "documentType", doc.getDocumentType()));
+        }
+        auditService.logDocumentActions(loanId, "UPLOAD_INITIATED",
+                target.userId(), target.partyRole(), auditMeta, request);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("count", uploads.size());
+        body.put("uploads", uploads);
+        return body;
+    }
+
+    private Map<String, Object> uploadUrlBody(Document doc, S3DocumentService.PresignedUpload upload) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("documentId", doc.getId());
+        body.put("docUuid", doc.getDocUuid());
+        body.put("s3Key", doc.getFilePath());
+        body.put("bucket", s3.getBucket());
+        body.put("uploadUrl", upload.url());
+        // Send these with the PUT as-is — with a checksum, S3 rejects the upload without them.
+        body.put("uploadHeaders", upload.headers());
+        body.put("contentType", doc.getContentType());
+        body.put("expiresInSeconds", 900);
+        return body;
+    }
+
+    /** Where a set of uploads lands — everything about the pending rows except the file itself. */
+    private record UploadTarget(LoanApplication application, String partyRole, String documentType,
+                                DocumentType resolvedType, Long folderId, Integer userId) {}
 
+    /**
+     * Validate the party role and resolve the structured document type and the folder
+     * (explicit, else the type's default folder) for uploads into {@code la}.
+     */
+    private UploadTarget resolveUploadTarget(LoanApplication la, String documentType, String partyRole,
+                                             Long folderId, Long documentTypeId) {
+        Long loanId = la.getId();
         String validRole = S3DocumentService.requireValidPartyRole(partyRole);
         String docType = documentType == null ? "Other" : documentType.trim();
-        String safeName = S3DocumentService.sanitizeFilename(fileName);
-        String docUuid = UUID.randomUUID().toString();
 
         // Resolve structured document type if provided
         DocumentType resolvedType = null;
@@ -66,23 +187,8 @@ public class DocumentService {
             resolvedType = documentTypeRepository.findById(documentTypeId)
                     .orElseThrow(() -> new ResourceNotFoundException("Document type " + documentTypeId + " not found"));
             docType = resolvedType.getName();
-
-            // Validate MIME type against allowed types
-            if (contentType != null && resolvedType.getAllowedMimeTypes() != null) {
-                String normalizedContent = contentType.toLowerCase().split(";")[0].trim();
-                boolean allowed = java.util.Arrays.stream(resolvedType.getAllowedMimeTypes().split(","))
-                        .map(String::trim)
-                        .anyMatch(normalizedContent::equals);
-                if (!allowed) {
-                    throw new BusinessValidationException(
-                            "File type '" + contentType + "' is not allowed for " + resolvedType.getName()
-                                    + ". Allowed: " + resolvedType.getAllowedMimeTypes());
-                }
-            }
         }
 
-        String key = s3.buildApplicationKey(la.getId(), validRole, docType, docUuid, safeName);
-
         Long resolvedFolderId = resolveFolderId(loanId, folderId);
         // Auto-route by document type's default folder if no folder specified
         if (resolvedFolderId == null && resolvedType != null && resolvedType.getDefaultFolderName() != null) {
@@ -92,10 +198,37 @@ public class DocumentService {
         }
 
         Integer userId = currentUserService.currentUser().map(User::getId).orElse(null);
+        return new UploadTarget(la, validRole, docType, resolvedType, resolvedFolderId, userId);
+    }
 
-        Document doc = Document.builder()
-                .application(la)
-                .documentType(docType)
+    /**
+     * Build (not save) the {@code pending} Document row for one file: checks its MIME type
+     * against the structured type and mints the doc UUID and S3 key.
+     */
+    private Document newPendingDocument(UploadTarget target, String fileName, String contentType) {
+        DocumentType resolvedType = target.resolvedType();
+        // Validate MIME type against allowed types
+        if (resolvedType != null && contentType != null && resolvedType.getAllowedMimeTypes() != null) {
+            String normalizedContent = contentType.toLowerCase().split(";")[0].trim();
+            boolean allowed = java.util.Arrays.stream(resolvedType.getAllowedMimeTypes().split(","))
+                    .map(String::trim)
+                    .anyMatch(normalizedContent::equals);
+            if (!allowed) {
+                throw new BusinessValidationException(
+                        "File type '" + contentType + "' is not allowed for " + resolvedType.getName()
+                                + ". Allowed: " + resolvedType.getAllowedMimeTypes());
+            }
+        }
+
+        String safeName = S3DocumentService.sanitizeFilename(fileName);
+        String docUuid = UUID.randomUUID().toString();
+        String validRole = target.partyRole();
+        String key = s3.buildApplicationKey(target.application().getId(), validRole, target.documentType(),
+                docUuid, safeName);
+
+        return Document.builder()
+                .application(target.application())
+                .documentType(target.documentType())
                 .documentTypeId(resolvedType != null ? resolvedType.getId() : null)
                 .fileName(fileName)
                 .safeFilename(safeName)
@@ -105,70 +238,497 @@ public class DocumentService {
                 .uploadStatus("pending")
                 .partyRole(validRole)
                 .addedByRole(validRole)
-                .uploadedByUserId(userId)
+                .uploadedByUserId(target.userId())
                 .visibleToBorrower(resolvedType != null ? resolvedType.getBorrowerVisibleDefault() : true)
                 .visibleToAgent("agent".equals(validRole))
-                .folderId(resolvedFolderId)
+                .folderId(target.folderId())
                 .build();
-        doc = documentRepository.save(doc);
+    }
+
+    /** Insert the {@code pending} Document row for a single upload. Shared by single-PUT and multipart. */
+    private Document createPendingDocument(LoanApplication la, String fileName, String documentType,
+                                           String partyRole, String contentType, Long folderId,
+                                           Long documentTypeId) {
+        UploadTarget target = resolveUploadTarget(la, documentType, partyRole, folderId, documentTypeId);
+        return documentRepository.save(newPendingDocument(target, fileName, contentType));
+    }
+
+    private static final String INSERT_PENDING_DOCUMENT = """
+            INSERT INTO documents (application_id, document_type, document_type_id, file_name, safe_filename,
+                                   doc_uuid, file_path, content_type, upload_status, party_role, added_by_role,
+                                   uploaded_by_user_id, visible_to_borrower, visible_to_agent, folder_id,
+                                   document_status, post_upload_attempts, uploaded_at, created_at, updated_at)
+            VALUES (:applicationId, :documentType, :documentTypeId, :fileName, :safeFilename,
+                    :docUuid, :filePath, :contentType, :uploadStatus, :partyRole, :addedByRole,
+                    :uploadedByUserId, :visibleToBorrower, :visibleToAgent, :folderId,
+                    :documentStatus, 0, :now, :now, :now)
+            """;
+
+    /**
+     * Insert unsaved pending rows in one JDBC batch, bypassing the per-row IDENTITY insert
+     * JPA would do, and write the generated ids (and the timestamps {@code @PrePersist}
+     * would have set) back onto the objects. They stay detached.
+     */
+    private void insertPendingDocuments(List<Document> docs) {
+        LocalDateTime now = LocalDateTime.now();
+        MapSqlParameterSource[] rows = docs.stream().map(d -> {
+            d.setUploadedAt(now);
+            d.setCreatedAt(now);
+            d.setUpdatedAt(now);
+            return new MapSqlParameterSource("applicationId", d.getApplication().getId())
+                    .addValue("documentType", d.getDocumentType())
+                    .addValue("documentTypeId", d.getDocumentTypeId())
+                    .addValue("fileName", d.getFileName())
+                    .addValue("safeFilename", d.getSafeFilename())
+                    .addValue("docUuid", d.getDocUuid())
+                    .addValue("filePath", d.getFilePath())
+                    .addValue("contentType", d.getContentType())
+                    .addValue("uploadStatus", d.getUploadStatus())
+                    .addValue("partyRole", d.getPartyRole())
+                    .addValue("addedByRole", d.getAddedByRole())
+                    .addValue("uploadedByUserId", d.getUploadedByUserId())
+                    .addValue("visibleToBorrower", d.getVisibleToBorrower())
+                    .addValue("visibleToAgent", d.getVisibleToAgent())
+                    .addValue("folderId", d.getFolderId())
+                    .addValue("documentStatus", d.getDocumentStatus())
+                    .addValue("now", now);
+        }).toArray(MapSqlParameterSource[]::new);
+
+        GeneratedKeyHolder keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(INSERT_PENDING_DOCUMENT, rows, keys, new String[]{"id"});
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < docs.size(); i++) {
+            docs.get(i).setId(((Number) generated.get(i).values().iterator().next()).longValue());
+        }
+    }
+
+    // ─── Multipart Upload ───────────────────────────────────────────────────────
+
+    /**
+     * Start a multipart upload for a large file: the same pending Document row and key as
+     * {@link #issueUploadUrl}, plus an S3 multipart upload at that key. The response says how
+     * to split the file; part URLs come from {@link #presignUploadParts}, and
+     * {@link #completeMultipartUpload} stitches the parts and confirms.
+     */
+    @Transactional
+    public Map<String, Object> initiateMultipartUpload(Long loanId, String fileName, String documentType,
+                                                         String partyRole, String contentType, Long folderId,
+                                                         Long documentTypeId, Long fileSize,
+                                                         HttpServletRequest request) {
+        if (fileSize == null || fileSize <= 0) {
+            throw new BusinessValidationException("fileSize is required for a multipart upload");
+        }
+        LoanApplication la = loanApplicationRepository.findSummaryById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan application " + loanId + " not found"));
 
-        String uploadUrl = s3.presignUpload(key, contentType);
+        long partSize = multipartPartSize(fileSize);
+        long partCount = (fileSize + partSize - 1) / partSize;
+
+        Document doc = createPendingDocument(la, fileName, documentType, partyRole, contentType,
+                folderId, documentTypeId);
+        // If this transaction rolls back after the initiate, the sweeper aborts the orphan.
+        doc.setMultipartUploadId(s3.createMultipartUpload(doc.getFilePath(), contentType));
+        doc = documentRepository.save(doc);
 
         auditService.logDocumentAction(loanId, doc.getId(), "UPLOAD_INITIATED",
-                userId, validRole,
-                Map.of("fileName", fileName, "docUuid", docUuid, "documentType", docType),
+                doc.getUploadedByUserId(), doc.getPartyRole(),
+                Map.of("fileName", fileName, "docUuid", doc.getDocUuid(), "documentType", doc.getDocumentType(),
+                        "multipartParts", partCount),
                 request);
 
         Map<String, Object> body = new LinkedHashMap<>();
         body.put("documentId", doc.getId());
-        body.put("docUuid", docUuid);
-        body.put("s3Key", key);
+        body.put("docUuid", doc.getDocUuid());
+        body.put("s3Key", doc.getFilePath());
         body.put("bucket", s3.getBucket());
-        body.put("uploadUrl", uploadUrl);
+        body.put("partSize", partSize);
+        body.put("partCount", partCount);
         body.put("contentType", contentType);
+        return body;
+    }
+
+    /**
+     * Presigned PUT URLs for the given part numbers — the first batch after initiate, or
+     * fresh URLs for parts to retry after a network drop or an expired URL. At most
+     * {@value #MAX_PART_URLS_PER_CALL} per call.
+     */
+    public Map<String, Object> presignUploadParts(Long loanId, String docUuid, List<Integer> partNumbers) {
+        Document doc = findMultipartInProgress(docUuid, loanId);
+        if (partNumbers == null || partNumbers.isEmpty()) {
+            throw new BusinessValidationException("partNumbers is required");
+        }
+        if (partNumbers.size() > MAX_PART_URLS_PER_CALL) {
+            throw new BusinessValidationException(
+                    "At most " + MAX_PART_URLS_PER_CALL + " part URLs per request");
+        }
+
+        List<Map<String, Object>> parts = new ArrayList<>(partNumbers.size());
+        for (Integer partNumber : partNumbers) {
+            if (partNumber == null || partNumber < 1 || partNumber > MAX_MULTIPART_PARTS) {
+                throw new BusinessValidationException("partNumber must be between 1 and " + MAX_MULTIPART_PARTS);
+            }
+            parts.add(Map.of("partNumber", partNumber,
+                    "uploadUrl", s3.presignUploadPart(doc.getFilePath(), doc.getMultipartUploadId(), partNumber)));
+        }
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("docUuid", docUuid);
+        body.put("parts", parts);
         body.put("expiresInSeconds", 900);
         return body;
     }
 
+    /**
+     * Stitch the uploaded parts into the object, then run the normal {@link #confirmUpload}
+     * (HEAD verification, status, audit, post-upload tagging). CompleteMultipartUpload can take
+     * minutes for a large package, so it runs outside any transaction; only clearing the upload
+     * id and the confirm share a short one.
+     */
+    public Map<String, Object> completeMultipartUpload(Long loanId, String docUuid,
+                                                         List<S3DocumentService.UploadedPart> parts,
+                                                         HttpServletRequest request) {
+        Document doc = findMultipartInProgress(docUuid, loanId);
+        if (parts == null || parts.isEmpty()) {
+            throw new BusinessValidationException("parts is required");
+        }
+        List<S3DocumentService.UploadedPart> ordered = parts.stream()
+                .sorted(java.util.Comparator.comparingInt(S3DocumentService.UploadedPart::partNumber))
+                .toList();
+
+        try {
+            s3.completeMultipartUpload(doc.getFilePath(), doc.getMultipartUploadId(), ordered);
+        } catch (NoSuchUploadException e) {
+            // A retried complete whose first S3 call went through — confirm's HEAD decides.
+            log.info("Multipart upload for {} no longer open; confirming what is at the key", doc.getFilePath());
+        } catch (S3Exception e) {
+            throw new BusinessValidationException(
+                    "Could not complete the multipart upload: " + e.awsErrorDetails().errorMessage());
+        }
+
+        return transactionTemplate.execute(tx -> {
+            // Guarded on the upload id we completed: a sweep or a concurrent complete got here first.
+            int cleared = jdbc.update("""
+                    UPDATE documents SET multipart_upload_id = NULL
+                     WHERE id = :id AND multipart_upload_id = :uploadId AND upload_status = 'pending'
+                    """, new MapSqlParameterSource("id", doc.getId())
+                    .addValue("uploadId", doc.getMultipartUploadId()));
+            if (cleared == 0) {
+                throw new BusinessValidationException("No multipart upload in progress for document " + docUuid);
+            }
+            return confirmUpload(loanId, docUuid, request);
+        });
+    }
+
+    /** Abandon an in-progress multipart upload: frees the parts in S3 and retires the row. */
+    @Transactional
+    public void abortMultipartUpload(Long loanId, String docUuid, HttpServletRequest request) {
+        Document doc = findMultipartInProgress(docUuid, loanId);
+        s3.abortMultipartUpload(doc.getFilePath(), doc.getMultipartUploadId());
+
+        doc.setMultipartUploadId(null);
+        doc.setUploadStatus("deleted");
+        doc.setDeletedAt(LocalDateTime.now());
+        documentRepository.save(doc);
+
+        Integer userId = currentUserService.currentUser().map(User::getId).orElse(null);
+        String userRole = currentUserService.currentUser().map(User::getRole).orElse(null);
+        auditService.logDocumentAction(loanId, doc.getId(), "UPLOAD_ABORTED",
+                userId, userRole,
+                Map.of("fileName", doc.getFileName(), "docUuid", docUuid),
+                request);
+    }
+
+    /** A pending row whose multipart upload is still open in S3. */
+    private record OpenMultipartUpload(Long id, String key, String uploadId) {}
+
+    /**
+     * Abort the multipart uploads this app recorded in {@code documents.multipart_upload_id}
+     * that were started more than {@code maxAge} ago, and retire their pending rows. Run by
+     * {@code MultipartUploadSweepJob}. Only recorded upload ids are touched; initiates whose
+     * row never committed are left to the bucket's abort-incomplete-multipart lifecycle rule.
+     * No transaction: each abort is an S3 round trip and the row updates are independent.
+     */
+    public int abortStaleMultipartUploads(Duration maxAge) {
+        List<OpenMultipartUpload> stale = jdbc.query("""
+                SELECT id, file_path, multipart_upload_id FROM documents
+                 WHERE multipart_upload_id IS NOT NULL AND upload_status = 'pending'
+                   AND created_at < :cutoff
+                """, new MapSqlParameterSource("cutoff", LocalDateTime.now().minus(maxAge)),
+                (rs, i) -> new OpenMultipartUpload(rs.getLong("id"), rs.getString("file_path"),
+                        rs.getString("multipart_upload_id")));
+        if (stale.isEmpty()) return 0;
+
+        List<OpenMultipartUpload> aborted = new ArrayList<>(stale.size());
+        for (OpenMultipartUpload u : stale) {
+            try {
+                s3.abortMultipartUpload(u.key(), u.uploadId());
+                aborted.add(u);
+            } catch (RuntimeException e) {
+                // Left pending; the next sweep tries it again.
+                log.warn("Could not abort stale multipart upload {} for key={}: {}", u.uploadId(), u.key(), e.toString());
+            }
+        }
+        if (aborted.isEmpty()) return 0;
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbc.batchUpdate("""
+                UPDATE documents SET multipart_upload_id = NULL, upload_status = 'deleted', deleted_at = :now
+                 WHERE id = :id AND multipart_upload_id = :uploadId AND upload_status = 'pending'
+                """, aborted.stream()
+                .map(u -> new MapSqlParameterSource("id", u.id())
+                        .addValue("uploadId", u.uploadId())
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new));
+        return aborted.size();
+    }
+
+    private Document findMultipartInProgress(String docUuid, Long loanId) {
+        Document doc = findByUuidAndLoan(docUuid, loanId);
+        if (doc.getMultipartUploadId() == null) {
+            throw new BusinessValidationException("No multipart upload in progress for document " + docUuid);
+        }
+        return doc;
+    }
+
+    /**
+     * Part size for a file: the configured size, never under S3's 5 MiB floor, grown for very
+     * large files so the upload stays within S3's 10,000-part limit.
+     */
+    long multipartPartSize(long fileSize) {
+        long configured = Math.max(MIN_MULTIPART_PART_SIZE, multipartPartSizeMb * 1024 * 1024);
+        return Math.max(configured, (fileSize + MAX_MULTIPART_PARTS - 1) / MAX_MULTIPART_PARTS);
+    }
+
     // ─── Confirm Upload ─────────────────────────────────────────────────────────
 
     @Transactional
     public Map<String, Object> confirmUpload(Long loanId, String docUuid, HttpServletRequest request) {
         Document doc = findByUuidAndLoan(docUuid, loanId);
+        if (doc.getMultipartUploadId() != null) {
+            throw new BusinessValidationException("Finish the multipart upload with /multipart-upload/complete");
+        }
 
-        long size = s3.verifyUpload(doc.getFilePath());
-        if (size < 0) {
+        S3DocumentService.UploadedObject uploaded = s3.inspectUpload(doc.getFilePath()).orElseThrow(() -> {
             log.warn("Confirm requested for {} but S3 HEAD returned NoSuchKey", doc.getFilePath());
-            throw new BusinessValidationException("No object found at S3 key: " + doc.getFilePath());
-        }
+            return new BusinessValidationException("No object found at S3 key: " + doc.getFilePath());
+        });
+        long size = uploaded.size();
 
         doc.setFileSize(size);
         doc.setUploadStatus("uploaded");
         doc.setDocumentStatus(DocumentStatus.UPLOADED.name());
+        // Checksum-at-upload: S3 already verified this SHA-256, so the worker won't re-read the object.
+        if (uploaded.sha256() != null) doc.setFileHash(uploaded.sha256());
 
-        // Compute SHA-256 best-effort. Null on failure (don't block confirm).
-        String hash = s3.computeSha256(doc.getFilePath());
-        if (hash != null) doc.setFileHash(hash);
+        // Tags (and, for uploads without a checksum, the SHA-256) are left to the post-upload
+        // worker, after commit.
+        doc.setPostUploadStatus(DocumentPostUploadService.PENDING);
+        doc.setPostUploadAttempts(0);
+        doc.setPostUploadNextAt(LocalDateTime.now());
+        doc.setPostUploadError(null);
 
         Document saved = documentRepository.save(doc);
 
         recordStatusTransition(doc.getId(), DocumentStatus.UPLOADED.name(), null, null);
 
-        s3.applyTags(doc.getFilePath(),
-                S3DocumentService.tagsForBorrowerUpload(doc.getApplication().getId(), null));
-
         Integer userId = currentUserService.currentUser().map(User::getId).orElse(null);
         Map<String, Object> auditMeta = new java.util.LinkedHashMap<>();
         auditMeta.put("fileName", doc.getFileName());
         auditMeta.put("fileSize", size);
         auditMeta.put("docUuid", docUuid);
-        if (hash != null) auditMeta.put("sha256", hash);
+        if (uploaded.sha256() != null) auditMeta.put("sha256", uploaded.sha256());
         auditService.logDocumentAction(loanId, doc.getId(), "UPLOAD",
                 userId, doc.getPartyRole(), auditMeta, request);
 
+        postUploadService.enqueue(saved.getId());
         return toView(saved, false);
     }
 
+    /** What bulk confirm learned from S3 for one document: the HEAD, and whether tagging is done. */
+    private record ConfirmProbe(Optional<S3DocumentService.UploadedObject> uploaded, boolean tagged) {}
+
+    /**
+     * {@link #confirmUpload} for a multi-file drop. The S3 HEADs run concurrently on the async
+     * client; for uploads whose SHA-256 S3 already verified, the tag call is chained straight
+     * after the HEAD and the post-upload step is finished here. Uploads without a checksum, or
+     * whose tagging failed, go to the post-upload worker as usual. The lookup and the S3 calls
+     * run outside any transaction so no pooled connection waits on S3; the row updates,
+     * status history and audit rows are then written as batches in one short transaction.
+     *
+     * <p>Per-document failures (unknown document, nothing at the key, S3 error) are collected
+     * and reported like {@link #bulkReview}, in request order; documents already confirmed count
+     * as succeeded and are left untouched, so a retried call is harmless. A document deleted or
+     * aborted while its S3 calls were in flight is a failure, not a success.
+     */
+    public Map<String, Object> bulkConfirm(Long loanId, List<String> docUuids, HttpServletRequest request) {
+        if (docUuids == null || docUuids.isEmpty()) {
+            throw new BusinessValidationException("docUuids is required");
+        }
+        if (docUuids.size() > MAX_BATCH_UPLOAD_FILES) {
+            throw new BusinessValidationException("At most " + MAX_BATCH_UPLOAD_FILES + " documents per request");
+        }
+        Set<String> uuids = new LinkedHashSet<>(docUuids);
+        Map<String, Document> byUuid = new HashMap<>();
+        for (Document d : documentRepository.findByApplicationIdAndDocUuidIn(loanId, uuids)) {
+            byUuid.put(d.getDocUuid(), d);
+        }
+
+        int succeeded = 0;
+        Map<String, Map<String, Object>> failures = new HashMap<>();
+        Map<String, CompletableFuture<ConfirmProbe>> probes = new LinkedHashMap<>();
+        Map<String, String> tags = S3DocumentService.tagsForBorrowerUpload(loanId, null);
+        for (String uuid : uuids) {
+            Document doc = byUuid.get(uuid);
+            if (doc == null) {
+                failures.put(uuid, bulkFailure(uuid, "Document " + uuid + " not found"));
+            } else if (doc.getMultipartUploadId() != null) {
+                failures.put(uuid, bulkFailure(uuid, "Finish the multipart upload with /multipart-upload/complete"));
+            } else if ("uploaded".equals(doc.getUploadStatus())) {
+                succeeded++;
+            } else {
+                String key = doc.getFilePath();
+                probes.put(uuid, s3.inspectUploadAsync(key).thenCompose(found -> {
+                    if (found.isEmpty() || found.get().sha256() == null) {
+                        return CompletableFuture.completedFuture(new ConfirmProbe(found, false));
+                    }
+                    return s3.applyTagsAsync(key, tags).handle((ok, e) -> {
+                        if (e != null) log.warn("Bulk confirm could not tag {}; left to the worker: {}", key, e.toString());
+                        return new ConfirmProbe(found, e == null);
+                    });
+                }));
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Document> confirmed = new ArrayList<>(probes.size());
+        for (Map.Entry<String, CompletableFuture<ConfirmProbe>> e : probes.entrySet()) {
+            Document doc = byUuid.get(e.getKey());
+            ConfirmProbe probe;
+            try {
+                probe = e.getValue().join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                log.warn("Bulk confirm HEAD failed for {}: {}", doc.getFilePath(), cause.toString());
+                failures.put(e.getKey(), bulkFailure(e.getKey(), "Could not check S3 for the upload: " + cause.getMessage()));
+                continue;
+            }
+            if (probe.uploaded().isEmpty()) {
+                failures.put(e.getKey(), bulkFailure(e.getKey(), "No object found at S3 key: " + doc.getFilePath()));
+                continue;
+            }
+            S3DocumentService.UploadedObject uploaded = probe.uploaded().get();
+            doc.setFileSize(uploaded.size());
+            doc.setUploadStatus("uploaded");
+            doc.setDocumentStatus(DocumentStatus.UPLOADED.name());
+            if (uploaded.sha256() != null) doc.setFileHash(uploaded.sha256());
+            // Hash from S3 and tags applied: nothing left for the worker.
+            doc.setPostUploadStatus(probe.tagged() ? DocumentPostUploadService.DONE : DocumentPostUploadService.PENDING);
+            doc.setPostUploadAttempts(probe.tagged() ? 1 : 0);
+            doc.setPostUploadNextAt(probe.tagged() ? null : now);
+            doc.setPostUploadError(null);
+            confirmed.add(doc);
+        }
+
+        if (!confirmed.isEmpty()) {
+            BulkConfirmWrite write = transactionTemplate.execute(
+                    tx -> recordBulkConfirm(loanId, confirmed, now, request));
+            write.written().stream()
+                    .filter(d -> DocumentPostUploadService.PENDING.equals(d.getPostUploadStatus()))
+                    .forEach(d -> postUploadService.enqueue(d.getId()));
+            Set<Long> confirmedIds = new HashSet<>(write.confirmedElsewhere());
+            write.written().forEach(d -> confirmedIds.add(d.getId()));
+            for (Document d : confirmed) {
+                if (confirmedIds.contains(d.getId())) {
+                    succeeded++;
+                } else {
+                    failures.put(d.getDocUuid(), bulkFailure(d.getDocUuid(), "Document was deleted or cancelled before it was confirmed"));
+                }
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requested", uuids.size());
+        result.put("succeeded", succeeded);
+        result.put("failed", failures.size());
+        // Reported in request order, whichever stage each document failed at.
+        result.put("failures", uuids.stream().filter(failures::containsKey).map(failures::get).toList());
+        return result;
+    }
+
+    /**
+     * What {@link #recordBulkConfirm} did: the rows it moved to uploaded, and the ids of rows it
+     * skipped because another confirm got to them first. Any other skipped row was deleted or
+     * aborted in the meantime.
+     */
+    private record BulkConfirmWrite(List<Document> written, Set<Long> confirmedElsewhere) {}
+
+    /**
+     * The write half of {@link #bulkConfirm}: one batched UPDATE guarded on the row still being
+     * pending and not deleted, then status history and audit for the rows it actually moved.
+     */
+    private BulkConfirmWrite recordBulkConfirm(Long loanId, List<Document> confirmed, LocalDateTime now,
+                                             HttpServletRequest request) {
+        int[] counts = jdbc.batchUpdate("""
+                UPDATE documents SET file_size = :fileSize, upload_status = 'uploaded',
+                       document_status = :documentStatus, file_hash = :fileHash,
+                       post_upload_status = :postUploadStatus, post_upload_attempts = :postUploadAttempts,
+                       post_upload_next_at = :postUploadNextAt, post_upload_error = NULL, updated_at = :now
+                 WHERE id = :id AND upload_status = 'pending' AND deleted_at IS NULL
+                """, confirmed.stream()
+                .map(d -> new MapSqlParameterSource("id", d.getId())
+                        .addValue("fileSize", d.getFileSize())
+                        .addValue("documentStatus", d.getDocumentStatus())
+                        .addValue("fileHash", d.getFileHash())
+                        .addValue("postUploadStatus", d.getPostUploadStatus())
+                        .addValue("postUploadAttempts", d.getPostUploadAttempts())
+                        .addValue("postUploadNextAt", d.getPostUploadNextAt())
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new));
+        List<Document> written = new ArrayList<>(confirmed.size());
+        List<Long> skipped = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) written.add(confirmed.get(i));
+            else skipped.add(confirmed.get(i).getId());
+        }
+        Set<Long> confirmedElsewhere = skipped.isEmpty() ? Set.of() : new HashSet<>(jdbc.queryForList("""
+                SELECT id FROM documents
+                 WHERE id IN (:ids) AND upload_status = 'uploaded' AND deleted_at IS NULL
+                """, new MapSqlParameterSource("ids", skipped), Long.class));
+        if (written.isEmpty()) return new BulkConfirmWrite(written, confirmedElsewhere);
+
+        jdbc.batchUpdate("""
+                INSERT INTO document_status_history (document_id, status, transitioned_at)
+                VALUES (:documentId, :status, :now)
+                """, written.stream()
+                .map(d -> new MapSqlParameterSource("documentId", d.getId())
+                        .addValue("status", DocumentStatus.UPLOADED.name())
+                        .addValue("now", now))
+                .toArray(MapSqlParameterSource[]::new));
+
+        Integer userId = currentUserService.currentUser().map(User::getId).orElse(null);
+        // Audit rows carry the uploader's party role; one batch per role (normally just one).
+        Map<String, Map<Long, Map<String, Object>>> auditByRole = new LinkedHashMap<>();
+        for (Document d : written) {
+            Map<String, Object> meta = new LinkedHashMap<>();
+            meta.put("fileName", d.getFileName());
+            meta.put("fileSize", d.getFileSize());
+            meta.put("docUuid", d.getDocUuid());
+            if (d.getFileHash() != null) meta.put("sha256", d.getFileHash());
+            auditByRole.computeIfAbsent(d.getPartyRole(), r -> new LinkedHashMap<>())
+                    .put(d.getId(), meta);
+        }
+        auditByRole.forEach((role, meta) -> auditService.logDocumentActions(loanId, "UPLOAD",
+                userId, role, meta, request));
+        return new BulkConfirmWrite(written, confirmedElsewhere);
+    }
+
+    private static Map<String, Object> bulkFailure(String docUuid, String error) {
+        Map<String, Object> f = new LinkedHashMap<>();
+        f.put("docUuid", docUuid);
+        f.put("error", error);
+        return f;
+    }
+
     // ─── List ───────────────────────────────────────────────────────────────────
 
     public List<Map<String, Object>> listDocuments(Long loanId, Long folderId,
@@ -382,48 +942,97 @@ public class DocumentService {
                                                  Long folderId, Integer uploadedByUserId,
                                                  String partyRole,
                                                  String fileName, int page, int size) {
-        List<Document> all = documentRepository.findUploadedByApplicationId(loanId);
-
-        // Apply filters
-        var stream = all.stream();
+        page = Math.max(0, page);
+        size = Math.max(1, size);
+        MapSqlParameterSource params = new MapSqlParameterSource("loanId", loanId);
+        // Leading (application_id, …) predicates line up with the V20 composites:
+        // idx_doc_status for the status filter, idx_doc_type_id / idx_doc_uploader otherwise.
+        StringBuilder where = new StringBuilder(
+                " WHERE application_id = :loanId AND upload_status = 'uploaded' AND deleted_at IS NULL ");
         if (status != null && !status.isBlank()) {
-            String s = status.toUpperCase();
-            stream = stream.filter(d -> s.equals(d.getDocumentStatus()));
+            where.append(" AND document_status = :status ");
+            params.addValue("status", status.toUpperCase());
         }
         if (documentTypeId != null) {
-            stream = stream.filter(d -> documentTypeId.equals(d.getDocumentTypeId()));
+            where.append(" AND document_type_id = :documentTypeId ");
+            params.addValue("documentTypeId", documentTypeId);
         }
         if (folderId != null) {
-            stream = stream.filter(d -> folderId.equals(d.getFolderId()));
+            where.append(" AND folder_id = :folderId ");
+            params.addValue("folderId", folderId);
         }
         if (uploadedByUserId != null) {
-            stream = stream.filter(d -> uploadedByUserId.equals(d.getUploadedByUserId()));
+            where.append(" AND uploaded_by_user_id = :uploadedBy ");
+            params.addValue("uploadedBy", uploadedByUserId);
         }
         if (partyRole != null && !partyRole.isBlank()) {
-            String pr = partyRole.toLowerCase();
-            stream = stream.filter(d -> pr.equalsIgnoreCase(d.getPartyRole()));
+            where.append(" AND LOWER(party_role) = :partyRole ");
+            params.addValue("partyRole", partyRole.toLowerCase());
         }
         if (fileName != null && !fileName.isBlank()) {
-            String q = fileName.toLowerCase();
-            stream = stream.filter(d -> d.getFileName() != null
-                    && d.getFileName().toLowerCase().contains(q));
+            // Literal substring match, same as the old String.contains — escape LIKE wildcards.
+            where.append(" AND LOWER(file_name) LIKE :fileName ESCAPE '\\' ");
+            params.addValue("fileName", "%" + escapeLike(fileName.toLowerCase()) + "%");
         }
 
-        List<Document> filtered = stream.toList();
-        int total = filtered.size();
-        int fromIndex = Math.min(page * size, total);
-        int toIndex = Math.min(fromIndex + size, total);
-        List<Document> paged = filtered.subList(fromIndex, toIndex);
+        Integer counted = jdbc.queryForObject("SELECT COUNT(*) FROM documents" + where, params, Integer.class);
+        int total = counted != null ? counted : 0;
+
+        List<Map<String, Object>> paged = List.of();
+        if (total > page * size) {
+            params.addValue("limit", size);
+            params.addValue("offset", page * size);
+            paged = jdbc.query(SEARCH_COLUMNS + where
+                    + " ORDER BY uploaded_at DESC, id DESC LIMIT :limit OFFSET :offset", params, SEARCH_ROW_MAPPER);
+        }
 
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("totalElements", total);
         result.put("totalPages", (int) Math.ceil((double) total / size));
         result.put("page", page);
         result.put("size", size);
-        result.put("documents", paged.stream().map(d -> toView(d, false)).toList());
+        result.put("documents", paged);
         return result;
     }
 
+    /** Exactly the columns {@link #toView(Document, boolean)} emits — no entity, no application join. */
+    private static final String SEARCH_COLUMNS = """
+            SELECT id, doc_uuid, document_type, document_type_id, file_name, file_size,
+                   content_type, party_role, upload_status, uploaded_at, folder_id, description,
+                   document_status, reviewed_by_user_id, reviewer_notes, reviewed_at,
+                   created_at, updated_at, post_upload_status
+              FROM documents
+            """;
+
+    /** Same keys, order and Java types as {@link #toView(Document, boolean)} without a download URL. */
+    private static final RowMapper<Map<String, Object>> SEARCH_ROW_MAPPER = (rs, i) -> {
+        Map<String, Object> v = new LinkedHashMap<>();
+        v.put("id", rs.getObject("id", Long.class));
+        v.put("docUuid", rs.getString("doc_uuid"));
+        v.put("documentType", rs.getString("document_type"));
+        v.put("documentTypeId", rs.getObject("document_type_id", Long.class));
+        v.put("fileName", rs.getString("file_name"));
+        v.put("fileSize", rs.getObject("file_size", Long.class));
+        v.put("contentType", rs.getString("content_type"));
+        v.put("partyRole", rs.getString("party_role"));
+        v.put("uploadStatus", rs.getString("upload_status"));
+        v.put("uploadedAt", rs.getObject("uploaded_at", LocalDateTime.class));
+        v.put("folderId", rs.getObject("folder_id", Long.class));
+        v.put("description", rs.getString("description"));
+        v.put("documentStatus", rs.getString("document_status"));
+        v.put("reviewedByUserId", rs.getObject("reviewed_by_user_id", Integer.class));
+        v.put("reviewerNotes", rs.getString("reviewer_notes"));
+        v.put("reviewedAt", rs.getObject("reviewed_at", LocalDateTime.class));
+        v.put("createdAt", rs.getObject("created_at", LocalDateTime.class));
+        v.put("updatedAt", rs.getObject("updated_at", LocalDateTime.class));
+        v.put("postUploadStatus", rs.getString("post_upload_status"));
+        return v;
+    };
+
+    private static String escapeLike(String s) {
+        return s.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
     // ─── Status Transition ────────────────────────────────────────────────────
 
     @Transactional
@@ -582,6 +1191,24 @@ public class DocumentService {
 
     // ─── Helpers ────────────────────────────────────────────────────────────────
 
+    /**
+     * The client-computed SHA-256 for checksum-at-upload, lower-case hex. Null when the client
+     * didn't send one — allowed unless {@code documents.upload.require-sha256=true}.
+     */
+    String normalizeSha256(String sha256) {
+        if (sha256 == null || sha256.isBlank()) {
+            if (requireSha256) {
+                throw new BusinessValidationException("sha256 of the file is required to upload");
+            }
+            return null;
+        }
+        String hex = sha256.trim().toLowerCase(Locale.ROOT);
+        if (!hex.matches("[0-9a-f]{64}")) {
+            throw new BusinessValidationException("sha256 must be 64 hex characters");
+        }
+        return hex;
+    }
+
     public Document findByUuidAndLoan(String docUuid, Long loanId) {
         Document doc = documentRepository.findByDocUuid(docUuid)
                 .orElseThrow(() -> new ResourceNotFoundException("Document " + docUuid + " not found"));
@@ -654,6 +1281,8 @@ public class DocumentService {
         v.put("reviewedAt", d.getReviewedAt());
         v.put("createdAt", d.getCreatedAt());
         v.put("updatedAt", d.getUpdatedAt());
+        // PENDING while the file hash is still being computed in the background.
+        v.put("postUploadStatus", d.getPostUploadStatus());
         return v;
     }
 }
@@ -6,6 +6,7 @@ import com.msfg.mortgage.exception.ResourceNotFoundException;
 import com.msfg.mortgage.model.Borrower;
 import com.msfg.mortgage.model.Employment;
 import com.msfg.mortgage.repository.BorrowerRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
 import com.msfg.mortgage.repository.EmploymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -24,6 +26,7 @@ public class EmploymentService {
 
     private final EmploymentRepository employmentRepository;
     private final BorrowerRepository borrowerRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
 
     @Transactional(readOnly = true)
     public List<EmploymentDTO> getEmploymentsByBorrower(Long borrowerId) {
@@ -57,6 +60,7 @@ public class EmploymentService {
         employment.setBorrower(borrower);
 
         Employment savedEmployment = employmentRepository.save(employment);
+        touchLoan(borrower);
         log.info("Created employment with ID: {}", savedEmployment.getId());
 
         return convertToDTO(savedEmployment);
@@ -74,6 +78,7 @@ public class EmploymentService {
         updateEmploymentFields(existingEmployment, employmentDTO);
 
         Employment savedEmployment = employmentRepository.save(existingEmployment);
+        touchLoan(existingEmployment.getBorrower());
         log.info("Updated employment with ID: {}", savedEmployment.getId());
 
         return convertToDTO(savedEmployment);
@@ -86,6 +91,7 @@ public class EmploymentService {
                 .orElseThrow(() -> new ResourceNotFoundException("Employment not found with ID: " + employmentId));
 
         employmentRepository.delete(employment);
+        touchLoan(employment.getBorrower());
         log.info("Deleted employment with ID: {}", employmentId);
     }
 
@@ -190,4 +196,9 @@ public class EmploymentService {
         employment.setSelfEmployed(dto.getSelfEmployed() != null ? dto.getSelfEmployed() : Boolean.FALSE);
         return employment;
     }
+
+    /** The importer writes this table too, so an edit here has to move the loan's updated_date. */
+    private void touchLoan(Borrower borrower) {
+        loanApplicationRepository.touchUpdatedDate(borrower.getApplication().getId(), LocalDateTime.now());
+    }
 }
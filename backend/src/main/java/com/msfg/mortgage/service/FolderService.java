@@ -59,7 +59,7 @@ public class FolderService {
      */
     @Transactional
     public Folder ensureSeeded(Long applicationId) {
-        LoanApplication app = loanApplicationRepository.findById(applicationId)
+        LoanApplication app = loanApplicationRepository.findSummaryById(applicationId)
                 .orElseThrow(() -> new ResourceNotFoundException("Loan " + applicationId + " not found"));
 
         Folder root = folderRepository.findRootByApplicationId(applicationId)
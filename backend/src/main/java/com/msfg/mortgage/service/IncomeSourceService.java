@@ -5,6 +5,7 @@ import com.msfg.mortgage.model.IncomeSource;
 import com.msfg.mortgage.model.Borrower;
 import com.msfg.mortgage.repository.IncomeSourceRepository;
 import com.msfg.mortgage.repository.BorrowerRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
 import com.msfg.mortgage.exception.ResourceNotFoundException;
 import com.msfg.mortgage.exception.BusinessValidationException;
 
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,7 @@ public class IncomeSourceService {
 
     private final IncomeSourceRepository incomeSourceRepository;
     private final BorrowerRepository borrowerRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
     
     public List<IncomeSourceDTO> getIncomeSourcesByBorrower(Long borrowerId) {
         log.info("Getting income sources for borrower ID: {}", borrowerId);
@@ -57,6 +60,7 @@ public class IncomeSourceService {
         incomeSource.setBorrower(borrower);
         
         IncomeSource savedIncomeSource = incomeSourceRepository.save(incomeSource);
+        touchLoan(borrower);
         log.info("Created income source with ID: {}", savedIncomeSource.getId());
         
         return convertToDTO(savedIncomeSource);
@@ -73,6 +77,7 @@ public class IncomeSourceService {
         updateIncomeSourceFields(existingIncomeSource, incomeSourceDTO);
         
         IncomeSource savedIncomeSource = incomeSourceRepository.save(existingIncomeSource);
+        touchLoan(existingIncomeSource.getBorrower());
         log.info("Updated income source with ID: {}", savedIncomeSource.getId());
         
         return convertToDTO(savedIncomeSource);
@@ -85,6 +90,7 @@ public class IncomeSourceService {
                 .orElseThrow(() -> new ResourceNotFoundException("Income source not found with ID: " + incomeSourceId));
         
         incomeSourceRepository.delete(incomeSource);
+        touchLoan(incomeSource.getBorrower());
         log.info("Deleted income source with ID: {}", incomeSourceId);
     }
     
@@ -156,4 +162,9 @@ public class IncomeSourceService {
         
         return incomeSource;
     }
+
+    /** The importer writes this table too, so an edit here has to move the loan's updated_date. */
+    private void touchLoan(Borrower borrower) {
+        loanApplicationRepository.touchUpdatedDate(borrower.getApplication().getId(), LocalDateTime.now());
+    }
 }
@@ -1,26 +1,46 @@
 package com.msfg.mortgage.service;
 
+import com.msfg.mortgage.dto.LoanListCursorPage;
 import com.msfg.mortgage.dto.LoanListFilters;
 import com.msfg.mortgage.dto.LoanListPage;
 import com.msfg.mortgage.dto.LoanListRow;
+import com.msfg.mortgage.service.pipeline.PipelineReadModelService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Paged, filtered, sorted backing for GET /api/loan-applications.
  *
- * <p>Queries the {@code loan_list_view} added in V24. SQL is built dynamically
+ * <p>Queries the {@code loan_list_view} added in V24 (or its materialized copy,
+ * {@code loan_pipeline_rows}, when the V31 read model is switched on). SQL is built dynamically
  * from {@link LoanListFilters}. Sort field is whitelisted — anything not in
  * {@link #SORTABLE_COLUMNS} falls back to {@code created_date DESC}, so a
  * malicious caller can't inject via the sort param.
+ *
+ * <p>Two paging modes share the same WHERE builder:
+ * <ul>
+ *   <li>{@link #list} — classic {@code LIMIT/OFFSET} plus a {@code COUNT(*)},
+ *       what the page-number UI uses.</li>
+ *   <li>{@link #listByCursor} — keyset ("seek") paging on {@code (sortCol, id)}
+ *       with an opaque cursor. No OFFSET and the count is opt-in, so page N
+ *       costs the same as page 1 (V29 indexes back each sort column; NULL sort
+ *       keys are seeked as their own group).</li>
+ * </ul>
  */
 @Service
 @RequiredArgsConstructor
@@ -34,11 +54,174 @@ public class LoanApplicationListService {
     );
     private static final Set<String> SORT_DIRECTIONS = Set.of("asc", "desc");
 
+    /** API sort field → the row accessor holding that column's value, for building the next cursor. */
+    private static final Map<String, Function<LoanListRow, Object>> SEEK_KEYS = Map.of(
+        "createdDate",      LoanListRow::createdDate,
+        "statusChangedAt",  LoanListRow::statusChangedAt,
+        "loanAmount",       LoanListRow::loanAmount
+    );
+
+    private static final String SELECT_COLUMNS = """
+            SELECT v.id, v.application_number, v.status, v.borrower_name,
+                   v.property_city, v.property_state,
+                   v.outstanding_condition_count AS outstanding_conditions,
+                   v.loan_amount, v.property_value,
+                   CASE WHEN v.property_value IS NOT NULL AND v.property_value > 0
+                        THEN (v.loan_amount / v.property_value) * 100.0
+                        ELSE NULL
+                   END AS ltv_pct,
+                   v.est_closing_date,
+                   v.assigned_lo_name,
+                   v.status_changed_at,
+                   v.created_date
+            """;
+
+    private static final RowMapper<LoanListRow> ROW_MAPPER = (rs, i) -> new LoanListRow(
+        rs.getLong("id"),
+        rs.getString("application_number"),
+        rs.getString("status"),
+        rs.getString("borrower_name"),
+        rs.getString("property_city"),
+        rs.getString("property_state"),
+        rs.getObject("outstanding_conditions") != null
+            ? ((Number) rs.getObject("outstanding_conditions")).intValue() : null,
+        (BigDecimal) rs.getObject("loan_amount"),
+        (BigDecimal) rs.getObject("property_value"),
+        rs.getObject("ltv_pct") != null
+            ? ((Number) rs.getObject("ltv_pct")).doubleValue() : null,
+        rs.getDate("est_closing_date") != null ? rs.getDate("est_closing_date").toLocalDate() : null,
+        rs.getString("assigned_lo_name"),
+        rs.getTimestamp("status_changed_at") != null ? rs.getTimestamp("status_changed_at").toLocalDateTime() : null,
+        rs.getTimestamp("created_date") != null ? rs.getTimestamp("created_date").toLocalDateTime() : null
+    );
+
     private final NamedParameterJdbcTemplate jdbc;
+    private final PipelineReadModelService pipelineReadModel;
 
     public LoanListPage list(LoanListFilters filters) {
-        StringBuilder where = new StringBuilder(" WHERE 1=1 ");
         MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(filters, params);
+
+        String sortCol = SORTABLE_COLUMNS.getOrDefault(filters.sortField(), "created_date");
+        String sortDir = resolveDirection(filters);
+
+        int page = Math.max(0, filters.page());
+        int size = clampSize(filters);
+        int offset = page * size;
+
+        String selectSql = SELECT_COLUMNS + from() + where + " ORDER BY " + sortCol + " " + sortDir + ", v.id DESC " +
+            " LIMIT :limit OFFSET :offset ";
+        params.addValue("limit", size);
+        params.addValue("offset", offset);
+
+        List<LoanListRow> content = jdbc.query(selectSql, params, ROW_MAPPER);
+
+        long totalElements = count(where, params);
+        int totalPages = (int) Math.ceil((double) totalElements / size);
+
+        return new LoanListPage(content, totalElements, totalPages, page, size);
+    }
+
+    /**
+     * Keyset page. {@code cursor} is null/blank for the first page, otherwise
+     * the {@code nextCursor} from the previous response. The cursor carries its
+     * own sort so a client that changes sort mid-walk gets a 400 instead of a
+     * silently skewed page.
+     *
+     * <p>Ordering is {@code sortCol dir NULLS LAST, id dir} — id runs in the same
+     * direction as the sort column (unlike offset mode's fixed {@code id DESC}).
+     * {@code loan_amount} is nullable, so the walk is two seeks rather than one
+     * predicate with an {@code IS NULL} escape hatch that no index can range over:
+     * the non-NULL rows as {@code (sortCol, id)} past the cursor, a single range on
+     * the V29 composite index, then, once those run out, the NULL group seeked on
+     * id alone. A cursor with no value is already in the NULL group.
+     */
+    public LoanListCursorPage listByCursor(LoanListFilters filters, String cursor, boolean withTotal) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(filters, params);
+
+        String sortField = SORTABLE_COLUMNS.containsKey(filters.sortField()) ? filters.sortField() : "createdDate";
+        String sortCol = SORTABLE_COLUMNS.get(sortField);
+        String sortDir = resolveDirection(filters);
+        String op = "asc".equals(sortDir) ? ">" : "<";
+        int size = clampSize(filters);
+
+        Cursor c = null;
+        if (cursor != null && !cursor.isBlank()) {
+            c = Cursor.decode(cursor);
+            if (!c.sortField().equals(sortField) || !c.sortDir().equals(sortDir)) {
+                throw new IllegalArgumentException(
+                    "Cursor was issued for a different sort; restart from the first page");
+            }
+            params.addValue("seekId", c.id());
+        }
+
+        // Fetch one extra row to learn whether another page exists without a COUNT.
+        List<LoanListRow> rows = new ArrayList<>(size + 1);
+        if (c == null || c.value() != null) {
+            String seek = " AND " + sortCol + " IS NOT NULL ";
+            if (c != null) {
+                seek += " AND (" + sortCol + ", v.id) " + op + " (:seekVal, :seekId) ";
+                params.addValue("seekVal", bindSeekValue(sortField, c.value()));
+            }
+            params.addValue("limit", size + 1);
+            rows.addAll(jdbc.query(SELECT_COLUMNS + from() + where + seek +
+                " ORDER BY " + sortCol + " " + sortDir + ", v.id " + sortDir +
+                " LIMIT :limit ", params, ROW_MAPPER));
+        }
+        if (rows.size() <= size) {
+            // The NULLS LAST tail: sort key is constant, so only the id tie-breaker is left.
+            String seek = " AND " + sortCol + " IS NULL ";
+            if (c != null && c.value() == null) {
+                seek += " AND v.id " + op + " :seekId ";
+            }
+            params.addValue("nullLimit", size + 1 - rows.size());
+            rows.addAll(jdbc.query(SELECT_COLUMNS + from() + where + seek +
+                " ORDER BY v.id " + sortDir + " LIMIT :nullLimit ", params, ROW_MAPPER));
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<LoanListRow> content = hasMore ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            LoanListRow last = content.get(content.size() - 1);
+            Object value = SEEK_KEYS.get(sortField).apply(last);
+            nextCursor = new Cursor(sortField, sortDir, value == null ? null : formatSeekValue(value), last.id())
+                .encode();
+        }
+
+        Long total = withTotal ? count(where, params) : null;
+        return new LoanListCursorPage(content, nextCursor, hasMore, size, total);
+    }
+
+    /**
+     * Ids of every loan the filters select, in the list's sort order, at most {@code limit}
+     * of them. Paging is ignored — this is the selection behind the batch MISMO export.
+     */
+    public List<Long> ids(LoanListFilters filters, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String where = buildWhere(filters, params);
+        String sortCol = SORTABLE_COLUMNS.getOrDefault(filters.sortField(), "created_date");
+        String sortDir = resolveDirection(filters);
+
+        params.addValue("limit", limit);
+        return jdbc.queryForList("SELECT v.id" + from() + where +
+            " ORDER BY " + sortCol + " " + sortDir + ", v.id DESC LIMIT :limit ", params, Long.class);
+    }
+
+    private long count(String where, MapSqlParameterSource params) {
+        Long total = jdbc.queryForObject("SELECT COUNT(*)" + from() + where, params, Long.class);
+        return total != null ? total : 0L;
+    }
+
+    /** {@code loan_list_view} or the V31 read model, per {@code pipeline.read-model.enabled}. */
+    private String from() {
+        return " FROM " + pipelineReadModel.source() + " v ";
+    }
+
+    private static String buildWhere(LoanListFilters filters, MapSqlParameterSource params) {
+        StringBuilder where = new StringBuilder(" WHERE 1=1 ");
 
         if (!filters.statuses().isEmpty()) {
             where.append(" AND status IN (:statuses) ");
@@ -49,8 +232,8 @@ public class LoanApplicationListService {
             params.addValue("loId", id);
         });
         filters.conditionsGt().ifPresent(n -> {
-            where.append(" AND (SELECT COUNT(*) FROM loan_conditions lc " +
-                         "      WHERE lc.application_id = v.id AND lc.status = 'Outstanding') > :condGt ");
+            // Maintained counter (V30) — no per-row correlated subquery.
+            where.append(" AND outstanding_condition_count > :condGt ");
             params.addValue("condGt", n);
         });
         filters.closingFrom().ifPresent(d -> {
@@ -78,60 +261,61 @@ public class LoanApplicationListService {
             where.append(" AND loan_amount <= :amountMax ");
             params.addValue("amountMax", max);
         });
+        return where.toString();
+    }
 
-        String sortCol = SORTABLE_COLUMNS.getOrDefault(filters.sortField(), "created_date");
-        String sortDir = SORT_DIRECTIONS.contains(filters.sortDirection().toLowerCase())
+
+    private static String resolveDirection(LoanListFilters filters) {
+        return SORT_DIRECTIONS.contains(filters.sortDirection().toLowerCase())
             ? filters.sortDirection().toLowerCase() : "desc";
+    }
 
-        int page = Math.max(0, filters.page());
-        int size = Math.max(1, Math.min(filters.size(), 200));
-        int offset = page * size;
+    private static int clampSize(LoanListFilters filters) {
+        return Math.max(1, Math.min(filters.size(), 200));
+    }
 
-        String selectSql = """
-            SELECT v.id, v.application_number, v.status, v.borrower_name,
-                   v.property_city, v.property_state,
-                   (SELECT COUNT(*) FROM loan_conditions lc
-                     WHERE lc.application_id = v.id AND lc.status = 'Outstanding') AS outstanding_conditions,
-                   v.loan_amount, v.property_value,
-                   CASE WHEN v.property_value IS NOT NULL AND v.property_value > 0
-                        THEN (v.loan_amount / v.property_value) * 100.0
-                        ELSE NULL
-                   END AS ltv_pct,
-                   v.est_closing_date,
-                   v.assigned_lo_name,
-                   v.status_changed_at,
-                   v.created_date
-              FROM loan_list_view v
-            """ + where + " ORDER BY " + sortCol + " " + sortDir + ", v.id DESC " +
-            " LIMIT :limit OFFSET :offset ";
-        params.addValue("limit", size);
-        params.addValue("offset", offset);
+    private static String formatSeekValue(Object value) {
+        return value instanceof BigDecimal bd ? bd.toPlainString() : value.toString();
+    }
 
-        String countSql = "SELECT COUNT(*) FROM loan_list_view v " + where;
-
-        List<LoanListRow> content = jdbc.query(selectSql, params, (rs, i) -> new LoanListRow(
-            rs.getLong("id"),
-            rs.getString("application_number"),
-            rs.getString("status"),
-            rs.getString("borrower_name"),
-            rs.getString("property_city"),
-            rs.getString("property_state"),
-            rs.getObject("outstanding_conditions") != null
-                ? ((Number) rs.getObject("outstanding_conditions")).intValue() : null,
-            (BigDecimal) rs.getObject("loan_amount"),
-            (BigDecimal) rs.getObject("property_value"),
-            rs.getObject("ltv_pct") != null
-                ? ((Number) rs.getObject("ltv_pct")).doubleValue() : null,
-            rs.getDate("est_closing_date") != null ? rs.getDate("est_closing_date").toLocalDate() : null,
-            rs.getString("assigned_lo_name"),
-            rs.getTimestamp("status_changed_at") != null ? rs.getTimestamp("status_changed_at").toLocalDateTime() : null,
-            rs.getTimestamp("created_date") != null ? rs.getTimestamp("created_date").toLocalDateTime() : null
-        ));
-
-        Long total = jdbc.queryForObject(countSql, params, Long.class);
-        long totalElements = total != null ? total : 0L;
-        int totalPages = (int) Math.ceil((double) totalElements / size);
+    private static Object bindSeekValue(String sortField, String raw) {
+        try {
+            return "loanAmount".equals(sortField)
+                ? new BigDecimal(raw)
+                : Timestamp.valueOf(LocalDateTime.parse(raw));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+    }
 
-        return new LoanListPage(content, totalElements, totalPages, page, size);
+    /**
+     * Position after the last row of a keyset page. Serialized as URL-safe
+     * base64 of {@code v1|sortField|dir|value|id} ({@code value} empty for a
+     * NULL sort key). Opaque to clients; the version tag lets us change the
+     * layout without misreading cursors a browser still holds.
+     */
+    record Cursor(String sortField, String sortDir, String value, long id) {
+
+        private static final String VERSION = "v1";
+
+        String encode() {
+            String raw = String.join("|", VERSION, sortField, sortDir, value == null ? "" : value, Long.toString(id));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Cursor decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+                String[] parts = raw.split("\\|", -1);
+                if (parts.length != 5 || !VERSION.equals(parts[0]) || !SORTABLE_COLUMNS.containsKey(parts[1])
+                        || !SORT_DIRECTIONS.contains(parts[2])) {
+                    throw new IllegalArgumentException("Malformed cursor");
+                }
+                return new Cursor(parts[1], parts[2], parts[3].isEmpty() ? null : parts[3], Long.parseLong(parts[4]));
+            } catch (IllegalArgumentException e) {
+                // Covers bad base64 and NumberFormatException on the id as well.
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+        }
     }
 }
@@ -2,6 +2,7 @@ package com.msfg.mortgage.service;
 
 import com.msfg.mortgage.config.DevIdentityProperties;
 import com.msfg.mortgage.dto.*;
+import com.msfg.mortgage.event.LoanChangedEvent;
 import com.msfg.mortgage.exception.ResourceNotFoundException;
 import com.msfg.mortgage.integration.SuiteClient;
 import com.msfg.mortgage.mapper.LoanApplicationMapper;
@@ -11,12 +12,16 @@ import com.msfg.mortgage.repository.LoanStatusHistoryRepository;
 import com.msfg.mortgage.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -31,6 +36,12 @@ public class LoanApplicationService {
     private final UserRepository userRepository;
     private final SuiteClient suiteClient;
     private final DevIdentityProperties devIdentity;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** Graph + loan collections (4) + borrower collections (5), regardless of borrower count. */
+    static final int FULL_FORM_STATEMENT_BUDGET = 10;
+    /** Graph + liabilities + borrower employment/income/residences. */
+    static final int MISMO_EXPORT_STATEMENT_BUDGET = 5;
 
     /**
      * Create a loan application + its full child tree (property, borrowers and their
@@ -66,7 +77,7 @@ public class LoanApplicationService {
             app.setLiabilities(liabs);
         }
 
-        return loanApplicationRepository.save(app);
+        return published(loanApplicationRepository.save(app));
     }
 
     /**
@@ -156,6 +167,7 @@ public class LoanApplicationService {
             // Idempotent: a concurrent intake already created it — return the existing row untouched.
             return loanApplicationRepository.findBySourceLeadId(req.getSourceLeadId()).orElseThrow(() -> dup);
         }
+        published(saved);
         // Local row committed. The blocking suite hand-off runs AFTER this transaction — the controller
         // calls reconcileSuiteLoan(saved) next — so the SuiteClient HTTP never holds a DB connection.
         return saved;
@@ -278,7 +290,7 @@ public class LoanApplicationService {
      * carried document workspace would point at someone else's S3 keys).
      */
     public LoanApplication cloneApplication(Long sourceId) {
-        LoanApplication src = loanApplicationRepository.findById(sourceId)
+        LoanApplication src = loanApplicationRepository.findFullFormById(sourceId)
                 .orElseThrow(() -> new ResourceNotFoundException("LoanApplication " + sourceId + " not found"));
 
         LoanApplication app = new LoanApplication();
@@ -339,7 +351,7 @@ public class LoanApplicationService {
             app.setLiabilities(liabs);
         }
 
-        return loanApplicationRepository.save(app);
+        return published(loanApplicationRepository.save(app));
     }
 
     private Borrower cloneBorrower(Borrower src, LoanApplication app) {
@@ -482,21 +494,90 @@ public class LoanApplicationService {
 
     @Transactional(readOnly = true)
     public Optional<LoanApplication> getApplicationById(Long id) {
-        return loanApplicationRepository.findById(id);
+        return loanApplicationRepository.findFullFormById(id).map(LoanApplicationService::initializeFullForm);
+    }
+
+    /** Loan columns and one-to-ones only — for existence and timestamp checks. */
+    @Transactional(readOnly = true)
+    public Optional<LoanApplication> getApplicationSummaryById(Long id) {
+        return loanApplicationRepository.findSummaryById(id);
     }
 
     @Transactional(readOnly = true)
     public Optional<LoanApplication> getApplicationByNumber(String applicationNumber) {
-        return loanApplicationRepository.findByApplicationNumber(applicationNumber);
+        return loanApplicationRepository.findFullFormByApplicationNumber(applicationNumber)
+                .map(LoanApplicationService::initializeFullForm);
     }
 
     @Transactional(readOnly = true)
     public List<LoanApplication> getApplicationsByStatus(String status) {
-        return loanApplicationRepository.findByStatus(status);
+        List<LoanApplication> apps = loanApplicationRepository.findFullFormByStatus(status);
+        apps.forEach(LoanApplicationService::initializeFullForm);
+        return apps;
+    }
+
+    /**
+     * The loan as {@code MismoExporter} walks it: borrowers, declarations, liabilities and each
+     * borrower's employment/income/residences. Documents, fees, agents, REO and assets aren't
+     * exported and stay unloaded.
+     */
+    @Transactional(readOnly = true)
+    public Optional<LoanApplication> getApplicationForMismoExport(Long id) {
+        return loanApplicationRepository.findMismoExportById(id).map(LoanApplicationService::initializeMismoExport);
+    }
+
+    /**
+     * {@link #getApplicationForMismoExport} for a batch of loans, in {@code ids} order; ids
+     * that no longer exist are skipped. The collections are batch-fetched across the whole
+     * batch, so the statement count is per batch, not per loan — keep batches at or under
+     * {@code default_batch_fetch_size}.
+     */
+    @Transactional(readOnly = true)
+    public List<LoanApplication> getApplicationsForMismoExport(List<Long> ids) {
+        Map<Long, LoanApplication> byId = new HashMap<>();
+        for (LoanApplication la : loanApplicationRepository.findMismoExportByIdIn(ids)) {
+            byId.put(la.getId(), initializeMismoExport(la));
+        }
+        List<LoanApplication> ordered = new ArrayList<>(byId.size());
+        for (Long id : ids) {
+            LoanApplication la = byId.get(id);
+            if (la != null) ordered.add(la);
+        }
+        return ordered;
+    }
+
+    private static LoanApplication initializeMismoExport(LoanApplication la) {
+        Hibernate.initialize(la.getLiabilities());
+        for (Borrower b : la.getBorrowers()) {
+            Hibernate.initialize(b.getEmploymentHistory());
+            Hibernate.initialize(b.getIncomeSources());
+            Hibernate.initialize(b.getResidences());
+        }
+        return la;
+    }
+
+    /**
+     * Touch every collection the JSON form serializes while the session is still open. Each
+     * collection type is one batched SELECT across all borrowers ({@code default_batch_fetch_size}),
+     * so the statement count doesn't grow with the number of borrowers.
+     */
+    static LoanApplication initializeFullForm(LoanApplication la) {
+        Hibernate.initialize(la.getLiabilities());
+        Hibernate.initialize(la.getDocuments());
+        Hibernate.initialize(la.getClosingFees());
+        Hibernate.initialize(la.getLoanAgents());
+        for (Borrower b : la.getBorrowers()) {
+            Hibernate.initialize(b.getEmploymentHistory());
+            Hibernate.initialize(b.getIncomeSources());
+            Hibernate.initialize(b.getResidences());
+            Hibernate.initialize(b.getReoProperties());
+            Hibernate.initialize(b.getAssets());
+        }
+        return la;
     }
 
     public LoanApplication updateApplication(Long id, LoanApplicationDTO applicationDTO) {
-        LoanApplication application = loanApplicationRepository.findById(id)
+        LoanApplication application = loanApplicationRepository.findFullFormById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         application.setLoanPurpose(applicationDTO.getLoanPurpose());
@@ -505,11 +586,12 @@ public class LoanApplicationService {
         application.setPropertyValue(applicationDTO.getPropertyValue());
         application.setStatus(applicationDTO.getStatus());
 
-        return loanApplicationRepository.save(application);
+        return published(initializeFullForm(loanApplicationRepository.save(application)));
     }
 
     public void deleteApplication(Long id) {
         loanApplicationRepository.deleteById(id);
+        eventPublisher.publishEvent(new LoanChangedEvent(id));
     }
 
     /**
@@ -531,7 +613,7 @@ public class LoanApplicationService {
      */
     public LoanApplication updateApplicationStatus(Long id, String status,
                                                     java.time.LocalDateTime transitionedAt) {
-        LoanApplication application = loanApplicationRepository.findById(id)
+        LoanApplication application = loanApplicationRepository.findSummaryById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Application not found"));
 
         LoanStatus parsed = LoanStatus.fromString(status)
@@ -556,6 +638,12 @@ public class LoanApplicationService {
                 .transitionedAt(transitionedAt)
                 .build());
 
-        return saved;
+        return published(saved);
+    }
+
+    /** Announce a committed-on-success write so read models (pipeline rows, caches) refresh. */
+    private LoanApplication published(LoanApplication app) {
+        eventPublisher.publishEvent(new LoanChangedEvent(app.getId()));
+        return app;
     }
 }
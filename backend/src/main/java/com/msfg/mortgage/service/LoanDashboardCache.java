@@ -0,0 +1,80 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.event.LoanChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Per-loan cache of the assembled dashboard body, keyed by an in-memory version stamp.
+ *
+ * <p>Every write path in {@link LoanDashboardService} and {@link LoanApplicationService} publishes
+ * {@link LoanChangedEvent}; once that transaction completes the loan's version is bumped, which
+ * both orphans the cached body and changes the ETag. The stamp never leaves the process, so it is
+ * prefixed with a per-boot epoch — a restart or a different instance behind the load balancer
+ * yields a different ETag (a 200, never a wrong 304).
+ *
+ * <p>Callers read {@link #version(Long)} <em>before</em> loading: a load that races a commit is
+ * stored under the pre-commit version, which the bump has already moved past, so it's never served.
+ */
+@Component
+public class LoanDashboardCache {
+
+    private record Cached(long version, Map<String, Object> body) {}
+
+    private final String epoch = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<Long, AtomicLong> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Cached> bodies;
+
+    public LoanDashboardCache(@Value("${dashboard.cache.max-entries:1000}") int maxEntries) {
+        this.bodies = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public long version(Long loanId) {
+        AtomicLong v = versions.get(loanId);
+        return v != null ? v.get() : 0L;
+    }
+
+    /** Strong ETag for the dashboard body at {@code version}. */
+    public String etag(Long loanId, long version) {
+        return "\"" + epoch + "-" + loanId + "-" + version + "\"";
+    }
+
+    /** Body for {@code loanId} at {@code version}, loading (and caching) it on a miss. */
+    public Map<String, Object> get(Long loanId, long version, Supplier<Map<String, Object>> loader) {
+        synchronized (bodies) {
+            Cached c = bodies.get(loanId);
+            if (c != null && c.version() == version) return c.body();
+        }
+        Map<String, Object> body = loader.get();
+        synchronized (bodies) {
+            Cached current = bodies.get(loanId);
+            if (version == version(loanId) && (current == null || current.version() < version)) {
+                bodies.put(loanId, new Cached(version, body));
+            }
+        }
+        return body;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onLoanChanged(LoanChangedEvent event) {
+        if (event.loanId() == null) return;
+        versions.computeIfAbsent(event.loanId(), id -> new AtomicLong()).incrementAndGet();
+        synchronized (bodies) {
+            bodies.remove(event.loanId());
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.msfg.mortgage.service;
 
+import com.msfg.mortgage.dto.LoanDashboardHeader;
+import com.msfg.mortgage.event.LoanChangedEvent;
 import com.msfg.mortgage.exception.BusinessValidationException;
 import com.msfg.mortgage.exception.ResourceNotFoundException;
 import com.msfg.mortgage.model.*;
@@ -7,6 +9,7 @@ import com.msfg.mortgage.repository.*;
 import com.msfg.mortgage.security.CurrentUserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -41,69 +44,77 @@ public class LoanDashboardService {
     private final ClosingInformationRepository closingInformationRepository;
     private final LoanNoteRepository loanNoteRepository;
     private final CurrentUserService currentUserService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ─── Read aggregated dashboard ──────────────────────────────────────────
 
+    /** Header + terms, housing, credits, conditions, history, agents, closing, notes. */
+    static final int DASHBOARD_STATEMENT_BUDGET = 9;
+
     /**
      * Aggregates the loan's read-side view. Runs in a read-only transaction so the
      * whole assembly shares one Hibernate session — without it, dereferencing a
      * LAZY association such as {@link LoanAgent#getAgentUser()} after the owning
      * repository call has returned throws LazyInitializationException (OSIV is
      * disabled), 500ing the dashboard for any loan with an assigned agent.
+     *
+     * <p>Fixed statement budget: one header projection ({@link LoanDashboardHeader})
+     * plus one query per child section, agents fetched together with their users.
+     * The {@link LoanApplication} entity graph (liabilities, documents, fees, the
+     * borrowers' employment/income/residences…) is never loaded — none of it is
+     * shown here. {@link #DASHBOARD_STATEMENT_BUDGET} is asserted in tests.
      */
     @Transactional(readOnly = true)
     public Map<String, Object> getDashboard(Long loanId) {
-        LoanApplication la = loanApplicationRepository.findById(loanId)
+        LoanDashboardHeader h = loanApplicationRepository.findDashboardHeader(loanId)
                 .orElseThrow(() -> new ResourceNotFoundException("Loan " + loanId + " not found"));
 
         Map<String, Object> body = new LinkedHashMap<>();
-        body.put("loanId", la.getId());
-        body.put("applicationNumber", la.getApplicationNumber());
-        body.put("status", la.getStatus());
-        body.put("createdDate", la.getCreatedDate());
-        body.put("updatedDate", la.getUpdatedDate());
+        body.put("loanId", h.loanId());
+        body.put("applicationNumber", h.applicationNumber());
+        body.put("status", h.status());
+        body.put("createdDate", h.createdDate());
+        body.put("updatedDate", h.updatedDate());
 
         Map<String, Object> identifiers = new LinkedHashMap<>();
-        identifiers.put("lendingpadLoanNumber", la.getLendingpadLoanNumber());
-        identifiers.put("investorLoanNumber", la.getInvestorLoanNumber());
-        identifiers.put("mersMin", la.getMersMin());
+        identifiers.put("lendingpadLoanNumber", h.lendingpadLoanNumber());
+        identifiers.put("investorLoanNumber", h.investorLoanNumber());
+        identifiers.put("mersMin", h.mersMin());
         body.put("identifiers", identifiers);
 
-        if (la.getBorrowers() != null && !la.getBorrowers().isEmpty()) {
-            Borrower b = la.getBorrowers().get(0);
+        if (h.borrowerId() != null) {
             Map<String, Object> primary = new LinkedHashMap<>();
-            primary.put("firstName", b.getFirstName());
-            primary.put("lastName", b.getLastName());
-            primary.put("email", b.getEmail());
-            primary.put("phone", b.getPhone());
-            primary.put("maritalStatus", b.getMaritalStatus());
-            primary.put("citizenshipType", b.getCitizenshipType());
+            primary.put("firstName", h.firstName());
+            primary.put("lastName", h.lastName());
+            primary.put("email", h.email());
+            primary.put("phone", h.phone());
+            primary.put("maritalStatus", h.maritalStatus());
+            primary.put("citizenshipType", h.citizenshipType());
             // intentToOccupy lives on the Declaration; surface it next to the borrower
             // so the dashboard reads as one mental block ("about Sarah").
-            if (b.getDeclaration() != null) {
-                primary.put("intentToOccupy", b.getDeclaration().getIntentToOccupy());
+            if (h.declarationId() != null) {
+                primary.put("intentToOccupy", h.intentToOccupy());
             }
             body.put("primaryBorrower", primary);
         }
 
-        if (la.getProperty() != null) {
-            Property p = la.getProperty();
+        if (h.propertyId() != null) {
             Map<String, Object> prop = new LinkedHashMap<>();
-            prop.put("addressLine", p.getAddressLine());
-            prop.put("city", p.getCity());
-            prop.put("state", p.getState());
-            prop.put("zipCode", p.getZipCode());
-            prop.put("county", p.getCounty());
+            prop.put("addressLine", h.addressLine());
+            prop.put("city", h.city());
+            prop.put("state", h.state());
+            prop.put("zipCode", h.zipCode());
+            prop.put("county", h.county());
             // Naming: propertyType in the entity = MISMO PropertyUsageType (occupancy).
             // Re-label as propertyUse on the wire so the dashboard's labels match the URLA's.
-            prop.put("propertyUse", p.getPropertyType());
-            prop.put("propertyValue", p.getPropertyValue());
-            prop.put("purchasePrice", p.getPurchasePrice());
-            prop.put("attachmentType", p.getAttachmentType());
-            prop.put("projectType", p.getProjectType());
-            prop.put("constructionType", p.getConstructionType());
-            prop.put("yearBuilt", p.getYearBuilt());
-            prop.put("unitsCount", p.getUnitsCount());
+            prop.put("propertyUse", h.propertyType());
+            prop.put("propertyValue", h.propertyValue());
+            prop.put("purchasePrice", h.purchasePrice());
+            prop.put("attachmentType", h.attachmentType());
+            prop.put("projectType", h.projectType());
+            prop.put("constructionType", h.constructionType());
+            prop.put("yearBuilt", h.yearBuilt());
+            prop.put("unitsCount", h.unitsCount());
             body.put("property", prop);
         }
 
@@ -124,7 +135,7 @@ public class LoanDashboardService {
         Collections.reverse(history);
         body.put("statusHistory", history.stream().map(LoanDashboardService::statusHistoryView).toList());
 
-        body.put("loanAgents", loanAgentRepository.findByApplicationId(loanId)
+        body.put("loanAgents", loanAgentRepository.findByApplicationIdWithUser(loanId)
                 .stream().map(LoanDashboardService::agentView).toList());
 
         body.put("closingInformation", closingView(
@@ -164,6 +175,8 @@ public class LoanDashboardService {
         if (patch.downPaymentAmount() != null) terms.setDownPaymentAmount(patch.downPaymentAmount());
 
         loanTermsRepository.save(terms);
+        loanApplicationRepository.touchUpdatedDate(loanId, LocalDateTime.now());
+        eventPublisher.publishEvent(new LoanChangedEvent(loanId));
         return termsView(terms);
     }
 
@@ -201,6 +214,10 @@ public class LoanDashboardService {
                 .createdByUserId(uid)
                 .build();
         loanConditionRepository.save(c);
+        if (isOutstanding(c.getStatus())) {
+            loanApplicationRepository.adjustOutstandingConditionCount(loanId, 1);
+        }
+        eventPublisher.publishEvent(new LoanChangedEvent(loanId));
         return conditionView(c);
     }
 
@@ -217,6 +234,7 @@ public class LoanDashboardService {
         if (input.assignedToUserId() != null) c.setAssignedToUserId(input.assignedToUserId());
         if (input.dueDate() != null) c.setDueDate(input.dueDate());
         if (input.notes() != null) c.setNotes(input.notes());
+        boolean wasOutstanding = isOutstanding(c.getStatus());
         if (input.status() != null) {
             String old = c.getStatus();
             c.setStatus(input.status());
@@ -233,6 +251,11 @@ public class LoanDashboardService {
             }
         }
         loanConditionRepository.save(c);
+        boolean nowOutstanding = isOutstanding(c.getStatus());
+        if (wasOutstanding != nowOutstanding) {
+            loanApplicationRepository.adjustOutstandingConditionCount(loanId, nowOutstanding ? 1 : -1);
+        }
+        eventPublisher.publishEvent(new LoanChangedEvent(loanId));
         return conditionView(c);
     }
 
@@ -244,6 +267,24 @@ public class LoanDashboardService {
             throw new BusinessValidationException("Condition belongs to a different loan");
         }
         loanConditionRepository.delete(c);
+        if (isOutstanding(c.getStatus())) {
+            loanApplicationRepository.adjustOutstandingConditionCount(loanId, -1);
+        }
+        eventPublisher.publishEvent(new LoanChangedEvent(loanId));
+    }
+
+    /**
+     * Repairs {@code loan_applications.outstanding_condition_count} wherever it no
+     * longer matches loan_conditions. Driven by {@code OutstandingConditionCountJob};
+     * a non-zero return means some write path bypassed this service.
+     */
+    @Transactional
+    public int reconcileOutstandingConditionCounts() {
+        return loanApplicationRepository.repairOutstandingConditionCounts();
+    }
+
+    private static boolean isOutstanding(String status) {
+        return "Outstanding".equals(status);
     }
 
     public record ConditionInput(
@@ -277,6 +318,7 @@ public class LoanDashboardService {
                 .content(content.trim())
                 .build();
         loanNoteRepository.save(note);
+        eventPublisher.publishEvent(new LoanChangedEvent(loanId));
         return noteView(note);
     }
 
@@ -288,6 +330,7 @@ public class LoanDashboardService {
             throw new BusinessValidationException("Note belongs to a different loan");
         }
         loanNoteRepository.delete(note);
+        eventPublisher.publishEvent(new LoanChangedEvent(loanId));
     }
 
     // ─── View shaping helpers ───────────────────────────────────────────────
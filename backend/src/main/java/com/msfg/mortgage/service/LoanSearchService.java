@@ -1,17 +1,23 @@
 package com.msfg.mortgage.service;
 
 import com.msfg.mortgage.dto.LoanSearchHit;
+import com.msfg.mortgage.service.pipeline.PipelineReadModelService;
+import com.msfg.mortgage.service.search.LoanSearchCache;
+import com.msfg.mortgage.service.search.LoanSearchIndex;
+import com.msfg.mortgage.service.search.LoanSearchIndexService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Typeahead for the global TopBar search. Backed by {@code loan_list_view}
- * (V24).
+ * (V24), or {@code loan_pipeline_rows} (V31) when the read model is switched on.
  *
  * <p>Ranking:
  * <ol>
@@ -25,6 +31,14 @@ import java.util.List;
  * Postgres, the V24 trigram GIN (when applied via the one-shot SQL noted in
  * V24's header comment) lets the planner serve the same query from an index.
  * In H2 we fall back to a full scan — acceptable since dev DBs are tiny.
+ *
+ * <p>When {@code pipeline.search-index.enabled} is on and the in-memory
+ * {@link LoanSearchIndexService} has finished warming, queries are answered
+ * from it with the same ranking and never reach the database; the SQL below
+ * is the cold-start (and disabled) path.
+ *
+ * <p>Either way, results go through {@link LoanSearchCache}, which answers
+ * repeat and narrowing keystrokes ("Smi" → "Smit") without touching the source.
  */
 @Service
 @RequiredArgsConstructor
@@ -35,6 +49,9 @@ public class LoanSearchService {
     private static final int DEFAULT_LIMIT = 10;
 
     private final NamedParameterJdbcTemplate jdbc;
+    private final PipelineReadModelService pipelineReadModel;
+    private final LoanSearchIndexService searchIndex;
+    private final LoanSearchCache searchCache;
 
     public List<LoanSearchHit> search(String rawQuery, Integer limit) {
         if (rawQuery == null) return List.of();
@@ -43,17 +60,33 @@ public class LoanSearchService {
 
         int cap = (limit == null || limit < 1 || limit > 50) ? DEFAULT_LIMIT : limit;
 
+        // Inside a transaction we may be looking at this caller's own
+        // uncommitted writes — don't serve them to, or cache them for, others.
+        List<LoanSearchIndex.Entry> rows = TransactionSynchronizationManager.isActualTransactionActive()
+            ? load(q, cap)
+            : searchCache.get(q, this::load);
+
+        return rows.stream().limit(cap).map(LoanSearchIndex.Entry::toHit).toList();
+    }
+
+    /** Up to {@code max} ranked rows from the warm in-memory index, or from SQL while it's cold. */
+    private List<LoanSearchIndex.Entry> load(String q, int max) {
+        Optional<List<LoanSearchIndex.Entry>> fromIndex = searchIndex.search(q, max);
+        if (fromIndex.isPresent()) return fromIndex.get();
+
         MapSqlParameterSource p = new MapSqlParameterSource();
         p.addValue("q",        q);
         p.addValue("qPrefix",  q + "%");
         p.addValue("qSubstr",  "%" + q + "%");
-        p.addValue("limit",    cap);
+        p.addValue("limit",    max);
 
         String sql = """
-            SELECT id, application_number, borrower_name,
+            SELECT id, application_number, lendingpad_loan_number, mers_min,
+                   investor_loan_number, borrower_name,
                    property_city, property_state, status, rank
               FROM (
-                SELECT id, application_number, borrower_name,
+                SELECT id, application_number, lendingpad_loan_number, mers_min,
+                       investor_loan_number, borrower_name,
                        property_city, property_state, status,
                        CASE
                          WHEN UPPER(application_number)      = UPPER(:q)
@@ -66,24 +99,17 @@ public class LoanSearchService {
                            OR UPPER(investor_loan_number)    LIKE UPPER(:qPrefix) THEN 2
                          ELSE 3
                        END AS rank
-                  FROM loan_list_view
+                  FROM %s
                  WHERE UPPER(application_number)     LIKE UPPER(:qPrefix)
                     OR UPPER(lendingpad_loan_number) LIKE UPPER(:qPrefix)
                     OR UPPER(mers_min)               LIKE UPPER(:qPrefix)
                     OR UPPER(investor_loan_number)   LIKE UPPER(:qPrefix)
                     OR UPPER(borrower_name)          LIKE UPPER(:qSubstr)
               ) ranked
-             ORDER BY rank, application_number
+             ORDER BY rank, application_number, id
              LIMIT :limit
-            """;
+            """.formatted(pipelineReadModel.source());
 
-        return jdbc.query(sql, p, (rs, i) -> new LoanSearchHit(
-            rs.getLong("id"),
-            rs.getString("application_number"),
-            rs.getString("borrower_name"),
-            rs.getString("property_city"),
-            rs.getString("property_state"),
-            rs.getString("status")
-        ));
+        return jdbc.query(sql, p, LoanSearchIndexService.ROW_MAPPER);
     }
 }
@@ -0,0 +1,131 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.dto.LoanListFilters;
+import com.msfg.mortgage.exception.BusinessValidationException;
+import com.msfg.mortgage.mismo.MismoExporter;
+import com.msfg.mortgage.model.LoanApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Month-end batch MISMO export: every loan a {@link LoanListFilters} selects, as one zip
+ * of {@code MISMO-<applicationNumber>.xml} entries.
+ *
+ * <p>Loans are loaded {@code mismo.export.batch-size} at a time with the export fetch plan
+ * ({@link LoanApplicationService#getApplicationsForMismoExport}), and each batch's documents
+ * are built in parallel on the {@code mismoExportExecutor} pool. Entries are written in the
+ * selection's sort order. At most one batch of loans and documents is in memory per export.
+ *
+ * <p>A loan whose export fails, or that was deleted after selection, is left out. It is
+ * listed in an {@code ERRORS.txt} entry at the end of the archive instead of aborting a
+ * download that's already under way.
+ */
+@Service
+@Slf4j
+public class MismoBatchExportService {
+
+    static final String ERRORS_ENTRY = "ERRORS.txt";
+
+    private final LoanApplicationListService loanApplicationListService;
+    private final LoanApplicationService loanApplicationService;
+    private final MismoExporter mismoExporter;
+    private final TaskExecutor exportExecutor;
+    private final int maxLoans;
+    private final int batchSize;
+
+    public MismoBatchExportService(LoanApplicationListService loanApplicationListService,
+                                   LoanApplicationService loanApplicationService,
+                                   MismoExporter mismoExporter,
+                                   @Qualifier("mismoExportExecutor") TaskExecutor exportExecutor,
+                                   @Value("${mismo.export.max-loans:1000}") int maxLoans,
+                                   @Value("${mismo.export.batch-size:25}") int batchSize) {
+        this.loanApplicationListService = loanApplicationListService;
+        this.loanApplicationService = loanApplicationService;
+        this.mismoExporter = mismoExporter;
+        this.exportExecutor = exportExecutor;
+        this.maxLoans = maxLoans;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    /**
+     * The loans to export, in the list's sort order. Runs on the request thread so an
+     * oversized selection is a 400 rather than a truncated zip.
+     */
+    public List<Long> select(LoanListFilters filters) {
+        List<Long> ids = loanApplicationListService.ids(filters, maxLoans + 1);
+        if (ids.size() > maxLoans) {
+            throw new BusinessValidationException("Filters match more than " + maxLoans + " loans; narrow them");
+        }
+        return ids;
+    }
+
+    /** Writes the archive to {@code out}. Finishes the zip but leaves {@code out} open. */
+    public void writeZip(List<Long> ids, OutputStream out) throws IOException {
+        ZipOutputStream zip = new ZipOutputStream(out);
+        List<String> errors = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            List<LoanApplication> loans = loanApplicationService.getApplicationsForMismoExport(batch);
+            if (loans.size() < batch.size()) {
+                Set<Long> found = new HashSet<>();
+                loans.forEach(la -> found.add(la.getId()));
+                batch.stream().filter(id -> !found.contains(id))
+                        .forEach(id -> errors.add("loan " + id + ": not found"));
+            }
+
+            List<CompletableFuture<byte[]>> docs = new ArrayList<>(loans.size());
+            for (LoanApplication la : loans) {
+                docs.add(CompletableFuture.supplyAsync(() -> mismoExporter.exportToBytes(la), exportExecutor));
+            }
+            for (int i = 0; i < loans.size(); i++) {
+                LoanApplication la = loans.get(i);
+                byte[] xml;
+                try {
+                    xml = docs.get(i).join();
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    log.warn("Batch MISMO export: loan {} failed: {}", la.getId(), cause.getMessage());
+                    errors.add("loan " + la.getId() + ": " + cause.getMessage());
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(entryName(la, names)));
+                zip.write(xml);
+                zip.closeEntry();
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            zip.putNextEntry(new ZipEntry(ERRORS_ENTRY));
+            zip.write((String.join("\n", errors) + "\n").getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        zip.finish();
+        log.info("Batch MISMO export: {} loan(s), {} error(s)", ids.size(), errors.size());
+    }
+
+    private static String entryName(LoanApplication la, Set<String> taken) {
+        String number = la.getApplicationNumber() == null || la.getApplicationNumber().isBlank()
+                ? String.valueOf(la.getId())
+                : la.getApplicationNumber().replaceAll("[^A-Za-z0-9._-]", "_");
+        String name = "MISMO-" + number + ".xml";
+        // Sanitizing can collide two numbers; the id keeps them apart.
+        return taken.add(name) ? name : "MISMO-" + number + "-" + la.getId() + ".xml";
+    }
+}
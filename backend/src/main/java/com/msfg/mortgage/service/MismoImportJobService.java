@@ -0,0 +1,259 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.mismo.MismoContentHash;
+import com.msfg.mortgage.mismo.parse.MismoSections;
+import com.msfg.mortgage.mismo.parse.MismoStreamReader;
+import com.msfg.mortgage.model.MismoImportJob;
+import com.msfg.mortgage.model.MismoImportJobFile;
+import com.msfg.mortgage.model.User;
+import com.msfg.mortgage.repository.MismoImportJobFileRepository;
+import com.msfg.mortgage.repository.MismoImportJobRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Background MISMO imports: bulk create-from-MISMO (one new loan per file) and
+ * {@code ?async=true} re-imports into an existing loan.
+ *
+ * <p>Each file is parsed on the parse pool, then handed to the writer pool, where
+ * {@link MismoImportService} commits it in its own transaction — one bad file fails
+ * alone and never rolls back its neighbours. The writer pool's size caps how many
+ * connections background imports hold (see {@link com.msfg.mortgage.config.MismoImportJobConfig}).
+ * Parsers only run ahead of the writers by the parse pool's width, so a 200-file zip
+ * doesn't sit in memory as 200 parsed documents.
+ *
+ * <p>The upload is staged in memory until its file lands. Progress is on the job rows:
+ * callers poll {@code GET /loan-applications/mismo-import-jobs/{id}}. A restart mid-job
+ * leaves the unfinished files in their last status and the job {@code RUNNING}.
+ */
+@Service
+@Slf4j
+public class MismoImportJobService {
+
+    /** One uploaded file, or one entry out of an uploaded zip. */
+    public record BulkFile(String filename, byte[] bytes) {}
+
+    /** The transactional step a parsed file goes through on the writer pool. */
+    @FunctionalInterface
+    private interface Writer {
+        MismoImportService.Imported write(BulkFile file, MismoSections mismo) throws Exception;
+    }
+
+    private final MismoImportService mismoImportService;
+    private final MismoImportJobRepository jobRepository;
+    private final MismoImportJobFileRepository fileRepository;
+    private final TaskExecutor parseExecutor;
+    private final TaskExecutor writeExecutor;
+    private final Semaphore inFlight;
+    private final int maxFiles;
+    private final long maxBytes;
+
+    public MismoImportJobService(MismoImportService mismoImportService,
+                                  MismoImportJobRepository jobRepository,
+                                  MismoImportJobFileRepository fileRepository,
+                                  @Qualifier("mismoParseExecutor") TaskExecutor parseExecutor,
+                                  @Qualifier("mismoWriteExecutor") TaskExecutor writeExecutor,
+                                  @Value("${mismo.import.parse-threads:2}") int parseThreads,
+                                  @Value("${mismo.import.write-concurrency:2}") int writeConcurrency,
+                                  @Value("${mismo.bulk.max-files:200}") int maxFiles,
+                                  @Value("${mismo.bulk.max-uncompressed-bytes:104857600}") long maxBytes) {
+        this.mismoImportService = mismoImportService;
+        this.jobRepository = jobRepository;
+        this.fileRepository = fileRepository;
+        this.parseExecutor = parseExecutor;
+        this.writeExecutor = writeExecutor;
+        this.inFlight = new Semaphore(parseThreads + writeConcurrency);
+        this.maxFiles = maxFiles;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Record the job and its files, then queue every file. Returns as soon as the rows
+     * are committed; the imports themselves run on the worker pools.
+     *
+     * @param importer assigned LO for every created loan and the audit rows' author; may be null
+     */
+    public MismoImportJob submit(List<BulkFile> files, User importer) {
+        if (files.isEmpty()) throw new IllegalArgumentException("No MISMO files in upload");
+        if (files.size() > maxFiles) {
+            throw new IllegalArgumentException("Too many files: " + files.size() + " (limit " + maxFiles + ")");
+        }
+
+        MismoImportJob job = jobRepository.save(MismoImportJob.builder()
+                .status(MismoImportJob.RUNNING)
+                .createdByUserId(importer == null ? null : importer.getId())
+                .totalFiles(files.size())
+                .build());
+
+        List<MismoImportJobFile> rows = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            rows.add(MismoImportJobFile.builder()
+                    .jobId(job.getId())
+                    .fileIndex(i)
+                    .sourceFilename(truncate(files.get(i).filename(), 500))
+                    .status(MismoImportJobFile.QUEUED)
+                    .build());
+        }
+        rows = fileRepository.saveAll(rows);
+
+        log.info("MISMO bulk job {}: {} file(s) queued", job.getId(), files.size());
+        Writer writer = (file, mismo) -> mismoImportService.createFromMismo(mismo, file.filename(),
+                MismoContentHash.sha256(file.bytes()), importer);
+        for (int i = 0; i < files.size(); i++) {
+            dispatch(job.getId(), rows.get(i).getId(), files.get(i), writer);
+        }
+        return job;
+    }
+
+    /**
+     * Queue a re-import of {@code file} into an existing loan. The caller has already run
+     * the drift check; the worker re-runs it under the write transaction (unless
+     * {@code force}), and a file that has drifted by then fails with {@code drift_detected}.
+     */
+    public MismoImportJob submitReimport(Long loanId, BulkFile file, boolean force, User importer) {
+        MismoImportJob job = jobRepository.save(MismoImportJob.builder()
+                .kind(MismoImportJob.REIMPORT)
+                .loanApplicationId(loanId)
+                .forced(force)
+                .status(MismoImportJob.RUNNING)
+                .createdByUserId(importer == null ? null : importer.getId())
+                .totalFiles(1)
+                .build());
+        MismoImportJobFile row = fileRepository.save(MismoImportJobFile.builder()
+                .jobId(job.getId())
+                .fileIndex(0)
+                .sourceFilename(truncate(file.filename(), 500))
+                .status(MismoImportJobFile.QUEUED)
+                .build());
+
+        log.info("MISMO re-import job {} queued for loan {}", job.getId(), loanId);
+        dispatch(job.getId(), row.getId(), file,
+                (f, mismo) -> mismoImportService.reimport(loanId, mismo, f.filename(),
+                        MismoContentHash.sha256(f.bytes()), force, importer));
+        return job;
+    }
+
+    public List<MismoImportJobFile> files(Long jobId) {
+        return fileRepository.findByJobIdOrderByFileIndexAsc(jobId);
+    }
+
+    private void dispatch(Long jobId, Long fileId, BulkFile file, Writer writer) {
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> parse(fileId, file), parseExecutor)
+                    .thenApplyAsync(mismo -> write(fileId, file, mismo, writer), writeExecutor)
+                    .whenComplete((created, error) -> finish(jobId, fileId, created, error));
+        } catch (TaskRejectedException e) {
+            // Parse queue full (mismo.import.queue-capacity). Never parsed, so no permit to release.
+            recordOutcome(jobId, fileId, null,
+                    new IllegalStateException("MISMO import queue is full; upload the file again later"));
+        }
+    }
+
+    private MismoSections parse(Long fileId, BulkFile file) {
+        // Released in finish(), i.e. once the file is written or has failed.
+        inFlight.acquireUninterruptibly();
+        fileRepository.updateStatus(fileId, MismoImportJobFile.PARSING, LocalDateTime.now());
+        try (InputStream in = new ByteArrayInputStream(file.bytes())) {
+            return MismoStreamReader.read(in);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private MismoImportService.Imported write(Long fileId, BulkFile file, MismoSections mismo, Writer writer) {
+        fileRepository.updateStatus(fileId, MismoImportJobFile.IMPORTING, LocalDateTime.now());
+        try {
+            return writer.write(file, mismo);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void finish(Long jobId, Long fileId, MismoImportService.Imported created, Throwable error) {
+        inFlight.release();
+        recordOutcome(jobId, fileId, created, error);
+    }
+
+    private void recordOutcome(Long jobId, Long fileId, MismoImportService.Imported created, Throwable error) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            if (error == null) {
+                fileRepository.markSucceeded(fileId, created.loan().getId(), created.audit().getId(),
+                        created.result().changeCount(), now);
+                jobRepository.incrementSucceeded(jobId);
+            } else {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                log.warn("MISMO import job {} file {} failed: {}", jobId, fileId, cause.getMessage());
+                fileRepository.markFailed(fileId, truncate(String.valueOf(cause.getMessage()), 1000), now);
+                jobRepository.incrementFailed(jobId);
+            }
+            if (jobRepository.finishIfComplete(jobId, now) == 1) {
+                log.info("MISMO import job {} finished", jobId);
+            }
+        } catch (RuntimeException e) {
+            log.error("MISMO import job {}: could not record outcome of file {}", jobId, fileId, e);
+        }
+    }
+
+    /**
+     * Unpack the {@code .xml} entries of an uploaded zip, in entry order. Directories,
+     * macOS resource forks and dot-files are skipped. The uncompressed total is capped
+     * at {@code mismo.bulk.max-uncompressed-bytes} so a zip bomb fails fast instead of
+     * filling the heap.
+     */
+    public List<BulkFile> unzip(InputStream zip) throws IOException {
+        List<BulkFile> out = new ArrayList<>();
+        long total = 0;
+        byte[] buf = new byte[8192];
+        try (ZipInputStream in = new ZipInputStream(zip)) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                String name = entry.getName();
+                String base = name.substring(name.lastIndexOf('/') + 1);
+                if (entry.isDirectory() || name.startsWith("__MACOSX/") || base.startsWith(".")
+                        || !base.toLowerCase().endsWith(".xml")) {
+                    continue;
+                }
+                if (out.size() == maxFiles) {
+                    throw new IOException("Too many files in zip (limit " + maxFiles + ")");
+                }
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                int n;
+                while ((n = in.read(buf)) > 0) {
+                    total += n;
+                    if (total > maxBytes) {
+                        throw new IOException("Zip expands past " + maxBytes + " bytes");
+                    }
+                    bytes.write(buf, 0, n);
+                }
+                out.add(new BulkFile(name, bytes.toByteArray()));
+            }
+        }
+        return out;
+    }
+
+    private static String truncate(String s, int max) {
+        return s == null || s.length() <= max ? s : s.substring(0, max);
+    }
+}
@@ -0,0 +1,139 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.dto.LoanApplicationDTO;
+import com.msfg.mortgage.exception.ResourceNotFoundException;
+import com.msfg.mortgage.mismo.MismoDrift;
+import com.msfg.mortgage.mismo.MismoImporter;
+import com.msfg.mortgage.mismo.parse.MismoSections;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.model.MismoImport;
+import com.msfg.mortgage.model.User;
+import com.msfg.mortgage.repository.MismoImportRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * MISMO import + audit row as one transaction, so a file that fails halfway leaves
+ * nothing behind. {@link #createFromMismo} builds a new loan from the file;
+ * {@link #reimport} merges it into an existing one. Shared by the synchronous endpoints
+ * and the background import workers.
+ */
+@Service
+@RequiredArgsConstructor
+public class MismoImportService {
+
+    private final LoanApplicationService loanApplicationService;
+    private final MismoImporter mismoImporter;
+    private final MismoImportRepository mismoImportRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public record Imported(LoanApplication loan, MismoImport audit, MismoImporter.ImportResult result) {}
+
+    /**
+     * Seed application, LO assignment, import, audit row.
+     *
+     * @param importer the LO the new loan is assigned to and the audit row is attributed to;
+     *                 may be null. Passed in rather than resolved here because bulk imports
+     *                 run off the request thread, where there is no security context.
+     */
+    @Transactional(rollbackFor = IOException.class)
+    public Imported createFromMismo(MismoSections mismo, String sourceFilename, String contentSha256, User importer)
+            throws IOException {
+        // Bare-minimum DTO so the create-side validation doesn't reject it; the importer
+        // will overwrite anything we set here.
+        LoanApplicationDTO seed = new LoanApplicationDTO();
+        seed.setLoanPurpose("Purchase");
+        seed.setLoanType("Conventional");
+        seed.setStatus("REGISTERED");
+
+        LoanApplication la = loanApplicationService.createApplication(seed);
+
+        // Auto-assign to the importing LO. Both entry points are restricted to
+        // LO/Processor/Admin/Manager, so the importer is internal staff and a valid assignee.
+        if (importer != null) {
+            la.setAssignedLoId(importer.getId());
+            la.setAssignedLoName(importer.getName());
+        }
+
+        MismoImporter.ImportResult result = mismoImporter.importInto(la, mismo);
+        return new Imported(result.updated(), audit(result, sourceFilename, contentSha256, false, importer), result);
+    }
+
+    /**
+     * Merge a file into an existing loan. Drift is checked here, against the loan as loaded
+     * in this transaction — for background imports the loan may have been edited since the
+     * request that queued the file passed its own check.
+     */
+    @Transactional(rollbackFor = {IOException.class, MismoDrift.DetectedException.class})
+    public Imported reimport(Long loanId, MismoSections mismo, String sourceFilename, String contentSha256,
+                             boolean force, User importer) throws IOException, MismoDrift.DetectedException {
+        LoanApplication la = loanApplicationService.getApplicationById(loanId)
+                .orElseThrow(() -> new ResourceNotFoundException("Loan application not found: " + loanId));
+        if (!force) {
+            Optional<MismoDrift> drift = MismoDrift.check(mismo.createdDatetime(), la);
+            if (drift.isPresent()) throw new MismoDrift.DetectedException(drift.get());
+        }
+
+        MismoImporter.ImportResult result = mismoImporter.importInto(la, mismo);
+        return new Imported(result.updated(), audit(result, sourceFilename, contentSha256, force, importer), result);
+    }
+
+    /**
+     * A re-upload of the file the loan's newest import already applied, onto a loan nobody
+     * has touched since (same {@code updatedDate} — the signal drift uses too), would change
+     * nothing. Edits to the child tables the importer writes stamp {@code updatedDate} as well
+     * ({@link com.msfg.mortgage.repository.LoanApplicationRepository#touchUpdatedDate}), so a
+     * terms edit sends the same file back through the import. Records it as its own audit row pointing at that import and skips the parse,
+     * the section importers and the save. Empty when the file has to go through {@link #reimport}.
+     */
+    @Transactional
+    public Optional<MismoImport> recordUnchangedReimport(LoanApplication la, String contentSha256,
+                                                         String sourceFilename, boolean force, User importer) {
+        Optional<MismoImport> latest = mismoImportRepository.findFirstByLoanApplicationIdOrderByImportedAtDescIdDesc(la.getId());
+        if (latest.isEmpty()) return Optional.empty();
+        MismoImport prev = latest.get();
+        if (!contentSha256.equals(prev.getContentSha256())
+                || prev.getLoanUpdatedDate() == null || !prev.getLoanUpdatedDate().equals(la.getUpdatedDate())) {
+            return Optional.empty();
+        }
+        return Optional.of(mismoImportRepository.save(MismoImport.builder()
+                .loanApplicationId(la.getId())
+                .importedByUserId(importer == null ? null : importer.getId())
+                .sourceFilename(sourceFilename)
+                .fileCreatedDatetime(prev.getFileCreatedDatetime())
+                .fieldsChangedCount(0)
+                .fieldsChangedSummary("[]")
+                .contentSha256(contentSha256)
+                .loanUpdatedDate(prev.getLoanUpdatedDate())
+                .duplicateOfImportId(prev.getDuplicateOfImportId() != null ? prev.getDuplicateOfImportId() : prev.getId())
+                .forced(force)
+                .build()));
+    }
+
+    private MismoImport audit(MismoImporter.ImportResult result, String sourceFilename, String contentSha256,
+                              boolean force, User importer) {
+        // Flush so @PreUpdate has stamped the loan's updatedDate before we snapshot it.
+        entityManager.flush();
+        LoanApplication la = result.updated();
+        // Chunk D will fill in s3CheckpointKey when checkpoints land
+        return mismoImportRepository.save(MismoImport.builder()
+                .loanApplicationId(la.getId())
+                .importedByUserId(importer == null ? null : importer.getId())
+                .sourceFilename(sourceFilename)
+                .fileCreatedDatetime(result.fileCreatedDatetime())
+                .fieldsChangedCount(result.changeCount())
+                .fieldsChangedSummary(result.fieldsChangedSummaryJson())
+                .contentSha256(contentSha256)
+                .loanUpdatedDate(la.getUpdatedDate())
+                .forced(force)
+                .build());
+    }
+}
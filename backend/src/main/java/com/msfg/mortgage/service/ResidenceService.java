@@ -5,6 +5,7 @@ import com.msfg.mortgage.model.Residence;
 import com.msfg.mortgage.model.Borrower;
 import com.msfg.mortgage.repository.ResidenceRepository;
 import com.msfg.mortgage.repository.BorrowerRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
 import com.msfg.mortgage.exception.ResourceNotFoundException;
 import com.msfg.mortgage.exception.BusinessValidationException;
 
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +27,7 @@ public class ResidenceService {
 
     private final ResidenceRepository residenceRepository;
     private final BorrowerRepository borrowerRepository;
+    private final LoanApplicationRepository loanApplicationRepository;
     
     public List<ResidenceDTO> getResidencesByBorrower(Long borrowerId) {
         log.info("Getting residences for borrower ID: {}", borrowerId);
@@ -57,6 +60,7 @@ public class ResidenceService {
         residence.setBorrower(borrower);
         
         Residence savedResidence = residenceRepository.save(residence);
+        touchLoan(borrower);
         log.info("Created residence with ID: {}", savedResidence.getId());
         
         return convertToDTO(savedResidence);
@@ -73,6 +77,7 @@ public class ResidenceService {
         updateResidenceFields(existingResidence, residenceDTO);
         
         Residence savedResidence = residenceRepository.save(existingResidence);
+        touchLoan(existingResidence.getBorrower());
         log.info("Updated residence with ID: {}", savedResidence.getId());
         
         return convertToDTO(savedResidence);
@@ -85,6 +90,7 @@ public class ResidenceService {
                 .orElseThrow(() -> new ResourceNotFoundException("Residence not found with ID: " + residenceId));
         
         residenceRepository.delete(residence);
+        touchLoan(residence.getBorrower());
         log.info("Deleted residence with ID: {}", residenceId);
     }
     
@@ -206,4 +212,9 @@ public class ResidenceService {
         
         return residence;
     }
+
+    /** The importer writes this table too, so an edit here has to move the loan's updated_date. */
+    private void touchLoan(Borrower borrower) {
+        loanApplicationRepository.touchUpdatedDate(borrower.getApplication().getId(), LocalDateTime.now());
+    }
 }
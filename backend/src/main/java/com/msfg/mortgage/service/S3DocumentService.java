@@ -4,36 +4,55 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectTaggingRequest;
 import software.amazon.awssdk.services.s3.model.Tag;
 import software.amazon.awssdk.services.s3.model.Tagging;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
 import java.security.MessageDigest;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * S3 document storage. Owns:
  *   - building S3 keys per the agreed convention,
- *   - presigned PUT URLs for direct-from-browser uploads,
+ *   - presigned PUT URLs for direct-from-browser uploads, single-shot or multipart
+ *     (initiate / per-part URLs / complete / abort, plus aborting stale uploads),
  *   - presigned GET URLs for downloads,
  *   - applying object tags (loan_state / sensitivity / retention_class / source / ids)
  *     after the upload completes,
- *   - sanity-checking that an object actually landed (HEAD).
+ *   - sanity-checking that an object actually landed (HEAD), and reading back the SHA-256
+ *     S3 verified when the upload carried one.
  *
  * <p>Key convention (mirrors the bucket policy + lifecycle filters):
  * <pre>
@@ -57,6 +76,7 @@ import java.util.Map;
 public class S3DocumentService {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
     private final S3Presigner s3Presigner;
 
     @Value("${aws.s3.documents-bucket}")
@@ -104,25 +124,103 @@ public class S3DocumentService {
 
     // ─────────────────────────────────── Presigned URLs ───────────────────────────────────
 
+    /** A presigned PUT plus the headers the browser must send with it, exactly as signed. */
+    public record PresignedUpload(String url, Map<String, String> headers) {}
+
+    /** What a HEAD on an uploaded object tells us. {@code sha256} is hex, null when S3 has none. */
+    public record UploadedObject(long size, String sha256) {}
+
     /**
      * Issue a presigned PUT URL valid for {@code presignedTtlSeconds} (default 15 min).
      * The borrower's browser uses this to upload directly to S3 — backend never sees the bytes.
+     * With {@code sha256Hex} (64 hex chars, the hash the browser computed) the signature also
+     * covers an {@code x-amz-checksum-sha256} header: S3 rejects a PUT without it or whose
+     * bytes don't match, and keeps the checksum on the object for {@link #inspectUpload} to
+     * read back.
      */
-    public String presignUpload(String key, String contentType) {
-        PutObjectRequest putRequest = PutObjectRequest.builder()
+    public PresignedUpload presignUpload(String key, String contentType, String sha256Hex) {
+        PutObjectRequest.Builder put = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(key)
-                .contentType(contentType == null ? "application/octet-stream" : contentType)
-                .build();
+                .contentType(contentType == null ? "application/octet-stream" : contentType);
+        if (sha256Hex != null) {
+            put.checksumSHA256(Base64.getEncoder().encodeToString(HexFormat.of().parseHex(sha256Hex)));
+        }
 
         PutObjectPresignRequest presign = PutObjectPresignRequest.builder()
                 .signatureDuration(Duration.ofSeconds(presignedTtlSeconds))
-                .putObjectRequest(putRequest)
+                .putObjectRequest(put.build())
                 .build();
 
         PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presign);
-        log.debug("Presigned PUT for key={} ({}s)", key, presignedTtlSeconds);
-        return presigned.url().toString();
+        log.debug("Presigned PUT for key={} ({}s, checksum={})", key, presignedTtlSeconds, sha256Hex != null);
+
+        // The browser sets everything signed except Host, which it derives from the URL.
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name) && !values.isEmpty()) headers.put(name, values.get(0));
+        });
+        return new PresignedUpload(presigned.url().toString(), headers);
+    }
+
+    // ─────────────────────────────────── Multipart uploads ───────────────────────────────────
+
+    /** One uploaded part, as reported back by the browser from the part PUT's ETag header. */
+    public record UploadedPart(int partNumber, String eTag) {}
+
+    /**
+     * Start a multipart upload at {@code key}. The object only appears once
+     * {@link #completeMultipartUpload} stitches the parts together; until then the parts are
+     * billed storage, so every initiate needs a complete or an abort (or the sweeper).
+     */
+    public String createMultipartUpload(String key, String contentType) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType == null ? "application/octet-stream" : contentType)
+                .build()).uploadId();
+        log.debug("Initiated multipart upload for key={} uploadId={}", key, uploadId);
+        return uploadId;
+    }
+
+    /**
+     * Presigned PUT for one part (1–10000), valid for {@code presignedTtlSeconds}. A part
+     * whose URL expired mid-upload just asks for a fresh one — the parts already sent stay.
+     */
+    public String presignUploadPart(String key, String uploadId, int partNumber) {
+        UploadPartPresignRequest presign = UploadPartPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(presignedTtlSeconds))
+                .uploadPartRequest(UploadPartRequest.builder()
+                        .bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).build())
+                .build();
+        return s3Presigner.presignUploadPart(presign).url().toString();
+    }
+
+    /**
+     * Stitch the uploaded parts into the object. Parts must be in ascending order; S3 rejects
+     * unknown part numbers or mismatched ETags. Throws {@link NoSuchUploadException} when the
+     * upload was already completed or aborted.
+     */
+    public void completeMultipartUpload(String key, String uploadId, List<UploadedPart> parts) {
+        List<CompletedPart> completed = parts.stream()
+                .map(p -> CompletedPart.builder().partNumber(p.partNumber()).eTag(p.eTag()).build())
+                .toList();
+        s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket).key(key).uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                .build());
+        log.debug("Completed multipart upload for key={} ({} parts)", key, completed.size());
+    }
+
+    /** Abort a multipart upload and free its parts. Already gone is fine. */
+    public void abortMultipartUpload(String key, String uploadId) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucket).key(key).uploadId(uploadId).build());
+            log.debug("Aborted multipart upload for key={} uploadId={}", key, uploadId);
+        } catch (NoSuchUploadException e) {
+            log.debug("Multipart upload {} for key={} already gone", uploadId, key);
+        }
     }
 
     /**
@@ -149,36 +247,72 @@ public class S3DocumentService {
      * decisions key off these.
      */
     public void applyTags(String key, Map<String, String> tags) {
+        PutObjectTaggingRequest request = tagRequest(key, tags);
+        s3Client.putObjectTagging(request);
+        log.debug("Applied {} tags to key={}", request.tagging().tagSet().size(), key);
+    }
+
+    /** {@link #applyTags} on the async client, for tagging many objects at once. */
+    public CompletableFuture<Void> applyTagsAsync(String key, Map<String, String> tags) {
+        return s3AsyncClient.putObjectTagging(tagRequest(key, tags)).thenApply(response -> null);
+    }
+
+    private PutObjectTaggingRequest tagRequest(String key, Map<String, String> tags) {
         List<Tag> awsTags = new ArrayList<>(tags.size());
         tags.forEach((k, v) -> {
             if (v != null && !v.isBlank()) {
                 awsTags.add(Tag.builder().key(k).value(v).build());
             }
         });
-        s3Client.putObjectTagging(PutObjectTaggingRequest.builder()
+        return PutObjectTaggingRequest.builder()
                 .bucket(bucket).key(key)
                 .tagging(Tagging.builder().tagSet(awsTags).build())
-                .build());
-        log.debug("Applied {} tags to key={}", awsTags.size(), key);
+                .build();
     }
 
     /**
-     * Confirm an object actually exists at the given key, returning its size in bytes.
-     * Returns -1 if the object isn't there yet (borrower's upload never completed).
+     * HEAD the object with checksum mode on. Empty if nothing is at the key yet. When the
+     * upload carried {@code x-amz-checksum-sha256} (see {@link #presignUpload})
+     * the result includes the SHA-256 S3 verified on the way in, saving a full read in
+     * {@link #computeSha256}. A per-part (composite) multipart checksum isn't a hash of the
+     * file and is ignored.
      */
-    public long verifyUpload(String key) {
+    public Optional<UploadedObject> inspectUpload(String key) {
         try {
-            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
-                    .bucket(bucket).key(key).build());
-            return head.contentLength();
+            return Optional.of(uploadedObject(s3Client.headObject(headRequest(key))));
         } catch (NoSuchKeyException e) {
-            return -1L;
+            return Optional.empty();
         }
     }
 
+    /** {@link #inspectUpload} on the async client, for HEADing many objects at once. */
+    public CompletableFuture<Optional<UploadedObject>> inspectUploadAsync(String key) {
+        return s3AsyncClient.headObject(headRequest(key))
+                .thenApply(head -> Optional.of(uploadedObject(head)))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof NoSuchKeyException) return Optional.empty();
+                    throw new CompletionException(cause);
+                });
+    }
+
+    private HeadObjectRequest headRequest(String key) {
+        return HeadObjectRequest.builder().bucket(bucket).key(key).checksumMode(ChecksumMode.ENABLED).build();
+    }
+
+    private static UploadedObject uploadedObject(HeadObjectResponse head) {
+        String checksum = head.checksumSHA256();
+        String sha256 = checksum == null || checksum.contains("-") || head.checksumType() == ChecksumType.COMPOSITE
+                ? null
+                : HexFormat.of().formatHex(Base64.getDecoder().decode(checksum));
+        return new UploadedObject(head.contentLength(), sha256);
+    }
+
     /**
-     * Stream the object through a SHA-256 digester. Used at confirm time so the file_hash
-     * column can serve as a tamper-detection / dedup signal. S3 ETag isn't a reliable
+     * Stream the object through a SHA-256 digester. Run by the post-upload worker after
+     * confirm ({@link DocumentPostUploadService}) so the file_hash column can serve as a
+     * tamper-detection / dedup signal — the fallback for uploads that didn't carry an
+     * {@code x-amz-checksum-sha256} ({@link #inspectUpload} covers those). S3 ETag isn't a reliable
      * content hash for multipart uploads, so we hash the bytes ourselves.
      *
      * Returns null if the object isn't there or any I/O step fails — callers should treat
@@ -225,7 +359,7 @@ public class S3DocumentService {
 
     /** Build the tag map for a borrower-uploaded document on an active application. */
     public static Map<String, String> tagsForBorrowerUpload(long applicationId, Long loanId) {
-        Map<String, String> tags = new java.util.LinkedHashMap<>();
+        Map<String, String> tags = new LinkedHashMap<>();
         tags.put("loan_state", loanId == null ? "incomplete" : "active");
         tags.put("sensitivity", "confidential");
         tags.put("retention_class", "standard");
@@ -1,5 +1,6 @@
 package com.msfg.mortgage.service.llm;
 
+import com.msfg.mortgage.metrics.OutboundCallMetrics;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -11,9 +12,9 @@ public class LlmProviderRegistry {
 
     private final Map<String, LlmProvider> byName;
 
-    public LlmProviderRegistry(List<LlmProvider> providers) {
+    public LlmProviderRegistry(List<LlmProvider> providers, OutboundCallMetrics metrics) {
         this.byName = providers.stream()
-                .collect(Collectors.toMap(LlmProvider::name, p -> p));
+                .collect(Collectors.toMap(LlmProvider::name, p -> new TimedLlmProvider(p, metrics)));
     }
 
     /** Returns the adapter or throws if no provider with that name is registered. */
@@ -0,0 +1,36 @@
+package com.msfg.mortgage.service.llm;
+
+import com.msfg.mortgage.metrics.OutboundCallMetrics;
+
+import java.math.BigDecimal;
+
+/**
+ * Records each {@link #complete} as {@code outbound_call_seconds{client="llm",
+ * operation="<provider>/<model>"}}. {@link LlmProviderRegistry} hands these out
+ * instead of the raw adapters so every caller is timed.
+ */
+class TimedLlmProvider implements LlmProvider {
+
+    private final LlmProvider delegate;
+    private final OutboundCallMetrics metrics;
+
+    TimedLlmProvider(LlmProvider delegate, OutboundCallMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override public String name() { return delegate.name(); }
+    @Override public String defaultModel() { return delegate.defaultModel(); }
+    @Override public boolean isAvailable() { return delegate.isAvailable(); }
+
+    @Override
+    public LlmResult complete(LlmRequest req) {
+        String model = (req.model() == null || req.model().isBlank()) ? delegate.defaultModel() : req.model();
+        return metrics.time("llm", delegate.name() + "/" + model, () -> delegate.complete(req));
+    }
+
+    @Override
+    public BigDecimal estimateCostUsd(int inputTokens, int outputTokens, String model) {
+        return delegate.estimateCostUsd(inputTokens, outputTokens, model);
+    }
+}
@@ -0,0 +1,30 @@
+package com.msfg.mortgage.service.pipeline;
+
+import com.msfg.mortgage.event.LoanChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Refreshes a loan's {@code loan_pipeline_rows} entry when a {@link LoanChangedEvent} is published.
+ *
+ * <p>Runs {@code BEFORE_COMMIT} so the row is written inside the same transaction as the change
+ * that caused it — the read model commits (or rolls back) together with the source tables.
+ * {@code fallbackExecution} covers publishers that run outside a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class PipelineReadModelListener {
+
+    private final PipelineReadModelService pipelineReadModelService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onLoanChanged(LoanChangedEvent event) {
+        if (event.loanId() != null) {
+            pipelineReadModelService.refresh(List.of(event.loanId()));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.msfg.mortgage.service.pipeline;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Maintains {@code loan_pipeline_rows} (V31), the denormalized copy of {@code loan_list_view}.
+ *
+ * <p>Every refresh re-derives rows from the view with {@code DELETE} + {@code INSERT ... SELECT},
+ * so the view remains the only definition of a pipeline row and a deleted loan simply yields no
+ * row. Portable across H2 and Postgres (no {@code ON CONFLICT}).
+ *
+ * <p>Incremental refreshes are driven by {@link PipelineReadModelListener}; {@link #rebuild()}
+ * backs the admin endpoint and {@link #repairDrift()} the scheduled drift checker.
+ *
+ * <p>The table is maintained regardless of {@code pipeline.read-model.enabled}; that flag only
+ * picks which relation the list and typeahead queries read ({@link #source()}), so it can be
+ * flipped back and forth to compare latency without a rebuild.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PipelineReadModelService {
+
+    /** Column list shared by the view and the table (everything but refreshed_at). */
+    static final String COLUMNS = """
+            id, application_number, status, status_changed_at, created_date, loan_type,
+            loan_amount, property_value, lendingpad_loan_number, mers_min, investor_loan_number,
+            assigned_lo_id, assigned_lo_name, borrower_first_name, borrower_last_name, borrower_name,
+            property_city, property_state, est_closing_date, outstanding_condition_count""";
+
+    private static final String INSERT_FROM_VIEW =
+            "INSERT INTO loan_pipeline_rows (" + COLUMNS + ") SELECT " + COLUMNS + " FROM loan_list_view ";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${pipeline.read-model.enabled:false}")
+    private boolean readFromTable;
+
+    /**
+     * Relation the pipeline list and typeahead should select from. Both expose the same column
+     * names, so callers alias it as {@code v} and don't care which one they got.
+     */
+    public String source() {
+        return readFromTable ? "loan_pipeline_rows" : "loan_list_view";
+    }
+
+    /**
+     * Re-derive the rows for the given loans. Joins the caller's transaction; flushes the JPA
+     * session first so pending entity changes are visible to the view query.
+     */
+    @Transactional
+    public void refresh(Collection<Long> loanIds) {
+        if (loanIds.isEmpty()) return;
+        entityManager.flush();
+        MapSqlParameterSource p = new MapSqlParameterSource("ids", loanIds);
+        jdbc.update("DELETE FROM loan_pipeline_rows WHERE id IN (:ids)", p);
+        jdbc.update(INSERT_FROM_VIEW + "WHERE id IN (:ids)", p);
+    }
+
+    /** Drop and repopulate the whole table in one transaction. Returns the row count. */
+    @Transactional
+    public int rebuild() {
+        entityManager.flush();
+        jdbc.getJdbcTemplate().update("DELETE FROM loan_pipeline_rows");
+        int rows = jdbc.getJdbcTemplate().update(INSERT_FROM_VIEW);
+        log.info("Pipeline read model rebuilt: {} row(s)", rows);
+        return rows;
+    }
+
+    /**
+     * Ids whose read-model row differs from the view in any column, or exists on only one side.
+     * {@code EXCEPT} compares NULLs as equal, which a column-by-column {@code <>} would not.
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDrift() {
+        String sql = "SELECT id FROM (SELECT " + COLUMNS + " FROM loan_list_view"
+                + " EXCEPT SELECT " + COLUMNS + " FROM loan_pipeline_rows) missing_or_stale"
+                + " UNION"
+                + " SELECT id FROM (SELECT " + COLUMNS + " FROM loan_pipeline_rows"
+                + " EXCEPT SELECT " + COLUMNS + " FROM loan_list_view) orphaned";
+        return jdbc.getJdbcTemplate().queryForList(sql, Long.class);
+    }
+
+    /** Refresh every drifted row. Returns the ids that were repaired. */
+    @Transactional
+    public List<Long> repairDrift() {
+        List<Long> drifted = findDrift();
+        refresh(drifted);
+        return drifted;
+    }
+}
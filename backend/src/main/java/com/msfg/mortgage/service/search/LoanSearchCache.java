@@ -0,0 +1,125 @@
+package com.msfg.mortgage.service.search;
+
+import com.msfg.mortgage.event.LoanChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+
+/**
+ * Bounded LRU of typeahead results keyed by the upper-cased query, sitting in front of
+ * {@code LoanSearchService}'s index/SQL lookup.
+ *
+ * <p>Each entry holds up to {@link #FILL_LIMIT} ranked rows — more than any caller's limit — and
+ * remembers whether that was the whole match set. Keystroke-by-keystroke typing then rarely
+ * reaches the source: every match for "SMIT" is also a match for "SMI" (an identifier prefix, or
+ * a name containing it), so a complete "SMI" entry answers "SMIT" by re-ranking and filtering in
+ * memory. A truncated entry can't be narrowed — rows past the cut could match the longer query.
+ *
+ * <p>Any committed or rolled-back loan write clears the whole cache. A change to one loan can add
+ * or remove it from any query's results, and clearing is cheaper than working out which. A
+ * generation counter stops a load that started before the clear from re-populating stale rows.
+ */
+@Component
+@Slf4j
+public class LoanSearchCache {
+
+    /** Rows kept per query. Callers cap at 50; the rest is headroom for narrowing. */
+    static final int FILL_LIMIT = 200;
+
+    private final int maxEntries;
+    private final Map<String, Cached> entries;
+    private final AtomicLong generation = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong narrowedHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private record Cached(List<LoanSearchIndex.Entry> rows, boolean complete) {}
+
+    /** Point-in-time counters for the admin stats endpoint. */
+    public record Stats(long hits, long narrowedHits, long misses, long invalidations,
+                        long evictions, int size, int maxEntries) {}
+
+    public LoanSearchCache(@Value("${pipeline.search-cache.max-entries:500}") int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+                if (size() > LoanSearchCache.this.maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Ranked rows for {@code query}: from an exact entry, by narrowing the longest complete cached
+     * prefix of the query, or else from {@code loader.apply(query, FILL_LIMIT)}.
+     */
+    public List<LoanSearchIndex.Entry> get(String query, BiFunction<String, Integer, List<LoanSearchIndex.Entry>> loader) {
+        String key = query.toUpperCase(Locale.ROOT);
+        long gen = generation.get();
+
+        synchronized (entries) {
+            Cached exact = entries.get(key);
+            if (exact != null) {
+                hits.incrementAndGet();
+                return exact.rows();
+            }
+            for (int len = key.length() - 1; len > 0; len--) {
+                Cached shorter = entries.get(key.substring(0, len));
+                if (shorter != null && shorter.complete()) {
+                    List<LoanSearchIndex.Entry> narrowed =
+                        LoanSearchIndex.rankAndSort(shorter.rows(), key, FILL_LIMIT);
+                    entries.put(key, new Cached(narrowed, true));
+                    narrowedHits.incrementAndGet();
+                    return narrowed;
+                }
+            }
+        }
+
+        misses.incrementAndGet();
+        List<LoanSearchIndex.Entry> rows = loader.apply(query, FILL_LIMIT);
+        synchronized (entries) {
+            if (generation.get() == gen) {
+                entries.put(key, new Cached(rows, rows.size() < FILL_LIMIT));
+            }
+        }
+        return rows;
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            generation.incrementAndGet();
+            entries.clear();
+        }
+        invalidations.incrementAndGet();
+    }
+
+    public Stats stats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return new Stats(hits.get(), narrowedHits.get(), misses.get(), invalidations.get(),
+            evictions.get(), size, maxEntries);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onLoanChanged(LoanChangedEvent event) {
+        clear();
+    }
+}
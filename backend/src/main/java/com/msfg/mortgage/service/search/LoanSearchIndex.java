@@ -0,0 +1,215 @@
+package com.msfg.mortgage.service.search;
+
+import com.msfg.mortgage.dto.LoanSearchHit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory typeahead index with the same ranking as the SQL in {@code LoanSearchService}:
+ * exact identifier → 1, identifier prefix → 2, borrower-name substring → 3, then by
+ * application number.
+ *
+ * <p>Identifiers (application_number, lendingpad_loan_number, mers_min, investor_loan_number) live
+ * upper-cased in a sorted map, so a prefix is a {@code subMap} range. Borrower names are broken
+ * into 2- and 3-character grams; a substring query intersects the postings of its grams (bigram
+ * for two-character queries) and then verifies the candidates with {@code contains}.
+ *
+ * <p>Thread-safe: many concurrent searches, writes are exclusive. Matching is case-insensitive via
+ * {@link Locale#ROOT} upper-casing, the same as SQL {@code UPPER()} on ASCII data.
+ */
+public class LoanSearchIndex {
+
+    /** One indexed loan. Identifier values may be null; names are what the dropdown shows. */
+    public record Entry(
+        long id,
+        String applicationNumber,
+        String lendingpadLoanNumber,
+        String mersMin,
+        String investorLoanNumber,
+        String borrowerName,
+        String city,
+        String state,
+        String status
+    ) {
+        List<String> identifierKeys() {
+            List<String> keys = new ArrayList<>(4);
+            for (String s : new String[] {applicationNumber, lendingpadLoanNumber, mersMin, investorLoanNumber}) {
+                if (s != null && !s.isEmpty()) keys.add(key(s));
+            }
+            return keys;
+        }
+
+        public LoanSearchHit toHit() {
+            return new LoanSearchHit(id, applicationNumber, borrowerName, city, state, status);
+        }
+    }
+
+    private record Ranked(Entry entry, int rank) {}
+
+    /** Rank of {@code entry} for {@code query} (1 exact id, 2 id prefix, 3 name substring), or 0 for no match. */
+    public static int rank(Entry entry, String query) {
+        String q = key(query);
+        int best = 0;
+        for (String k : entry.identifierKeys()) {
+            if (k.equals(q)) return 1;
+            if (k.startsWith(q)) best = 2;
+        }
+        if (best == 0 && entry.borrowerName() != null && key(entry.borrowerName()).contains(q)) best = 3;
+        return best;
+    }
+
+    /** Keep the entries that match {@code query}, in ranked order, at most {@code limit}. */
+    public static List<Entry> rankAndSort(Collection<Entry> candidates, String query, int limit) {
+        List<Ranked> ranked = new ArrayList<>();
+        for (Entry e : candidates) {
+            int r = rank(e, query);
+            if (r > 0) ranked.add(new Ranked(e, r));
+        }
+        return sorted(ranked, limit);
+    }
+
+    private static List<Entry> sorted(List<Ranked> ranked, int limit) {
+        ranked.sort(ORDER);
+        return ranked.stream().limit(limit).map(Ranked::entry).toList();
+    }
+
+    private static final Comparator<Ranked> ORDER = Comparator
+        .comparingInt(Ranked::rank)
+        .thenComparing(r -> r.entry().applicationNumber(), Comparator.nullsLast(Comparator.naturalOrder()))
+        .thenComparingLong(r -> r.entry().id());
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeMap<String, Set<Long>> identifiers = new TreeMap<>();
+    private final Map<String, Set<Long>> nameGrams = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /** Insert or replace the entry for {@code entry.id()}. */
+    public void put(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(entry.id());
+            entries.put(entry.id(), entry);
+            for (String k : entry.identifierKeys()) {
+                identifiers.computeIfAbsent(k, x -> new HashSet<>()).add(entry.id());
+            }
+            for (String g : grams(entry.borrowerName())) {
+                nameGrams.computeIfAbsent(g, x -> new HashSet<>()).add(entry.id());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranked hits for {@code query}. Callers apply the minimum-length rule; anything shorter than
+     * two characters simply matches no name grams here.
+     */
+    public List<Entry> search(String query, int limit) {
+        String q = key(query);
+        Map<Long, Integer> best = new HashMap<>();
+
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<String, Set<Long>> e : identifiers.subMap(q, true, q + Character.MAX_VALUE, false).entrySet()) {
+                int rank = e.getKey().equals(q) ? 1 : 2;
+                for (Long id : e.getValue()) best.merge(id, rank, Math::min);
+            }
+            for (Long id : nameCandidates(q)) {
+                if (best.containsKey(id)) continue;
+                Entry entry = entries.get(id);
+                if (entry.borrowerName() != null && key(entry.borrowerName()).contains(q)) {
+                    best.put(id, 3);
+                }
+            }
+
+            List<Ranked> ranked = new ArrayList<>(best.size());
+            best.forEach((id, rank) -> ranked.add(new Ranked(entries.get(id), rank)));
+            return sorted(ranked, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Superset of ids whose name contains {@code q}: intersection of its gram postings. */
+    private Set<Long> nameCandidates(String q) {
+        if (q.length() < 2) return Set.of();
+        List<String> gs = q.length() == 2 ? List.of(q) : trigrams(q);
+        List<Set<Long>> postings = new ArrayList<>(gs.size());
+        for (String g : gs) {
+            Set<Long> p = nameGrams.get(g);
+            if (p == null) return Set.of();
+            postings.add(p);
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<Long> out = new HashSet<>(postings.get(0));
+        for (int i = 1; i < postings.size() && !out.isEmpty(); i++) {
+            out.retainAll(postings.get(i));
+        }
+        return out;
+    }
+
+    private void removeLocked(long id) {
+        Entry old = entries.remove(id);
+        if (old == null) return;
+        for (String k : old.identifierKeys()) unpost(identifiers, k, id);
+        for (String g : grams(old.borrowerName())) unpost(nameGrams, g, id);
+    }
+
+    private static void unpost(Map<String, Set<Long>> postings, String key, long id) {
+        Set<Long> ids = postings.get(key);
+        if (ids == null) return;
+        ids.remove(id);
+        if (ids.isEmpty()) postings.remove(key);
+    }
+
+    /** All distinct 2- and 3-grams of the upper-cased name. */
+    private static Set<String> grams(String name) {
+        if (name == null) return Set.of();
+        String s = key(name);
+        Set<String> out = new HashSet<>();
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= s.length(); i++) out.add(s.substring(i, i + n));
+        }
+        return out;
+    }
+
+    private static List<String> trigrams(String s) {
+        List<String> out = new ArrayList<>(s.length() - 2);
+        for (int i = 0; i + 3 <= s.length(); i++) out.add(s.substring(i, i + 3));
+        return out;
+    }
+
+    private static String key(String s) {
+        return Objects.requireNonNull(s).toUpperCase(Locale.ROOT);
+    }
+}
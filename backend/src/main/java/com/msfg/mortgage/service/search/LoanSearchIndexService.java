@@ -0,0 +1,135 @@
+package com.msfg.mortgage.service.search;
+
+import com.msfg.mortgage.event.LoanChangedEvent;
+import com.msfg.mortgage.service.pipeline.PipelineReadModelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Owns the process-wide {@link LoanSearchIndex} for the TopBar typeahead.
+ *
+ * <p>Lifecycle: cold at startup; a background thread loads every row from the pipeline source
+ * ({@link PipelineReadModelService#source()}) once the app is ready, then swaps the index in.
+ * After that each committed {@link LoanChangedEvent} re-reads that one loan's row. Until the index
+ * is warm {@link #search} returns empty and {@code LoanSearchService} answers from SQL.
+ *
+ * <p>Events that land while a build is in flight are queued and replayed against the new index
+ * after the swap, so a write committed mid-load is never lost.
+ *
+ * <p>Off by default — enable with {@code pipeline.search-index.enabled=true}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LoanSearchIndexService {
+
+    private static final String SELECT_ROWS = """
+            SELECT id, application_number, lendingpad_loan_number, mers_min,
+                   investor_loan_number, borrower_name, property_city, property_state, status
+              FROM %s
+            """;
+
+    /** Maps the {@link #SELECT_ROWS} column set; shared with the SQL fallback in {@code LoanSearchService}. */
+    public static final RowMapper<LoanSearchIndex.Entry> ROW_MAPPER = (rs, i) -> new LoanSearchIndex.Entry(
+        rs.getLong("id"),
+        rs.getString("application_number"),
+        rs.getString("lendingpad_loan_number"),
+        rs.getString("mers_min"),
+        rs.getString("investor_loan_number"),
+        rs.getString("borrower_name"),
+        rs.getString("property_city"),
+        rs.getString("property_state"),
+        rs.getString("status")
+    );
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final PipelineReadModelService pipelineReadModel;
+
+    @Value("${pipeline.search-index.enabled:false}")
+    private boolean enabled;
+
+    /** Null while cold. Replaced wholesale by {@link #rebuild()}. */
+    private volatile LoanSearchIndex index;
+    private volatile boolean building;
+    private final Set<Long> changedDuringBuild = ConcurrentHashMap.newKeySet();
+    private final Object buildLock = new Object();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) return;
+        Thread t = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.warn("Loan search index warm-up failed; typeahead stays on SQL: {}", e.toString());
+            }
+        }, "loan-search-index-warmup");
+        t.setDaemon(true);
+        t.start();
+    }
+
+    /** Load every loan into a fresh index and swap it in. Returns the entry count. */
+    public int rebuild() {
+        synchronized (buildLock) {
+            building = true;
+            changedDuringBuild.clear();
+            try {
+                long start = System.nanoTime();
+                LoanSearchIndex fresh = new LoanSearchIndex();
+                jdbc.query(SELECT_ROWS.formatted(pipelineReadModel.source()),
+                    rs -> { fresh.put(ROW_MAPPER.mapRow(rs, 0)); });
+                index = fresh;
+                log.info("Loan search index built: {} loan(s) in {} ms",
+                    fresh.size(), (System.nanoTime() - start) / 1_000_000);
+            } finally {
+                building = false;
+            }
+            List<Long> replay = new ArrayList<>(changedDuringBuild);
+            changedDuringBuild.removeAll(replay);
+            replay.forEach(this::reload);
+            return index.size();
+        }
+    }
+
+    /** Hits from the index, or empty when the index is disabled or still cold. */
+    public Optional<List<LoanSearchIndex.Entry>> search(String query, int limit) {
+        LoanSearchIndex idx = index;
+        if (!enabled || idx == null) return Optional.empty();
+        return Optional.of(idx.search(query, limit));
+    }
+
+    public boolean isWarm() {
+        return enabled && index != null;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLoanChanged(LoanChangedEvent event) {
+        if (!enabled || event.loanId() == null) return;
+        if (building) changedDuringBuild.add(event.loanId());
+        reload(event.loanId());
+    }
+
+    private void reload(Long loanId) {
+        LoanSearchIndex idx = index;
+        if (idx == null) return;
+        List<LoanSearchIndex.Entry> rows = jdbc.query(
+            SELECT_ROWS.formatted(pipelineReadModel.source()) + " WHERE id = :id",
+            new MapSqlParameterSource("id", loanId), ROW_MAPPER);
+        if (rows.isEmpty()) idx.remove(loanId);
+        else idx.put(rows.get(0));
+    }
+}
@@ -0,0 +1,17 @@
+-- ============================================================================
+-- V29: Keyset (seek) pagination indexes for the pipeline list
+--
+-- GET /api/loan-applications?cursor=... seeks on (sortCol, id) instead of
+-- LIMIT/OFFSET. Each whitelisted sort column gets a composite with id as the
+-- tie-breaker so "WHERE (col, id) past the cursor ORDER BY col, id LIMIT n"
+-- is a bounded index range scan — page N costs the same as page 1.
+-- ============================================================================
+
+CREATE INDEX idx_loan_apps_created_id
+  ON loan_applications(created_date, id);
+
+CREATE INDEX idx_loan_apps_status_changed_id
+  ON loan_applications(status_changed_at, id);
+
+CREATE INDEX idx_loan_apps_amount_id
+  ON loan_applications(loan_amount, id);
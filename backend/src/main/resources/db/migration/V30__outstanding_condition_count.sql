@@ -0,0 +1,61 @@
+-- ============================================================================
+-- V30: Maintained outstanding-conditions counter on loan_applications
+--
+-- The pipeline list selected and filtered on a correlated
+-- (SELECT COUNT(*) FROM loan_conditions ... 'Outstanding') per row, and the
+-- conditionsGt filter forced it across the whole table before LIMIT. The
+-- count now lives on the loan row, kept current in the same transaction as
+-- each condition write (LoanDashboardService), so both the column and the
+-- filter read a plain, indexable value.
+--
+-- OutstandingConditionCountJob re-derives the value periodically and repairs
+-- any drift (e.g. a row edited by hand in psql).
+-- ============================================================================
+
+ALTER TABLE loan_applications ADD COLUMN outstanding_condition_count INTEGER DEFAULT 0 NOT NULL;
+
+-- Backfill from the conditions table.
+UPDATE loan_applications la
+   SET outstanding_condition_count = (
+     SELECT COUNT(*) FROM loan_conditions lc
+      WHERE lc.application_id = la.id AND lc.status = 'Outstanding'
+   );
+
+CREATE INDEX idx_loan_apps_outstanding_conditions
+  ON loan_applications(outstanding_condition_count);
+
+-- ---- loan_list_view: expose the counter -----------------------------------
+-- Same definition as V24 with the new column appended (CREATE OR REPLACE
+-- VIEW in Postgres only allows adding columns at the end).
+
+CREATE OR REPLACE VIEW loan_list_view AS
+SELECT
+  la.id,
+  la.application_number,
+  la.status,
+  la.status_changed_at,
+  la.created_date,
+  la.loan_type,
+  la.loan_amount,
+  la.property_value,
+  la.lendingpad_loan_number,
+  la.mers_min,
+  la.investor_loan_number,
+  la.assigned_lo_id,
+  la.assigned_lo_name,
+  b.first_name  AS borrower_first_name,
+  b.last_name   AS borrower_last_name,
+  TRIM(BOTH ' ' FROM COALESCE(b.first_name, '') || ' ' || COALESCE(b.last_name, '')) AS borrower_name,
+  p.city         AS property_city,
+  p.state        AS property_state,
+  ci.closing_date AS est_closing_date,
+  la.outstanding_condition_count
+FROM loan_applications la
+LEFT JOIN borrowers b ON b.id = (
+  SELECT id FROM borrowers
+   WHERE application_id = la.id
+   ORDER BY COALESCE(sequence_number, 999), id
+   LIMIT 1
+)
+LEFT JOIN properties p ON p.application_id = la.id
+LEFT JOIN closing_information ci ON ci.loan_application_id = la.id;
@@ -0,0 +1,69 @@
+-- ============================================================================
+-- V31: loan_pipeline_rows — materialized read model for the pipeline list
+--
+-- loan_list_view (V24/V30) re-joins loan_applications, borrowers (with a
+-- correlated "primary borrower" subquery), properties and closing_information
+-- on every list and typeahead call. This table holds the same columns, one
+-- row per loan, pre-joined.
+--
+-- Kept current by PipelineReadModelService: every loan write path publishes a
+-- LoanChangedEvent and the row is re-derived from loan_list_view just before
+-- that transaction commits. The view stays the single definition of what a
+-- row contains; the table is only a cache of it.
+--
+-- Reads switch over with pipeline.read-model.enabled=true. Rebuild from
+-- scratch via POST /api/admin/pipeline-read-model/rebuild;
+-- PipelineReadModelDriftJob reports and repairs rows that disagree with the
+-- view.
+-- ============================================================================
+
+CREATE TABLE loan_pipeline_rows (
+    id                          BIGINT PRIMARY KEY,
+    application_number          VARCHAR(50),
+    status                      VARCHAR(30),
+    status_changed_at           TIMESTAMP,
+    created_date                TIMESTAMP,
+    loan_type                   VARCHAR(50),
+    loan_amount                 DECIMAL(12,2),
+    property_value              DECIMAL(12,2),
+    lendingpad_loan_number      VARCHAR(50),
+    mers_min                    VARCHAR(20),
+    investor_loan_number        VARCHAR(50),
+    assigned_lo_id              INT,
+    assigned_lo_name            VARCHAR(255),
+    borrower_first_name         VARCHAR(100),
+    borrower_last_name          VARCHAR(100),
+    borrower_name               VARCHAR(255),
+    property_city               VARCHAR(100),
+    property_state              VARCHAR(2),
+    est_closing_date            DATE,
+    outstanding_condition_count INT DEFAULT 0 NOT NULL,
+    refreshed_at                TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL,
+    FOREIGN KEY (id) REFERENCES loan_applications(id) ON DELETE CASCADE
+);
+
+-- Same access paths as the base-table indexes in V24/V29/V30.
+CREATE INDEX idx_pipeline_rows_status_created    ON loan_pipeline_rows(status, created_date DESC);
+CREATE INDEX idx_pipeline_rows_created_id        ON loan_pipeline_rows(created_date, id);
+CREATE INDEX idx_pipeline_rows_status_changed_id ON loan_pipeline_rows(status_changed_at, id);
+CREATE INDEX idx_pipeline_rows_amount_id         ON loan_pipeline_rows(loan_amount, id);
+CREATE INDEX idx_pipeline_rows_assigned_lo       ON loan_pipeline_rows(assigned_lo_id);
+CREATE INDEX idx_pipeline_rows_closing_date      ON loan_pipeline_rows(est_closing_date);
+CREATE INDEX idx_pipeline_rows_conditions        ON loan_pipeline_rows(outstanding_condition_count);
+CREATE INDEX idx_pipeline_rows_app_number        ON loan_pipeline_rows(application_number);
+CREATE INDEX idx_pipeline_rows_lp_number         ON loan_pipeline_rows(lendingpad_loan_number);
+CREATE INDEX idx_pipeline_rows_mers_min          ON loan_pipeline_rows(mers_min);
+CREATE INDEX idx_pipeline_rows_investor_num      ON loan_pipeline_rows(investor_loan_number);
+
+-- Initial population.
+INSERT INTO loan_pipeline_rows (
+    id, application_number, status, status_changed_at, created_date, loan_type,
+    loan_amount, property_value, lendingpad_loan_number, mers_min, investor_loan_number,
+    assigned_lo_id, assigned_lo_name, borrower_first_name, borrower_last_name, borrower_name,
+    property_city, property_state, est_closing_date, outstanding_condition_count)
+SELECT
+    id, application_number, status, status_changed_at, created_date, loan_type,
+    loan_amount, property_value, lendingpad_loan_number, mers_min, investor_loan_number,
+    assigned_lo_id, assigned_lo_name, borrower_first_name, borrower_last_name, borrower_name,
+    property_city, property_state, est_closing_date, outstanding_condition_count
+FROM loan_list_view;
@@ -0,0 +1,41 @@
+-- ============================================================================
+-- V32: MISMO bulk import jobs
+--
+-- POST /loan-applications/from-mismo/bulk accepts a zip or a stack of MISMO
+-- files and creates one loan per file in the background. A job row tracks the
+-- batch; one job_files row per input file carries its progress and, once it
+-- lands, the loan and mismo_imports audit row it produced.
+--
+-- Counters are bumped in place by the worker that finishes each file; the
+-- worker whose bump makes succeeded + failed = total closes the job out.
+-- ============================================================================
+
+CREATE TABLE mismo_import_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    status VARCHAR(30) NOT NULL,                    -- RUNNING / COMPLETED / COMPLETED_WITH_ERRORS
+    created_by_user_id INT,
+    total_files INT NOT NULL,
+    succeeded_files INT NOT NULL DEFAULT 0,
+    failed_files INT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    finished_at TIMESTAMP,
+    FOREIGN KEY (created_by_user_id) REFERENCES users(id) ON DELETE SET NULL
+);
+CREATE INDEX idx_mismo_import_jobs_user ON mismo_import_jobs(created_by_user_id);
+
+CREATE TABLE mismo_import_job_files (
+    id BIGSERIAL PRIMARY KEY,
+    job_id BIGINT NOT NULL,
+    file_index INT NOT NULL,                        -- upload / zip-entry order
+    source_filename VARCHAR(500),
+    status VARCHAR(20) NOT NULL,                    -- QUEUED / PARSING / IMPORTING / SUCCEEDED / FAILED
+    loan_application_id BIGINT,
+    mismo_import_id BIGINT,
+    fields_changed_count INT,
+    error VARCHAR(1000),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (job_id) REFERENCES mismo_import_jobs(id) ON DELETE CASCADE,
+    FOREIGN KEY (loan_application_id) REFERENCES loan_applications(id) ON DELETE SET NULL,
+    FOREIGN KEY (mismo_import_id) REFERENCES mismo_imports(id) ON DELETE SET NULL,
+    UNIQUE (job_id, file_index)
+);
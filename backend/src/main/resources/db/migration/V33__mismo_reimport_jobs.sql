@@ -0,0 +1,15 @@
+-- ============================================================================
+-- V33: async MISMO re-import jobs
+--
+-- POST /loan-applications/{id}/import/mismo?async=true runs the merge in the
+-- background and reuses the V32 job tables: one job, one file row. The job
+-- now records what it is for — kind, the target loan and whether the LO forced
+-- past the drift warning — so the worker can re-check drift when it runs.
+-- Existing rows are all bulk creates.
+-- ============================================================================
+
+ALTER TABLE mismo_import_jobs ADD COLUMN kind VARCHAR(20) NOT NULL DEFAULT 'BULK_CREATE';   -- BULK_CREATE / REIMPORT
+ALTER TABLE mismo_import_jobs ADD COLUMN loan_application_id BIGINT REFERENCES loan_applications(id) ON DELETE CASCADE;
+ALTER TABLE mismo_import_jobs ADD COLUMN forced BOOLEAN NOT NULL DEFAULT FALSE;
+
+CREATE INDEX idx_mismo_import_jobs_loan ON mismo_import_jobs(loan_application_id);
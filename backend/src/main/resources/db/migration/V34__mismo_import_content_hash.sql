@@ -0,0 +1,14 @@
+-- ============================================================================
+-- V34: content hash on mismo_imports
+--
+-- LOs often re-upload the exact LendingPad export they already imported. Each
+-- audit row now records a SHA-256 of the file (BOM and CRs dropped, trailing
+-- whitespace ignored) and the loan's updated_date as that import left it.
+-- When the newest import for a loan has the same hash and the loan hasn't been
+-- touched since, a re-upload is answered "no changes" without parsing — it
+-- still gets its own audit row, pointing at the import it duplicated.
+-- ============================================================================
+
+ALTER TABLE mismo_imports ADD COLUMN content_sha256 VARCHAR(64);
+ALTER TABLE mismo_imports ADD COLUMN loan_updated_date TIMESTAMP;     -- loan_applications.updated_date right after this import
+ALTER TABLE mismo_imports ADD COLUMN duplicate_of_import_id BIGINT REFERENCES mismo_imports(id) ON DELETE SET NULL;
@@ -0,0 +1,22 @@
+-- ============================================================================
+-- V35: background post-upload work for documents
+--
+-- Confirming an upload used to download the whole object to SHA-256 it, inside
+-- the confirm transaction. Confirm now only HEADs the object, flips the status
+-- and writes the audit row. It leaves post_upload_status = 'PENDING', and a
+-- worker fills in file_hash and applies the S3 tags afterwards, retrying with
+-- backoff.
+--
+--   PENDING  queued, or waiting for post_upload_next_at to retry
+--   DONE     file_hash set, tags applied
+--   FAILED   gave up after the configured attempts (post_upload_error says why)
+--
+-- Rows confirmed before V35 stay NULL: their hash was taken inline, or not at all.
+-- ============================================================================
+
+ALTER TABLE documents ADD COLUMN post_upload_status   VARCHAR(20);
+ALTER TABLE documents ADD COLUMN post_upload_attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE documents ADD COLUMN post_upload_next_at  TIMESTAMP;   -- earliest next attempt; also the claim lease
+ALTER TABLE documents ADD COLUMN post_upload_error    VARCHAR(1000);
+
+CREATE INDEX idx_doc_post_upload_due ON documents (post_upload_status, post_upload_next_at);
@@ -0,0 +1,16 @@
+-- ============================================================================
+-- V36: multipart uploads for large documents
+--
+-- Large scans (closing packages, tax returns) upload as S3 multipart uploads so
+-- a dropped connection only re-sends one part. The document row holds the S3
+-- upload id from initiate until complete or abort; the parts endpoint and
+-- complete read it from here, never from the client.
+--
+-- Abandoned uploads are aborted by MultipartUploadSweepJob, which finds them by
+-- multipart_upload_id on old pending rows. Initiates whose row never committed
+-- are cleaned up by the bucket's abort-incomplete-multipart lifecycle rule.
+-- ============================================================================
+
+ALTER TABLE documents ADD COLUMN multipart_upload_id VARCHAR(1024);
+
+CREATE INDEX idx_doc_multipart_upload ON documents (multipart_upload_id);
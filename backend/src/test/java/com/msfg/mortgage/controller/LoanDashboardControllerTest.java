@@ -0,0 +1,97 @@
+package com.msfg.mortgage.controller;
+
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import com.msfg.mortgage.service.LoanDashboardService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ETag / 304 behaviour of GET /dashboard. Not @Transactional: the version stamp
+ * only moves once a write commits, which a rolled-back test transaction never does.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin@example.com", roles = "Admin")
+class LoanDashboardControllerTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+    @Autowired private LoanDashboardService loanDashboardService;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Long loanId;
+
+    @BeforeEach
+    void setUp() {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setLoanType("Conventional");
+        la.setStatus("REGISTERED");
+        loanId = loanApplicationRepository.save(la).getId();
+    }
+
+    private String dashboardUrl() {
+        return "/api/loan-applications/" + loanId + "/dashboard";
+    }
+
+    private String fetchEtag() throws Exception {
+        return mvc.perform(get(dashboardUrl()).contextPath("/api"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists("ETag"))
+            .andReturn().getResponse().getHeader("ETag");
+    }
+
+    @Test
+    void matchingIfNoneMatch_returns304WithoutQueries() throws Exception {
+        String etag = fetchEtag();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        mvc.perform(get(dashboardUrl()).contextPath("/api").header("If-None-Match", etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", etag));
+
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void repeatRead_isServedFromCache() throws Exception {
+        fetchEtag();
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+
+        fetchEtag();
+
+        assertThat(stats.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void write_changesEtagAndBody() throws Exception {
+        String before = fetchEtag();
+
+        loanDashboardService.patchTerms(loanId, new LoanDashboardService.TermsPatch(
+            null, null, new BigDecimal("6.125"), null, null, null, null, null));
+
+        mvc.perform(get(dashboardUrl()).contextPath("/api").header("If-None-Match", before))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.loanTerms.noteRatePercent").value(6.125))
+            .andExpect(header().string("ETag", org.hamcrest.Matchers.not(before)));
+    }
+}
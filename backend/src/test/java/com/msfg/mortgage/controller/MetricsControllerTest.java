@@ -0,0 +1,68 @@
+package com.msfg.mortgage.controller;
+
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class MetricsControllerTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+
+    @Test
+    @WithMockUser(username = "admin@example.com", roles = "Admin")
+    void scrape_reportsRequestsByRouteTemplate_andPoolStats() throws Exception {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setStatus("REGISTERED");
+        Long id = loanApplicationRepository.save(la).getId();
+
+        mvc.perform(get("/api/loan-applications/" + id).contextPath("/api"))
+            .andExpect(status().isOk());
+
+        mvc.perform(get("/api/metrics").contextPath("/api"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/plain"))
+            .andExpect(content().string(containsString(
+                "http_server_requests_seconds_count{method=\"GET\",uri=\"/loan-applications/{id}\",status=\"200\"}")))
+            .andExpect(content().string(containsString(
+                "http_server_request_statements_count{method=\"GET\",uri=\"/loan-applications/{id}\"}")))
+            .andExpect(content().string(containsString("# TYPE hikaricp_connection_acquire_seconds histogram")))
+            .andExpect(content().string(containsString("hikaricp_connections{pool=")));
+    }
+
+    @Test
+    @WithAnonymousUser
+    void scrape_rejectsAnonymous() throws Exception {
+        mvc.perform(get("/api/metrics").contextPath("/api"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "lo@example.com", roles = "LO")
+    void scrape_isAdminOnly() throws Exception {
+        mvc.perform(get("/api/metrics").contextPath("/api"))
+            .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithAnonymousUser
+    void health_staysPublic() throws Exception {
+        mvc.perform(get("/api/health").contextPath("/api"))
+            .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,94 @@
+package com.msfg.mortgage.controller;
+
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * {@code POST /loan-applications/export/mismo} through MVC: the zip is written after the
+ * handler returns, under the configured async timeout rather than the container's 30 s.
+ * Not {@code @Transactional} — the zip is built off the request thread, so the loans
+ * have to be committed.
+ */
+@SpringBootTest(properties = "mismo.export.max-loans=2")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@WithMockUser(username = "admin@example.com", roles = "Admin")
+class MismoBatchExportControllerTest {
+
+    @Autowired private MockMvc mvc;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+
+    private LoanApplication loan(String loanType, int amount) {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setLoanType(loanType);
+        la.setLoanAmount(BigDecimal.valueOf(amount));
+        return loanApplicationRepository.save(la);
+    }
+
+    private static String byLoanType(String loanType) {
+        return "{\"loanTypes\":[\"" + loanType + "\"],\"sortField\":\"loanAmount\",\"sortDirection\":\"asc\"}";
+    }
+
+    @Test
+    void batchExport_streamsTheZipAfterTheHandlerReturns() throws Exception {
+        String type = "T-" + UUID.randomUUID().toString().substring(0, 8);
+        LoanApplication small = loan(type, 100_000);
+        LoanApplication large = loan(type, 200_000);
+
+        MvcResult started = mvc.perform(post("/api/loan-applications/export/mismo").contextPath("/api")
+                        .contentType(MediaType.APPLICATION_JSON).content(byLoanType(type)))
+                .andExpect(status().isOk())
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // spring.mvc.async.request-timeout, not the container default.
+        assertThat(started.getRequest().getAsyncContext().getTimeout()).isEqualTo(600_000L);
+
+        byte[] zip = mvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/zip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry e = in.getNextEntry(); e != null; e = in.getNextEntry()) names.add(e.getName());
+        }
+        assertThat(names).containsExactly(
+                "MISMO-" + small.getApplicationNumber() + ".xml",
+                "MISMO-" + large.getApplicationNumber() + ".xml");
+    }
+
+    @Test
+    void batchExport_overMaxLoans_isA400BeforeAnythingStreams() throws Exception {
+        String type = "T-" + UUID.randomUUID().toString().substring(0, 8);
+        for (int amount : new int[]{100_000, 200_000, 300_000}) loan(type, amount);
+
+        mvc.perform(post("/api/loan-applications/export/mismo").contextPath("/api")
+                        .contentType(MediaType.APPLICATION_JSON).content(byLoanType(type)))
+                .andExpect(status().isBadRequest())
+                .andExpect(request().asyncNotStarted())
+                .andExpect(jsonPath("$.message").value("Filters match more than 2 loans; narrow them"));
+    }
+}
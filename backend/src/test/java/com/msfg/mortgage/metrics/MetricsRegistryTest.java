@@ -0,0 +1,28 @@
+package com.msfg.mortgage.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricsRegistryTest {
+
+    MetricsRegistry registry = new MetricsRegistry();
+
+    @Test void unlabelledSeries_omitBraces() {
+        registry.histogram("job_seconds", "Job runtime", new double[]{1}).observe(0.5);
+        registry.counter("job_runs_total", "Job runs").increment();
+
+        assertThat(registry.scrape())
+                .contains("job_seconds_bucket{le=\"1.0\"} 1\n")
+                .contains("job_seconds_sum 0.5\n")
+                .contains("job_seconds_count 1\n")
+                .contains("job_runs_total 1\n")
+                .doesNotContain("{}");
+    }
+
+    @Test void labelledSeries_keepLabels() {
+        registry.counter("jobs_total", "Jobs", "job").increment("sweep");
+
+        assertThat(registry.scrape()).contains("jobs_total{job=\"sweep\"} 1\n");
+    }
+}
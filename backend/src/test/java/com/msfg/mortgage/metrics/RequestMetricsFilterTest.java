@@ -0,0 +1,79 @@
+package com.msfg.mortgage.metrics;
+
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestMetricsFilterTest {
+
+    MetricsRegistry registry;
+    StatementCounter inspector = new StatementCounter();
+
+    @BeforeEach void setUp() { registry = new MetricsRegistry(); }
+
+    static class Handlers {
+        @StatementBudget(2) public void budgeted() {}
+        public void unbudgeted() {}
+    }
+
+    /** Chain that "dispatches" to the given handler and runs {@code statements} queries. */
+    private FilterChain chain(String handlerMethod, int statements) {
+        return (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/loan-applications/{id}");
+            try {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                        new HandlerMethod(new Handlers(), Handlers.class.getMethod(handlerMethod)));
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException(e);
+            }
+            for (int i = 0; i < statements; i++) inspector.inspect("select 1");
+        };
+    }
+
+    private MockHttpServletRequest get() {
+        return new MockHttpServletRequest("GET", "/loan-applications/42");
+    }
+
+    @Test void recordsLatencyAndStatementsUnderRouteTemplate() throws Exception {
+        new RequestMetricsFilter(registry, true).doFilter(get(), new MockHttpServletResponse(), chain("budgeted", 2));
+
+        String scrape = registry.scrape();
+        assertThat(scrape).contains("http_server_requests_seconds_count{method=\"GET\",uri=\"/loan-applications/{id}\",status=\"200\"} 1");
+        assertThat(scrape).contains("http_server_request_statements_sum{method=\"GET\",uri=\"/loan-applications/{id}\"} 2.0");
+        assertThat(scrape).doesNotContain("/loan-applications/42");
+    }
+
+    @Test void overBudget_enforced_fails() {
+        var filter = new RequestMetricsFilter(registry, true);
+
+        assertThatThrownBy(() -> filter.doFilter(get(), new MockHttpServletResponse(), chain("budgeted", 3)))
+                .isInstanceOf(StatementBudgetExceededException.class)
+                .hasMessageContaining("GET /loan-applications/{id}: 3 > 2");
+    }
+
+    @Test void overBudget_notEnforced_countsOnly() throws Exception {
+        new RequestMetricsFilter(registry, false).doFilter(get(), new MockHttpServletResponse(), chain("budgeted", 3));
+
+        assertThat(registry.scrape())
+                .contains("http_server_statement_budget_exceeded_total{method=\"GET\",uri=\"/loan-applications/{id}\"} 1");
+    }
+
+    @Test void handlerWithoutBudget_isNeverChecked() throws Exception {
+        new RequestMetricsFilter(registry, true).doFilter(get(), new MockHttpServletResponse(), chain("unbudgeted", 50));
+
+        assertThat(registry.scrape()).doesNotContain("http_server_statement_budget_exceeded_total{");
+    }
+
+    @Test void statementsOutsideARequest_areNotCounted() {
+        inspector.inspect("select 1");
+        StatementCounter.begin();
+        assertThat(StatementCounter.end()).isZero();
+    }
+}
@@ -0,0 +1,36 @@
+package com.msfg.mortgage.mismo;
+
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * The LP exports under {@code src/test/resources/mismo/} and the empty loan they are
+ * imported into, shared by the tests of the import services built on the importer.
+ */
+public final class MismoFixtures {
+
+    private MismoFixtures() {}
+
+    public static InputStream open(String name) throws IOException {
+        return new ClassPathResource("mismo/" + name).getInputStream();
+    }
+
+    public static byte[] bytes(String name) throws IOException {
+        try (InputStream in = open(name)) {
+            return in.readAllBytes();
+        }
+    }
+
+    /** A saved REGISTERED purchase with nothing imported yet. */
+    public static LoanApplication freshLoan(LoanApplicationRepository loanApplicationRepository) {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setLoanType("Conventional");
+        la.setStatus("REGISTERED");
+        return loanApplicationRepository.save(la);
+    }
+}
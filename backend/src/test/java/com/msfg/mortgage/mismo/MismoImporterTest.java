@@ -2,18 +2,27 @@ package com.msfg.mortgage.mismo;
 
 import com.msfg.mortgage.model.ClosingFee;
 import com.msfg.mortgage.model.ClosingInformation;
+import com.msfg.mortgage.model.HousingExpense;
+import com.msfg.mortgage.model.Liability;
 import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.mismo.parse.DomMismoSections;
 import com.msfg.mortgage.repository.ClosingFeeRepository;
 import com.msfg.mortgage.repository.ClosingInformationRepository;
+import com.msfg.mortgage.repository.HousingExpenseRepository;
 import com.msfg.mortgage.repository.LoanApplicationRepository;
+import com.msfg.mortgage.service.LoanApplicationService;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -37,6 +46,8 @@ class MismoImporterTest {
     @Autowired private LoanApplicationRepository loanApplicationRepository;
     @Autowired private ClosingInformationRepository closingInformationRepository;
     @Autowired private ClosingFeeRepository closingFeeRepository;
+    @Autowired private HousingExpenseRepository housingExpenseRepository;
+    @Autowired private LoanApplicationService loanApplicationService;
 
     private LoanApplication freshLoan() {
         LoanApplication la = new LoanApplication();
@@ -59,7 +70,7 @@ class MismoImporterTest {
             assertThat(result.changeCount()).isGreaterThan(0);
         }
 
-        LoanApplication reloaded = loanApplicationRepository.findById(la.getId()).orElseThrow();
+        LoanApplication reloaded = loanApplicationRepository.findFullFormById(la.getId()).orElseThrow();
         assertThat(reloaded.getBorrowers()).isNotEmpty();
         assertThat(reloaded.getBorrowers().get(0).getFirstName()).isNotBlank();
         assertThat(reloaded.getProperty()).isNotNull();
@@ -109,6 +120,22 @@ class MismoImporterTest {
                 .isEqualByComparingTo(new BigDecimal("8612"));
     }
 
+    /** The streaming reader must produce the same change list the DOM + XPath path did. */
+    @ParameterizedTest
+    @ValueSource(strings = {"sample-urla-fnm.xml", "sample-closing.xml"})
+    void streamingImport_producesSameChangesAsDomReference(String name) throws Exception {
+        MismoImporter.ImportResult streamed;
+        MismoImporter.ImportResult reference;
+        try (InputStream xml = fixture(name)) {
+            streamed = importer.importInto(freshLoan(), xml);
+        }
+        try (InputStream xml = fixture(name)) {
+            reference = importer.importInto(freshLoan(), DomMismoSections.read(xml));
+        }
+        assertThat(streamed.changes()).isNotEmpty().isEqualTo(reference.changes());
+        assertThat(streamed.fileCreatedDatetime()).isEqualTo(reference.fileCreatedDatetime());
+    }
+
     @Test
     void closingImport_isReplaceAll_secondImportSwapsFees() throws Exception {
         LoanApplication la = freshLoan();
@@ -125,4 +152,89 @@ class MismoImporterTest {
         long secondCount = closingFeeRepository.findByApplicationIdOrderBySequenceNumberAsc(la.getId()).size();
         assertThat(secondCount).isEqualTo(firstCount); // not 2× — replace-all not append
     }
+
+    @Test
+    void reimport_mergesRowsByKey_andReportsOnlyWhatMoved() throws Exception {
+        LoanApplication la = freshLoan();
+        try (InputStream xml = fixture("sample-closing.xml")) {
+            importer.importInto(la, xml);
+        }
+        LoanApplication loaded = loanApplicationService.getApplicationById(la.getId()).orElseThrow();
+        List<Long> liabilityIds = loaded.getLiabilities().stream().map(Liability::getId).toList();
+        List<Long> expenseIds = housingExpenseRepository.findByApplicationIdOrdered(la.getId()).stream()
+                .map(HousingExpense::getId).toList();
+        assertThat(liabilityIds).isNotEmpty();
+        assertThat(expenseIds).isNotEmpty();
+
+        // Same file again, one tradeline's payment edited: exactly that field moves.
+        String edited;
+        try (InputStream xml = fixture("sample-closing.xml")) {
+            edited = new String(xml.readAllBytes(), StandardCharsets.UTF_8).replaceFirst(
+                    "<LiabilityMonthlyPaymentAmount>183", "<LiabilityMonthlyPaymentAmount>190");
+        }
+        MismoImporter.ImportResult again = importer.importInto(loaded,
+                new ByteArrayInputStream(edited.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(again.changes())
+                .filteredOn(c -> c.path().startsWith("liabilities") || c.path().startsWith("housingExpenses")
+                        || c.path().startsWith("purchaseCredits"))
+                .singleElement()
+                .satisfies(c -> {
+                    assertThat(c.path()).startsWith("liabilities[").endsWith("].monthlyPayment");
+                    assertThat(new BigDecimal(c.before())).isEqualByComparingTo("183");
+                    assertThat(new BigDecimal(c.after())).isEqualByComparingTo("190");
+                });
+
+        // Rows were updated in place, not deleted and re-inserted.
+        LoanApplication reloaded = loanApplicationService.getApplicationById(la.getId()).orElseThrow();
+        assertThat(reloaded.getLiabilities()).extracting(Liability::getId)
+                .containsExactlyInAnyOrderElementsOf(liabilityIds);
+        assertThat(housingExpenseRepository.findByApplicationIdOrdered(la.getId()))
+                .extracting(HousingExpense::getId).containsExactlyElementsOf(expenseIds);
+    }
+
+    @Test
+    void reimport_reportsPayoffFieldsForAddedAndRemovedRows() throws Exception {
+        LoanApplication la = freshLoan();
+        try (InputStream xml = fixture("sample-closing.xml")) {
+            importer.importInto(la, xml);
+        }
+        LoanApplication loaded = loanApplicationService.getApplicationById(la.getId()).orElseThrow();
+
+        // The first tradeline comes back under a new account number, now flagged for payoff:
+        // the old row is removed and a new one added.
+        String edited;
+        try (InputStream xml = fixture("sample-closing.xml")) {
+            edited = new String(xml.readAllBytes(), StandardCharsets.UTF_8)
+                    .replaceFirst("<LiabilityAccountIdentifier>542418164780",
+                            "<LiabilityAccountIdentifier>542418169999")
+                    .replaceFirst("<LiabilityPayoffStatusIndicator>false",
+                            "<LiabilityPayoffStatusIndicator>true");
+        }
+        MismoImporter.ImportResult again = importer.importInto(loaded,
+                new ByteArrayInputStream(edited.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(again.changes())
+                .filteredOn(c -> c.path().endsWith("#4780].toBePaidOff"))
+                .singleElement()
+                .satisfies(c -> {
+                    assertThat(c.before()).isEqualTo("false");
+                    assertThat(c.after()).isNull();
+                });
+        assertThat(again.changes())
+                .filteredOn(c -> c.path().endsWith("#4780].payoffStatus"))
+                .singleElement()
+                .satisfies(c -> assertThat(c.after()).isNull());
+        assertThat(again.changes())
+                .filteredOn(c -> c.path().endsWith("#9999].toBePaidOff"))
+                .singleElement()
+                .satisfies(c -> {
+                    assertThat(c.before()).isNull();
+                    assertThat(c.after()).isEqualTo("true");
+                });
+        assertThat(again.changes())
+                .filteredOn(c -> c.path().endsWith("#9999].payoffStatus"))
+                .singleElement()
+                .satisfies(c -> assertThat(c.before()).isNull());
+    }
 }
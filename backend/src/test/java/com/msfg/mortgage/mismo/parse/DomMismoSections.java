@@ -0,0 +1,98 @@
+package com.msfg.mortgage.mismo.parse;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.xpath.XPathConstants;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reference {@link MismoSections} built the way the importer used to read files:
+ * whole-document DOM plus the original document-wide XPath queries. Lets tests
+ * hold {@link MismoStreamReader} to exactly what the DOM path saw.
+ */
+public final class DomMismoSections {
+    private DomMismoSections() {}
+
+    private static final Map<MismoSection, String> SECTION_XPATH = Map.of(
+            MismoSection.LOAN_IDENTIFIER, "//*[local-name()='LOAN_IDENTIFIER']",
+            MismoSection.SUBJECT_PROPERTY, "//*[local-name()='SUBJECT_PROPERTY']",
+            MismoSection.PARTY, "//*[local-name()='PARTY']",
+            MismoSection.ASSET, "//*[local-name()='ASSETS']/*[local-name()='ASSET']",
+            MismoSection.LIABILITY, "//*[local-name()='LIABILITY']",
+            MismoSection.HOUSING_EXPENSE, "//*[local-name()='HOUSING_EXPENSES']/*[local-name()='HOUSING_EXPENSE']",
+            MismoSection.PURCHASE_CREDIT, "//*[local-name()='PURCHASE_CREDITS']/*[local-name()='PURCHASE_CREDIT']",
+            MismoSection.FEE, "//*[local-name()='FEE_INFORMATION']/*[local-name()='FEES']/*[local-name()='FEE']",
+            MismoSection.RELATIONSHIP, "//*[local-name()='RELATIONSHIP']");
+
+    public static MismoSections read(InputStream xml) throws Exception {
+        Document doc = MismoXml.parse(xml);
+        MismoSections s = new MismoSections();
+        for (MismoSection section : MismoSection.values()) {
+            NodeList nodes = (NodeList) MismoXml.xp().evaluate(
+                    SECTION_XPATH.get(section), doc, XPathConstants.NODESET);
+            for (int i = 0; i < nodes.getLength(); i++) s.add(section, (Element) nodes.item(i));
+        }
+        for (MismoField f : MismoField.values()) {
+            String xpath = f.inFirstLoan
+                    ? "(//*[local-name()='LOAN'])[1]//*[local-name()='" + f.element + "']"
+                    : f.parent == null
+                        ? "/*//*[local-name()='" + f.element + "']"
+                        : "//*[local-name()='" + f.parent + "']/*[local-name()='" + f.element + "']";
+            Node n = (Node) MismoXml.xp().evaluate(xpath, doc, XPathConstants.NODE);
+            if (n != null) s.put(f, n.getTextContent());
+        }
+        if (MismoXml.xp().evaluate("//*[local-name()='LOAN']", doc, XPathConstants.NODE) != null) s.markLoan();
+        LinkContext links = LinkContext.from(doc);
+        s.links().elementsByLabel.putAll(links.elementsByLabel);
+        s.links().arcsByFrom.putAll(links.arcsByFrom);
+        s.links().arcsByTo.putAll(links.arcsByTo);
+        return s;
+    }
+
+    /**
+     * Canonical text form of a subtree: names, namespaces, sorted attributes and
+     * text with adjacent text/CDATA runs merged; comments dropped.
+     */
+    public static String canonical(Node node) {
+        StringBuilder sb = new StringBuilder();
+        write(node, sb);
+        return sb.toString();
+    }
+
+    private static void write(Node node, StringBuilder sb) {
+        Element e = (Element) node;
+        sb.append('<').append('{').append(e.getNamespaceURI()).append('}').append(e.getLocalName());
+        NamedNodeMap attrs = e.getAttributes();
+        Map<String, String> sorted = new TreeMap<>();
+        for (int i = 0; i < attrs.getLength(); i++) {
+            Node a = attrs.item(i);
+            if ("http://www.w3.org/2000/xmlns/".equals(a.getNamespaceURI())) continue;
+            sorted.put("{" + a.getNamespaceURI() + "}" + a.getLocalName(), a.getNodeValue());
+        }
+        sorted.forEach((k, v) -> sb.append(' ').append(k).append("=\"").append(v).append('"'));
+        sb.append('>');
+        StringBuilder text = new StringBuilder();
+        for (Node c = e.getFirstChild(); c != null; c = c.getNextSibling()) {
+            switch (c.getNodeType()) {
+                case Node.TEXT_NODE, Node.CDATA_SECTION_NODE -> text.append(c.getNodeValue());
+                case Node.ELEMENT_NODE -> {
+                    if (text.length() > 0) { sb.append("[").append(text).append("]"); text.setLength(0); }
+                    write(c, sb);
+                }
+                default -> {
+                    if (text.length() > 0) { sb.append("[").append(text).append("]"); text.setLength(0); }
+                }
+            }
+        }
+        if (text.length() > 0) sb.append("[").append(text).append("]");
+        sb.append("</").append(e.getLocalName()).append('>');
+    }
+}
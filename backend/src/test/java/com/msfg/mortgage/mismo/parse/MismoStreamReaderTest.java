@@ -0,0 +1,124 @@
+package com.msfg.mortgage.mismo.parse;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.ClassPathResource;
+import org.w3c.dom.Element;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Holds the streaming reader to what the old DOM + document-wide XPath path
+ * extracted from the checked-in LP exports.
+ */
+class MismoStreamReaderTest {
+
+    private static InputStream fixture(String name) throws IOException {
+        return new ClassPathResource("mismo/" + name).getInputStream();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"sample-urla-fnm.xml", "sample-closing.xml"})
+    void matchesDomExtraction(String name) throws Exception {
+        MismoSections streamed;
+        MismoSections dom;
+        try (InputStream xml = fixture(name)) { streamed = MismoStreamReader.read(xml); }
+        try (InputStream xml = fixture(name)) { dom = DomMismoSections.read(xml); }
+
+        for (MismoSection section : MismoSection.values()) {
+            assertThat(canonical(streamed.list(section)))
+                    .as(section.name())
+                    .isEqualTo(canonical(dom.list(section)));
+        }
+        for (MismoField field : MismoField.values()) {
+            assertThat(streamed.text(field)).as(field.name()).isEqualTo(dom.text(field));
+        }
+        assertThat(streamed.hasLoan()).isEqualTo(dom.hasLoan());
+        assertThat(streamed.createdDatetime()).isEqualTo(dom.createdDatetime());
+
+        assertThat(canonical(streamed.links().elementsByLabel))
+                .isEqualTo(canonical(dom.links().elementsByLabel));
+        assertThat(streamed.links().arcsByFrom).isEqualTo(dom.links().arcsByFrom);
+        assertThat(streamed.links().arcsByTo).isEqualTo(dom.links().arcsByTo);
+    }
+
+    @Test
+    void closingFixtureHasTheSectionsTheImportersWalk() throws Exception {
+        MismoSections s;
+        try (InputStream xml = fixture("sample-closing.xml")) { s = MismoStreamReader.read(xml); }
+        assertThat(s.list(MismoSection.PARTY)).isNotEmpty();
+        assertThat(s.list(MismoSection.FEE)).hasSizeGreaterThanOrEqualTo(15);
+        assertThat(s.first(MismoSection.SUBJECT_PROPERTY)).isNotNull();
+        assertThat(s.text(MismoField.LOAN_ESTIMATED_CLOSING_DATE)).isEqualTo("2026-05-18");
+    }
+
+    @Test
+    void readCreatedDatetime_matchesFullRead() throws Exception {
+        try (InputStream a = fixture("sample-closing.xml"); InputStream b = fixture("sample-closing.xml")) {
+            assertThat(MismoStreamReader.readCreatedDatetime(a))
+                    .isNotNull()
+                    .isEqualTo(MismoStreamReader.read(b).createdDatetime());
+        }
+    }
+
+    @Test
+    void readCreatedDatetime_stopsAtDealSetsWhenHeaderHasNone() throws Exception {
+        // Everything after <DEAL_SETS> is malformed: the peek must never get there.
+        String xml = """
+                <MESSAGE xmlns="http://www.mismo.org/residential/2009/schemas">
+                  <ABOUT_VERSIONS><ABOUT_VERSION><DataVersionName>x</DataVersionName></ABOUT_VERSION></ABOUT_VERSIONS>
+                  <DEAL_SETS><DEAL><unclosed>
+                """;
+        try (InputStream in = new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))) {
+            assertThat(MismoStreamReader.readCreatedDatetime(in)).isNull();
+        }
+    }
+
+    @Test
+    void nestedSectionIsTheNodeInsideItsOuterFragment() throws Exception {
+        String xml = """
+                <MESSAGE xmlns="http://www.mismo.org/residential/2009/schemas" xmlns:xlink="http://www.w3.org/1999/xlink">
+                  <PARTY SequenceNumber="1">
+                    <ROLES><ROLE xlink:label="ROLE_1"><ROLE_DETAIL><PartyRoleType>Borrower</PartyRoleType></ROLE_DETAIL></ROLE></ROLES>
+                    <RELATIONSHIP xlink:from="ASSET_1" xlink:to="ROLE_1"/>
+                  </PARTY>
+                </MESSAGE>
+                """;
+        MismoSections s = MismoStreamReader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        Element party = s.first(MismoSection.PARTY);
+        Element rel = s.first(MismoSection.RELATIONSHIP);
+        assertThat(rel.getParentNode()).isSameAs(party);
+        assertThat(s.links().elementsByLabel.get("ROLE_1").getParentNode().getParentNode()).isSameAs(party);
+        assertThat(s.links().arcsByFrom).containsEntry("ASSET_1", "ROLE_1");
+        assertThat(party.getAttribute("SequenceNumber")).isEqualTo("1");
+    }
+
+    @Test
+    void rejectsDoctype() {
+        String xml = "<?xml version=\"1.0\"?><!DOCTYPE MESSAGE [<!ENTITY x SYSTEM \"file:///etc/passwd\">]>"
+                + "<MESSAGE>&x;</MESSAGE>";
+        assertThatThrownBy(() -> MismoStreamReader.read(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Malformed XML");
+    }
+
+    private static List<String> canonical(List<Element> elements) {
+        return elements.stream().map(DomMismoSections::canonical).toList();
+    }
+
+    private static Map<String, String> canonical(Map<String, Element> byLabel) {
+        Map<String, String> out = new TreeMap<>();
+        byLabel.forEach((k, v) -> out.put(k, DomMismoSections.canonical(v)));
+        return out;
+    }
+}
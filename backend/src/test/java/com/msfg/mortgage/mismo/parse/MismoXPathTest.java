@@ -0,0 +1,31 @@
+package com.msfg.mortgage.mismo.parse;
+
+import org.junit.jupiter.api.Test;
+
+import javax.xml.xpath.XPathExpression;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MismoXPathTest {
+
+    private static final String EXPR = ".//*[local-name()='LoanIdentifier']";
+
+    @Test
+    void compile_reusesExpressionOnSameThread() throws Exception {
+        assertThat(MismoXPath.compile(EXPR)).isSameAs(MismoXPath.compile(EXPR));
+    }
+
+    @Test
+    void compile_givesEachThreadItsOwnExpression() throws Exception {
+        XPathExpression here = MismoXPath.compile(EXPR);
+        XPathExpression there = CompletableFuture.supplyAsync(() -> {
+            try {
+                return MismoXPath.compile(EXPR);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }).get();
+        assertThat(there).isNotNull().isNotSameAs(here);
+    }
+}
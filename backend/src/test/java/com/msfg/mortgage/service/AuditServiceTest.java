@@ -115,6 +115,29 @@ class AuditServiceTest {
         assertThat(row.getIpAddress()).isNull();
     }
 
+    @Test
+    void logDocumentActions_writesOneRowPerDocument() {
+        long loanId = 700_000L + System.nanoTime() % 1000;
+
+        Map<Long, Map<String, Object>> metadata = new java.util.LinkedHashMap<>();
+        metadata.put(11L, Map.of("fileName", "w2.pdf"));
+        metadata.put(12L, Map.of());
+        auditService.logDocumentActions(loanId, "UPLOAD_INITIATED", 7, "lo", metadata, mockRequest("10.0.0.9"));
+
+        List<AuditLog> rows = auditLogRepository.findByLoanIdAndAction(loanId, "UPLOAD_INITIATED");
+        assertThat(rows).extracting(AuditLog::getEntityId).containsExactlyInAnyOrder(11L, 12L);
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getEntityType()).isEqualTo("DOCUMENT");
+            assertThat(row.getUserId()).isEqualTo(7);
+            assertThat(row.getIpAddress()).isEqualTo("10.0.0.9");
+            assertThat(row.getCreatedAt()).isNotNull();
+        });
+        assertThat(rows).filteredOn(row -> row.getEntityId() == 11L)
+                .singleElement().extracting(AuditLog::getMetadataJson).asString().contains("w2.pdf");
+        assertThat(rows).filteredOn(row -> row.getEntityId() == 12L)
+                .singleElement().extracting(AuditLog::getMetadataJson).isNull();
+    }
+
     @Test
     void findByLoanIdOrderByCreatedAtDesc_returnsNewestFirst() {
         long loanId = 600_000L + System.nanoTime() % 1000;
@@ -12,6 +12,7 @@ import com.msfg.mortgage.repository.UserRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -39,9 +40,9 @@ class CreateFromIntakeSuiteTest {
                 "Borrower",
                 "00000000-0000-0000-0000-0000000000aa");
 
-        // Constructor arg order: repo, histRepo, mapper, userRepo, suiteClient, devIdentity
+        // Constructor arg order: repo, histRepo, mapper, userRepo, suiteClient, devIdentity, events
         LoanApplicationService service = new LoanApplicationService(
-                repo, histRepo, mapper, userRepo, suite, devIdentity);
+                repo, histRepo, mapper, userRepo, suite, devIdentity, mock(ApplicationEventPublisher.class));
 
         // --- stubs ---
         when(repo.findBySourceLeadId("lead-B2")).thenReturn(Optional.empty());
@@ -95,7 +96,7 @@ class CreateFromIntakeSuiteTest {
                 "00000000-0000-0000-0000-0000000000b0", "Borrower",
                 "00000000-0000-0000-0000-0000000000aa");
         LoanApplicationService service = new LoanApplicationService(
-                repo, histRepo, mapper, userRepo, suite, devIdentity);
+                repo, histRepo, mapper, userRepo, suite, devIdentity, mock(ApplicationEventPublisher.class));
 
         when(repo.findBySourceLeadId("lead-amt")).thenReturn(Optional.empty());
         when(repo.save(any(LoanApplication.class))).thenAnswer(inv -> inv.getArgument(0));
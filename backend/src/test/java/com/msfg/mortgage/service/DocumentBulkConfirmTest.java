@@ -0,0 +1,145 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.model.Document;
+import com.msfg.mortgage.model.LoanApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Bulk confirm: checksummed uploads are finished in the call, the rest go to the worker,
+ * and missing or unknown documents are reported per document without failing the batch.
+ */
+class DocumentBulkConfirmTest extends DocumentUploadTestSupport {
+
+    private static final String HASH = "c".repeat(64);
+
+    private void head(Document doc, Optional<S3DocumentService.UploadedObject> result) {
+        when(s3.inspectUploadAsync(doc.getFilePath())).thenReturn(CompletableFuture.completedFuture(result));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void confirmsFoundUploads_andReportsTheRestPerDocument() {
+        LoanApplication la = loan();
+        Document checksummed = pendingUpload(la, "w2.pdf");
+        Document plain = pendingUpload(la, "paystub.pdf");
+        Document missing = pendingUpload(la, "never-uploaded.pdf");
+        head(checksummed, Optional.of(new S3DocumentService.UploadedObject(1_000L, HASH)));
+        head(plain, Optional.of(new S3DocumentService.UploadedObject(2_000L, null)));
+        head(missing, Optional.empty());
+        when(s3.applyTagsAsync(eq(checksummed.getFilePath()), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        Map<String, Object> result = documentService.bulkConfirm(la.getId(), List.of(
+                checksummed.getDocUuid(), plain.getDocUuid(), missing.getDocUuid(), "no-such-doc"), null);
+
+        assertThat(result.get("requested")).isEqualTo(4);
+        assertThat(result.get("succeeded")).isEqualTo(2);
+        assertThat(result.get("failed")).isEqualTo(2);
+        assertThat((List<Map<String, Object>>) result.get("failures"))
+                .extracting(f -> f.get("docUuid"))
+                .containsExactly(missing.getDocUuid(), "no-such-doc");
+
+        Document done = documentRepository.findById(checksummed.getId()).orElseThrow();
+        assertThat(done.getUploadStatus()).isEqualTo("uploaded");
+        assertThat(done.getFileHash()).isEqualTo(HASH);
+        assertThat(done.getPostUploadStatus()).isEqualTo(DocumentPostUploadService.DONE);
+
+        Document queued = documentRepository.findById(plain.getId()).orElseThrow();
+        assertThat(queued.getUploadStatus()).isEqualTo("uploaded");
+        assertThat(queued.getFileSize()).isEqualTo(2_000L);
+        assertThat(queued.getPostUploadStatus()).isEqualTo(DocumentPostUploadService.PENDING);
+        verify(s3, never()).applyTagsAsync(eq(plain.getFilePath()), anyMap());
+
+        assertThat(documentRepository.findById(missing.getId()).orElseThrow().getUploadStatus()).isEqualTo("pending");
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM document_status_history WHERE document_id IN (?, ?)",
+                Integer.class, checksummed.getId(), plain.getId())).isEqualTo(2);
+        assertThat(auditLogRepository.findByLoanIdAndAction(la.getId(), "UPLOAD")).hasSize(2);
+    }
+
+    @Test
+    void failedTagging_leavesDocumentToTheWorker() {
+        LoanApplication la = loan();
+        Document doc = pendingUpload(la, "bank.pdf");
+        head(doc, Optional.of(new S3DocumentService.UploadedObject(1_000L, HASH)));
+        when(s3.applyTagsAsync(eq(doc.getFilePath()), anyMap()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("throttled")));
+
+        Map<String, Object> result = documentService.bulkConfirm(la.getId(), List.of(doc.getDocUuid()), null);
+
+        assertThat(result.get("succeeded")).isEqualTo(1);
+        Document after = documentRepository.findById(doc.getId()).orElseThrow();
+        assertThat(after.getUploadStatus()).isEqualTo("uploaded");
+        assertThat(after.getFileHash()).isEqualTo(HASH);
+        // The worker tags it with the hash bulk confirm already stored, without reading it back.
+        verify(s3, timeout(5_000)).applyTags(eq(doc.getFilePath()), anyMap());
+        verify(s3, never()).computeSha256(doc.getFilePath());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rowDeletedMeanwhile_isReportedAsFailed() {
+        LoanApplication la = loan();
+        Document doc = pendingUpload(la, "appraisal.pdf");
+        when(s3.inspectUploadAsync(doc.getFilePath())).thenAnswer(inv -> {
+            jdbc.update("UPDATE documents SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?", doc.getId());
+            return CompletableFuture.completedFuture(Optional.of(new S3DocumentService.UploadedObject(1_000L, null)));
+        });
+
+        Map<String, Object> result = documentService.bulkConfirm(la.getId(), List.of(doc.getDocUuid()), null);
+
+        assertThat(result.get("succeeded")).isEqualTo(0);
+        assertThat(result.get("failed")).isEqualTo(1);
+        assertThat((List<Map<String, Object>>) result.get("failures"))
+                .extracting(f -> f.get("docUuid")).containsExactly(doc.getDocUuid());
+        assertThat(documentRepository.findById(doc.getId()).orElseThrow().getUploadStatus()).isEqualTo("pending");
+        assertThat(auditLogRepository.findByLoanIdAndAction(la.getId(), "UPLOAD")).isEmpty();
+    }
+
+    @Test
+    void s3CallsRunOutsideTheTransaction() {
+        LoanApplication la = loan();
+        Document doc = pendingUpload(la, "id.pdf");
+        AtomicBoolean inTransaction = new AtomicBoolean(true);
+        when(s3.inspectUploadAsync(doc.getFilePath())).thenAnswer(inv -> {
+            inTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return CompletableFuture.completedFuture(Optional.of(new S3DocumentService.UploadedObject(1_000L, null)));
+        });
+
+        documentService.bulkConfirm(la.getId(), List.of(doc.getDocUuid()), null);
+
+        assertThat(inTransaction).isFalse();
+        assertThat(documentRepository.findById(doc.getId()).orElseThrow().getUploadStatus()).isEqualTo("uploaded");
+    }
+
+    @Test
+    void rowConfirmedMeanwhile_isNotConfirmedTwice() {
+        LoanApplication la = loan();
+        Document doc = pendingUpload(la, "gift-letter.pdf");
+        when(s3.inspectUploadAsync(doc.getFilePath())).thenAnswer(inv -> {
+            jdbc.update("UPDATE documents SET upload_status = 'uploaded' WHERE id = ?", doc.getId());
+            return CompletableFuture.completedFuture(Optional.of(new S3DocumentService.UploadedObject(1_000L, null)));
+        });
+
+        Map<String, Object> result = documentService.bulkConfirm(la.getId(), List.of(doc.getDocUuid()), null);
+
+        assertThat(result.get("succeeded")).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM document_status_history WHERE document_id = ?",
+                Integer.class, doc.getId())).isZero();
+        assertThat(auditLogRepository.findByLoanIdAndAction(la.getId(), "UPLOAD")).isEmpty();
+    }
+}
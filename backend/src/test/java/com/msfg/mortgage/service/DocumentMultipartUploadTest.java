@@ -0,0 +1,169 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.exception.BusinessValidationException;
+import com.msfg.mortgage.model.Document;
+import com.msfg.mortgage.model.LoanApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Multipart upload lifecycle: initiate lays out the parts and records the S3 upload id,
+ * complete stitches and confirms, abort and the stale sweep retire the row.
+ */
+class DocumentMultipartUploadTest extends DocumentUploadTestSupport {
+
+    private static final long MIB = 1024 * 1024;
+
+    @BeforeEach
+    void stubS3() {
+        when(s3.createMultipartUpload(anyString(), any())).thenReturn("upload-1");
+        when(s3.presignUploadPart(anyString(), anyString(), anyInt()))
+                .thenAnswer(inv -> "https://s3.example/part/" + inv.getArgument(2));
+    }
+
+    private Map<String, Object> initiate(LoanApplication la, long fileSize) {
+        return documentService.initiateMultipartUpload(la.getId(), "closing package.pdf", "Closing",
+                "borrower", "application/pdf", null, null, fileSize, null);
+    }
+
+    @Test
+    void initiate_laysOutPartsAndKeepsUploadIdServerSide() {
+        LoanApplication la = loan();
+        Map<String, Object> body = initiate(la, 40 * MIB);
+
+        assertThat(body.get("partSize")).isEqualTo(16 * MIB);
+        assertThat(body.get("partCount")).isEqualTo(3L);
+        assertThat(body).doesNotContainKey("uploadId");
+        assertThat((String) body.get("s3Key"))
+                .startsWith("applications/" + la.getId() + "/borrower/Closing/")
+                .endsWith("-closing_package.pdf");
+
+        Document doc = documentRepository.findByDocUuid((String) body.get("docUuid")).orElseThrow();
+        assertThat(doc.getMultipartUploadId()).isEqualTo("upload-1");
+        assertThat(doc.getUploadStatus()).isEqualTo("pending");
+
+        Map<String, Object> parts = documentService.presignUploadParts(la.getId(), doc.getDocUuid(), List.of(1, 3));
+        assertThat((List<?>) parts.get("parts")).hasSize(2);
+    }
+
+    @Test
+    void partSize_growsToStayWithinTenThousandParts() {
+        long fiveHundredGiB = 500L * 1024 * MIB;
+        long partSize = documentService.multipartPartSize(fiveHundredGiB);
+        assertThat(partSize).isGreaterThan(16 * MIB);
+        assertThat((fiveHundredGiB + partSize - 1) / partSize).isLessThanOrEqualTo(10_000);
+    }
+
+    @Test
+    void complete_stitchesPartsInOrder_thenConfirms() {
+        LoanApplication la = loan();
+        String docUuid = (String) initiate(la, 20 * MIB).get("docUuid");
+        Document doc = documentRepository.findByDocUuid(docUuid).orElseThrow();
+        when(s3.inspectUpload(doc.getFilePath()))
+                .thenReturn(Optional.of(new S3DocumentService.UploadedObject(20 * MIB, null)));
+
+        assertThatThrownBy(() -> documentService.confirmUpload(la.getId(), docUuid, null))
+                .isInstanceOf(BusinessValidationException.class);
+
+        Map<String, Object> view = documentService.completeMultipartUpload(la.getId(), docUuid, List.of(
+                new S3DocumentService.UploadedPart(2, "\"b\""),
+                new S3DocumentService.UploadedPart(1, "\"a\"")), null);
+
+        verify(s3).completeMultipartUpload(doc.getFilePath(), "upload-1", List.of(
+                new S3DocumentService.UploadedPart(1, "\"a\""),
+                new S3DocumentService.UploadedPart(2, "\"b\"")));
+        assertThat(view.get("uploadStatus")).isEqualTo("uploaded");
+        assertThat(view.get("fileSize")).isEqualTo(20 * MIB);
+        assertThat(documentRepository.findByDocUuid(docUuid).orElseThrow().getMultipartUploadId()).isNull();
+    }
+
+    @Test
+    void complete_callsS3OutsideTheTransaction() {
+        LoanApplication la = loan();
+        String docUuid = (String) initiate(la, 20 * MIB).get("docUuid");
+        Document doc = documentRepository.findByDocUuid(docUuid).orElseThrow();
+        when(s3.inspectUpload(doc.getFilePath()))
+                .thenReturn(Optional.of(new S3DocumentService.UploadedObject(20 * MIB, null)));
+        AtomicBoolean inTransaction = new AtomicBoolean(true);
+        doAnswer(inv -> {
+            inTransaction.set(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(s3).completeMultipartUpload(eq(doc.getFilePath()), eq("upload-1"), any());
+
+        documentService.completeMultipartUpload(la.getId(), docUuid,
+                List.of(new S3DocumentService.UploadedPart(1, "\"a\"")), null);
+
+        assertThat(inTransaction).isFalse();
+        assertThat(documentRepository.findByDocUuid(docUuid).orElseThrow().getUploadStatus()).isEqualTo("uploaded");
+    }
+
+    @Test
+    void complete_afterTheSweepAbortedIt_isRejected() {
+        LoanApplication la = loan();
+        String docUuid = (String) initiate(la, 20 * MIB).get("docUuid");
+        Document doc = documentRepository.findByDocUuid(docUuid).orElseThrow();
+        doAnswer(inv -> {
+            jdbc.update("UPDATE documents SET multipart_upload_id = NULL, upload_status = 'deleted' WHERE id = ?",
+                    doc.getId());
+            return null;
+        }).when(s3).completeMultipartUpload(eq(doc.getFilePath()), eq("upload-1"), any());
+
+        assertThatThrownBy(() -> documentService.completeMultipartUpload(la.getId(), docUuid,
+                List.of(new S3DocumentService.UploadedPart(1, "\"a\"")), null))
+                .isInstanceOf(BusinessValidationException.class);
+        assertThat(documentRepository.findByDocUuid(docUuid).orElseThrow().getUploadStatus()).isEqualTo("deleted");
+        verify(s3, never()).inspectUpload(doc.getFilePath());
+    }
+
+    @Test
+    void abort_freesPartsAndRetiresRow() {
+        LoanApplication la = loan();
+        String docUuid = (String) initiate(la, 20 * MIB).get("docUuid");
+        Document doc = documentRepository.findByDocUuid(docUuid).orElseThrow();
+
+        documentService.abortMultipartUpload(la.getId(), docUuid, null);
+
+        verify(s3).abortMultipartUpload(doc.getFilePath(), "upload-1");
+        Document after = documentRepository.findById(doc.getId()).orElseThrow();
+        assertThat(after.getUploadStatus()).isEqualTo("deleted");
+        assertThat(after.getDeletedAt()).isNotNull();
+        assertThat(after.getMultipartUploadId()).isNull();
+    }
+
+    @Test
+    void sweep_abortsOnlyRecordedUploadsPastTheCutoff() {
+        LoanApplication la = loan();
+        Document stale = documentRepository.findByDocUuid((String) initiate(la, 20 * MIB).get("docUuid")).orElseThrow();
+        Document fresh = documentRepository.findByDocUuid((String) initiate(la, 20 * MIB).get("docUuid")).orElseThrow();
+        jdbc.update("UPDATE documents SET created_at = ? WHERE id = ?",
+                LocalDateTime.now().minusHours(25), stale.getId());
+
+        assertThat(documentService.abortStaleMultipartUploads(Duration.ofHours(24))).isEqualTo(1);
+
+        verify(s3).abortMultipartUpload(stale.getFilePath(), "upload-1");
+        verify(s3, never()).abortMultipartUpload(eq(fresh.getFilePath()), anyString());
+        Document after = documentRepository.findById(stale.getId()).orElseThrow();
+        assertThat(after.getUploadStatus()).isEqualTo("deleted");
+        assertThat(after.getMultipartUploadId()).isNull();
+        assertThat(documentRepository.findById(fresh.getId()).orElseThrow().getMultipartUploadId()).isEqualTo("upload-1");
+    }
+}
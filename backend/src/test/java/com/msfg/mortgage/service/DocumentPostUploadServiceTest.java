@@ -0,0 +1,132 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.model.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Confirm leaves the hash + tags to the post-upload worker; the worker fills them in,
+ * retries a failure and eventually gives up. An upload S3 already checksummed only needs
+ * its tags.
+ */
+class DocumentPostUploadServiceTest extends DocumentUploadTestSupport {
+
+    private static final String HASH = "a".repeat(64);
+
+    @Autowired private DocumentPostUploadService postUploadService;
+
+    private Document pendingUpload() {
+        return pendingUpload(loan(), "statement.pdf");
+    }
+
+    private Map<String, Object> row(Long id) {
+        return jdbc.queryForMap("SELECT file_hash, post_upload_status, post_upload_attempts, post_upload_error "
+                + "FROM documents WHERE id = ?", id);
+    }
+
+    private Map<String, Object> awaitAttempts(Long id, int attempts) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            Map<String, Object> r = row(id);
+            if (((Number) r.get("post_upload_attempts")).intValue() >= attempts) return r;
+            Thread.sleep(50);
+        }
+        throw new AssertionError("post-upload for document " + id + " never reached attempt " + attempts);
+    }
+
+    @Test
+    void confirm_returnsBeforeHashing_andWorkerFillsInHashAndTags() throws Exception {
+        Document doc = pendingUpload();
+        when(s3.inspectUpload(doc.getFilePath()))
+                .thenReturn(Optional.of(new S3DocumentService.UploadedObject(20_000_000L, null)));
+        when(s3.computeSha256(doc.getFilePath())).thenReturn(HASH);
+
+        Map<String, Object> view = documentService.confirmUpload(doc.getApplication().getId(), doc.getDocUuid(), null);
+        assertThat(view.get("uploadStatus")).isEqualTo("uploaded");
+        assertThat(view.get("postUploadStatus")).isEqualTo(DocumentPostUploadService.PENDING);
+
+        Map<String, Object> done = awaitAttempts(doc.getId(), 1);
+        assertThat(done.get("post_upload_status")).isEqualTo(DocumentPostUploadService.DONE);
+        assertThat(done.get("file_hash")).isEqualTo(HASH);
+        verify(s3).applyTags(eq(doc.getFilePath()), anyMap());
+    }
+
+    @Test
+    void checksummedUpload_takesHashFromHead_andSkipsDownload() throws Exception {
+        Document doc = pendingUpload();
+        when(s3.inspectUpload(doc.getFilePath()))
+                .thenReturn(Optional.of(new S3DocumentService.UploadedObject(5_000L, HASH)));
+
+        documentService.confirmUpload(doc.getApplication().getId(), doc.getDocUuid(), null);
+        assertThat(row(doc.getId()).get("file_hash")).isEqualTo(HASH);
+
+        Map<String, Object> done = awaitAttempts(doc.getId(), 1);
+        assertThat(done.get("post_upload_status")).isEqualTo(DocumentPostUploadService.DONE);
+        assertThat(done.get("file_hash")).isEqualTo(HASH);
+        verify(s3).applyTags(eq(doc.getFilePath()), anyMap());
+        verify(s3, never()).computeSha256(anyString());
+    }
+
+    @Test
+    void failedAttempt_isRetried_thenMarkedFailed() throws Exception {
+        Document doc = pendingUpload();
+        when(s3.inspectUpload(doc.getFilePath()))
+                .thenReturn(Optional.of(new S3DocumentService.UploadedObject(1_000L, null)));
+        when(s3.computeSha256(doc.getFilePath())).thenReturn(null);
+
+        documentService.confirmUpload(doc.getApplication().getId(), doc.getDocUuid(), null);
+        Map<String, Object> first = awaitAttempts(doc.getId(), 1);
+        assertThat(first.get("post_upload_status")).isEqualTo(DocumentPostUploadService.PENDING);
+        assertThat(first.get("post_upload_error")).isNotNull();
+
+        // Not due yet: the backoff holds it back.
+        assertThat(postUploadService.queueDue(100)).isZero();
+
+        jdbc.update("UPDATE documents SET post_upload_next_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(1), doc.getId());
+        postUploadService.process(doc.getId());
+        Map<String, Object> last = row(doc.getId());
+        assertThat(last.get("post_upload_status")).isEqualTo(DocumentPostUploadService.FAILED);
+        assertThat(((Number) last.get("post_upload_attempts")).intValue()).isEqualTo(2);
+        assertThat(last.get("file_hash")).isNull();
+        verify(s3, never()).applyTags(anyString(), anyMap());
+    }
+
+    @Test
+    void largeObjectToHash_isClaimedForItsDownloadTime() {
+        Document doc = pendingUpload();
+        long fourGiB = 4L * 1024 * 1024 * 1024;
+        jdbc.update("""
+                UPDATE documents SET upload_status = 'uploaded', file_size = ?, post_upload_status = 'PENDING',
+                       post_upload_attempts = 0, post_upload_next_at = ?
+                 WHERE id = ?
+                """, fourGiB, LocalDateTime.now().minusMinutes(1), doc.getId());
+        AtomicReference<LocalDateTime> leasedUntil = new AtomicReference<>();
+        when(s3.computeSha256(doc.getFilePath())).thenAnswer(inv -> {
+            leasedUntil.set(jdbc.queryForObject("SELECT post_upload_next_at FROM documents WHERE id = ?",
+                    LocalDateTime.class, doc.getId()));
+            return HASH;
+        });
+
+        LocalDateTime before = LocalDateTime.now();
+        postUploadService.process(doc.getId());
+
+        // 600 s base lease plus 4 GiB at the default 8 MiB/s.
+        assertThat(leasedUntil.get()).isAfterOrEqualTo(before.plusSeconds(600 + 512));
+        assertThat(postUploadService.leaseFor(fourGiB, false)).isEqualTo(Duration.ofSeconds(600));
+        assertThat(row(doc.getId()).get("post_upload_status")).isEqualTo(DocumentPostUploadService.DONE);
+    }
+}
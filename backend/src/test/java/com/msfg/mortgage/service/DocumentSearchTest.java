@@ -0,0 +1,112 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.model.Document;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.DocumentRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * {@link DocumentService#searchDocuments} filters and pages in SQL. These pin
+ * the filter semantics and response shape the old in-memory version had.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DocumentSearchTest {
+
+    @Autowired private DocumentService documentService;
+    @Autowired private DocumentRepository documentRepository;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+
+    private LoanApplication loan;
+    private final LocalDateTime base = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @BeforeEach
+    void setUp() {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setLoanType("Conventional");
+        loan = loanApplicationRepository.save(la);
+    }
+
+    private Document doc(String fileName, String status, String partyRole, int minutes) {
+        return documentRepository.save(Document.builder()
+                .application(loan)
+                .documentType("Other")
+                .fileName(fileName)
+                .filePath("loans/" + loan.getId() + "/" + fileName)
+                .docUuid(UUID.randomUUID().toString())
+                .uploadStatus("uploaded")
+                .documentStatus(status)
+                .partyRole(partyRole)
+                .uploadedByUserId(7)
+                .uploadedAt(base.plusMinutes(minutes))
+                .build());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> docs(Map<String, Object> result) {
+        return (List<Map<String, Object>>) result.get("documents");
+    }
+
+    @Test
+    void pagesNewestFirst_withTotals() {
+        for (int i = 0; i < 5; i++) doc("file" + i + ".pdf", "UPLOADED", "borrower", i);
+
+        Map<String, Object> page1 = documentService.searchDocuments(loan.getId(), null, null, null, null, null, 1, 2);
+
+        assertThat(page1.get("totalElements")).isEqualTo(5);
+        assertThat(page1.get("totalPages")).isEqualTo(3);
+        assertThat(docs(page1)).extracting(d -> d.get("fileName")).containsExactly("file2.pdf", "file1.pdf");
+        assertThat(docs(page1).get(0)).containsOnlyKeys(
+                "id", "docUuid", "documentType", "documentTypeId", "fileName", "fileSize", "contentType",
+                "partyRole", "uploadStatus", "uploadedAt", "folderId", "description", "documentStatus",
+                "reviewedByUserId", "reviewerNotes", "reviewedAt", "createdAt", "updatedAt", "postUploadStatus");
+    }
+
+    @Test
+    void filters_matchOldSemantics() {
+        doc("W2_2025.pdf", "ACCEPTED", "Borrower", 0);
+        doc("paystub.pdf", "UPLOADED", "borrower", 1);
+        doc("100%_final.pdf", "UPLOADED", "agent", 2);
+
+        assertThat(docs(documentService.searchDocuments(loan.getId(), "accepted", null, null, null, null, 0, 10)))
+                .extracting(d -> d.get("fileName")).containsExactly("W2_2025.pdf");
+        assertThat(docs(documentService.searchDocuments(loan.getId(), null, null, null, null, "BORROWER", null, 0, 10)))
+                .hasSize(2);
+        assertThat(docs(documentService.searchDocuments(loan.getId(), null, null, null, null, null, "W2", 0, 10)))
+                .extracting(d -> d.get("fileName")).containsExactly("W2_2025.pdf");
+        // LIKE wildcards in the query are literal, as String.contains was.
+        assertThat(docs(documentService.searchDocuments(loan.getId(), null, null, null, null, null, "0%_", 0, 10)))
+                .extracting(d -> d.get("fileName")).containsExactly("100%_final.pdf");
+        assertThat(docs(documentService.searchDocuments(loan.getId(), null, null, null, null, null, "_", 0, 10)))
+                .hasSize(2);
+    }
+
+    @Test
+    void excludesPendingAndDeleted() {
+        doc("kept.pdf", "UPLOADED", "borrower", 0);
+        Document pending = doc("pending.pdf", "PENDING_UPLOAD", "borrower", 1);
+        pending.setUploadStatus("pending");
+        documentRepository.saveAndFlush(pending);
+        Document deleted = doc("deleted.pdf", "UPLOADED", "borrower", 2);
+        deleted.setDeletedAt(LocalDateTime.now());
+        documentRepository.saveAndFlush(deleted);
+
+        assertThat(docs(documentService.searchDocuments(loan.getId(), null, null, null, null, null, 0, 10)))
+                .extracting(d -> d.get("fileName")).containsExactly("kept.pdf");
+    }
+}
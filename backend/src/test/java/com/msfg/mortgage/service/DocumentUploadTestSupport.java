@@ -0,0 +1,63 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.model.Document;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.AuditLogRepository;
+import com.msfg.mortgage.repository.DocumentRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * Shared setup for the document upload tests, so they all run in one application context
+ * with {@link S3DocumentService} mocked. Key building stays real; each test stubs the S3
+ * calls it exercises. The post-upload worker gives up after two attempts, which keeps its
+ * give-up path quick to reach.
+ */
+@SpringBootTest(properties = "documents.post-upload.max-attempts=2")
+@ActiveProfiles("test")
+abstract class DocumentUploadTestSupport {
+
+    @Autowired protected DocumentService documentService;
+    @Autowired protected DocumentRepository documentRepository;
+    @Autowired protected LoanApplicationRepository loanApplicationRepository;
+    @Autowired protected AuditLogRepository auditLogRepository;
+    @Autowired protected JdbcTemplate jdbc;
+
+    @MockBean protected S3DocumentService s3;
+
+    @BeforeEach
+    void stubKeys() {
+        when(s3.buildApplicationKey(anyLong(), anyString(), anyString(), anyString(), anyString()))
+                .thenCallRealMethod();
+    }
+
+    protected LoanApplication loan() {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setLoanType("Conventional");
+        return loanApplicationRepository.save(la);
+    }
+
+    /** A Document row as upload-url leaves it: pending, with its S3 key. */
+    protected Document pendingUpload(LoanApplication la, String fileName) {
+        return documentRepository.save(Document.builder()
+                .application(la)
+                .documentType("Other")
+                .fileName(fileName)
+                .filePath("applications/" + la.getId() + "/borrower/Other/" + fileName)
+                .docUuid(UUID.randomUUID().toString())
+                .partyRole("borrower")
+                .build());
+    }
+}
@@ -0,0 +1,87 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.exception.BusinessValidationException;
+import com.msfg.mortgage.model.Document;
+import com.msfg.mortgage.model.LoanApplication;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Batch upload-url: one pending row per file in request order, ids written back from the
+ * JDBC batch, one audit row each — and nothing written when any file is invalid.
+ */
+class DocumentUploadUrlBatchTest extends DocumentUploadTestSupport {
+
+    @BeforeEach
+    void stubS3() {
+        when(s3.presignUpload(anyString(), any(), any())).thenAnswer(inv ->
+                new S3DocumentService.PresignedUpload("https://s3.example/" + inv.getArgument(0), Map.of()));
+    }
+
+    private int pendingRows(LoanApplication la) {
+        Integer n = jdbc.queryForObject(
+                "SELECT COUNT(*) FROM documents WHERE application_id = ? AND upload_status = 'pending'",
+                Integer.class, la.getId());
+        return n != null ? n : 0;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void issuesEveryUrl_inRequestOrder_withPersistedRows() {
+        LoanApplication la = loan();
+        List<DocumentService.UploadFile> files = List.of(
+                new DocumentService.UploadFile("w2 2024.pdf", "application/pdf", null),
+                new DocumentService.UploadFile("paystub.pdf", "application/pdf", null),
+                new DocumentService.UploadFile("bank.png", "image/png", "b".repeat(64)));
+
+        Map<String, Object> body = documentService.issueUploadUrls(la.getId(), "Income", "borrower",
+                null, null, files, null);
+
+        List<Map<String, Object>> uploads = (List<Map<String, Object>>) body.get("uploads");
+        assertThat(body.get("count")).isEqualTo(3);
+        assertThat(uploads).extracting(u -> (String) u.get("s3Key"))
+                .satisfiesExactly(
+                        k -> assertThat(k).endsWith("-w2_2024.pdf"),
+                        k -> assertThat(k).endsWith("-paystub.pdf"),
+                        k -> assertThat(k).endsWith("-bank.png"));
+
+        for (Map<String, Object> upload : uploads) {
+            Document doc = documentRepository.findById((Long) upload.get("documentId")).orElseThrow();
+            assertThat(doc.getDocUuid()).isEqualTo(upload.get("docUuid"));
+            assertThat(doc.getFilePath()).isEqualTo(upload.get("s3Key"));
+            assertThat(doc.getUploadStatus()).isEqualTo("pending");
+            assertThat(doc.getDocumentType()).isEqualTo("Income");
+            assertThat(doc.getCreatedAt()).isNotNull();
+        }
+        assertThat(pendingRows(la)).isEqualTo(3);
+        assertThat(auditLogRepository.findByLoanIdAndAction(la.getId(), "UPLOAD_INITIATED")).hasSize(3);
+        verify(s3).presignUpload(endsWith("-bank.png"), eq("image/png"), eq("b".repeat(64)));
+        verify(s3).presignUpload(endsWith("-paystub.pdf"), eq("application/pdf"), isNull());
+    }
+
+    @Test
+    void invalidFile_failsWholeBatch() {
+        LoanApplication la = loan();
+        List<DocumentService.UploadFile> files = List.of(
+                new DocumentService.UploadFile("ok.pdf", "application/pdf", null),
+                new DocumentService.UploadFile("bad.pdf", "application/pdf", "not-a-digest"));
+
+        assertThatThrownBy(() -> documentService.issueUploadUrls(la.getId(), "Income", "borrower",
+                null, null, files, null))
+                .isInstanceOf(BusinessValidationException.class);
+        assertThat(pendingRows(la)).isZero();
+    }
+}
@@ -0,0 +1,108 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.model.Borrower;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Statement-count regression suite for the {@link LoanApplication} fetch plans. Not
+ * @Transactional, for the same reason as {@link LoanDashboardStatementCountTest}: every call
+ * gets a cold session, so the counts are what a request would see.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanApplicationFetchPlanTest {
+
+    @Autowired private LoanApplicationService loanApplicationService;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Long seedLoan(int borrowers) {
+        return loanApplicationService.createApplication(TestLoanApplications.purchase("Ogden", borrowers)).getId();
+    }
+
+    private long fullFormStatements(Long loanId) {
+        stats.clear();
+        LoanApplication la = loanApplicationService.getApplicationById(loanId).orElseThrow();
+        long count = stats.getPrepareStatementCount();
+        // Everything the JSON form serializes must be loaded before the session closed.
+        assertThat(Hibernate.isInitialized(la.getLiabilities())).isTrue();
+        assertThat(Hibernate.isInitialized(la.getDocuments())).isTrue();
+        for (Borrower b : la.getBorrowers()) {
+            assertThat(Hibernate.isInitialized(b.getEmploymentHistory())).isTrue();
+            assertThat(Hibernate.isInitialized(b.getAssets())).isTrue();
+        }
+        return count;
+    }
+
+    private long mismoExportStatements(Long loanId) {
+        stats.clear();
+        LoanApplication la = loanApplicationService.getApplicationForMismoExport(loanId).orElseThrow();
+        long count = stats.getPrepareStatementCount();
+        assertThat(Hibernate.isInitialized(la.getLiabilities())).isTrue();
+        assertThat(Hibernate.isInitialized(la.getDocuments())).isFalse();
+        return count;
+    }
+
+    @Test
+    void fullForm_staysWithinBudget_andDoesNotGrowWithBorrowers() {
+        Long one = seedLoan(1);
+        Long three = seedLoan(3);
+
+        assertThat(fullFormStatements(three)).isLessThanOrEqualTo(LoanApplicationService.FULL_FORM_STATEMENT_BUDGET);
+        assertThat(fullFormStatements(three)).isEqualTo(fullFormStatements(one));
+    }
+
+    @Test
+    void mismoExport_staysWithinBudget_andDoesNotGrowWithBorrowers() {
+        Long one = seedLoan(1);
+        Long three = seedLoan(3);
+
+        assertThat(mismoExportStatements(three)).isLessThanOrEqualTo(LoanApplicationService.MISMO_EXPORT_STATEMENT_BUDGET);
+        assertThat(mismoExportStatements(three)).isEqualTo(mismoExportStatements(one));
+    }
+
+    @Test
+    void summary_isOneStatement() {
+        Long loanId = seedLoan(2);
+
+        stats.clear();
+        LoanApplication la = loanApplicationRepository.findSummaryById(loanId).orElseThrow();
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(la.getProperty().getCity()).isEqualTo("Ogden");
+        assertThat(Hibernate.isInitialized(la.getBorrowers())).isFalse();
+    }
+
+    @Test
+    void statusChange_doesNotGrowWithBorrowers() {
+        Long one = seedLoan(1);
+        Long three = seedLoan(3);
+
+        stats.clear();
+        loanApplicationService.updateApplicationStatus(one, "APPLICATION");
+        long small = stats.getPrepareStatementCount();
+        stats.clear();
+        loanApplicationService.updateApplicationStatus(three, "APPLICATION");
+
+        assertThat(stats.getPrepareStatementCount()).isEqualTo(small);
+    }
+}
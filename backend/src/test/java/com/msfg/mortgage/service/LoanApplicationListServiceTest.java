@@ -2,8 +2,10 @@ package com.msfg.mortgage.service;
 
 import com.msfg.mortgage.dto.BorrowerDTO;
 import com.msfg.mortgage.dto.LoanApplicationDTO;
+import com.msfg.mortgage.dto.LoanListCursorPage;
 import com.msfg.mortgage.dto.LoanListFilters;
 import com.msfg.mortgage.dto.LoanListPage;
+import com.msfg.mortgage.dto.LoanListRow;
 import com.msfg.mortgage.dto.PropertyDTO;
 import com.msfg.mortgage.model.LoanApplication;
 import jakarta.persistence.EntityManager;
@@ -17,10 +19,13 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @SpringBootTest
 @ActiveProfiles("test")
@@ -180,4 +185,95 @@ class LoanApplicationListServiceTest {
         assertThat(page.totalElements()).isEqualTo(2);
         assertThat(page.content().get(0).loanAmount()).isEqualByComparingTo("200000"); // newer
     }
+
+    private static LoanListFilters sortedBy(String field, String dir, int size) {
+        return new LoanListFilters(
+            List.of(), Optional.empty(), Optional.empty(),
+            Optional.empty(), Optional.empty(), Optional.empty(),
+            List.of(), Optional.empty(), Optional.empty(),
+            field, dir, 0, size
+        );
+    }
+
+    @Test
+    void listByCursor_walksEveryRowExactlyOnce() {
+        for (int i = 0; i < 7; i++) {
+            appWith("Purchase", new BigDecimal(100000 + i * 1000), new BigDecimal("500000"), null);
+        }
+        LoanListFilters filters = sortedBy("createdDate", "desc", 3);
+
+        List<LoanListRow> seen = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = "";
+        LoanListCursorPage page;
+        do {
+            page = listService.listByCursor(filters, cursor, false);
+            seen.addAll(page.content());
+            pageSizes.add(page.content().size());
+            cursor = page.nextCursor();
+        } while (page.hasMore());
+
+        assertThat(pageSizes).containsExactly(3, 3, 1);
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.totalElements()).isNull();
+        assertThat(seen).extracting(LoanListRow::id).doesNotHaveDuplicates().hasSize(7);
+    }
+
+    @Test
+    void listByCursor_seeksOnLoanAmountWithNullsLast() {
+        appWith("Purchase", new BigDecimal("300000"), new BigDecimal("400000"), null);
+        appWith("Purchase", new BigDecimal("100000"), new BigDecimal("200000"), null);
+        appWith("Purchase", new BigDecimal("200000"), new BigDecimal("300000"), null);
+        LoanApplication noAmount = appWith("Purchase", new BigDecimal("1"), new BigDecimal("300000"), null);
+        jdbcTemplate.update("UPDATE loan_applications SET loan_amount = NULL WHERE id = ?", noAmount.getId());
+
+        LoanListFilters filters = sortedBy("loanAmount", "asc", 2);
+        LoanListCursorPage first = listService.listByCursor(filters, null, true);
+        LoanListCursorPage second = listService.listByCursor(filters, first.nextCursor(), false);
+
+        assertThat(first.totalElements()).isEqualTo(4);
+        assertThat(first.content()).extracting(r -> r.loanAmount().intValue()).containsExactly(100000, 200000);
+        assertThat(second.content())
+            .extracting(r -> r.loanAmount() == null ? null : r.loanAmount().intValue())
+            .containsExactly(300000, null);
+        assertThat(second.hasMore()).isFalse();
+    }
+
+    @Test
+    void listByCursor_seeksThroughTheNullGroupOnId() {
+        appWith("Purchase", new BigDecimal("200000"), new BigDecimal("300000"), null);
+        appWith("Purchase", new BigDecimal("100000"), new BigDecimal("200000"), null);
+        for (int i = 0; i < 3; i++) {
+            LoanApplication noAmount = appWith("Purchase", new BigDecimal("1"), new BigDecimal("300000"), null);
+            jdbcTemplate.update("UPDATE loan_applications SET loan_amount = NULL WHERE id = ?", noAmount.getId());
+        }
+        LoanListFilters filters = sortedBy("loanAmount", "desc", 2);
+
+        List<LoanListRow> seen = new ArrayList<>();
+        String cursor = null;
+        LoanListCursorPage page;
+        do {
+            page = listService.listByCursor(filters, cursor, false);
+            seen.addAll(page.content());
+            cursor = page.nextCursor();
+        } while (page.hasMore());
+
+        assertThat(seen).extracting(r -> r.loanAmount() == null ? null : r.loanAmount().intValue())
+            .containsExactly(200000, 100000, null, null, null);
+        List<Long> nullIds = seen.subList(2, 5).stream().map(LoanListRow::id).toList();
+        assertThat(nullIds).isSortedAccordingTo(Comparator.reverseOrder()).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void listByCursor_rejectsCursorFromDifferentSort() {
+        for (int i = 0; i < 3; i++) {
+            appWith("Purchase", new BigDecimal(100000 + i * 1000), new BigDecimal("500000"), null);
+        }
+        String cursor = listService.listByCursor(sortedBy("createdDate", "desc", 1), null, false).nextCursor();
+
+        assertThatThrownBy(() -> listService.listByCursor(sortedBy("loanAmount", "desc", 1), cursor, false))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> listService.listByCursor(sortedBy("createdDate", "desc", 1), "not-a-cursor", false))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -38,6 +39,7 @@ class LoanDashboardServiceTest {
     @Autowired private LoanApplicationRepository loanApplicationRepository;
     @Autowired private UserRepository userRepository;
     @Autowired private LoanAgentRepository loanAgentRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
 
     private Long loanId;
 
@@ -223,6 +225,49 @@ class LoanDashboardServiceTest {
         assertThat(remaining).noneMatch(m -> condId.equals(((Number) m.get("id")).longValue()));
     }
 
+    @Test
+    void conditionWrites_maintainOutstandingCounter() {
+        Map<String, Object> a = loanDashboardService.createCondition(loanId,
+                new LoanDashboardService.ConditionInput("Counter A", null, null, null, null, null));
+        loanDashboardService.createCondition(loanId,
+                new LoanDashboardService.ConditionInput("Counter B", null, null, null, null, null));
+        loanDashboardService.createCondition(loanId,
+                new LoanDashboardService.ConditionInput("Counter C", null, "Waived", null, null, null));
+        assertThat(outstandingCount()).isEqualTo(2);
+
+        Long aId = ((Number) a.get("id")).longValue();
+        loanDashboardService.updateCondition(loanId, aId,
+                new LoanDashboardService.ConditionInput(null, null, "Cleared", null, null, null));
+        assertThat(outstandingCount()).isEqualTo(1);
+
+        // Non-status edits leave the counter alone.
+        loanDashboardService.updateCondition(loanId, aId,
+                new LoanDashboardService.ConditionInput(null, null, null, null, null, "note only"));
+        assertThat(outstandingCount()).isEqualTo(1);
+
+        loanDashboardService.updateCondition(loanId, aId,
+                new LoanDashboardService.ConditionInput(null, null, "Outstanding", null, null, null));
+        assertThat(outstandingCount()).isEqualTo(2);
+
+        loanDashboardService.deleteCondition(loanId, aId);
+        assertThat(outstandingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void reconcileOutstandingConditionCounts_repairsDrift() {
+        loanDashboardService.createCondition(loanId,
+                new LoanDashboardService.ConditionInput("Drift", null, null, null, null, null));
+        jdbcTemplate.update("UPDATE loan_applications SET outstanding_condition_count = 7 WHERE id = ?", loanId);
+
+        assertThat(loanDashboardService.reconcileOutstandingConditionCounts()).isGreaterThanOrEqualTo(1);
+        assertThat(outstandingCount()).isEqualTo(1);
+    }
+
+    private int outstandingCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT outstanding_condition_count FROM loan_applications WHERE id = ?", Integer.class, loanId);
+    }
+
     // ── Notes ─────────────────────────────────────────────────────────────
 
     @Test
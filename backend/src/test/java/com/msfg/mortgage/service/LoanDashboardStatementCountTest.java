@@ -0,0 +1,97 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.model.LoanAgent;
+import com.msfg.mortgage.model.User;
+import com.msfg.mortgage.repository.LoanAgentRepository;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import com.msfg.mortgage.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the dashboard read to a fixed number of JDBC statements no matter how
+ * many borrowers, agents or conditions the loan has. Not @Transactional: each
+ * getDashboard call gets a fresh session, so nothing is served from a warm
+ * first-level cache and the count is what production would see.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class LoanDashboardStatementCountTest {
+
+    @Autowired private LoanApplicationService loanApplicationService;
+    @Autowired private LoanDashboardService loanDashboardService;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+    @Autowired private LoanAgentRepository loanAgentRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private Statistics stats;
+
+    @BeforeEach
+    void setUp() {
+        stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Long seedLoan(int borrowers, int agents, int conditions) {
+        Long loanId = loanApplicationService.createApplication(
+                TestLoanApplications.purchase("Provo", borrowers)).getId();
+
+        for (int i = 0; i < agents; i++) {
+            User u = new User();
+            u.setEmail("agent" + i + "." + loanId + "@msfg.test");
+            u.setName("Agent " + i);
+            u.setRole("lo");
+            loanAgentRepository.save(LoanAgent.builder()
+                    .application(loanApplicationRepository.getReferenceById(loanId))
+                    .agentUser(userRepository.save(u))
+                    .agentRole("BuyersAgent")
+                    .build());
+        }
+        for (int i = 0; i < conditions; i++) {
+            loanDashboardService.createCondition(loanId,
+                    new LoanDashboardService.ConditionInput("Condition " + i, null, null, null, null, null));
+        }
+        return loanId;
+    }
+
+    private long statementsFor(Long loanId) {
+        stats.clear();
+        Map<String, Object> body = loanDashboardService.getDashboard(loanId);
+        assertThat(body).containsKey("loanId");
+        return stats.getPrepareStatementCount();
+    }
+
+    @Test
+    void dashboard_staysWithinStatementBudget() {
+        Long loanId = seedLoan(2, 3, 4);
+
+        assertThat(statementsFor(loanId)).isLessThanOrEqualTo(LoanDashboardService.DASHBOARD_STATEMENT_BUDGET);
+    }
+
+    @Test
+    void dashboard_statementCount_doesNotGrowWithChildRows() {
+        Long small = seedLoan(1, 1, 1);
+        Long large = seedLoan(4, 6, 10);
+
+        assertThat(statementsFor(large)).isEqualTo(statementsFor(small));
+    }
+
+    @Test
+    void dashboard_picksLowestSequenceBorrowerAsPrimary() {
+        Long loanId = seedLoan(3, 0, 0);
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> primary = (Map<String, Object>) loanDashboardService.getDashboard(loanId).get("primaryBorrower");
+        assertThat(primary.get("firstName")).isEqualTo("Borrower1");
+    }
+}
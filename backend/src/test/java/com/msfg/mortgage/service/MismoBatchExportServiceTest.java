@@ -0,0 +1,94 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.dto.LoanListFilters;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batch MISMO export: filter selection, batched loading across several batches and the
+ * zip layout.
+ */
+@SpringBootTest(properties = "mismo.export.batch-size=2")
+@ActiveProfiles("test")
+class MismoBatchExportServiceTest {
+
+    @Autowired private MismoBatchExportService exportService;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+
+    private LoanApplication loan(String loanType, int amount) {
+        LoanApplication la = new LoanApplication();
+        la.setLoanPurpose("Purchase");
+        la.setLoanType(loanType);
+        la.setLoanAmount(BigDecimal.valueOf(amount));
+        la.setStatus("FUNDED");
+        return loanApplicationRepository.save(la);
+    }
+
+    private static LoanListFilters loanType(String loanType) {
+        return new LoanListFilters(List.of(), Optional.empty(), Optional.empty(), Optional.empty(),
+                Optional.empty(), Optional.empty(), List.of(loanType), Optional.empty(), Optional.empty(),
+                "loanAmount", "asc", 0, 25);
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws Exception {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            for (ZipEntry e = in.getNextEntry(); e != null; e = in.getNextEntry()) {
+                entries.put(e.getName(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    void exportsEverySelectedLoan_inSortOrder() throws Exception {
+        String type = "T-" + UUID.randomUUID().toString().substring(0, 8);
+        List<LoanApplication> loans = new ArrayList<>();
+        for (int amount : new int[]{300_000, 100_000, 200_000}) loans.add(loan(type, amount));
+        loan("Conventional", 150_000);
+        loans.sort(Comparator.comparing(LoanApplication::getLoanAmount));
+
+        List<Long> ids = exportService.select(loanType(type));
+        assertThat(ids).containsExactly(loans.get(0).getId(), loans.get(1).getId(), loans.get(2).getId());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeZip(ids, out);
+        Map<String, String> entries = unzip(out.toByteArray());
+
+        assertThat(entries.keySet()).containsExactly(loans.stream()
+                .map(la -> "MISMO-" + la.getApplicationNumber() + ".xml").toArray(String[]::new));
+        assertThat(entries.values()).allSatisfy(xml -> assertThat(xml).contains("<MESSAGE", "</MESSAGE>"));
+    }
+
+    @Test
+    void missingLoan_isListedInErrorsEntry() throws Exception {
+        LoanApplication la = loan("Conventional", 100_000);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.writeZip(List.of(la.getId(), -1L), out);
+        Map<String, String> entries = unzip(out.toByteArray());
+
+        assertThat(entries).containsKey("MISMO-" + la.getApplicationNumber() + ".xml");
+        assertThat(entries.get(MismoBatchExportService.ERRORS_ENTRY)).contains("loan -1: not found");
+    }
+}
@@ -0,0 +1,141 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.mismo.MismoFixtures;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.model.MismoImport;
+import com.msfg.mortgage.model.MismoImportJob;
+import com.msfg.mortgage.model.MismoImportJobFile;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import com.msfg.mortgage.repository.MismoImportJobRepository;
+import com.msfg.mortgage.repository.MismoImportRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Background MISMO imports against the two LP fixtures: bulk create and async re-import.
+ * Jobs run on the real worker pools, so each test submits and then polls the job row
+ * until it closes.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MismoImportJobServiceTest {
+
+    @Autowired private MismoImportJobService importJobService;
+    @Autowired private MismoImportJobRepository jobRepository;
+    @Autowired private MismoImportRepository mismoImportRepository;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+
+    private MismoImportJob awaitFinished(Long jobId) throws InterruptedException {
+        for (int i = 0; i < 300; i++) {
+            MismoImportJob job = jobRepository.findById(jobId).orElseThrow();
+            if (job.getFinishedAt() != null) return job;
+            Thread.sleep(100);
+        }
+        throw new AssertionError("bulk job " + jobId + " did not finish");
+    }
+
+    @Test
+    void createsOneLoanPerFile_andIsolatesFailures() throws Exception {
+        MismoImportJob job = importJobService.submit(List.of(
+                new MismoImportJobService.BulkFile("urla.xml", MismoFixtures.bytes("sample-urla-fnm.xml")),
+                new MismoImportJobService.BulkFile("broken.xml", "<MESSAGE><DEAL_SETS>".getBytes(StandardCharsets.UTF_8)),
+                new MismoImportJobService.BulkFile("closing.xml", MismoFixtures.bytes("sample-closing.xml"))), null);
+
+        MismoImportJob done = awaitFinished(job.getId());
+        assertThat(done.getStatus()).isEqualTo(MismoImportJob.COMPLETED_WITH_ERRORS);
+        assertThat(done.getSucceededFiles()).isEqualTo(2);
+        assertThat(done.getFailedFiles()).isEqualTo(1);
+
+        List<MismoImportJobFile> files = importJobService.files(job.getId());
+        assertThat(files).extracting(MismoImportJobFile::getSourceFilename)
+                .containsExactly("urla.xml", "broken.xml", "closing.xml");
+        assertThat(files).extracting(MismoImportJobFile::getStatus).containsExactly(
+                MismoImportJobFile.SUCCEEDED, MismoImportJobFile.FAILED, MismoImportJobFile.SUCCEEDED);
+        assertThat(files.get(1).getError()).isNotBlank();
+        assertThat(files.get(1).getLoanApplicationId()).isNull();
+
+        for (MismoImportJobFile f : List.of(files.get(0), files.get(2))) {
+            LoanApplication loan = loanApplicationRepository.findFullFormById(f.getLoanApplicationId()).orElseThrow();
+            assertThat(loan.getBorrowers()).isNotEmpty();
+            MismoImport audit = mismoImportRepository.findById(f.getMismoImportId()).orElseThrow();
+            assertThat(audit.getLoanApplicationId()).isEqualTo(loan.getId());
+            assertThat(audit.getSourceFilename()).isEqualTo(f.getSourceFilename());
+            assertThat(audit.getFieldsChangedCount()).isEqualTo(f.getFieldsChangedCount()).isPositive();
+        }
+    }
+
+    @Test
+    void reimport_forced_appliesFileAndRecordsAudit() throws Exception {
+        LoanApplication la = MismoFixtures.freshLoan(loanApplicationRepository);
+
+        MismoImportJob job = importJobService.submitReimport(la.getId(),
+                new MismoImportJobService.BulkFile("closing.xml", MismoFixtures.bytes("sample-closing.xml")), true, null);
+        assertThat(job.getKind()).isEqualTo(MismoImportJob.REIMPORT);
+
+        MismoImportJob done = awaitFinished(job.getId());
+        assertThat(done.getStatus()).isEqualTo(MismoImportJob.COMPLETED);
+
+        MismoImportJobFile file = importJobService.files(job.getId()).get(0);
+        assertThat(file.getStatus()).isEqualTo(MismoImportJobFile.SUCCEEDED);
+        assertThat(file.getLoanApplicationId()).isEqualTo(la.getId());
+        MismoImport audit = mismoImportRepository.findById(file.getMismoImportId()).orElseThrow();
+        assertThat(audit.getForced()).isTrue();
+        assertThat(audit.getFieldsChangedCount()).isPositive();
+        assertThat(audit.getFieldsChangedSummary()).startsWith("[{");
+        assertThat(loanApplicationRepository.findFullFormById(la.getId()).orElseThrow().getBorrowers()).isNotEmpty();
+    }
+
+    @Test
+    void reimport_unforced_failsOnDriftWithoutWriting() throws Exception {
+        // A loan saved just now is newer than the fixture's CreatedDatetime (May 2026).
+        LoanApplication la = MismoFixtures.freshLoan(loanApplicationRepository);
+
+        MismoImportJob job = importJobService.submitReimport(la.getId(),
+                new MismoImportJobService.BulkFile("urla.xml", MismoFixtures.bytes("sample-urla-fnm.xml")), false, null);
+
+        MismoImportJob done = awaitFinished(job.getId());
+        assertThat(done.getStatus()).isEqualTo(MismoImportJob.COMPLETED_WITH_ERRORS);
+
+        MismoImportJobFile file = importJobService.files(job.getId()).get(0);
+        assertThat(file.getStatus()).isEqualTo(MismoImportJobFile.FAILED);
+        assertThat(file.getError()).startsWith("drift_detected");
+        assertThat(file.getMismoImportId()).isNull();
+        assertThat(mismoImportRepository.findByLoanApplicationIdOrderByImportedAtDesc(la.getId())).isEmpty();
+    }
+
+    @Test
+    void unzip_keepsXmlEntriesInOrder_andSkipsTheRest() throws Exception {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(zip)) {
+            for (String name : List.of("b.xml", "nested/", "nested/a.XML", "__MACOSX/nested/._a.XML",
+                                       ".DS_Store.xml", "notes.txt")) {
+                out.putNextEntry(new ZipEntry(name));
+                if (!name.endsWith("/")) out.write("<MESSAGE/>".getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+
+        List<MismoImportJobService.BulkFile> files =
+                importJobService.unzip(new ByteArrayInputStream(zip.toByteArray()));
+        assertThat(files).extracting(MismoImportJobService.BulkFile::filename)
+                .containsExactly("b.xml", "nested/a.XML");
+    }
+
+    @Test
+    void submit_rejectsEmptyUpload() {
+        assertThatThrownBy(() -> importJobService.submit(List.of(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.mismo.MismoContentHash;
+import com.msfg.mortgage.mismo.MismoFixtures;
+import com.msfg.mortgage.mismo.parse.MismoStreamReader;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.model.MismoImport;
+import com.msfg.mortgage.repository.LoanApplicationRepository;
+import com.msfg.mortgage.repository.MismoImportRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Content-hash short-circuit for re-uploads of the same MISMO export.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MismoImportServiceTest {
+
+    @Autowired private MismoImportService mismoImportService;
+    @Autowired private MismoImportRepository mismoImportRepository;
+    @Autowired private LoanApplicationRepository loanApplicationRepository;
+    @Autowired private LoanDashboardService loanDashboardService;
+    @Autowired private JdbcTemplate jdbc;
+
+    @Test
+    void contentHash_ignoresBomLineEndingsAndTrailingWhitespace() {
+        String xml = "<MESSAGE>\n  <ABOUT_VERSIONS/>\n</MESSAGE>";
+        String hash = MismoContentHash.sha256(xml.getBytes(StandardCharsets.UTF_8));
+
+        byte[] resaved = ("\uFEFF" + xml.replace("\n", "\r\n") + "\r\n").getBytes(StandardCharsets.UTF_8);
+        assertThat(MismoContentHash.sha256(resaved)).isEqualTo(hash).hasSize(64);
+        assertThat(MismoContentHash.sha256(xml.replace("ABOUT", "about").getBytes(StandardCharsets.UTF_8)))
+                .isNotEqualTo(hash);
+    }
+
+    @Test
+    void sameFileOnUntouchedLoan_isRecordedWithoutImporting() throws Exception {
+        byte[] bytes = MismoFixtures.bytes("sample-closing.xml");
+        String sha256 = MismoContentHash.sha256(bytes);
+        LoanApplication la = MismoFixtures.freshLoan(loanApplicationRepository);
+
+        MismoImportService.Imported first = mismoImportService.reimport(la.getId(),
+                MismoStreamReader.read(new ByteArrayInputStream(bytes)), "closing.xml", sha256, true, null);
+        assertThat(first.audit().getContentSha256()).isEqualTo(sha256);
+        assertThat(first.audit().getLoanUpdatedDate()).isNotNull();
+
+        LoanApplication current = loanApplicationRepository.findById(la.getId()).orElseThrow();
+        Optional<MismoImport> repeat = mismoImportService.recordUnchangedReimport(
+                current, sha256, "closing (1).xml", false, null);
+        assertThat(repeat).isPresent();
+        assertThat(repeat.get().getDuplicateOfImportId()).isEqualTo(first.audit().getId());
+        assertThat(repeat.get().getFieldsChangedCount()).isZero();
+        assertThat(repeat.get().getFileCreatedDatetime()).isEqualTo(first.audit().getFileCreatedDatetime());
+        assertThat(loanApplicationRepository.findById(la.getId()).orElseThrow().getUpdatedDate())
+                .isEqualTo(current.getUpdatedDate());
+
+        // A third upload still points at the import that actually ran.
+        assertThat(mismoImportService.recordUnchangedReimport(current, sha256, "closing (2).xml", false, null))
+                .get().extracting(MismoImport::getDuplicateOfImportId).isEqualTo(first.audit().getId());
+        assertThat(mismoImportRepository.findByLoanApplicationIdOrderByImportedAtDesc(la.getId())).hasSize(3);
+
+        // Any other file goes through the full import.
+        assertThat(mismoImportService.recordUnchangedReimport(current, MismoContentHash.sha256(MismoFixtures.bytes("sample-urla-fnm.xml")),
+                "urla.xml", false, null)).isEmpty();
+    }
+
+    @Test
+    void sameFileAfterAnEdit_isNotShortCircuited() throws Exception {
+        byte[] bytes = MismoFixtures.bytes("sample-closing.xml");
+        String sha256 = MismoContentHash.sha256(bytes);
+        LoanApplication la = MismoFixtures.freshLoan(loanApplicationRepository);
+        MismoImportService.Imported first = mismoImportService.reimport(la.getId(),
+                MismoStreamReader.read(new ByteArrayInputStream(bytes)), "closing.xml", sha256, true, null);
+
+        // An edit after the import, stamped a second later so the clock's resolution can't hide it.
+        jdbc.update("UPDATE loan_applications SET loan_type = 'FHA', updated_date = ? WHERE id = ?",
+                first.audit().getLoanUpdatedDate().plusSeconds(1), la.getId());
+        LoanApplication edited = loanApplicationRepository.findById(la.getId()).orElseThrow();
+
+        assertThat(mismoImportService.recordUnchangedReimport(edited, sha256, "closing.xml", true, null)).isEmpty();
+    }
+
+    @Test
+    void sameFileAfterATermsEdit_isNotShortCircuited() throws Exception {
+        byte[] bytes = MismoFixtures.bytes("sample-closing.xml");
+        String sha256 = MismoContentHash.sha256(bytes);
+        LoanApplication la = MismoFixtures.freshLoan(loanApplicationRepository);
+        MismoImportService.Imported first = mismoImportService.reimport(la.getId(),
+                MismoStreamReader.read(new ByteArrayInputStream(bytes)), "closing.xml", sha256, true, null);
+
+        // Back-date the import a second so the edit's stamp can't land on the same instant.
+        LocalDateTime importedAt = first.audit().getLoanUpdatedDate().minusSeconds(1);
+        jdbc.update("UPDATE loan_applications SET updated_date = ? WHERE id = ?", importedAt, la.getId());
+        jdbc.update("UPDATE mismo_imports SET loan_updated_date = ? WHERE id = ?", importedAt, first.audit().getId());
+
+        // loan_terms is written by the importer but lives off the loan row.
+        loanDashboardService.patchTerms(la.getId(), new LoanDashboardService.TermsPatch(
+                null, null, new BigDecimal("7.125"), null, null, null, null, null));
+        LoanApplication edited = loanApplicationRepository.findById(la.getId()).orElseThrow();
+
+        assertThat(edited.getUpdatedDate()).isAfter(importedAt);
+        assertThat(mismoImportService.recordUnchangedReimport(edited, sha256, "closing.xml", false, null)).isEmpty();
+    }
+}
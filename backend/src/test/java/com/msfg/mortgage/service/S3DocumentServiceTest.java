@@ -0,0 +1,116 @@
+package com.msfg.mortgage.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumType;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checksum-at-upload round trip against a real (offline) presigner: the browser's hex SHA-256
+ * is signed as base64 {@code x-amz-checksum-sha256}, the signed headers come back without Host,
+ * and a HEAD's base64 checksum is read back as hex — unless it is a per-part composite.
+ */
+class S3DocumentServiceTest {
+
+    private static final String SHA256_HEX = "abcdef1234567890".repeat(4);
+    private static final String SHA256_BASE64 =
+            Base64.getEncoder().encodeToString(HexFormat.of().parseHex(SHA256_HEX));
+
+    private S3Client s3Client;
+    private S3Presigner presigner;
+    private S3DocumentService service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = mock(S3Client.class);
+        presigner = S3Presigner.builder()
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("AKIDEXAMPLE", "secret")))
+                .build();
+        service = new S3DocumentService(s3Client, mock(S3AsyncClient.class), presigner);
+        ReflectionTestUtils.setField(service, "bucket", "docs-bucket");
+        ReflectionTestUtils.setField(service, "presignedTtlSeconds", 900L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        presigner.close();
+    }
+
+    @Test
+    void presignUpload_withSha256_signsTheBase64ChecksumHeader() {
+        S3DocumentService.PresignedUpload upload =
+                service.presignUpload("applications/1/borrower/Income/u-w2.pdf", "application/pdf", SHA256_HEX);
+
+        assertThat(upload.url()).contains("X-Amz-SignedHeaders=content-type%3Bhost%3Bx-amz-checksum-sha256");
+        assertThat(upload.headers())
+                .containsEntry("x-amz-checksum-sha256", SHA256_BASE64)
+                .containsEntry("content-type", "application/pdf")
+                .doesNotContainKey("host");
+    }
+
+    @Test
+    void presignUpload_withoutSha256_signsNoChecksum() {
+        S3DocumentService.PresignedUpload upload =
+                service.presignUpload("applications/1/borrower/Income/u-w2.pdf", null, null);
+
+        assertThat(upload.url()).doesNotContain("x-amz-checksum-sha256");
+        assertThat(upload.headers())
+                .containsEntry("content-type", "application/octet-stream")
+                .doesNotContainKey("host")
+                .doesNotContainKey("x-amz-checksum-sha256");
+    }
+
+    @Test
+    void inspectUpload_readsTheFullObjectChecksumBackAsHex() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentLength(5_000L)
+                .checksumSHA256(SHA256_BASE64)
+                .checksumType(ChecksumType.FULL_OBJECT)
+                .build());
+
+        assertThat(service.inspectUpload("k")).contains(new S3DocumentService.UploadedObject(5_000L, SHA256_HEX));
+    }
+
+    @Test
+    void inspectUpload_ignoresCompositeAndMissingChecksums() {
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(
+                HeadObjectResponse.builder().contentLength(9L)
+                        .checksumSHA256(SHA256_BASE64 + "-3").checksumType(ChecksumType.COMPOSITE).build(),
+                HeadObjectResponse.builder().contentLength(9L)
+                        .checksumSHA256(SHA256_BASE64).checksumType(ChecksumType.COMPOSITE).build(),
+                HeadObjectResponse.builder().contentLength(9L).build());
+
+        assertThat(service.inspectUpload("k")).contains(new S3DocumentService.UploadedObject(9L, null));
+        assertThat(service.inspectUpload("k")).contains(new S3DocumentService.UploadedObject(9L, null));
+        assertThat(service.inspectUpload("k")).contains(new S3DocumentService.UploadedObject(9L, null));
+    }
+
+    @Test
+    void inspectUpload_isEmptyWhenNothingIsAtTheKey() {
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenThrow(NoSuchKeyException.builder().message("nope").build());
+
+        assertThat(service.inspectUpload("k")).isEqualTo(Optional.empty());
+    }
+}
@@ -0,0 +1,45 @@
+package com.msfg.mortgage.service;
+
+import com.msfg.mortgage.dto.BorrowerDTO;
+import com.msfg.mortgage.dto.LoanApplicationDTO;
+import com.msfg.mortgage.dto.PropertyDTO;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Purchase applications for tests that seed loans through
+ * {@link LoanApplicationService#createApplication}: a Utah primary residence plus the
+ * borrowers asked for.
+ */
+final class TestLoanApplications {
+
+    private TestLoanApplications() {}
+
+    /** {@code borrowers} borrowers named Borrower1..n Test. */
+    static LoanApplicationDTO purchase(String city, int borrowers) {
+        LoanApplicationDTO dto = new LoanApplicationDTO();
+        dto.setLoanPurpose("Purchase");
+        dto.setLoanType("Conventional");
+        dto.setLoanAmount(new BigDecimal("400000"));
+        dto.setPropertyValue(new BigDecimal("500000"));
+
+        PropertyDTO p = new PropertyDTO();
+        p.setAddressLine("123 Main"); p.setCity(city); p.setState("UT"); p.setZipCode("84043");
+        p.setPropertyType("PrimaryResidence");
+        p.setPropertyValue(new BigDecimal("500000"));
+        dto.setProperty(p);
+
+        List<BorrowerDTO> bs = new ArrayList<>(borrowers);
+        for (int i = 1; i <= borrowers; i++) {
+            BorrowerDTO b = new BorrowerDTO();
+            b.setFirstName("Borrower" + i); b.setLastName("Test");
+            b.setEmail("borrower" + i + ".test@example.com");
+            b.setSequenceNumber(i);
+            bs.add(b);
+        }
+        dto.setBorrowers(bs);
+        return dto;
+    }
+}
@@ -0,0 +1,133 @@
+package com.msfg.mortgage.service.pipeline;
+
+import com.msfg.mortgage.dto.BorrowerDTO;
+import com.msfg.mortgage.dto.LoanApplicationDTO;
+import com.msfg.mortgage.dto.PropertyDTO;
+import com.msfg.mortgage.model.LoanApplication;
+import com.msfg.mortgage.service.LoanApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Deliberately NOT @Transactional: the read model is refreshed in a
+ * BEFORE_COMMIT listener, which never fires in a test transaction that
+ * rolls back. Each service call here commits on its own.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class PipelineReadModelServiceTest {
+
+    @Autowired private LoanApplicationService loanApplicationService;
+    @Autowired private PipelineReadModelService pipelineReadModel;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void cleanState() {
+        jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            jdbcTemplate.update("DELETE FROM loan_pipeline_rows");
+            jdbcTemplate.update("DELETE FROM loan_applications");
+        } finally {
+            jdbcTemplate.execute("SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    private LoanApplication createLoan(String lastName) {
+        LoanApplicationDTO dto = new LoanApplicationDTO();
+        dto.setLoanPurpose("Purchase");
+        dto.setLoanType("Conventional");
+        dto.setLoanAmount(new BigDecimal("300000"));
+        dto.setPropertyValue(new BigDecimal("400000"));
+
+        PropertyDTO p = new PropertyDTO();
+        p.setAddressLine("123 Main");
+        p.setCity("Lehi"); p.setState("UT"); p.setZipCode("84043");
+        p.setPropertyType("PrimaryResidence");
+        p.setPropertyValue(new BigDecimal("400000"));
+        dto.setProperty(p);
+
+        BorrowerDTO b = new BorrowerDTO();
+        b.setFirstName("Pat"); b.setLastName(lastName);
+        b.setEmail("p@example.com"); b.setSequenceNumber(1);
+        dto.setBorrowers(List.of(b));
+
+        return loanApplicationService.createApplication(dto);
+    }
+
+    private Map<String, Object> row(Long id) {
+        return jdbcTemplate.queryForMap(
+            "SELECT status, borrower_last_name, property_city FROM loan_pipeline_rows WHERE id = ?", id);
+    }
+
+    @Test
+    void createAndStatusChange_keepRowCurrent() {
+        LoanApplication app = createLoan("Readmodel");
+
+        Map<String, Object> created = row(app.getId());
+        assertThat(created.get("BORROWER_LAST_NAME")).isEqualTo("Readmodel");
+        assertThat(created.get("PROPERTY_CITY")).isEqualTo("Lehi");
+
+        loanApplicationService.updateApplicationStatus(app.getId(), "UNDERWRITING", null);
+
+        assertThat(row(app.getId()).get("STATUS")).isEqualTo("UNDERWRITING");
+        assertThat(pipelineReadModel.findDrift()).isEmpty();
+    }
+
+    @Test
+    void delete_removesRow() {
+        LoanApplication app = createLoan("Gone");
+
+        loanApplicationService.deleteApplication(app.getId());
+
+        Integer n = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM loan_pipeline_rows WHERE id = ?", Integer.class, app.getId());
+        assertThat(n).isZero();
+    }
+
+    @Test
+    void repairDrift_fixesRowsChangedBehindTheServicesBack() {
+        LoanApplication stale = createLoan("Stale");
+        LoanApplication missing = createLoan("Missing");
+        LoanApplication fine = createLoan("Fine");
+
+        jdbcTemplate.update("UPDATE loan_applications SET status = 'APPROVED' WHERE id = ?", stale.getId());
+        jdbcTemplate.update("DELETE FROM loan_pipeline_rows WHERE id = ?", missing.getId());
+
+        assertThat(pipelineReadModel.findDrift())
+            .containsExactlyInAnyOrder(stale.getId(), missing.getId())
+            .doesNotContain(fine.getId());
+
+        List<Long> repaired = pipelineReadModel.repairDrift();
+
+        assertThat(repaired).containsExactlyInAnyOrder(stale.getId(), missing.getId());
+        assertThat(pipelineReadModel.findDrift()).isEmpty();
+        assertThat(row(stale.getId()).get("STATUS")).isEqualTo("APPROVED");
+    }
+
+    @Test
+    void rebuild_repopulatesEveryLoan() {
+        createLoan("One");
+        createLoan("Two");
+        jdbcTemplate.update("DELETE FROM loan_pipeline_rows");
+
+        int rows = pipelineReadModel.rebuild();
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(pipelineReadModel.findDrift()).isEmpty();
+    }
+
+    @Test
+    void source_defaultsToView() {
+        assertThat(pipelineReadModel.source()).isEqualTo("loan_list_view");
+    }
+}
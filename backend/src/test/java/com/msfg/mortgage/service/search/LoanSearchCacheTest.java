@@ -0,0 +1,95 @@
+package com.msfg.mortgage.service.search;
+
+import com.msfg.mortgage.event.LoanChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanSearchCacheTest {
+
+    private LoanSearchIndex index;
+    private LoanSearchCache cache;
+    private List<String> loads;
+
+    private static LoanSearchIndex.Entry loan(long id, String appNumber, String borrower) {
+        return new LoanSearchIndex.Entry(id, appNumber, null, null, null, borrower, "Lehi", "UT", "REGISTERED");
+    }
+
+    private List<Long> search(String q) {
+        return cache.get(q, (query, max) -> {
+            loads.add(query);
+            return index.search(query, max);
+        }).stream().map(LoanSearchIndex.Entry::id).toList();
+    }
+
+    @BeforeEach
+    void seed() {
+        index = new LoanSearchIndex();
+        index.put(loan(1, "APP-1", "Anna Smith"));
+        index.put(loan(2, "APP-2", "John Smithers"));
+        index.put(loan(3, "APP-3", "Sam Smoot"));
+        cache = new LoanSearchCache(100);
+        loads = new ArrayList<>();
+    }
+
+    @Test
+    void repeatQuery_isAHit() {
+        search("smi");
+        search("SMI");
+
+        assertThat(loads).containsExactly("smi");
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void longerQuery_isNarrowedFromCompleteShorterEntry() {
+        assertThat(search("sm")).containsExactly(1L, 2L, 3L);
+
+        assertThat(search("smit")).containsExactly(1L, 2L);
+        assertThat(search("smithe")).containsExactly(2L);
+
+        assertThat(loads).containsExactly("sm");
+        assertThat(cache.stats().narrowedHits()).isEqualTo(2);
+    }
+
+    @Test
+    void truncatedEntry_isNotNarrowed() {
+        LongStream.range(10, 10 + LoanSearchCache.FILL_LIMIT)
+            .forEach(i -> index.put(loan(i, "BULK-" + i, "Bulk Borrower")));
+
+        search("bu");
+        search("bul");
+
+        assertThat(loads).containsExactly("bu", "bul");
+    }
+
+    @Test
+    void loanChange_clearsCache() {
+        search("smi");
+        index.put(loan(4, "APP-4", "Will Smithson"));
+        cache.onLoanChanged(new LoanChangedEvent(4L));
+
+        assertThat(search("smi")).contains(4L);
+        assertThat(loads).containsExactly("smi", "smi");
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void leastRecentlyUsed_isEvictedPastMaxEntries() {
+        cache = new LoanSearchCache(2);
+        search("ann");
+        search("joh");
+        search("ann");
+        search("sam");
+
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        search("ann");
+        assertThat(loads).containsExactly("ann", "joh", "sam");
+    }
+}
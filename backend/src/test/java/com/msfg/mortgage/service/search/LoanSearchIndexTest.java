@@ -0,0 +1,81 @@
+package com.msfg.mortgage.service.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoanSearchIndexTest {
+
+    private LoanSearchIndex index;
+
+    private static LoanSearchIndex.Entry loan(long id, String appNumber, String lpNumber, String borrower) {
+        return new LoanSearchIndex.Entry(id, appNumber, lpNumber, null, null, borrower, "Lehi", "UT", "REGISTERED");
+    }
+
+    private List<Long> ids(String q) {
+        return index.search(q, 10).stream().map(LoanSearchIndex.Entry::id).toList();
+    }
+
+    @BeforeEach
+    void seed() {
+        index = new LoanSearchIndex();
+        index.put(loan(1, "APP-1001", "LP-77", "Matthew Fortney"));
+        index.put(loan(2, "APP-1002", null,    "Anna Smith"));
+        index.put(loan(3, "APP-2000", "LP-7",  "John Smithers"));
+    }
+
+    @Test
+    void exactIdentifier_ranksAbovePrefixAndName() {
+        assertThat(ids("lp-7")).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void prefix_matchesEveryIdentifierColumn_orderedByApplicationNumber() {
+        assertThat(ids("APP-10")).containsExactly(1L, 2L);
+        assertThat(ids("LP-")).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void nameSubstring_isCaseInsensitive() {
+        assertThat(ids("smith")).containsExactly(2L, 3L);
+        assertThat(ids("ORTN")).containsExactly(1L);
+    }
+
+    @Test
+    void twoCharacterQuery_usesBigrams() {
+        assertThat(ids("th")).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void gramsPresentButNotContiguous_doNotMatch() {
+        // "SMI" and "MIT" both occur in Smith, "ITA" does not — no false positive.
+        assertThat(ids("smita")).isEmpty();
+    }
+
+    @Test
+    void put_replacesOldKeys() {
+        index.put(loan(2, "APP-9999", null, "Anna Jones"));
+
+        assertThat(ids("APP-1002")).isEmpty();
+        assertThat(ids("smith")).containsExactly(3L);
+        assertThat(ids("APP-9999")).containsExactly(2L);
+    }
+
+    @Test
+    void remove_dropsEntry() {
+        index.remove(1);
+
+        assertThat(ids("fortney")).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void limit_isHonored() {
+        for (long i = 10; i < 40; i++) index.put(loan(i, "BULK-" + i, null, "Bulk Borrower"));
+
+        assertThat(index.search("bulk", 5)).hasSize(5);
+    }
+}
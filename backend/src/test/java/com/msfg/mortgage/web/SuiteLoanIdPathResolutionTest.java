@@ -15,12 +15,14 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -126,9 +128,15 @@ class SuiteLoanIdPathResolutionTest {
         String uuid = UUID.randomUUID().toString();
         seedLinked(uuid);
 
-        mvc.perform(get("/api/loan-applications/" + uuid + "/export/mismo").contextPath("/api"))
+        MvcResult started = mvc.perform(get("/api/loan-applications/" + uuid + "/export/mismo").contextPath("/api"))
             .andExpect(status().isOk())
-            .andExpect(header().string("Content-Type", org.hamcrest.Matchers.containsString("xml")));
+            .andExpect(header().string("Content-Type", org.hamcrest.Matchers.containsString("xml")))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        // The XML is streamed after the handler returns.
+        mvc.perform(asyncDispatch(started))
+            .andExpect(status().isOk())
+            .andExpect(content().string(org.hamcrest.Matchers.containsString("<MESSAGE")));
     }
 
     @Test
@@ -0,0 +1,191 @@
+/**
+ * Unit tests for the mortgage-app document upload flow in mortgageService:
+ *   - uploadDocument(loanId, {...}) → POST upload-url (with the file's SHA-256)
+ *                                     → PUT to S3 with the signed headers → PUT confirm
+ *   - large files                    → multipart-upload → parts → PUT parts → complete
+ *   - uploadDocuments(loanId, {...}) → one upload-urls call for the drop → PUTs → one bulk-confirm
+ *
+ * apiClient and fetch are mocked; we assert the request shapes.
+ */
+import mortgageService from './mortgageService';
+import apiClient from './apiClient';
+
+jest.mock('./apiClient', () => ({
+  __esModule: true,
+  default: { get: jest.fn(), post: jest.fn(), put: jest.fn(), delete: jest.fn() },
+  suiteClient: { get: jest.fn(), post: jest.fn(), put: jest.fn() },
+}));
+
+const HASH = 'ab'.repeat(32);
+
+function file(name, bytes = 'bytes', type = 'application/pdf') {
+  const f = new File([bytes], name, { type });
+  // jsdom's File has no arrayBuffer(); the digest itself is stubbed below.
+  f.arrayBuffer = async () => new TextEncoder().encode(bytes).buffer;
+  return f;
+}
+
+beforeEach(() => {
+  global.fetch = jest.fn().mockResolvedValue({ ok: true, headers: { get: () => null } });
+  Object.defineProperty(globalThis, 'crypto', {
+    configurable: true,
+    value: { subtle: { digest: jest.fn().mockResolvedValue(new Uint8Array(32).fill(0xab).buffer) } },
+  });
+});
+
+afterEach(() => jest.clearAllMocks());
+
+describe('uploadDocument', () => {
+  test('sends the SHA-256 and PUTs with the headers the URL was signed with', async () => {
+    apiClient.post.mockResolvedValue({
+      data: {
+        docUuid: 'd-1',
+        uploadUrl: 'https://s3.example/put',
+        uploadHeaders: { 'content-type': 'application/pdf', 'x-amz-checksum-sha256': 'q6ur' },
+      },
+    });
+    apiClient.put.mockResolvedValue({ data: { docUuid: 'd-1', uploadStatus: 'uploaded' } });
+
+    const doc = await mortgageService.uploadDocument(7, {
+      file: file('w2.pdf'), documentType: 'W2', partyRole: 'lo',
+    });
+
+    expect(apiClient.post).toHaveBeenCalledWith('/loan-applications/7/documents/upload-url',
+      expect.objectContaining({ fileName: 'w2.pdf', sha256: HASH }));
+    expect(global.fetch).toHaveBeenCalledWith('https://s3.example/put', expect.objectContaining({
+      method: 'PUT',
+      headers: { 'content-type': 'application/pdf', 'x-amz-checksum-sha256': 'q6ur' },
+    }));
+    expect(apiClient.put).toHaveBeenCalledWith('/loan-applications/7/documents/d-1/confirm');
+    expect(doc.uploadStatus).toBe('uploaded');
+  });
+
+  test('uploads without a checksum where SubtleCrypto is unavailable', async () => {
+    Object.defineProperty(globalThis, 'crypto', { configurable: true, value: undefined });
+    apiClient.post.mockResolvedValue({ data: { docUuid: 'd-2', uploadUrl: 'https://s3.example/put' } });
+    apiClient.put.mockResolvedValue({ data: { docUuid: 'd-2' } });
+
+    await mortgageService.uploadDocument(7, { file: file('id.png', 'x', 'image/png'), documentType: 'ID' });
+
+    expect(apiClient.post.mock.calls[0][1].sha256).toBeNull();
+    expect(global.fetch.mock.calls[0][1].headers).toEqual({ 'Content-Type': 'image/png' });
+  });
+});
+
+describe('uploadDocument — large files', () => {
+  const MIB = 1024 * 1024;
+
+  /** A 100 MiB "file" without allocating 100 MiB: only size and slice() are read. */
+  function largeFile() {
+    return { name: 'closing.pdf', type: 'application/pdf', size: 100 * MIB, slice: (a, b) => ({ a, b }) };
+  }
+
+  function s3Parts(failures = {}) {
+    global.fetch = jest.fn().mockImplementation(async (url) => {
+      const n = Number(url.split('/').pop());
+      if (failures[n] > 0) {
+        failures[n] -= 1;
+        return { ok: false, status: 503, headers: { get: () => null } };
+      }
+      return { ok: true, headers: { get: (h) => (h === 'ETag' ? `"etag-${n}"` : null) } };
+    });
+  }
+
+  beforeEach(() => {
+    apiClient.post.mockImplementation(async (url, body) => {
+      if (url.endsWith('/multipart-upload')) {
+        return { data: { docUuid: 'big-1', partSize: 40 * MIB, partCount: 3 } };
+      }
+      if (url.endsWith('/multipart-upload/parts')) {
+        return { data: { parts: body.partNumbers.map(n => ({ partNumber: n, uploadUrl: `https://s3.example/part/${n}` })) } };
+      }
+      return { data: { docUuid: 'big-1', uploadStatus: 'uploaded' } };
+    });
+  });
+
+  test('uploads the parts and completes with their ETags', async () => {
+    s3Parts({ 2: 1 });
+
+    const doc = await mortgageService.uploadDocument(7, { file: largeFile(), documentType: 'Closing' });
+
+    expect(apiClient.post).toHaveBeenCalledWith('/loan-applications/7/documents/multipart-upload',
+      expect.objectContaining({ fileName: 'closing.pdf', fileSize: 100 * MIB }));
+    const complete = apiClient.post.mock.calls.find(([url]) => url.endsWith('/complete'));
+    expect(complete[0]).toBe('/loan-applications/7/documents/big-1/multipart-upload/complete');
+    expect([...complete[1].parts].sort((x, y) => x.partNumber - y.partNumber)).toEqual([
+      { partNumber: 1, eTag: '"etag-1"' },
+      { partNumber: 2, eTag: '"etag-2"' },
+      { partNumber: 3, eTag: '"etag-3"' },
+    ]);
+    expect(doc.uploadStatus).toBe('uploaded');
+    expect(apiClient.delete).not.toHaveBeenCalled();
+  });
+
+  test('aborts the upload when a part keeps failing', async () => {
+    s3Parts({ 3: 2 });
+
+    await expect(mortgageService.uploadDocument(7, { file: largeFile(), documentType: 'Closing' }))
+      .rejects.toThrow('HTTP 503');
+
+    expect(apiClient.delete).toHaveBeenCalledWith('/loan-applications/7/documents/big-1/multipart-upload');
+    expect(apiClient.post.mock.calls.some(([url]) => url.endsWith('/complete'))).toBe(false);
+  });
+});
+
+describe('uploadDocuments', () => {
+  function batchEndpoints({ confirmFailures = [] } = {}) {
+    apiClient.post.mockImplementation(async (url, body) => {
+      if (url.endsWith('/upload-urls')) {
+        return {
+          data: {
+            count: body.files.length,
+            uploads: body.files.map(f => ({ docUuid: f.fileName[0], uploadUrl: `https://s3.example/${f.fileName[0]}` })),
+          },
+        };
+      }
+      const failures = confirmFailures.map(docUuid => ({ docUuid, error: 'No object found' }));
+      return {
+        data: {
+          requested: body.docUuids.length,
+          succeeded: body.docUuids.length - failures.length,
+          failed: failures.length,
+          failures,
+        },
+      };
+    });
+  }
+
+  test('issues every URL in one batch call, confirms in one call, and reports failures per file', async () => {
+    batchEndpoints({ confirmFailures: ['c'] });
+    global.fetch = jest.fn().mockImplementation(async (url) => ({ ok: !url.endsWith('/b'), status: 403 }));
+
+    const result = await mortgageService.uploadDocuments(7, {
+      files: [file('a.pdf'), file('b.pdf'), file('c.pdf'), file('d.pdf')],
+      documentType: 'Other', partyRole: 'lo', folderId: 3,
+    });
+
+    expect(apiClient.post).toHaveBeenCalledTimes(2);
+    expect(apiClient.post).toHaveBeenCalledWith('/loan-applications/7/documents/upload-urls', {
+      documentType: 'Other',
+      partyRole: 'lo',
+      folderId: 3,
+      files: ['a.pdf', 'b.pdf', 'c.pdf', 'd.pdf'].map(fileName => ({ fileName, contentType: 'application/pdf', sha256: HASH })),
+    });
+    const confirm = apiClient.post.mock.calls.find(([url]) => url.endsWith('/bulk-confirm'));
+    expect(confirm[0]).toBe('/loan-applications/7/documents/bulk-confirm');
+    expect([...confirm[1].docUuids].sort()).toEqual(['a', 'c', 'd']);
+    expect(apiClient.put).not.toHaveBeenCalled();
+    expect(result.uploaded.map(u => u.docUuid).sort()).toEqual(['a', 'd']);
+    expect(result.failed.map(f => f.file.name).sort()).toEqual(['b.pdf', 'c.pdf']);
+  });
+
+  test('a rejected batch fails its files without throwing', async () => {
+    apiClient.post.mockRejectedValue(new Error('400'));
+
+    const result = await mortgageService.uploadDocuments(7, { files: [file('a.pdf')], documentType: 'Other' });
+
+    expect(result.uploaded).toEqual([]);
+    expect(result.failed.map(f => f.file.name)).toEqual(['a.pdf']);
+    expect(global.fetch).not.toHaveBeenCalled();
+  });
+});
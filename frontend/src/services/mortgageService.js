@@ -238,6 +238,34 @@ function adaptSuiteSearchHit(hit = {}) {
   };
 }
 
+/**
+ * Largest file the browser hashes before upload. SubtleCrypto reads the whole file into
+ * memory; bigger files go up without a checksum and the backend hashes them afterwards.
+ */
+const SHA256_MAX_BYTES = 256 * 1024 * 1024;
+
+/**
+ * Files over this go up as an S3 multipart upload: parts are PUT a few at a time and a
+ * dropped connection re-sends one part, not the whole file. The backend picks the part size.
+ */
+const MULTIPART_THRESHOLD_BYTES = 64 * 1024 * 1024;
+const MULTIPART_CONCURRENCY = 4;
+/** The backend presigns at most this many part URLs per call. */
+const MULTIPART_URLS_PER_CALL = 100;
+/** Batch upload-url takes at most this many files per call. */
+const BATCH_UPLOAD_FILES = 100;
+/** PUTs to S3 in flight at once for a multi-file drop. */
+const UPLOAD_CONCURRENCY = 4;
+
+/** Run `fn` over `items` with at most `limit` calls in flight. */
+async function forEachConcurrently(items, limit, fn) {
+  const queue = items.map((item, index) => [item, index]);
+  const worker = async () => {
+    for (let next = queue.shift(); next; next = queue.shift()) await fn(next[0], next[1]);
+  };
+  await Promise.all(Array.from({ length: Math.min(limit, queue.length) }, worker));
+}
+
 const mortgageService = {
   // ────────────────── Loan applications ──────────────────
 
@@ -584,38 +612,81 @@ const mortgageService = {
   // ────────────────── Documents (Phase 2B presigned URL flow) ──────────────────
 
   /**
-   * Step 1: ask the backend for a presigned PUT URL.
-   * Returns: { documentId, docUuid, s3Key, bucket, uploadUrl, contentType, expiresInSeconds }
+   * Step 1: ask the backend for a presigned PUT URL. Pass the file's `sha256` (hex, see
+   * sha256Hex) and S3 verifies the bytes on the PUT and keeps the hash, so the backend
+   * never re-reads the object to compute it.
+   * Returns: { documentId, docUuid, s3Key, bucket, uploadUrl, uploadHeaders, contentType, expiresInSeconds }
    */
-  getDocumentUploadUrl: async (loanId, { fileName, documentType, partyRole, contentType, folderId }) => {
+  getDocumentUploadUrl: async (loanId, { fileName, documentType, partyRole, contentType, folderId, sha256 }) => {
     const { data } = await apiClient.post(`/loan-applications/${loanId}/documents/upload-url`, {
       fileName, documentType, partyRole,
       contentType: contentType || 'application/octet-stream',
       folderId: folderId ?? null,
+      sha256: sha256 ?? null,
     });
     return data;
   },
 
+  /**
+   * Step 1 for a multi-file drop that shares one type, role and folder: one call issues
+   * every presigned URL. `files` is [{ fileName, contentType, sha256 }], at most 100.
+   * Returns the step 1 payload for each file, in `files` order.
+   */
+  getDocumentUploadUrls: async (loanId, { documentType, partyRole, folderId, files }) => {
+    const { data } = await apiClient.post(`/loan-applications/${loanId}/documents/upload-urls`, {
+      documentType, partyRole,
+      folderId: folderId ?? null,
+      files,
+    });
+    return data.uploads;
+  },
+
   /**
    * Step 2: upload directly to S3 using the presigned URL. No auth header — the URL itself
-   * is the credential. Content-Type must match what we asked for.
+   * is the credential. `uploadHeaders` (from step 1) are the headers the URL was signed
+   * with, Content-Type and x-amz-checksum-sha256 included; S3 rejects the PUT without
+   * them. They're sent as-is — adding our own Content-Type too would duplicate it.
    */
-  uploadFileToS3: async (uploadUrl, file) => {
+  uploadFileToS3: async (uploadUrl, file, uploadHeaders = null) => {
     await fetch(uploadUrl, {
       method: 'PUT',
-      headers: { 'Content-Type': file.type || 'application/octet-stream' },
+      headers: uploadHeaders && Object.keys(uploadHeaders).length
+        ? uploadHeaders
+        : { 'Content-Type': file.type || 'application/octet-stream' },
       body: file,
     }).then(r => {
       if (!r.ok) throw new Error(`S3 upload failed: HTTP ${r.status}`);
     });
   },
 
+  /**
+   * Hex SHA-256 of the file via SubtleCrypto, or null where it's unavailable (non-HTTPS
+   * origins) or the file is over SHA256_MAX_BYTES — the digest API has no streaming form,
+   * so the whole file is read into memory. A null hash just means the backend computes it
+   * after the upload instead.
+   */
+  sha256Hex: async (file) => {
+    const subtle = globalThis.crypto?.subtle;
+    if (!subtle || !file || file.size > SHA256_MAX_BYTES) return null;
+    const digest = await subtle.digest('SHA-256', await file.arrayBuffer());
+    return Array.from(new Uint8Array(digest), b => b.toString(16).padStart(2, '0')).join('');
+  },
+
   /** Step 3: tell the backend the upload finished. Backend HEADs S3, applies tags, flips status. */
   confirmDocumentUpload: async (loanId, docUuid) => {
     const { data } = await apiClient.put(`/loan-applications/${loanId}/documents/${docUuid}/confirm`);
     return data;
   },
 
+  /**
+   * Step 3 for a multi-file drop: one call confirms up to 100 uploads. Returns
+   * { requested, succeeded, failed, failures: [{ docUuid, error }] }.
+   */
+  bulkConfirmDocumentUploads: async (loanId, docUuids) => {
+    const { data } = await apiClient.post(`/loan-applications/${loanId}/documents/bulk-confirm`, { docUuids });
+    return data;
+  },
+
   getApplicationDocuments: async (loanId) => {
     const { data } = await apiClient.get(`/loan-applications/${loanId}/documents`);
     // Backend returns { count, documents: [...] }; callers want the array.
@@ -630,19 +701,171 @@ const mortgageService = {
     return data; // { downloadUrl, expiresInSeconds }
   },
 
-  /** Convenience: full upload sequence. Returns the saved document record. */
+  // Multipart (large files): initiate → part URLs → PUT parts → complete; abort on failure.
+
+  /** Returns: { documentId, docUuid, s3Key, bucket, partSize, partCount, contentType } */
+  initiateMultipartUpload: async (loanId, { fileName, documentType, partyRole, contentType, folderId, fileSize }) => {
+    const { data } = await apiClient.post(`/loan-applications/${loanId}/documents/multipart-upload`, {
+      fileName, documentType, partyRole,
+      contentType: contentType || 'application/octet-stream',
+      folderId: folderId ?? null,
+      fileSize,
+    });
+    return data;
+  },
+
+  /** Presigned PUT URLs for the given part numbers (at most 100). Returns [{ partNumber, uploadUrl }]. */
+  getMultipartPartUrls: async (loanId, docUuid, partNumbers) => {
+    const { data } = await apiClient.post(
+      `/loan-applications/${loanId}/documents/${docUuid}/multipart-upload/parts`, { partNumbers });
+    return data.parts;
+  },
+
+  /** Stitch the parts ([{ partNumber, eTag }]) and confirm. Returns the saved document record. */
+  completeMultipartUpload: async (loanId, docUuid, parts) => {
+    const { data } = await apiClient.post(
+      `/loan-applications/${loanId}/documents/${docUuid}/multipart-upload/complete`, { parts });
+    return data;
+  },
+
+  abortMultipartUpload: async (loanId, docUuid) => {
+    await apiClient.delete(`/loan-applications/${loanId}/documents/${docUuid}/multipart-upload`);
+  },
+
+  /** PUT one part; returns the ETag S3 assigned it (exposed by the bucket's CORS rule). */
+  uploadPartToS3: async (uploadUrl, blob) => {
+    const r = await fetch(uploadUrl, { method: 'PUT', body: blob });
+    if (!r.ok) throw new Error(`S3 part upload failed: HTTP ${r.status}`);
+    const eTag = r.headers.get('ETag');
+    if (!eTag) throw new Error('S3 part upload returned no ETag');
+    return eTag;
+  },
+
+  /**
+   * Full multipart sequence for one large file. Part URLs are fetched up to 100 at a time
+   * and the parts sent MULTIPART_CONCURRENCY at a time; a failed part is retried once on a
+   * fresh URL. If the upload can't finish it is aborted so S3 doesn't keep the parts.
+   */
+  uploadLargeDocument: async (loanId, { file, documentType, partyRole = 'borrower', folderId = null }) => {
+    const slot = await mortgageService.initiateMultipartUpload(loanId, {
+      fileName: file.name,
+      documentType,
+      partyRole,
+      contentType: file.type,
+      folderId,
+      fileSize: file.size,
+    });
+    const blobFor = (n) => file.slice((n - 1) * slot.partSize, Math.min(n * slot.partSize, file.size));
+    const completed = [];
+    try {
+      for (let first = 1; first <= slot.partCount; first += MULTIPART_URLS_PER_CALL) {
+        const numbers = [];
+        for (let n = first; n < first + MULTIPART_URLS_PER_CALL && n <= slot.partCount; n++) numbers.push(n);
+        const queue = await mortgageService.getMultipartPartUrls(loanId, slot.docUuid, numbers);
+        const worker = async () => {
+          for (let part = queue.shift(); part; part = queue.shift()) {
+            let eTag;
+            try {
+              eTag = await mortgageService.uploadPartToS3(part.uploadUrl, blobFor(part.partNumber));
+            } catch {
+              const [fresh] = await mortgageService.getMultipartPartUrls(loanId, slot.docUuid, [part.partNumber]);
+              eTag = await mortgageService.uploadPartToS3(fresh.uploadUrl, blobFor(part.partNumber));
+            }
+            completed.push({ partNumber: part.partNumber, eTag });
+          }
+        };
+        await Promise.all(Array.from({ length: MULTIPART_CONCURRENCY }, worker));
+      }
+      return await mortgageService.completeMultipartUpload(loanId, slot.docUuid, completed);
+    } catch (err) {
+      await mortgageService.abortMultipartUpload(loanId, slot.docUuid).catch(() => {});
+      throw err;
+    }
+  },
+
+  /**
+   * Convenience: full upload sequence. Returns the saved document record. Files over
+   * MULTIPART_THRESHOLD_BYTES go through uploadLargeDocument.
+   */
   uploadDocument: async (loanId, { file, documentType, partyRole = 'borrower', folderId = null }) => {
+    if (file.size > MULTIPART_THRESHOLD_BYTES) {
+      return mortgageService.uploadLargeDocument(loanId, { file, documentType, partyRole, folderId });
+    }
     const slot = await mortgageService.getDocumentUploadUrl(loanId, {
       fileName: file.name,
       documentType,
       partyRole,
       contentType: file.type,
       folderId,
+      sha256: await mortgageService.sha256Hex(file),
     });
-    await mortgageService.uploadFileToS3(slot.uploadUrl, file);
+    await mortgageService.uploadFileToS3(slot.uploadUrl, file, slot.uploadHeaders);
     return mortgageService.confirmDocumentUpload(loanId, slot.docUuid);
   },
 
+  /**
+   * Upload a multi-file drop: small files get their URLs from one batch call per 100
+   * files, their PUTs run UPLOAD_CONCURRENCY at a time and the ones that landed are
+   * confirmed in one bulk-confirm call; large files go through uploadLargeDocument one by
+   * one. A failed file doesn't stop the rest.
+   * Returns { uploaded: [{ file, docUuid }], failed: [{ file, error }] }.
+   */
+  uploadDocuments: async (loanId, { files, documentType, partyRole = 'borrower', folderId = null }) => {
+    const uploaded = [];
+    const failed = [];
+    const small = files.filter(f => f.size <= MULTIPART_THRESHOLD_BYTES);
+    for (let i = 0; i < small.length; i += BATCH_UPLOAD_FILES) {
+      const chunk = small.slice(i, i + BATCH_UPLOAD_FILES);
+      let slots;
+      try {
+        const described = [];
+        // One at a time: each digest holds its whole file in memory.
+        for (const file of chunk) {
+          described.push({
+            fileName: file.name,
+            contentType: file.type || 'application/octet-stream',
+            sha256: await mortgageService.sha256Hex(file),
+          });
+        }
+        slots = await mortgageService.getDocumentUploadUrls(loanId, {
+          documentType, partyRole, folderId, files: described,
+        });
+      } catch (error) {
+        chunk.forEach(file => failed.push({ file, error }));
+        continue;
+      }
+      const sent = new Map();
+      await forEachConcurrently(chunk, UPLOAD_CONCURRENCY, async (file, j) => {
+        try {
+          await mortgageService.uploadFileToS3(slots[j].uploadUrl, file, slots[j].uploadHeaders);
+          sent.set(slots[j].docUuid, file);
+        } catch (error) {
+          failed.push({ file, error });
+        }
+      });
+      if (sent.size === 0) continue;
+      try {
+        const confirmed = await mortgageService.bulkConfirmDocumentUploads(loanId, [...sent.keys()]);
+        for (const f of confirmed.failures || []) {
+          failed.push({ file: sent.get(f.docUuid), error: new Error(f.error) });
+          sent.delete(f.docUuid);
+        }
+        sent.forEach((file, docUuid) => uploaded.push({ file, docUuid }));
+      } catch (error) {
+        sent.forEach(file => failed.push({ file, error }));
+      }
+    }
+    for (const file of files.filter(f => f.size > MULTIPART_THRESHOLD_BYTES)) {
+      try {
+        const doc = await mortgageService.uploadLargeDocument(loanId, { file, documentType, partyRole, folderId });
+        uploaded.push({ file, docUuid: doc.docUuid });
+      } catch (error) {
+        failed.push({ file, error });
+      }
+    }
+    return { uploaded, failed };
+  },
+
   // ────────────────── Documents — BORROWER self into the suite (system of record) ──────────────────
   // The suite is the SoR: a borrower uploads/lists/downloads their OWN documents straight into it, so
   // staff processing/UW see them. Keyed by the suite loanId (a UUID); responses use the {success,data}
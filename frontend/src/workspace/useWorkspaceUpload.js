@@ -67,19 +67,19 @@ export default function useWorkspaceUpload(loanId, selectedFolderId, rootId, onU
 
     setUploadingCount(files.length);
     let ok = 0, failed = 0;
-    for (const file of files) {
-      try {
-        await mortgageService.uploadDocument(loanId, {
-          file,
-          documentType,
-          partyRole,
-          folderId: targetFolderId,
-        });
-        ok++;
-      } catch (err) {
-        console.error('Upload error', file.name, err);
-        failed++;
-      }
+    try {
+      const result = await mortgageService.uploadDocuments(loanId, {
+        files,
+        documentType,
+        partyRole,
+        folderId: targetFolderId,
+      });
+      ok = result.uploaded.length;
+      failed = result.failed.length;
+      result.failed.forEach(({ file, error }) => console.error('Upload error', file.name, error));
+    } catch (err) {
+      console.error('Upload error', err);
+      failed = files.length;
     }
     setUploadingCount(0);
 
@@ -95,11 +95,13 @@ export class DocumentsStack extends cdk.Stack {
       ],
 
       lifecycleRules: [
-        // Everything: clean up failed multipart uploads
+        // Everything: clean up failed multipart uploads. The backend's sweep job
+        // aborts the uploads it recorded after 24h; this catches the rest (an
+        // initiate whose document row never committed) on S3's side.
         {
           id: 'abort-incomplete-multipart',
           enabled: true,
-          abortIncompleteMultipartUploadAfter: cdk.Duration.days(7),
+          abortIncompleteMultipartUploadAfter: cdk.Duration.days(2),
         },
 
         // Versioning hygiene — keep non-current versions for 90 days then drop